@@ -0,0 +1,44 @@
+package br.com.systemrpg.backend.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import br.com.systemrpg.backend.service.CacheInvalidationBus;
+
+/**
+ * Cache que aplica remoções localmente após o commit (como {@link TransactionAwareCacheDecorator})
+ * e as publica no {@link CacheInvalidationBus} para as demais instâncias.
+ */
+class BroadcastingCacheDecorator extends TransactionAwareCacheDecorator {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    BroadcastingCacheDecorator(Cache targetCache, CacheInvalidationBus invalidationBus) {
+        super(targetCache);
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidationBus.publishEvict(getName(), key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidationBus.publishEvict(getName(), key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidationBus.publishClear(getName());
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidationBus.publishClear(getName());
+        return super.invalidate();
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.systemrpg.backend.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.systemrpg.backend.service.CacheInvalidationBus;
+
+/**
+ * Configuração do cache da aplicação (@Cacheable/@CacheEvict) sobre Caffeine: cada cache é limitado em tamanho
+ * (descarte W-TinyLFU) e em tempo (TTL), configuráveis em app.cache.&lt;nome&gt;.max-size e app.cache.&lt;nome&gt;.ttl.
+ * Gravações e remoções feitas dentro de uma transação só são aplicadas após o commit, e as remoções são
+ * propagadas às demais instâncias pelo {@link CacheInvalidationBus}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String GAME_GROUPS = "game-groups";
+    public static final String ADVENTURES = "adventures";
+    public static final String ADVENTURE_NOTES = "adventure-notes";
+    public static final String USERS = "users";
+    public static final String INVITES_BY_CODE = "invites-by-code";
+
+    static final List<String> CACHE_NAMES = List.of(GAME_GROUPS, ADVENTURES, ADVENTURE_NOTES, USERS, INVITES_BY_CODE);
+
+    private static final long DEFAULT_MAX_SIZE = 1_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Gerenciador de caches com limites por cache; as estatísticas alimentam as métricas cache.* do actuator.
+     */
+    @Bean
+    public CacheManager cacheManager(Environment environment, CacheInvalidationBus invalidationBus) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setAllowNullValues(false);
+        // Caches não declarados também são limitados
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(DEFAULT_MAX_SIZE)
+            .expireAfterWrite(DEFAULT_TTL)
+            .recordStats());
+
+        for (String name : CACHE_NAMES) {
+            caffeineCacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                .maximumSize(environment.getProperty("app.cache." + name + ".max-size", Long.class, DEFAULT_MAX_SIZE))
+                .expireAfterWrite(ttl(environment, name))
+                .recordStats()
+                .build());
+        }
+        return new BroadcastingCacheManager(caffeineCacheManager, invalidationBus);
+    }
+
+    private static Duration ttl(Environment environment, String name) {
+        String ttl = environment.getProperty("app.cache." + name + ".ttl");
+        return ttl == null ? DEFAULT_TTL : DurationStyle.detectAndParse(ttl);
+    }
+
+    /**
+     * Decora os caches do Caffeine com {@link BroadcastingCacheDecorator}, registrando cada um no barramento
+     * para receber as invalidações das demais instâncias (aplicadas direto no Caffeine, sem republicar).
+     */
+    private static final class BroadcastingCacheManager implements CacheManager {
+
+        private final CacheManager targetCacheManager;
+        private final CacheInvalidationBus invalidationBus;
+        private final Map<String, Cache> decorated = new ConcurrentHashMap<>();
+
+        private BroadcastingCacheManager(CacheManager targetCacheManager, CacheInvalidationBus invalidationBus) {
+            this.targetCacheManager = targetCacheManager;
+            this.invalidationBus = invalidationBus;
+            targetCacheManager.getCacheNames().forEach(this::getCache);
+        }
+
+        @Override
+        public Cache getCache(String name) {
+            return decorated.computeIfAbsent(name, cacheName -> {
+                Cache target = targetCacheManager.getCache(cacheName);
+                if (target == null) {
+                    return null;
+                }
+                invalidationBus.register(cacheName, target::evict, target::clear);
+                return new BroadcastingCacheDecorator(target, invalidationBus);
+            });
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+            return targetCacheManager.getCacheNames();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.systemrpg.backend.config;
 
+import java.util.List;
 import java.util.Locale;
 
 import org.springframework.context.MessageSource;
@@ -18,6 +19,14 @@ import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 @Configuration
 public class MessageSourceConfig {
 
+    public static final Locale DEFAULT_LOCALE = Locale.of("pt", "BR");
+
+    public static final List<Locale> SUPPORTED_LOCALES = List.of(
+        DEFAULT_LOCALE,         // Português brasileiro
+        Locale.of("en", "US"),  // Inglês americano
+        Locale.of("es", "ES")   // Espanhol
+    );
+
     /**
      * Configura o MessageSource para carregar mensagens de internacionalização.
      * 
@@ -43,12 +52,8 @@ public class MessageSourceConfig {
     @Bean
     public LocaleResolver localeResolver() {
         AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
-        localeResolver.setDefaultLocale(Locale.of("pt", "BR")); // Português brasileiro como padrão
-        localeResolver.setSupportedLocales(java.util.List.of(
-            Locale.of("pt", "BR"), // Português brasileiro
-            Locale.of("en", "US"),  // Inglês americano
-            Locale.of("es", "ES")   // Espanhol
-        ));
+        localeResolver.setDefaultLocale(DEFAULT_LOCALE); // Português brasileiro como padrão
+        localeResolver.setSupportedLocales(SUPPORTED_LOCALES);
         return localeResolver;
     }
 }
@@ -81,6 +81,7 @@ public class SecurityConfiguration {
                             .requestMatchers(HttpMethod.POST, "/api/v1/users/register").permitAll()
                             .requestMatchers(HttpMethod.GET, "/api/v1/users/check-username").permitAll()
                             .requestMatchers(HttpMethod.GET, "/api/v1/users/check-email").permitAll()
+                            .requestMatchers(HttpMethod.GET, "/api/v1/game-groups/directory").permitAll()
                             .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()
                             .requestMatchers(HttpMethod.POST, "/api/v1/auth/introspect").permitAll()
                             .requestMatchers(HttpMethod.GET, "/api/v1/.well-known/jwks.json").permitAll()
@@ -21,6 +21,11 @@ public final class MessageConstants {
 
     public static final String INVALID_FIELDS = "br.com.systemrpg.INVALID_FIELDS";
 
+    public static final String CONCURRENT_UPDATE = "br.com.systemrpg.CONCURRENT_UPDATE";
+
+    public static final String INVALID_CURSOR = "br.com.systemrpg.INVALID_CURSOR";
+    public static final String INVALID_PAGE = "br.com.systemrpg.INVALID_PAGE";
+
     public static final String USER_ALREADY_EXISTS = "br.com.systemrpg.USER_ALREADY_EXISTS";
 
     public static final String INVALID_CREDENTIALS = "br.com.systemrpg.INVALID_CREDENTIALS";
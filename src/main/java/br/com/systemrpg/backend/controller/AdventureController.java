@@ -9,6 +9,7 @@ import br.com.systemrpg.backend.dto.response.ResponseApi;
 import br.com.systemrpg.backend.mapper.AdventureMapper;
 import br.com.systemrpg.backend.service.AdventureService;
 import br.com.systemrpg.backend.service.GameGroupService;
+import br.com.systemrpg.backend.util.ConditionalRequestUtil;
 import br.com.systemrpg.backend.util.MessageUtil;
 import br.com.systemrpg.backend.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,7 +20,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -29,6 +29,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -83,12 +84,14 @@ public class AdventureController {
     @ApiResponse(responseCode = "200", description = "Lista de aventuras retornada com sucesso")
     public ResponseEntity<ResponseApi<java.util.List<AdventureResponse>>> listByGameGroupWithQuery(
             @Parameter(description = "ID do grupo de jogo") @RequestParam java.util.UUID gameGroupId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
 
-        Page<Adventure> page = adventureService.listByGameGroupId(gameGroupId, pageable);
-        java.util.List<AdventureResponse> responses = page.getContent().stream()
-                .map(adventureMapper::toResponse)
-                .toList();
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, adventureService.getCollectionVersion(gameGroupId))) {
+            return null;
+        }
+
+        java.util.List<AdventureResponse> responses = adventureService.listByGameGroupIdAsResponse(gameGroupId, pageable).getContent();
         String message = messageUtil.getMessage("controller.adventure.list.success");
         return ResponseUtil.okWithSuccess(responses, message);
     }
@@ -99,12 +102,14 @@ public class AdventureController {
     @ApiResponse(responseCode = "200", description = "Lista de aventuras retornada com sucesso")
     public ResponseEntity<ResponseApi<java.util.List<AdventureResponse>>> listByGameGroupWithQueryTrailingSlash(
             @Parameter(description = "ID do grupo de jogo") @RequestParam java.util.UUID gameGroupId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
 
-        Page<Adventure> page = adventureService.listByGameGroupId(gameGroupId, pageable);
-        java.util.List<AdventureResponse> responses = page.getContent().stream()
-                .map(adventureMapper::toResponse)
-                .toList();
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, adventureService.getCollectionVersion(gameGroupId))) {
+            return null;
+        }
+
+        java.util.List<AdventureResponse> responses = adventureService.listByGameGroupIdAsResponse(gameGroupId, pageable).getContent();
         String message = messageUtil.getMessage("controller.adventure.list.success");
         return ResponseUtil.okWithSuccess(responses, message);
     }
@@ -113,12 +118,14 @@ public class AdventureController {
     @Operation(summary = "Listar aventuras por grupo", description = "Lista aventuras de um grupo de jogo (participante ou MASTER)")
     @ApiResponse(responseCode = "200", description = "Lista de aventuras retornada com sucesso")
     public ResponseEntity<ResponseApi<java.util.List<AdventureResponse>>> listByGameGroup(
-            @Parameter(description = "ID do grupo de jogo") @PathVariable java.util.UUID gameGroupId) {
+            @Parameter(description = "ID do grupo de jogo") @PathVariable java.util.UUID gameGroupId,
+            WebRequest webRequest) {
+
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, adventureService.getCollectionVersion(gameGroupId))) {
+            return null;
+        }
 
-        java.util.List<br.com.systemrpg.backend.domain.entity.Adventure> adventures = adventureService.listByGameGroupId(gameGroupId);
-        java.util.List<AdventureResponse> responses = adventures.stream()
-                .map(adventureMapper::toResponse)
-                .toList();
+        java.util.List<AdventureResponse> responses = adventureService.listByGameGroupIdAsResponse(gameGroupId);
         String message = messageUtil.getMessage("controller.adventure.list.success");
         return ResponseUtil.okWithSuccess(responses, message);
     }
@@ -155,7 +162,12 @@ public class AdventureController {
     @ApiResponse(responseCode = "200", description = "Aventura encontrada com sucesso")
     @ApiResponse(responseCode = "404", description = "Aventura não encontrada")
     public ResponseEntity<ResponseApi<AdventureResponse>> findById(
-            @Parameter(description = "ID da aventura") @PathVariable java.util.UUID id) {
+            @Parameter(description = "ID da aventura") @PathVariable java.util.UUID id,
+            WebRequest webRequest) {
+
+        if (ConditionalRequestUtil.checkNotModified(webRequest, adventureService.getVersion(id))) {
+            return null;
+        }
 
         Adventure adventure = adventureService.findById(id);
         AdventureResponse response = adventureMapper.toResponse(adventure);
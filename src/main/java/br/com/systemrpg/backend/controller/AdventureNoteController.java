@@ -6,9 +6,14 @@ import br.com.systemrpg.backend.dto.request.AdventureNoteCreateRequest;
 import br.com.systemrpg.backend.dto.request.AdventureNoteUpdateRequest;
 import br.com.systemrpg.backend.dto.response.AdventureNoteResponse;
 import br.com.systemrpg.backend.dto.response.ResponseApi;
+import br.com.systemrpg.backend.hateoas.HateoasLinkBuilder;
+import br.com.systemrpg.backend.hateoas.PageInfo;
+import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
 import br.com.systemrpg.backend.mapper.AdventureNoteMapper;
 import br.com.systemrpg.backend.service.AdventureNoteService;
 import br.com.systemrpg.backend.service.AdventureService;
+import br.com.systemrpg.backend.util.ConditionalRequestUtil;
+import br.com.systemrpg.backend.util.CursorPage;
 import br.com.systemrpg.backend.util.MessageUtil;
 import br.com.systemrpg.backend.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,7 +24,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -27,6 +31,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -43,6 +48,7 @@ public class AdventureNoteController {
     private final AdventureService adventureService;
     private final AdventureNoteMapper adventureNoteMapper;
     private final MessageUtil messageUtil;
+    private final HateoasLinkBuilder hateoasLinkBuilder;
 
     @PostMapping("/{adventureId}/notes")
     @PreAuthorize("@adventureService.canManageAdventure(#p0, authentication.name)")
@@ -67,23 +73,52 @@ public class AdventureNoteController {
     @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
     public ResponseEntity<ResponseApi<List<AdventureNoteResponse>>> listByAdventure(
             @Parameter(description = "ID da aventura") @PathVariable UUID adventureId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
 
-        Page<AdventureNote> page = adventureNoteService.listByAdventureId(adventureId, pageable);
-        List<AdventureNoteResponse> responses = page.getContent().stream()
-                .map(adventureNoteMapper::toResponse)
-                .toList();
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, adventureNoteService.getCollectionVersion(adventureId))) {
+            return null;
+        }
+
+        List<AdventureNoteResponse> responses = adventureNoteService.listByAdventureIdAsResponse(adventureId, pageable).getContent();
         String message = messageUtil.getMessage("controller.adventurenote.list.success");
         return ResponseUtil.okWithSuccess(responses, message);
     }
 
+    @GetMapping(value = "/{adventureId}/notes", params = "cursor")
+    @PreAuthorize("@adventureService.canViewAdventure(#p0, authentication.name)")
+    @Operation(summary = "Listar notas da aventura (cursor)", description = "Lista notas por aventura com paginação por cursor (keyset)")
+    @ApiResponse(responseCode = "200", description = "Página retornada com sucesso")
+    public ResponseEntity<ResponseApi<PagedHateoasResponse<AdventureNoteResponse>>> listByAdventureCursor(
+            @Parameter(description = "ID da aventura") @PathVariable UUID adventureId,
+            @Parameter(description = "Cursor opaco para paginação keyset (vazio para a primeira página)") @RequestParam String cursor,
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
+
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, adventureNoteService.getCollectionVersion(adventureId))) {
+            return null;
+        }
+
+        CursorPage<AdventureNoteResponse> page = adventureNoteService
+                .listByAdventureIdAsResponse(adventureId, cursor, pageable.getPageSize());
+        PagedHateoasResponse<AdventureNoteResponse> response = new PagedHateoasResponse<>(page.getContent(), PageInfo.fromCursorPage(page));
+        hateoasLinkBuilder.addPaginationLinks(response, cursor, page.getSize(), "/adventures/" + adventureId + "/notes", null);
+        String message = messageUtil.getMessage("controller.adventurenote.list.success");
+        return ResponseUtil.okWithSuccess(response, message);
+    }
+
     @GetMapping("/notes/{id}")
     @PreAuthorize("@adventureNoteService.canViewNote(#p0, authentication.name)")
     @Operation(summary = "Buscar nota por ID", description = "Retorna detalhes de uma nota")
     @ApiResponse(responseCode = "200", description = "Nota encontrada com sucesso")
     @ApiResponse(responseCode = "404", description = "Nota não encontrada")
     public ResponseEntity<ResponseApi<AdventureNoteResponse>> findById(
-            @Parameter(description = "ID da nota") @PathVariable UUID id) {
+            @Parameter(description = "ID da nota") @PathVariable UUID id,
+            WebRequest webRequest) {
+
+        if (ConditionalRequestUtil.checkNotModified(webRequest, adventureNoteService.getVersion(id))) {
+            return null;
+        }
 
         AdventureNote note = adventureNoteService.findById(id);
         AdventureNoteResponse response = adventureNoteMapper.toResponse(note);
@@ -2,15 +2,22 @@ package br.com.systemrpg.backend.controller;
 
 import br.com.systemrpg.backend.domain.entity.GameGroup;
 import br.com.systemrpg.backend.domain.entity.GameGroupInvite;
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
 import br.com.systemrpg.backend.dto.hateoas.GameGroupHateoasResponse;
 import br.com.systemrpg.backend.dto.request.AdventureCreateRequest;
 import br.com.systemrpg.backend.dto.response.AdventureResponse;
 import br.com.systemrpg.backend.mapper.AdventureMapper;
 import br.com.systemrpg.backend.service.AdventureService;
 import br.com.systemrpg.backend.dto.request.GameGroupCreateRequest;
+import br.com.systemrpg.backend.dto.request.GameGroupFieldSet;
 import br.com.systemrpg.backend.dto.request.GameGroupInviteCreateRequest;
+import br.com.systemrpg.backend.dto.request.GameGroupLocationFilter;
 import br.com.systemrpg.backend.dto.request.GameGroupUpdateRequest;
+import br.com.systemrpg.backend.dto.response.FacetValueResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupDashboardResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupFacetsResponse;
 import br.com.systemrpg.backend.dto.response.GameGroupInviteResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupRecommendationResponse;
 import br.com.systemrpg.backend.dto.response.GameGroupResponse;
 import br.com.systemrpg.backend.dto.response.ResponseApi;
 import br.com.systemrpg.backend.dto.request.GameGroupParticipantCreateRequest;
@@ -18,15 +25,24 @@ import br.com.systemrpg.backend.dto.request.GameGroupParticipantAddRequest;
 import br.com.systemrpg.backend.dto.response.GameGroupParticipantResponse;
 import br.com.systemrpg.backend.hateoas.HateoasLinkBuilder;
 import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
+import br.com.systemrpg.backend.hateoas.PageInfo;
 import br.com.systemrpg.backend.mapper.GameGroupHateoasMapper;
 import br.com.systemrpg.backend.mapper.GameGroupInviteMapper;
 import br.com.systemrpg.backend.mapper.GameGroupMapper;
 import br.com.systemrpg.backend.mapper.GameGroupMemberMapper;
 import br.com.systemrpg.backend.mapper.GameGroupParticipantMapper;
+import br.com.systemrpg.backend.service.GameGroupCardService;
+import br.com.systemrpg.backend.service.GameGroupDashboardService;
+import br.com.systemrpg.backend.service.GameGroupDirectoryService;
 import br.com.systemrpg.backend.service.GameGroupInviteService;
+import br.com.systemrpg.backend.service.GameGroupFacetService;
+import br.com.systemrpg.backend.service.GameGroupMatchmakingService;
 import br.com.systemrpg.backend.service.GameGroupService;
+import br.com.systemrpg.backend.util.ConditionalRequestUtil;
+import br.com.systemrpg.backend.util.CursorPage;
 import br.com.systemrpg.backend.util.ResponseUtil;
 import br.com.systemrpg.backend.util.MessageUtil;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,16 +51,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +83,11 @@ import java.util.stream.Collectors;
 public class GameGroupController {
 
     private final GameGroupService gameGroupService;
+    private final GameGroupFacetService gameGroupFacetService;
+    private final GameGroupMatchmakingService gameGroupMatchmakingService;
+    private final GameGroupDirectoryService gameGroupDirectoryService;
+    private final GameGroupCardService gameGroupCardService;
+    private final GameGroupDashboardService gameGroupDashboardService;
     private final GameGroupInviteService gameGroupInviteService;
     private final GameGroupMapper gameGroupMapper;
     private final GameGroupMemberMapper gameGroupMemberMapper;
@@ -83,17 +112,179 @@ public class GameGroupController {
             @PageableDefault(size = 20) Pageable pageable,
             @Parameter(description = "Nome da campanha para filtrar") @RequestParam(required = false) String campaignName,
             @Parameter(description = "Sistema de jogo para filtrar") @RequestParam(required = false) String gameSystem,
-            @Parameter(description = "Mundo/cenário para filtrar") @RequestParam(required = false) String settingWorld) {
-        
-        Page<GameGroup> gameGroups = gameGroupService.findByFilters(campaignName, gameSystem, settingWorld, pageable);
-        String queryParams = buildQueryParams(campaignName, gameSystem, settingWorld);
-        PagedHateoasResponse<GameGroupHateoasResponse> response = buildGameGroupListResponse(gameGroups, pageable, "/game-groups", queryParams);
+            @Parameter(description = "Mundo/cenário para filtrar") @RequestParam(required = false) String settingWorld,
+            @Parameter(description = "Modalidade para filtrar (ONLINE, PRESENTIAL)") @RequestParam(required = false) String modality,
+            @Parameter(description = "País para filtrar (igualdade, case insensitive)") @RequestParam(required = false) String country,
+            @Parameter(description = "Estado para filtrar (igualdade, case insensitive)") @RequestParam(required = false) String state,
+            @Parameter(description = "Cidade para filtrar (igualdade, case insensitive)") @RequestParam(required = false) String city,
+            @Parameter(description = "Se true, retorna apenas grupos com vagas abertas") @RequestParam(defaultValue = "false") boolean openSlots,
+            @Parameter(description = "Cursor opaco para paginação keyset (vazio para a primeira página; não combina com filtros de localização)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Se false, omite o total de registros e informa apenas se há próxima página") @RequestParam(defaultValue = "true") boolean withTotal,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,campaignName,participants); sem o parâmetro retorna o grupo completo com participantes. Conjuntos apenas com campos do card (inclusive masterUsername e adventureCount) são servidos pelo modelo de leitura de cards") @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, gameGroupService.getCollectionVersion())) {
+            return null;
+        }
+
+        GameGroupFieldSet fieldSet = gameGroupService.parseFieldSet(fields);
+        GameGroupLocationFilter location = GameGroupLocationFilter.builder()
+                .modality(modality).country(country).state(state).city(city).openSlots(openSlots)
+                .build();
+        StringBuilder params = new StringBuilder(buildQueryParams(campaignName, gameSystem, settingWorld));
+        appendParam(params, "fields", fieldSet.toQueryValue());
+        String queryParams = params.toString();
+
+        PagedHateoasResponse<GameGroupHateoasResponse> response;
+        // Sem ?fields= a listagem mantém o grupo completo; apenas conjuntos de campos do card usam game_group_card
+        if (fieldSet.isCardOnly()) {
+            response = listGameGroups(gameGroupService.cardLoader(), gameGroupMapper::toResponse,
+                    location, campaignName, gameSystem, settingWorld, cursor, withTotal, pageable, queryParams);
+        } else if (!fieldSet.includesParticipants()) {
+            response = listGameGroups(gameGroupService.entityLoader(false), gameGroupMapper::toSummaryResponse,
+                    location, campaignName, gameSystem, settingWorld, cursor, withTotal, pageable, queryParams);
+        } else {
+            response = listGameGroups(gameGroupService.entityLoader(true), gameGroup -> gameGroupMapper.toResponse(gameGroup, gameGroupMemberMapper),
+                    location, campaignName, gameSystem, settingWorld, cursor, withTotal, pageable, queryParams);
+        }
+        response.getContent().forEach(fieldSet::apply);
         
         String message = messageUtil.getMessage("controller.gamegroup.list.success");
         
         return ResponseUtil.okWithSuccess(response, message);
     }
 
+    /**
+     * Busca grupos de jogo por texto livre (nome, sistema, mundo e descrição curta), ordenados por relevância.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    @Operation(summary = "Buscar grupos de jogo", description = "Busca textual com correspondência parcial/aproximada, ordenada por relevância")
+    @ApiResponse(responseCode = "200", description = "Grupos de jogo encontrados com sucesso")
+    @ApiResponse(responseCode = "400", description = "Termo de busca inválido")
+    @ApiResponse(responseCode = "403", description = "Acesso negado")
+    public ResponseEntity<ResponseApi<PagedHateoasResponse<GameGroupHateoasResponse>>> search(
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Termo de busca (mínimo de 3 caracteres)") @RequestParam(name = "q") String query,
+            @Parameter(description = "Campos a retornar, separados por vírgula; sem o parâmetro retorna o grupo completo com participantes. Conjuntos apenas com campos do card são servidos pelo modelo de leitura de cards") @RequestParam(required = false) String fields) {
+        
+        GameGroupFieldSet fieldSet = gameGroupService.parseFieldSet(fields);
+        StringBuilder params = new StringBuilder("q=" + query);
+        appendParam(params, "fields", fieldSet.toQueryValue());
+
+        Page<GameGroupResponse> gameGroups;
+        if (fieldSet.isCardOnly()) {
+            gameGroups = gameGroupService.search(query, pageable, gameGroupService.cardLoader()).map(gameGroupMapper::toResponse);
+        } else if (!fieldSet.includesParticipants()) {
+            gameGroups = gameGroupService.search(query, pageable, gameGroupService.entityLoader(false)).map(gameGroupMapper::toSummaryResponse);
+        } else {
+            gameGroups = gameGroupService.search(query, pageable, gameGroupService.entityLoader(true))
+                    .map(gameGroup -> gameGroupMapper.toResponse(gameGroup, gameGroupMemberMapper));
+        }
+        PagedHateoasResponse<GameGroupHateoasResponse> response = buildGameGroupResponseList(
+                gameGroups, pageable, "/game-groups/search", params.toString());
+        response.getContent().forEach(fieldSet::apply);
+        
+        String message = messageUtil.getMessage("controller.gamegroup.search.success");
+        
+        return ResponseUtil.okWithSuccess(response, message);
+    }
+
+    /**
+     * Retorna as contagens de grupos ativos por faceta (sistema, mundo, modalidade, visibilidade e localização).
+     */
+    @GetMapping("/facets")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    @Operation(summary = "Facetas de grupos de jogo", description = "Contagens de grupos ativos por sistema, mundo, modalidade, visibilidade, país, estado e cidade")
+    @ApiResponse(responseCode = "200", description = "Facetas retornadas com sucesso")
+    @ApiResponse(responseCode = "403", description = "Acesso negado")
+    public ResponseEntity<ResponseApi<GameGroupFacetsResponse>> getFacets() {
+        return ResponseUtil.okWithSuccess(gameGroupFacetService.getFacets(),
+                messageUtil.getMessage("controller.gamegroup.facets.success"));
+    }
+
+    /**
+     * Lista valores de uma faceta em ordem alfabética a partir de um prefixo (type-ahead).
+     */
+    @GetMapping("/facets/{facet}/values")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    @Operation(summary = "Sugestões de valores de faceta", description = "Valores distintos de uma faceta (ex.: gameSystem, settingWorld) que começam com o prefixo")
+    @ApiResponse(responseCode = "200", description = "Valores retornados com sucesso")
+    @ApiResponse(responseCode = "400", description = "Faceta inválida")
+    @ApiResponse(responseCode = "403", description = "Acesso negado")
+    public ResponseEntity<ResponseApi<List<FacetValueResponse>>> getFacetValues(
+            @Parameter(description = "Faceta (gameSystem, settingWorld, modality, visibility, country, state, city)") @PathVariable String facet,
+            @Parameter(description = "Prefixo digitado") @RequestParam(required = false) String prefix,
+            @Parameter(description = "Quantidade máxima de valores (até 50)") @RequestParam(required = false) Integer limit) {
+        return ResponseUtil.okWithSuccess(gameGroupFacetService.suggest(facet, prefix, limit),
+                messageUtil.getMessage("controller.gamegroup.facets.success"));
+    }
+
+    /**
+     * Diretório público de grupos ativos e públicos, servido do snapshot pré-serializado (JSON ou gzip) com ETag.
+     */
+    @GetMapping("/directory")
+    @Operation(summary = "Diretório público de grupos de jogo", description = "Primeiras páginas de grupos ativos e públicos servidas da memória, com ETag e gzip")
+    @ApiResponse(responseCode = "200", description = "Página do diretório retornada com sucesso")
+    @ApiResponse(responseCode = "304", description = "Página não modificada desde o ETag informado")
+    @ApiResponse(responseCode = "400", description = "Número de página inválido")
+    public ResponseEntity<byte[]> getDirectory(
+            @Parameter(description = "Número da página (0..N)") @RequestParam(defaultValue = "0") int page,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        GameGroupDirectoryService.DirectoryPage directoryPage = gameGroupDirectoryService.getPage(page, LocaleContextHolder.getLocale());
+        CacheControl cacheControl = CacheControl.noCache().cachePublic();
+        if (directoryPage.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(directoryPage.etag()).cacheControl(cacheControl).build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(directoryPage.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(directoryPage.gzip());
+        }
+        return response.body(directoryPage.json());
+    }
+
+    /**
+     * Reconstrói o modelo de leitura de cards (game_group_card) a partir das tabelas de origem.
+     */
+    @PostMapping("/cards/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconstruir cards de grupos de jogo", description = "Recria o modelo de leitura usado pelas listagens (grupos, meus grupos e busca)")
+    @ApiResponse(responseCode = "200", description = "Cards reconstruídos com sucesso")
+    @ApiResponse(responseCode = "403", description = "Acesso negado")
+    public ResponseEntity<ResponseApi<Integer>> rebuildCards() {
+        return ResponseUtil.okWithSuccess(gameGroupCardService.rebuild(),
+                messageUtil.getMessage("controller.gamegroup.cards.rebuild.success"));
+    }
+
+    /**
+     * Recomenda grupos ativos, públicos e com vagas que combinam com o perfil informado.
+     */
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    @Operation(summary = "Recomendar grupos de jogo", description = "Grupos com vagas pontuados por sistema, modalidade, localização e acesso livre")
+    @ApiResponse(responseCode = "200", description = "Recomendações retornadas com sucesso")
+    @ApiResponse(responseCode = "400", description = "Modalidade inválida")
+    @ApiResponse(responseCode = "403", description = "Acesso negado")
+    public ResponseEntity<ResponseApi<List<GameGroupRecommendationResponse>>> getRecommendations(
+            @Parameter(description = "Sistema de jogo preferido") @RequestParam(required = false) String gameSystem,
+            @Parameter(description = "Modalidade preferida (ONLINE, PRESENTIAL)") @RequestParam(required = false) String modality,
+            @Parameter(description = "País") @RequestParam(required = false) String country,
+            @Parameter(description = "Estado") @RequestParam(required = false) String state,
+            @Parameter(description = "Cidade") @RequestParam(required = false) String city,
+            @Parameter(description = "Quantidade máxima de grupos (até 50)") @RequestParam(required = false) Integer limit) {
+        return ResponseUtil.okWithSuccess(
+                gameGroupMatchmakingService.recommend(gameSystem, modality, country, state, city, limit),
+                messageUtil.getMessage("controller.gamegroup.recommendations.success"));
+    }
+
     /**
      * Lista apenas os grupos de jogo que o usuário participa (como owner, player ou guest).
      */
@@ -104,11 +295,35 @@ public class GameGroupController {
     @ApiResponse(responseCode = "403", description = "Acesso negado")
     public ResponseEntity<ResponseApi<PagedHateoasResponse<GameGroupHateoasResponse>>> listMyGroups(
             @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Campos a retornar, separados por vírgula; sem o parâmetro retorna o grupo completo com participantes. Conjuntos apenas com campos do card são servidos pelo modelo de leitura de cards") @RequestParam(required = false) String fields,
             HttpServletRequest httpRequest) {
         
         String username = httpRequest.getUserPrincipal().getName();
-        Page<GameGroup> gameGroups = gameGroupService.findMyGameGroups(username, pageable);
-        PagedHateoasResponse<GameGroupHateoasResponse> response = buildGameGroupListResponse(gameGroups, pageable, "/game-groups/my-groups", "");
+        GameGroupFieldSet fieldSet = gameGroupService.parseFieldSet(fields);
+        StringBuilder params = new StringBuilder();
+        appendParam(params, "fields", fieldSet.toQueryValue());
+
+        Page<GameGroupService.Membership<GameGroupResponse>> memberships;
+        if (fieldSet.isCardOnly()) {
+            memberships = gameGroupService.findMyGameGroups(username, pageable)
+                    .map(membership -> new GameGroupService.Membership<>(gameGroupMapper.toResponse(membership.card()), membership.role()));
+        } else if (!fieldSet.includesParticipants()) {
+            memberships = gameGroupService.findMyGameGroups(username, pageable, gameGroupService.entityLoader(false))
+                    .map(membership -> new GameGroupService.Membership<>(gameGroupMapper.toSummaryResponse(membership.gameGroup()), membership.role()));
+        } else {
+            memberships = gameGroupService.findMyGameGroups(username, pageable, gameGroupService.entityLoader(true))
+                    .map(membership -> new GameGroupService.Membership<>(
+                            gameGroupMapper.toResponse(membership.gameGroup(), gameGroupMemberMapper), membership.role()));
+        }
+        PagedHateoasResponse<GameGroupHateoasResponse> response = buildGameGroupResponseList(
+                memberships.map(GameGroupService.Membership::gameGroup), pageable, "/game-groups/my-groups", params.toString());
+        
+        // Papel do usuário em cada grupo, vindo do próprio vínculo da página
+        for (int i = 0; i < response.getContent().size(); i++) {
+            response.getContent().get(i).setMyRole(
+                    GameGroupParticipant.ParticipantRole.fromValue(memberships.getContent().get(i).role()).name());
+        }
+        response.getContent().forEach(fieldSet::apply);
         
         String message = messageUtil.getMessage("controller.gamegroup.mygroups.success");
         
@@ -264,29 +479,77 @@ public class GameGroupController {
     }
 
     /**
-     * Constrói a resposta paginada com links HATEOAS para listas de grupos de jogo.
+     * Executa a listagem de grupos de jogo (localização, cursor, sem total ou paginada) com o plano de carga
+     * informado e converte cada item carregado com a função de mapeamento correspondente.
+     */
+    private <T> PagedHateoasResponse<GameGroupHateoasResponse> listGameGroups(GameGroupService.Loader<T> loader, Function<T, GameGroupResponse> toResponse,
+            GameGroupLocationFilter location, String campaignName, String gameSystem, String settingWorld,
+            String cursor, boolean withTotal, Pageable pageable, String queryParams) {
+        if (!location.isEmpty()) {
+            String locationParams = appendLocationParams(queryParams, location);
+            if (withTotal) {
+                Page<T> gameGroups = gameGroupService.findByLocation(location, campaignName, gameSystem, settingWorld, pageable, loader);
+                return buildGameGroupResponseList(gameGroups.map(toResponse), pageable, "/game-groups", locationParams);
+            }
+            Slice<T> gameGroups = gameGroupService.findSliceByLocation(location, campaignName, gameSystem, settingWorld, pageable, loader);
+            return buildGameGroupResponseList(gameGroups.map(toResponse), pageable, "/game-groups", withoutTotalParam(locationParams));
+        }
+        if (cursor != null) {
+            CursorPage<T> gameGroups = gameGroupService.findByFilters(campaignName, gameSystem, settingWorld, cursor, pageable.getPageSize(), loader);
+            return buildGameGroupCursorResponse(gameGroups.map(toResponse), cursor, "/game-groups", queryParams);
+        }
+        if (!withTotal) {
+            Slice<T> gameGroups = gameGroupService.findSliceByFilters(campaignName, gameSystem, settingWorld, pageable, loader);
+            return buildGameGroupResponseList(gameGroups.map(toResponse), pageable, "/game-groups", withoutTotalParam(queryParams));
+        }
+        Page<T> gameGroups = gameGroupService.findByFilters(campaignName, gameSystem, settingWorld, pageable, loader);
+        return buildGameGroupResponseList(gameGroups.map(toResponse), pageable, "/game-groups", queryParams);
+    }
+
+    /**
+     * Constrói a resposta paginada com links HATEOAS a partir das respostas já mapeadas.
      */
-    private PagedHateoasResponse<GameGroupHateoasResponse> buildGameGroupListResponse(Page<GameGroup> gameGroups, Pageable pageable, String basePath, String queryParams) {
-        Page<GameGroupResponse> gameGroupResponses = gameGroups.map(gameGroup -> gameGroupMapper.toResponse(gameGroup, gameGroupMemberMapper));
+    private PagedHateoasResponse<GameGroupHateoasResponse> buildGameGroupResponseList(Slice<GameGroupResponse> gameGroupResponses, Pageable pageable,
+            String basePath, String queryParams) {
         PagedHateoasResponse<GameGroupHateoasResponse> hateoasResponse = gameGroupHateoasMapper.toPagedHateoasResponse(gameGroupResponses);
         
-        addIndividualGameGroupLinks(hateoasResponse, gameGroups);
+        addIndividualGameGroupLinks(hateoasResponse);
         addCollectionLinks(hateoasResponse, pageable, basePath, queryParams);
         
         return hateoasResponse;
     }
 
+    /**
+     * Constrói a resposta paginada por cursor (keyset) com links HATEOAS para listas de grupos de jogo.
+     */
+    private PagedHateoasResponse<GameGroupHateoasResponse> buildGameGroupCursorResponse(CursorPage<GameGroupResponse> gameGroupResponses, String cursor, String basePath, String queryParams) {
+        PagedHateoasResponse<GameGroupHateoasResponse> hateoasResponse = gameGroupHateoasMapper.toPagedHateoasResponse(gameGroupResponses);
+
+        addIndividualGameGroupLinks(hateoasResponse);
+        hateoasLinkBuilder.addGameGroupLinks(hateoasResponse);
+        hateoasLinkBuilder.addPaginationLinks(hateoasResponse, cursor, gameGroupResponses.getSize(), basePath, queryParams);
+
+        return hateoasResponse;
+    }
+
     /**
      * Adiciona links HATEOAS individuais para cada grupo de jogo.
      */
-    private void addIndividualGameGroupLinks(PagedHateoasResponse<GameGroupHateoasResponse> hateoasResponse, Page<GameGroup> gameGroups) {
-        for (int i = 0; i < hateoasResponse.getContent().size(); i++) {
-            GameGroupHateoasResponse gameGroupHateoas = hateoasResponse.getContent().get(i);
-            GameGroup originalGameGroup = gameGroups.getContent().get(i);
-            hateoasLinkBuilder.addIndividualGameGroupLinks(gameGroupHateoas, originalGameGroup.getId());
+    private void addIndividualGameGroupLinks(PagedHateoasResponse<GameGroupHateoasResponse> hateoasResponse) {
+        for (GameGroupHateoasResponse gameGroupHateoas : hateoasResponse.getContent()) {
+            hateoasLinkBuilder.addIndividualGameGroupLinks(gameGroupHateoas, gameGroupHateoas.getId());
         }
     }
 
+    /**
+     * Monta a resposta das escritas sem participantes, para não carregar a coleção após a atualização.
+     */
+    private GameGroupHateoasResponse toWriteResponse(GameGroup gameGroup) {
+        GameGroupHateoasResponse hateoasResponse = gameGroupHateoasMapper.toHateoasResponse(gameGroupMapper.toSummaryResponse(gameGroup));
+        hateoasLinkBuilder.addGameGroupLinks(hateoasResponse, gameGroup.getId());
+        return hateoasResponse;
+    }
+
     /**
      * Adiciona links HATEOAS da coleção e paginação.
      */
@@ -303,8 +566,13 @@ public class GameGroupController {
     @Operation(summary = "Buscar grupo por ID", description = "Busca um grupo de jogo pelo seu ID")
     public ResponseEntity<ResponseApi<GameGroupHateoasResponse>> findById(
             @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id,
-            @Parameter(description = "Incluir participantes inativos no retorno") @RequestParam(required = false) Boolean includeInactive) {
+            @Parameter(description = "Incluir participantes inativos no retorno") @RequestParam(required = false) Boolean includeInactive,
+            WebRequest webRequest) {
         
+        if (ConditionalRequestUtil.checkNotModified(webRequest, gameGroupService.getVersion(id))) {
+            return null;
+        }
+
         GameGroup gameGroup = gameGroupService.findById(id);
         GameGroupResponse gameGroupResponse = gameGroupMapper.toResponse(gameGroup, gameGroupMemberMapper);
 
@@ -327,6 +595,18 @@ public class GameGroupController {
         return ResponseUtil.okWithSuccess(hateoasResponse, message);
     }
 
+    /**
+     * Retorna o painel do grupo de jogo (grupo, participantes, aventuras e últimas notas) em uma única resposta.
+     */
+    @GetMapping("/{id}/dashboard")
+    @PreAuthorize("@gameGroupService.canViewGroup(#id, authentication.name)")
+    @Operation(summary = "Painel do grupo", description = "Retorna grupo, participantes ativos, aventuras e últimas notas da aventura atual; requisições simultâneas compartilham a mesma carga")
+    public ResponseEntity<ResponseApi<GameGroupDashboardResponse>> getDashboard(
+            @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id) {
+        return ResponseUtil.okWithSuccess(gameGroupDashboardService.getDashboard(id),
+                messageUtil.getMessage("controller.gamegroup.dashboard.success"));
+    }
+
     /**
      * Cria um novo grupo de jogo.
      */
@@ -365,23 +645,38 @@ public class GameGroupController {
      */
     @PutMapping("/{id}")
     @PreAuthorize("@gameGroupService.isGroupOwner(#id, authentication.name)")
-    @Operation(summary = "Atualizar grupo de jogo", description = "Atualiza um grupo de jogo existente")
+    @Operation(summary = "Atualizar grupo de jogo", description = "Atualiza um grupo de jogo existente (campos ausentes são mantidos; participantes não são retornados)")
+    @ApiResponse(responseCode = "409", description = "Versão informada diverge da atual (alteração concorrente)")
     public ResponseEntity<ResponseApi<GameGroupHateoasResponse>> update(
             @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id,
             @Valid @RequestBody GameGroupUpdateRequest request) {
         
-        GameGroup existingGroup = gameGroupService.findById(id);
-        gameGroupMapper.updateEntityFromRequest(request, existingGroup);
-        GameGroup updatedGroup = gameGroupService.updateGameGroup(id, existingGroup);
-        GameGroupResponse gameGroupResponse = gameGroupMapper.toResponse(updatedGroup, gameGroupMemberMapper);
-        GameGroupHateoasResponse hateoasResponse = gameGroupHateoasMapper.toHateoasResponse(gameGroupResponse);
+        // Apenas os campos enviados: o grupo é carregado (sem participantes) dentro da transação de escrita
+        GameGroup changes = new GameGroup();
+        gameGroupMapper.updateEntityFromRequest(request, changes);
+        GameGroup updatedGroup = gameGroupService.updateGameGroup(id, changes);
         
-        // Adicionar links HATEOAS
-        hateoasLinkBuilder.addGameGroupLinks(hateoasResponse, id);
+        return ResponseUtil.okWithSuccess(toWriteResponse(updatedGroup),
+                messageUtil.getMessage("controller.gamegroup.updated.success"));
+    }
+
+    /**
+     * Atualiza parcialmente um grupo de jogo via JSON Merge Patch (RFC 7386).
+     */
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    @PreAuthorize("@gameGroupService.isGroupOwner(#id, authentication.name)")
+    @Operation(summary = "Atualizar parcialmente grupo de jogo", description = "Aplica um JSON Merge Patch: apenas os campos enviados são alterados e campos com null são removidos; envie version para bloqueio otimista")
+    @ApiResponse(responseCode = "200", description = "Grupo atualizado com sucesso")
+    @ApiResponse(responseCode = "400", description = "Patch inválido ou campo obrigatório removido")
+    @ApiResponse(responseCode = "409", description = "Versão informada diverge da atual (alteração concorrente)")
+    public ResponseEntity<ResponseApi<GameGroupHateoasResponse>> patch(
+            @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id,
+            @RequestBody JsonNode patch) {
         
-        String message = messageUtil.getMessage("controller.gamegroup.updated.success");
+        GameGroup updatedGroup = gameGroupService.patchGameGroup(id, patch);
         
-        return ResponseUtil.okWithSuccess(hateoasResponse, message);
+        return ResponseUtil.okWithSuccess(toWriteResponse(updatedGroup),
+                messageUtil.getMessage("controller.gamegroup.updated.success"));
     }
 
     /**
@@ -394,13 +689,9 @@ public class GameGroupController {
             @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id) {
         
         GameGroup gameGroup = gameGroupService.toggleActiveStatus(id);
-        GameGroupResponse gameGroupResponse = gameGroupMapper.toResponse(gameGroup, gameGroupMemberMapper);
-        GameGroupHateoasResponse hateoasResponse = gameGroupHateoasMapper.toHateoasResponse(gameGroupResponse);
+        GameGroupHateoasResponse hateoasResponse = toWriteResponse(gameGroup);
         
-        // Adicionar links HATEOAS
-        hateoasLinkBuilder.addGameGroupLinks(hateoasResponse, id);
-        
-        String message = gameGroupResponse.getIsActive() ? 
+        String message = hateoasResponse.getIsActive() ? 
                 messageUtil.getMessage("controller.gamegroup.activated.success") : 
                 messageUtil.getMessage("controller.gamegroup.deactivated.success");
         
@@ -421,6 +712,25 @@ public class GameGroupController {
         return ResponseUtil.okWithSuccess(null, messageUtil.getMessage("controller.gamegroup.deleted.success"));
     }
 
+    /**
+     * Restaura um grupo de jogo excluído (inclusive já arquivado) com os registros excluídos junto com ele.
+     */
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Restaurar grupo de jogo", description = "Restaura um grupo excluído, trazendo-o do arquivo se necessário")
+    @ApiResponse(responseCode = "200", description = "Grupo restaurado com sucesso")
+    @ApiResponse(responseCode = "400", description = "Grupo não está excluído")
+    @ApiResponse(responseCode = "403", description = "Acesso negado")
+    @ApiResponse(responseCode = "404", description = "Grupo não encontrado")
+    public ResponseEntity<ResponseApi<GameGroupHateoasResponse>> restore(
+            @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id) {
+
+        GameGroup gameGroup = gameGroupService.restoreGameGroup(id);
+
+        return ResponseUtil.okWithSuccess(toWriteResponse(gameGroup),
+                messageUtil.getMessage("controller.gamegroup.restored.success"));
+    }
+
     /**
      * Cria um convite para o grupo de jogo.
      */
@@ -472,6 +782,28 @@ public class GameGroupController {
         return ResponseUtil.okWithSuccess(responses, messageUtil.getMessage("controller.gamegroup.invites.list.success"));
     }
 
+    /**
+     * Lista convites de um grupo de jogo com paginação por cursor (keyset).
+     */
+    @GetMapping(value = "/{id}/invites", params = "cursor")
+    @PreAuthorize("@gameGroupService.isGroupOwner(#id, authentication.name)")
+    @Operation(summary = "Listar convites do grupo por cursor", description = "Lista convites de um grupo de jogo com paginação por cursor (apenas owner)")
+    @ApiResponse(responseCode = "200", description = "Página de convites retornada com sucesso")
+    @ApiResponse(responseCode = "403", description = "Acesso negado - apenas owner pode ver convites")
+    public ResponseEntity<ResponseApi<PagedHateoasResponse<GameGroupInviteResponse>>> listInvitesByCursor(
+            @Parameter(description = "ID do grupo de jogo") @PathVariable UUID id,
+            @Parameter(description = "Cursor opaco para paginação keyset (vazio para a primeira página)") @RequestParam String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        CursorPage<GameGroupInviteResponse> invites = gameGroupInviteService
+            .findByGameGroupId(id, cursor, pageable.getPageSize())
+            .map(gameGroupInviteMapper::toResponse);
+        PagedHateoasResponse<GameGroupInviteResponse> response = new PagedHateoasResponse<>(invites.getContent(), PageInfo.fromCursorPage(invites));
+        hateoasLinkBuilder.addPaginationLinks(response, cursor, invites.getSize(), "/game-groups/" + id + "/invites", null);
+
+        return ResponseUtil.okWithSuccess(response, messageUtil.getMessage("controller.gamegroup.invites.list.success"));
+    }
+
     /**
      * Remove um convite.
      */
@@ -514,4 +846,35 @@ public class GameGroupController {
         
         return params.toString();
     }
+
+    /**
+     * Acrescenta os filtros de localização aos parâmetros dos links de paginação.
+     */
+    private String appendLocationParams(String queryParams, GameGroupLocationFilter location) {
+        StringBuilder params = new StringBuilder(queryParams);
+        appendParam(params, "modality", location.getModality());
+        appendParam(params, "country", location.getCountry());
+        appendParam(params, "state", location.getState());
+        appendParam(params, "city", location.getCity());
+        if (location.isOpenSlots()) {
+            appendParam(params, "openSlots", "true");
+        }
+        return params.toString();
+    }
+
+    private void appendParam(StringBuilder params, String name, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            if (params.length() > 0) {
+                params.append("&");
+            }
+            params.append(name).append("=").append(value);
+        }
+    }
+
+    /**
+     * Acrescenta o parâmetro withTotal=false aos parâmetros dos links de paginação.
+     */
+    private String withoutTotalParam(String queryParams) {
+        return queryParams.isEmpty() ? "withTotal=false" : queryParams + "&withTotal=false";
+    }
 }
\ No newline at end of file
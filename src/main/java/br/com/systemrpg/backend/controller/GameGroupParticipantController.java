@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +28,7 @@ import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
 import br.com.systemrpg.backend.hateoas.PageInfo;
 import br.com.systemrpg.backend.mapper.GameGroupParticipantMapper;
 import br.com.systemrpg.backend.service.GameGroupParticipantService;
+import br.com.systemrpg.backend.util.CursorPage;
 import br.com.systemrpg.backend.util.ResponseUtil;
 import br.com.systemrpg.backend.util.MessageUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -62,8 +64,32 @@ public class GameGroupParticipantController {
             @Parameter(description = "ID do grupo de jogo para filtrar") @RequestParam(required = false) UUID gameGroupId,
             @Parameter(description = "ID do usuário para filtrar") @RequestParam(required = false) UUID userId,
             @Parameter(description = "Papel do participante para filtrar") @RequestParam(required = false) String role,
-            @Parameter(description = "Status ativo para filtrar") @RequestParam(required = false) Boolean isActive) {
+            @Parameter(description = "Status ativo para filtrar") @RequestParam(required = false) Boolean isActive,
+            @Parameter(description = "Cursor opaco para paginação keyset (vazio para a primeira página)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Se false, omite o total de registros e informa apenas se há próxima página") @RequestParam(defaultValue = "true") boolean withTotal) {
         
+        String queryParams = buildQueryParams(gameGroupId, userId, role, isActive);
+        if (cursor != null) {
+            CursorPage<GameGroupParticipantResponse> page = gameGroupParticipantService.findAll(
+                    cursor, pageable.getPageSize(), gameGroupId, userId, role, isActive);
+            PagedHateoasResponse<GameGroupParticipantResponse> response = new PagedHateoasResponse<>(page.getContent(), PageInfo.fromCursorPage(page));
+            response.getContent().forEach(participant ->
+                hateoasLinkBuilder.addGameGroupParticipantLinks(response, participant.getId()));
+            hateoasLinkBuilder.addPaginationLinks(response, cursor, page.getSize(), "/game-group-participants", queryParams);
+            return ResponseEntity.ok(response);
+        }
+
+        if (!withTotal) {
+            Slice<GameGroupParticipantResponse> slice = gameGroupParticipantService.findAllSlice(
+                    pageable, gameGroupId, userId, role, isActive);
+            PagedHateoasResponse<GameGroupParticipantResponse> response = new PagedHateoasResponse<>(slice.getContent(), PageInfo.fromSlice(slice));
+            response.getContent().forEach(participant ->
+                hateoasLinkBuilder.addGameGroupParticipantLinks(response, participant.getId()));
+            hateoasLinkBuilder.addPaginationLinks(response, pageable, "/game-group-participants",
+                    queryParams.isEmpty() ? "withTotal=false" : queryParams + "&withTotal=false");
+            return ResponseEntity.ok(response);
+        }
+
         Page<GameGroupParticipantResponse> participants = gameGroupParticipantService.findAll(
                 pageable, gameGroupId, userId, role, isActive);
         
@@ -86,7 +112,6 @@ public class GameGroupParticipantController {
         });
         
         // Adicionar links de paginação
-        String queryParams = buildQueryParams(gameGroupId, userId, role, isActive);
         hateoasLinkBuilder.addPaginationLinks(response, pageable, "/game-group-participants", queryParams);
         
         return ResponseEntity.ok(response);
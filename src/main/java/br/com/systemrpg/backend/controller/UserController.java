@@ -1,11 +1,13 @@
 package br.com.systemrpg.backend.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.systemrpg.backend.domain.entity.User;
 import br.com.systemrpg.backend.dto.UserCreateRequest;
@@ -27,12 +30,16 @@ import br.com.systemrpg.backend.dto.UserUpdateRequest;
 import br.com.systemrpg.backend.dto.hateoas.UserHateoasResponse;
 import br.com.systemrpg.backend.dto.response.AvailabilityResponse;
 import br.com.systemrpg.backend.dto.response.ResponseApi;
+import br.com.systemrpg.backend.dto.response.UserAutocompleteResponse;
 import br.com.systemrpg.backend.dto.response.UserResponse;
 import br.com.systemrpg.backend.hateoas.HateoasLinkBuilder;
 import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
 import br.com.systemrpg.backend.mapper.UserHateoasMapper;
 import br.com.systemrpg.backend.mapper.UserMapper;
+import br.com.systemrpg.backend.service.UserAutocompleteService;
 import br.com.systemrpg.backend.service.UserService;
+import br.com.systemrpg.backend.util.ConditionalRequestUtil;
+import br.com.systemrpg.backend.util.CursorPage;
 import br.com.systemrpg.backend.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -55,6 +62,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
+    private final UserAutocompleteService autocompleteService;
     private final UserMapper userMapper;
     private final UserHateoasMapper userHateoasMapper;
     private final HateoasLinkBuilder hateoasLinkBuilder;
@@ -73,10 +81,26 @@ public class UserController {
     public ResponseEntity<ResponseApi<PagedHateoasResponse<UserHateoasResponse>>> getAllUsers(
             @PageableDefault(size = 20) Pageable pageable,
             @Parameter(description = "Filtrar apenas usuários ativos")
-            @RequestParam(required = false) Boolean active) {
+            @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Cursor opaco para paginação keyset (vazio para a primeira página)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Se false, omite o total de registros e informa apenas se há próxima página")
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
+
+        if (ConditionalRequestUtil.checkCollectionNotModified(webRequest, userService.getCollectionVersion())) {
+            return null;
+        }
 
-        Page<User> users = getUsersPage(pageable, active);
-        PagedHateoasResponse<UserHateoasResponse> hateoasResponse = buildUserListResponse(users, pageable, active);
+        PagedHateoasResponse<UserHateoasResponse> hateoasResponse;
+        if (cursor != null) {
+            hateoasResponse = buildUserCursorResponse(cursor, pageable.getPageSize(), active);
+        } else if (!withTotal) {
+            hateoasResponse = buildUserListResponse(userService.findAllSliceAsResponse(Boolean.TRUE.equals(active), pageable), pageable,
+                    buildQueryParams(active, "withTotal=false"));
+        } else {
+            hateoasResponse = buildUserListResponse(getUsersPage(pageable, active), pageable, buildQueryParams(active, null));
+        }
 
         return ResponseUtil.okWithSuccess(
                 hateoasResponse,
@@ -87,31 +111,40 @@ public class UserController {
     /**
      * Obtém a página de usuários baseada nos filtros.
      */
-    private Page<User> getUsersPage(Pageable pageable, Boolean active) {
-        if (active != null && active) {
-            return userService.findActiveUsers(pageable);
-        } else {
-            return userService.findAll(pageable);
-        }
+    private Page<UserResponse> getUsersPage(Pageable pageable, Boolean active) {
+        return userService.findAllAsResponse(Boolean.TRUE.equals(active), pageable);
     }
 
     /**
      * Constrói a resposta HATEOAS para lista de usuários.
      */
-    private PagedHateoasResponse<UserHateoasResponse> buildUserListResponse(Page<User> users, Pageable pageable, Boolean active) {
-        Page<UserResponse> userResponses = users.map(userMapper::toResponse);
+    private PagedHateoasResponse<UserHateoasResponse> buildUserListResponse(Slice<UserResponse> userResponses, Pageable pageable, String queryParams) {
         PagedHateoasResponse<UserHateoasResponse> hateoasResponse = userHateoasMapper.toPagedHateoasResponse(userResponses);
         
-        addIndividualUserLinks(hateoasResponse, users);
-        addCollectionLinks(hateoasResponse, pageable, active);
+        hateoasResponse.getContent().forEach(userHateoas -> hateoasLinkBuilder.addIndividualUserLinks(userHateoas, userHateoas.getId()));
+        addCollectionLinks(hateoasResponse, pageable, queryParams);
         
         return hateoasResponse;
     }
 
+    /**
+     * Constrói a resposta HATEOAS para lista de usuários paginada por cursor (keyset).
+     */
+    private PagedHateoasResponse<UserHateoasResponse> buildUserCursorResponse(String cursor, int size, Boolean active) {
+        CursorPage<UserResponse> users = userService.findAllAsResponse(Boolean.TRUE.equals(active) ? Boolean.TRUE : null, cursor, size);
+        PagedHateoasResponse<UserHateoasResponse> hateoasResponse = userHateoasMapper.toPagedHateoasResponse(users);
+
+        hateoasResponse.getContent().forEach(userHateoas -> hateoasLinkBuilder.addIndividualUserLinks(userHateoas, userHateoas.getId()));
+        hateoasLinkBuilder.addUserLinks(hateoasResponse);
+        hateoasLinkBuilder.addPaginationLinks(hateoasResponse, cursor, size, "/users", active != null ? "active=" + active : null);
+
+        return hateoasResponse;
+    }
+
     /**
      * Adiciona links HATEOAS individuais para cada usuário.
      */
-    private void addIndividualUserLinks(PagedHateoasResponse<UserHateoasResponse> hateoasResponse, Page<User> users) {
+    private void addIndividualUserLinks(PagedHateoasResponse<UserHateoasResponse> hateoasResponse, Slice<User> users) {
         for (int i = 0; i < hateoasResponse.getContent().size(); i++) {
             UserHateoasResponse userHateoas = hateoasResponse.getContent().get(i);
             User originalUser = users.getContent().get(i);
@@ -122,9 +155,20 @@ public class UserController {
     /**
      * Adiciona links HATEOAS da coleção e paginação.
      */
-    private void addCollectionLinks(PagedHateoasResponse<UserHateoasResponse> hateoasResponse, Pageable pageable, Boolean active) {
+    private void addCollectionLinks(PagedHateoasResponse<UserHateoasResponse> hateoasResponse, Pageable pageable, String queryParams) {
         hateoasLinkBuilder.addUserLinks(hateoasResponse);
-        hateoasLinkBuilder.addPaginationLinks(hateoasResponse, pageable, "/users", active != null ? "active=" + active : null);
+        hateoasLinkBuilder.addPaginationLinks(hateoasResponse, pageable, "/users", queryParams);
+    }
+
+    /**
+     * Monta os parâmetros de consulta dos links de paginação da listagem de usuários.
+     */
+    private String buildQueryParams(Boolean active, String extraParam) {
+        String activeParam = active != null ? "active=" + active : null;
+        if (extraParam == null) {
+            return activeParam;
+        }
+        return activeParam != null ? activeParam + "&" + extraParam : extraParam;
     }
 
     /**
@@ -160,6 +204,28 @@ public class UserController {
         );
     }
 
+    /**
+     * Sugere usuários ativos por prefixo de username ou nome (autocomplete), sem consultar o banco.
+     */
+    @GetMapping("/autocomplete")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Autocomplete de usuários", description = "Sugere usuários ativos cujo username ou nome começa pelo prefixo informado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<ResponseApi<List<UserAutocompleteResponse>>> autocompleteUsers(
+            @Parameter(description = "Prefixo do username, nome ou sobrenome")
+            @RequestParam(name = "prefix") String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões (padrão 10, máximo 20)")
+            @RequestParam(name = "limit", required = false) Integer limit) {
+
+        return ResponseUtil.okWithSuccess(
+                autocompleteService.suggest(prefix, limit),
+                messageSource.getMessage("controller.user.autocomplete.success", null, LocaleContextHolder.getLocale())
+        );
+    }
+
     /**
      * Busca um usuário por ID.
      */
@@ -172,7 +238,12 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "Acesso negado")
     })
     public ResponseEntity<ResponseApi<UserHateoasResponse>> getUserById(
-            @Parameter(description = "ID do usuário") @PathVariable UUID id) {
+            @Parameter(description = "ID do usuário") @PathVariable UUID id,
+            WebRequest webRequest) {
+
+        if (ConditionalRequestUtil.checkNotModified(webRequest, userService.getVersion(id))) {
+            return null;
+        }
 
         User user = userService.findById(id);
         UserResponse userResponse = userMapper.toResponse(user);
@@ -298,6 +369,29 @@ public class UserController {
         );
     }
 
+    /**
+     * Restaura um usuário excluído (inclusive já arquivado).
+     */
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Restaurar usuário", description = "Restaura um usuário desativado, trazendo-o do arquivo se necessário")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuário restaurado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Usuário não está excluído ou username/email em uso"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<ResponseApi<UserResponse>> restoreUser(
+            @Parameter(description = "ID do usuário") @PathVariable UUID id) {
+
+        User user = userService.restoreUser(id);
+
+        return ResponseUtil.okWithSuccess(
+                userMapper.toResponse(user),
+                messageSource.getMessage("controller.user.restored.success", null, LocaleContextHolder.getLocale())
+        );
+    }
+
     /**
      * Exclui permanentemente um usuário.
      */
@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.*;
@@ -18,9 +19,11 @@ import jakarta.validation.constraints.Max;
 
 /**
  * Entidade que representa um grupo de jogo no sistema.
+ * O UPDATE grava apenas as colunas alteradas e é protegido por bloqueio otimista (coluna version).
  */
 @Entity
 @Table(name = "game_group")
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -129,6 +132,23 @@ public class GameGroup {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Contadores de participantes ativos por papel, mantidos via UPDATE atômico (não são gravados pelo flush da entidade)
+    @Builder.Default
+    @Column(name = "master_count", nullable = false, updatable = false)
+    private Integer masterCount = 0;
+
+    @Builder.Default
+    @Column(name = "player_count", nullable = false, updatable = false)
+    private Integer playerCount = 0;
+
+    @Builder.Default
+    @Column(name = "guest_count", nullable = false, updatable = false)
+    private Integer guestCount = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "gameGroup", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Set<GameGroupParticipant> participants = new HashSet<>();
@@ -214,6 +234,15 @@ public class GameGroup {
         this.deletedAt = deletedAt;
     }
 
+    /**
+     * Retorna o total de participantes ativos a partir dos contadores por papel.
+     */
+    public int getCurrentParticipants() {
+        return (masterCount != null ? masterCount : 0)
+            + (playerCount != null ? playerCount : 0)
+            + (guestCount != null ? guestCount : 0);
+    }
+
     /**
      * Enum para regras de acesso.
      */
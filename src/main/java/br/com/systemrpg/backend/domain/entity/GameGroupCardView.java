@@ -0,0 +1,98 @@
+package br.com.systemrpg.backend.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Modelo de leitura desnormalizado com os dados de card de um grupo de jogo não excluído
+ * (colunas do grupo, contadores por papel, username do master e quantidade de aventuras).
+ * Mantido apenas via SQL pelo {@code GameGroupCardService}; nunca é gravado pelo flush da entidade.
+ */
+@Entity
+@Immutable
+@Table(name = "game_group_card")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class GameGroupCardView {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "game_group_id", nullable = false)
+    private UUID gameGroupId;
+
+    @Column(name = "campaign_name", nullable = false, length = 100)
+    private String campaignName;
+
+    @Column(name = "short_description", nullable = false, length = 100)
+    private String shortDescription;
+
+    @Column(name = "game_system", nullable = false, length = 100)
+    private String gameSystem;
+
+    @Column(name = "setting_world", length = 100)
+    private String settingWorld;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "visibility", nullable = false)
+    private GameGroup.Visibility visibility;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "access_rule", nullable = false)
+    private GameGroup.AccessRule accessRule;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "modality", nullable = false)
+    private GameGroup.Modality modality;
+
+    @Column(name = "country", length = 100)
+    private String country;
+
+    @Column(name = "state", length = 100)
+    private String state;
+
+    @Column(name = "city", length = 100)
+    private String city;
+
+    @Column(name = "max_players")
+    private Integer maxPlayers;
+
+    @Column(name = "master_count", nullable = false)
+    private Integer masterCount;
+
+    @Column(name = "player_count", nullable = false)
+    private Integer playerCount;
+
+    @Column(name = "guest_count", nullable = false)
+    private Integer guestCount;
+
+    @Column(name = "master_username", length = 50)
+    private String masterUsername;
+
+    @Column(name = "adventure_count", nullable = false)
+    private Integer adventureCount;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
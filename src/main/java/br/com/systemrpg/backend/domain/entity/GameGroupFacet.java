@@ -0,0 +1,46 @@
+package br.com.systemrpg.backend.domain.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Entidade que representa o contador de grupos de jogo ativos por valor de faceta (ex.: gameSystem = "D&D 5e").
+ */
+@Entity
+@Table(name = "game_group_facet")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class GameGroupFacet {
+
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private FacetKey id;
+
+    @Column(name = "group_count", nullable = false)
+    private Long groupCount;
+
+    /**
+     * Chave composta (faceta, valor).
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetKey implements Serializable {
+
+        @Column(name = "facet", nullable = false, length = 30)
+        private String facet;
+
+        @Column(name = "value", nullable = false, length = 100)
+        private String value;
+    }
+}
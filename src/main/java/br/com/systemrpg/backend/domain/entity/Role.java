@@ -6,6 +6,8 @@ import java.util.Set;
 import java.util.UUID;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,9 +24,11 @@ import jakarta.validation.constraints.Size;
 
 /**
  * Entidade que representa uma role (papel/perfil) no sistema.
+ * Dado de referência pequeno e quase imutável: fica no cache de segundo nível.
  */
 @Entity
 @Table(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 @Data
 @Builder
 @NoArgsConstructor
@@ -6,7 +6,12 @@ import java.util.Set;
 import java.util.UUID;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.Column;
@@ -25,9 +30,14 @@ import jakarta.validation.constraints.Size;
 
 /**
  * Entidade que representa um usuário no sistema.
+ * O UPDATE grava apenas as colunas alteradas (ex.: o registro do último login não regrava o perfil).
+ * Fica no cache de segundo nível por ID e por username (natural id), junto com a coleção de roles.
  */
 @Entity
 @Table(name = "users")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
 @Data
 @Builder
 @NoArgsConstructor
@@ -42,6 +52,7 @@ public class User {
     @EqualsAndHashCode.Include
     private UUID id;
 
+    @NaturalId(mutable = true)
     @NotBlank(message = "{validation.username.required}")
     @Size(min = 3, max = 50, message = "{validation.username.size}")
     @Column(name = "username", nullable = false, unique = true, length = 50)
@@ -93,6 +104,7 @@ public class User {
     private LocalDateTime deletedAt;
 
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "user_roles",
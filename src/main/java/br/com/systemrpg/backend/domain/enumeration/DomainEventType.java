@@ -0,0 +1,31 @@
+package br.com.systemrpg.backend.domain.enumeration;
+
+import lombok.Getter;
+
+/**
+ * Enumeração que define os eventos de domínio gravados no outbox, com o tipo de agregado de cada um.
+ */
+public enum DomainEventType {
+
+    GAME_GROUP_CREATED("game_group"),
+    GAME_GROUP_UPDATED("game_group"),
+    GAME_GROUP_DELETED("game_group"),
+    GAME_GROUP_RESTORED("game_group"),
+    PARTICIPANT_JOINED("game_group_participant"),
+    PARTICIPANT_LEFT("game_group_participant"),
+    PARTICIPANT_TOGGLED("game_group_participant"),
+    INVITE_USED("game_group_invite"),
+    ADVENTURE_CREATED("adventure"),
+    ADVENTURE_UPDATED("adventure"),
+    ADVENTURE_DELETED("adventure"),
+    ADVENTURE_NOTE_CREATED("adventure_note"),
+    ADVENTURE_NOTE_UPDATED("adventure_note"),
+    ADVENTURE_NOTE_DELETED("adventure_note");
+
+    @Getter
+    private final String aggregateType;
+
+    DomainEventType(final String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+}
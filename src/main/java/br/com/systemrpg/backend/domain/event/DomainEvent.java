@@ -0,0 +1,14 @@
+package br.com.systemrpg.backend.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+
+/**
+ * Evento de domínio lido do outbox e entregue aos {@link DomainEventSubscriber}.
+ */
+public record DomainEvent(Long id, DomainEventType type, UUID aggregateId, JsonNode payload, LocalDateTime occurredAt) {
+}
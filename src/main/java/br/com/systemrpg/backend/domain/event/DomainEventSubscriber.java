@@ -0,0 +1,22 @@
+package br.com.systemrpg.backend.domain.event;
+
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+
+/**
+ * Assinante dos eventos de domínio despachados a partir do outbox. A entrega é "ao menos uma vez":
+ * um evento pode ser reentregue se algum assinante falhar, então o tratamento deve ser idempotente.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * Indica se o assinante deve receber eventos do tipo informado (por padrão, todos).
+     */
+    default boolean supports(DomainEventType type) {
+        return true;
+    }
+
+    /**
+     * Trata um evento; exceções fazem o evento ser reentregue no próximo ciclo.
+     */
+    void onEvent(DomainEvent event);
+}
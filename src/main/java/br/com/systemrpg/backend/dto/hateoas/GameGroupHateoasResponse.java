@@ -49,6 +49,12 @@ public class GameGroupHateoasResponse extends HateoasResponse {
     
     private List<GameGroupMemberResponse> participants;
     
+    private String masterUsername; // username do master (apenas nas listagens por card)
+    
+    private Integer adventureCount; // aventuras não excluídas (apenas nas listagens por card)
+    
+    private String myRole; // MASTER, PLAYER, GUEST (papel do usuário autenticado em /my-groups)
+    
     private String themesContent;
     
     private String punctualityAttendance;
@@ -67,6 +73,8 @@ public class GameGroupHateoasResponse extends HateoasResponse {
     
     private UserResponse createdBy;
     
+    private Long version; // versão para bloqueio otimista (enviar em PUT/PATCH)
+    
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
     
@@ -0,0 +1,127 @@
+package br.com.systemrpg.backend.dto.request;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.util.StringUtils;
+
+import br.com.systemrpg.backend.dto.hateoas.GameGroupHateoasResponse;
+
+/**
+ * Campos solicitados via {@code ?fields=} na listagem de grupos de jogo (sparse fieldsets).
+ * Define tanto o JSON retornado quanto o plano de carga: com ou sem participantes, ou apenas a projeção de card.
+ */
+public final class GameGroupFieldSet {
+
+    public static final String ID = "id";
+    public static final String PARTICIPANTS = "participants";
+
+    /**
+     * Campos da resposta que podem ser solicitados.
+     */
+    public static final List<String> AVAILABLE_FIELDS = List.of(
+        ID, "campaignName", "description", "shortDescription", "gameSystem", "settingWorld", "visibility",
+        "accessRule", "modality", "maxPlayers", "currentParticipants", PARTICIPANTS, "masterUsername", "adventureCount", "themesContent",
+        "punctualityAttendance", "houseRules", "behavioralExpectations", "location", "rules", "notes",
+        "isActive", "version", "createdAt", "updatedAt", "deletedAt");
+
+    /**
+     * Campos atendidos pelo modelo de leitura de cards (game_group_card), sem carregar a entidade.
+     */
+    public static final Set<String> CARD_FIELDS = Set.of(
+        ID, "campaignName", "shortDescription", "gameSystem", "settingWorld", "visibility", "accessRule",
+        "modality", "maxPlayers", "currentParticipants", "masterUsername", "adventureCount", "isActive", "createdAt", "updatedAt");
+
+    private static final GameGroupFieldSet ALL = new GameGroupFieldSet(null);
+
+    private final Set<String> fields;
+
+    private GameGroupFieldSet(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Interpreta a lista de campos separados por vírgula; vazio ou ausente significa todos os campos.
+     * O ID é sempre incluído (usado nos links HATEOAS).
+     */
+    public static GameGroupFieldSet parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Set<String> requested = Arrays.stream(fields.split(",")).map(String::trim).filter(StringUtils::hasText)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            return ALL;
+        }
+        Set<String> withId = new LinkedHashSet<>();
+        withId.add(ID);
+        withId.addAll(requested);
+        return new GameGroupFieldSet(Collections.unmodifiableSet(withId));
+    }
+
+    /**
+     * Indica se todos os campos foram solicitados.
+     */
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /**
+     * Campos solicitados que não existem na resposta.
+     */
+    public Set<String> getUnknownFields() {
+        if (isAll()) {
+            return Set.of();
+        }
+        return fields.stream().filter(field -> !AVAILABLE_FIELDS.contains(field)).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Indica se o campo foi solicitado.
+     */
+    public boolean includes(String field) {
+        return isAll() || fields.contains(field);
+    }
+
+    /**
+     * Indica se os participantes precisam ser carregados.
+     */
+    public boolean includesParticipants() {
+        return includes(PARTICIPANTS);
+    }
+
+    /**
+     * Indica se todos os campos solicitados são atendidos pela projeção de card.
+     */
+    public boolean isCardOnly() {
+        return !isAll() && CARD_FIELDS.containsAll(fields);
+    }
+
+    /**
+     * Remove da resposta os campos não solicitados (omitidos do JSON por serem nulos).
+     */
+    public void apply(GameGroupHateoasResponse response) {
+        if (isAll()) {
+            return;
+        }
+        BeanWrapper wrapper = new BeanWrapperImpl(response);
+        for (String field : AVAILABLE_FIELDS) {
+            if (!fields.contains(field)) {
+                wrapper.setPropertyValue(field, null);
+            }
+        }
+    }
+
+    /**
+     * Valor do parâmetro {@code fields} para os links de paginação (nulo quando todos os campos).
+     */
+    public String toQueryValue() {
+        return isAll() ? null : String.join(",", fields);
+    }
+}
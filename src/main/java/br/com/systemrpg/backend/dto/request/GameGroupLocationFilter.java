@@ -0,0 +1,36 @@
+package br.com.systemrpg.backend.dto.request;
+
+import org.springframework.util.StringUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com os filtros de descoberta por localização de grupos de jogo (modalidade, país, estado, cidade e vagas).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameGroupLocationFilter {
+
+    private String modality; // ONLINE, PRESENTIAL
+
+    private String country;
+
+    private String state;
+
+    private String city;
+
+    private boolean openSlots;
+
+    /**
+     * Indica se nenhum filtro de descoberta foi informado.
+     */
+    public boolean isEmpty() {
+        return !StringUtils.hasText(modality) && !StringUtils.hasText(country) && !StringUtils.hasText(state)
+            && !StringUtils.hasText(city) && !openSlots;
+    }
+}
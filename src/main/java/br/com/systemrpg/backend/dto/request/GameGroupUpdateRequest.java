@@ -47,4 +47,6 @@ public class GameGroupUpdateRequest {
     private String houseRules;
 
     private String behavioralExpectations;
+
+    private Long version; // versão lida pelo cliente (opcional); se divergir da atual, a atualização é rejeitada
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package br.com.systemrpg.backend.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class AdventureResponse {
     private UUID id;
     private String title;
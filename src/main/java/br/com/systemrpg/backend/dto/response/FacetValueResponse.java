@@ -0,0 +1,20 @@
+package br.com.systemrpg.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de um valor de faceta com a quantidade de grupos de jogo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetValueResponse {
+
+    private String value;
+
+    private Long count;
+}
@@ -0,0 +1,37 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+
+/**
+ * Projeção de card de um grupo de jogo para listagens, lida do modelo de leitura game_group_card
+ * (sem carregar a entidade nem participantes).
+ */
+public record GameGroupCard(
+    UUID id,
+    String campaignName,
+    String shortDescription,
+    String gameSystem,
+    String settingWorld,
+    GameGroup.Visibility visibility,
+    GameGroup.AccessRule accessRule,
+    GameGroup.Modality modality,
+    Integer maxPlayers,
+    Integer masterCount,
+    Integer playerCount,
+    Integer guestCount,
+    String masterUsername,
+    Integer adventureCount,
+    Boolean isActive,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {
+
+    /**
+     * Quantidade atual de participantes ativos, a partir dos contadores desnormalizados.
+     */
+    public int currentParticipants() {
+        return (masterCount != null ? masterCount : 0) + (playerCount != null ? playerCount : 0) + (guestCount != null ? guestCount : 0);
+    }
+}
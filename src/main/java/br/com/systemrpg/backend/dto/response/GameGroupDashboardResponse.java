@@ -0,0 +1,29 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para o painel de um grupo de jogo: grupo, participantes ativos, aventuras e últimas notas da aventura atual.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameGroupDashboardResponse {
+
+    private GameGroupResponse gameGroup;
+
+    private List<GameGroupParticipantResponse> participants;
+
+    private List<AdventureResponse> adventures;
+
+    private UUID currentAdventureId; // aventura ativa mais recente (null se não houver)
+
+    private List<AdventureNoteResponse> latestNotes;
+}
@@ -0,0 +1,31 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+
+/**
+ * Item do diretório público de grupos de jogo. Exposto sem autenticação: não traz participantes,
+ * IDs ou nomes de usuários nem campos de auditoria.
+ */
+public record GameGroupDirectoryItem(
+    UUID id,
+    String campaignName,
+    String shortDescription,
+    String gameSystem,
+    String settingWorld,
+    GameGroup.AccessRule accessRule,
+    GameGroup.Modality modality,
+    Integer maxPlayers,
+    Integer currentParticipants,
+    Integer adventureCount) {
+
+    /**
+     * Monta o item a partir do card do grupo.
+     */
+    public static GameGroupDirectoryItem from(GameGroupCard card) {
+        return new GameGroupDirectoryItem(card.id(), card.campaignName(), card.shortDescription(), card.gameSystem(),
+            card.settingWorld(), card.accessRule(), card.modality(), card.maxPlayers(), card.currentParticipants(),
+            card.adventureCount());
+    }
+}
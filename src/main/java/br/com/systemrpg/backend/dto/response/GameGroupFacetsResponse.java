@@ -0,0 +1,32 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta das facetas de navegação de grupos de jogo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameGroupFacetsResponse {
+
+    private List<FacetValueResponse> gameSystem;
+
+    private List<FacetValueResponse> settingWorld;
+
+    private List<FacetValueResponse> modality;
+
+    private List<FacetValueResponse> visibility;
+
+    private List<FacetValueResponse> country;
+
+    private List<FacetValueResponse> state;
+
+    private List<FacetValueResponse> city;
+}
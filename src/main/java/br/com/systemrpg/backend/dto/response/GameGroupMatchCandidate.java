@@ -0,0 +1,44 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+
+/**
+ * Projeção somente leitura de um grupo de jogo usada pelo índice de recomendação.
+ */
+public record GameGroupMatchCandidate(
+    UUID id,
+    String campaignName,
+    String gameSystem,
+    String settingWorld,
+    String shortDescription,
+    GameGroup.Modality modality,
+    GameGroup.AccessRule accessRule,
+    String country,
+    String state,
+    String city,
+    Integer maxPlayers,
+    Integer masterCount,
+    Integer playerCount,
+    Integer guestCount,
+    LocalDateTime createdAt
+) {
+
+    /**
+     * Quantidade de participantes ativos (todos os papéis).
+     */
+    public int currentParticipants() {
+        return (masterCount != null ? masterCount : 0)
+            + (playerCount != null ? playerCount : 0)
+            + (guestCount != null ? guestCount : 0);
+    }
+
+    /**
+     * Vagas abertas; Integer.MAX_VALUE quando o grupo não tem limite de jogadores.
+     */
+    public int openSlots() {
+        return maxPlayers == null ? Integer.MAX_VALUE : maxPlayers - currentParticipants();
+    }
+}
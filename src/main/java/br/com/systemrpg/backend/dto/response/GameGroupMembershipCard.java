@@ -0,0 +1,24 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+
+/**
+ * Card de um grupo de jogo acompanhado do papel do usuário no grupo, usado pela listagem de "meus grupos".
+ */
+public record GameGroupMembershipCard(GameGroupCard card, Integer role) {
+
+    /**
+     * Construtor usado pela consulta JPQL (papel seguido das colunas do card).
+     */
+    public GameGroupMembershipCard(Integer role, UUID id, String campaignName, String shortDescription, String gameSystem,
+                                   String settingWorld, GameGroup.Visibility visibility, GameGroup.AccessRule accessRule,
+                                   GameGroup.Modality modality, Integer maxPlayers, Integer masterCount, Integer playerCount,
+                                   Integer guestCount, String masterUsername, Integer adventureCount, Boolean isActive,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(new GameGroupCard(id, campaignName, shortDescription, gameSystem, settingWorld, visibility, accessRule, modality,
+            maxPlayers, masterCount, playerCount, guestCount, masterUsername, adventureCount, isActive, createdAt, updatedAt), role);
+    }
+}
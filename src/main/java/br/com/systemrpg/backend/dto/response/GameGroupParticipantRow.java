@@ -0,0 +1,48 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+
+/**
+ * Projeção somente leitura de um participante com os dados do seu usuário, usada pela listagem de participantes.
+ */
+public record GameGroupParticipantRow(
+    UUID id,
+    Integer role,
+    Boolean isActive,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    LocalDateTime deletedAt,
+    UUID userId,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    Boolean userIsActive,
+    Boolean isEmailVerified,
+    LocalDateTime userCreatedAt,
+    LocalDateTime userUpdatedAt,
+    LocalDateTime lastLoginAt,
+    LocalDateTime passwordChangedAt
+) {
+
+    /**
+     * Converte para o DTO de resposta, com os papéis do usuário carregados à parte.
+     */
+    public GameGroupParticipantResponse toResponse(Set<RoleResponse> roles) {
+        UserResponse user = new UserResponse(userId, username, email, firstName, lastName, userIsActive, isEmailVerified,
+            userCreatedAt, userUpdatedAt, lastLoginAt, passwordChangedAt, roles);
+        return GameGroupParticipantResponse.builder()
+            .id(id)
+            .user(user)
+            .role(role != null ? GameGroupParticipant.ParticipantRole.fromValue(role).name() : null)
+            .isActive(isActive)
+            .createdAt(createdAt)
+            .updatedAt(updatedAt)
+            .deletedAt(deletedAt)
+            .build();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de um grupo de jogo recomendado, com a pontuação de aderência ao perfil informado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameGroupRecommendationResponse {
+
+    private UUID id;
+
+    private String campaignName;
+
+    private String gameSystem;
+
+    private String settingWorld;
+
+    private String shortDescription;
+
+    private String modality; // ONLINE, PRESENTIAL
+
+    private String accessRule; // FREE, FRIENDS, APPROVAL
+
+    private String country;
+
+    private String state;
+
+    private String city;
+
+    private Integer maxPlayers;
+
+    private Integer currentParticipants;
+
+    private Integer score;
+}
@@ -46,6 +46,10 @@ public class GameGroupResponse {
     
     private List<GameGroupMemberResponse> participants;
     
+    private String masterUsername;
+    
+    private Integer adventureCount;
+    
     private String country;
     
     private String state;
@@ -62,6 +66,8 @@ public class GameGroupResponse {
     
     private UUID createdBy;
     
+    private Long version;
+    
     private Boolean isActive;
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -0,0 +1,14 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.util.UUID;
+
+/**
+ * Sugestão de usuário do autocomplete (ex.: convite de jogadores por username).
+ */
+public record UserAutocompleteResponse(
+    UUID id,
+    String username,
+    String firstName,
+    String lastName
+) {
+}
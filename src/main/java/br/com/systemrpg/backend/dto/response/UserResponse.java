@@ -48,4 +48,14 @@ public class UserResponse {
     private LocalDateTime passwordChangedAt;
     
     private Set<RoleResponse> roles;
+
+    /**
+     * Construtor usado pelas projeções JPQL das listagens; os papéis são preenchidos por uma segunda consulta.
+     */
+    public UserResponse(UUID id, String username, String email, String firstName, String lastName, Boolean isActive,
+                        Boolean isEmailVerified, LocalDateTime createdAt, LocalDateTime updatedAt,
+                        LocalDateTime lastLoginAt, LocalDateTime passwordChangedAt) {
+        this(id, username, email, firstName, lastName, isActive, isEmailVerified, createdAt, updatedAt,
+            lastLoginAt, passwordChangedAt, null);
+    }
 }
@@ -0,0 +1,25 @@
+package br.com.systemrpg.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura de um papel atribuído a um usuário, usada para montar as listagens sem carregar entidades.
+ */
+public record UserRoleRow(
+    UUID userId,
+    UUID id,
+    String name,
+    String description,
+    Boolean isActive,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * Converte para o DTO de resposta do papel.
+     */
+    public RoleResponse toResponse() {
+        return new RoleResponse(id, name, description, isActive, createdAt, updatedAt);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -65,6 +66,14 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return handleInvalidParamException(request, HttpStatus.BAD_REQUEST, exception, message, fieldErrors);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    ResponseEntity<RestResponse> handleOptimisticLocking(final WebRequest request, final OptimisticLockingFailureException exception) {
+        String message = getMessage(MessageConstants.CONCURRENT_UPDATE);
+        List<RestResponse.FieldError> fieldErrors = Collections.emptyList();
+
+        return handleInvalidParamException(request, HttpStatus.CONFLICT, exception, message, fieldErrors);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     ResponseEntity<RestResponse> handleIllegalState(final WebRequest request, final IllegalStateException exception) {
         String message = getMessage(exception.getMessage());
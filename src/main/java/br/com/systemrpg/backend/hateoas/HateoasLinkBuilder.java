@@ -59,6 +59,7 @@ public class HateoasLinkBuilder {
     // Query parameters
     private static final String PAGE_PARAM = "?page=";
     private static final String SIZE_PARAM = "&size=";
+    private static final String CURSOR_PARAM = "?cursor=";
     
     // HTTP Methods
     private static final String GET_METHOD = "GET";
@@ -169,16 +170,53 @@ public class HateoasLinkBuilder {
             response.addLink(baseUrl + PAGE_PARAM + (currentPage - 1) + SIZE_PARAM + pageSize + queryString, PREV_REL, GET_METHOD);
         }
         
-        // Next page - precisamos do total de páginas do PageInfo
-        if (response.getPage() != null && currentPage < response.getPage().getTotalPages() - 1) {
+        // Next page - usa o total de páginas do PageInfo ou, sem contagem (Slice), o indicador hasNext
+        boolean hasNextPage = hasTotalPages(response)
+            ? currentPage < response.getPage().getTotalPages() - 1
+            : response.getPage() != null && response.getPage().isHasNext();
+        if (hasNextPage) {
             response.addLink(baseUrl + PAGE_PARAM + (currentPage + 1) + SIZE_PARAM + pageSize + queryString, NEXT_REL, GET_METHOD);
         }
         
         // Last page
-        if (response.getPage() != null && currentPage < response.getPage().getTotalPages() - 1) {
+        if (hasTotalPages(response) && currentPage < response.getPage().getTotalPages() - 1) {
             response.addLink(baseUrl + PAGE_PARAM + (response.getPage().getTotalPages() - 1) + SIZE_PARAM + pageSize + queryString, LAST_REL, GET_METHOD);
         }
     }
+
+    /**
+     * Adiciona links de paginação por cursor (keyset) usando os cursores opacos do PageInfo.
+     */
+    public void addPaginationLinks(PagedHateoasResponse<?> response, String cursor, int pageSize, String basePath, String queryParams) {
+        String baseUrl = getBaseUrl() + apiV1Path + basePath;
+        String queryString = queryParams != null && !queryParams.isEmpty() ? "&" + queryParams : "";
+        String currentCursor = cursor != null ? cursor : "";
+
+        // Self link
+        response.addLink(baseUrl + CURSOR_PARAM + currentCursor + SIZE_PARAM + pageSize + queryString, SELF_REL, GET_METHOD);
+
+        PageInfo page = response.getPage();
+        if (page == null) {
+            return;
+        }
+
+        // First page - cursor vazio reinicia a navegação
+        if (page.getPrevCursor() != null) {
+            response.addLink(baseUrl + CURSOR_PARAM + SIZE_PARAM + pageSize + queryString, FIRST_REL, GET_METHOD);
+            response.addLink(baseUrl + CURSOR_PARAM + page.getPrevCursor() + SIZE_PARAM + pageSize + queryString, PREV_REL, GET_METHOD);
+        }
+
+        if (page.getNextCursor() != null) {
+            response.addLink(baseUrl + CURSOR_PARAM + page.getNextCursor() + SIZE_PARAM + pageSize + queryString, NEXT_REL, GET_METHOD);
+        }
+    }
+
+    /**
+     * Verifica se a resposta paginada possui o total de páginas calculado.
+     */
+    private boolean hasTotalPages(PagedHateoasResponse<?> response) {
+        return response.getPage() != null && response.getPage().getTotalPages() != null;
+    }
     
     /**
      * Adiciona todos os links para ROLE_ADMIN.
@@ -1,6 +1,9 @@
 package br.com.systemrpg.backend.hateoas;
 
+import br.com.systemrpg.backend.util.CursorPage;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,23 +20,68 @@ import lombok.NoArgsConstructor;
 public class PageInfo {
     
 
-    private int number;
+    private Integer number;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
     private int numberOfElements;
+    private String nextCursor;
+    private String prevCursor;
+
+    /**
+     * Cria as informações de paginação de uma página (Page) com contagem total.
+     */
+    public static PageInfo fromPage(Page<?> page) {
+        PageInfo pageInfo = fromSlice(page);
+        pageInfo.setTotalElements(page.getTotalElements());
+        pageInfo.setTotalPages(page.getTotalPages());
+        return pageInfo;
+    }
+
+    /**
+     * Cria as informações de paginação de uma fatia (Slice) sem contagem total.
+     * Os totais não são calculados e são omitidos da resposta.
+     */
+    public static PageInfo fromSlice(Slice<?> slice) {
+        PageInfo pageInfo = new PageInfo();
+        pageInfo.setNumber(slice.getNumber());
+        pageInfo.setSize(slice.getSize());
+        pageInfo.setNumberOfElements(slice.getNumberOfElements());
+        pageInfo.setFirst(slice.isFirst());
+        pageInfo.setLast(slice.isLast());
+        pageInfo.setHasNext(slice.hasNext());
+        pageInfo.setHasPrevious(slice.hasPrevious());
+        return pageInfo;
+    }
+
+    /**
+     * Cria as informações de paginação de uma página por cursor (keyset).
+     * Número da página e totais não se aplicam e são omitidos da resposta.
+     */
+    public static PageInfo fromCursorPage(CursorPage<?> page) {
+        PageInfo pageInfo = new PageInfo();
+        pageInfo.setSize(page.getSize());
+        pageInfo.setNumberOfElements(page.getContent().size());
+        pageInfo.setFirst(!page.hasPrevious());
+        pageInfo.setLast(!page.hasNext());
+        pageInfo.setHasNext(page.hasNext());
+        pageInfo.setHasPrevious(page.hasPrevious());
+        pageInfo.setNextCursor(page.getNextCursor());
+        pageInfo.setPrevCursor(page.getPrevCursor());
+        return pageInfo;
+    }
     
     // Getters manuais para resolver problemas do Lombok
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
     
     // Setters manuais para resolver problemas do Lombok
-    public void setNumber(int number) {
+    public void setNumber(Integer number) {
         this.number = number;
     }
     
@@ -41,11 +89,11 @@ public class PageInfo {
         this.size = size;
     }
     
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
     
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
     
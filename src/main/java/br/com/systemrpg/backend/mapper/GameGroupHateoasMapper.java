@@ -4,10 +4,12 @@ import br.com.systemrpg.backend.dto.hateoas.GameGroupHateoasResponse;
 import br.com.systemrpg.backend.dto.response.GameGroupResponse;
 import br.com.systemrpg.backend.hateoas.PageInfo;
 import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
+import br.com.systemrpg.backend.util.CursorPage;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -21,6 +23,7 @@ public interface GameGroupHateoasMapper {
      * Converte GameGroupResponse para GameGroupHateoasResponse.
      */
     @Mapping(target = "links", ignore = true)
+    @Mapping(target = "myRole", ignore = true)
     @Mapping(target = "createdBy", expression = "java(null)")
     GameGroupHateoasResponse toHateoasResponse(GameGroupResponse gameGroupResponse);
     
@@ -49,4 +52,20 @@ public interface GameGroupHateoasMapper {
         return new PagedHateoasResponse<>(content, pageInfo);
     }
 
-}
\ No newline at end of file
+    /**
+     * Converte Slice<GameGroupResponse> (sem contagem total) para PagedHateoasResponse<GameGroupHateoasResponse>.
+     */
+    default PagedHateoasResponse<GameGroupHateoasResponse> toPagedHateoasResponse(Slice<GameGroupResponse> slice) {
+        if (slice instanceof Page<GameGroupResponse> page) {
+            return toPagedHateoasResponse(page);
+        }
+        return new PagedHateoasResponse<>(toHateoasResponseList(slice.getContent()), PageInfo.fromSlice(slice));
+    }
+
+    /**
+     * Converte CursorPage<GameGroupResponse> para PagedHateoasResponse<GameGroupHateoasResponse>.
+     */
+    default PagedHateoasResponse<GameGroupHateoasResponse> toPagedHateoasResponse(CursorPage<GameGroupResponse> page) {
+        return new PagedHateoasResponse<>(toHateoasResponseList(page.getContent()), PageInfo.fromCursorPage(page));
+    }
+}
@@ -17,5 +17,7 @@ public interface GameGroupInviteMapper {
      * Converte GameGroupInvite para GameGroupInviteResponse.
      */
     @Mapping(target = "role", expression = "java(invite.getRole() != null ? br.com.systemrpg.backend.domain.entity.GameGroupInvite.InviteRole.fromValue(invite.getRole()).name() : null)")
+    @Mapping(target = "gameGroup.masterUsername", ignore = true)
+    @Mapping(target = "gameGroup.adventureCount", ignore = true)
     GameGroupInviteResponse toResponse(GameGroupInvite invite);
 }
\ No newline at end of file
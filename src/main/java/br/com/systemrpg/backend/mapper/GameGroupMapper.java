@@ -3,10 +3,13 @@ package br.com.systemrpg.backend.mapper;
 import br.com.systemrpg.backend.domain.entity.GameGroup;
 import br.com.systemrpg.backend.dto.request.GameGroupCreateRequest;
 import br.com.systemrpg.backend.dto.request.GameGroupUpdateRequest;
+import br.com.systemrpg.backend.dto.response.GameGroupCard;
 import br.com.systemrpg.backend.dto.response.GameGroupResponse;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 /**
@@ -24,7 +27,11 @@ public interface GameGroupMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "masterCount", ignore = true)
+    @Mapping(target = "playerCount", ignore = true)
+    @Mapping(target = "guestCount", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "visibility", expression = "java(request.getVisibility() != null && !request.getVisibility().isEmpty() ? br.com.systemrpg.backend.domain.entity.GameGroup.Visibility.valueOf(request.getVisibility()) : null)")
     @Mapping(target = "accessRule", expression = "java(request.getAccessRule() != null && !request.getAccessRule().isEmpty() ? br.com.systemrpg.backend.domain.entity.GameGroup.AccessRule.valueOf(request.getAccessRule()) : null)")
     @Mapping(target = "modality", expression = "java(request.getModality() != null && !request.getModality().isEmpty() ? br.com.systemrpg.backend.domain.entity.GameGroup.Modality.valueOf(request.getModality()) : null)")
@@ -39,23 +46,88 @@ public interface GameGroupMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "masterCount", ignore = true)
+    @Mapping(target = "playerCount", ignore = true)
+    @Mapping(target = "guestCount", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "visibility", expression = "java(request.getVisibility() != null && !request.getVisibility().isEmpty() ? br.com.systemrpg.backend.domain.entity.GameGroup.Visibility.valueOf(request.getVisibility()) : gameGroup.getVisibility())")
     @Mapping(target = "accessRule", expression = "java(request.getAccessRule() != null && !request.getAccessRule().isEmpty() ? br.com.systemrpg.backend.domain.entity.GameGroup.AccessRule.valueOf(request.getAccessRule()) : gameGroup.getAccessRule())")
     @Mapping(target = "modality", expression = "java(request.getModality() != null && !request.getModality().isEmpty() ? br.com.systemrpg.backend.domain.entity.GameGroup.Modality.valueOf(request.getModality()) : gameGroup.getModality())")
     void updateEntityFromRequest(GameGroupUpdateRequest request, @MappingTarget GameGroup gameGroup);
 
+    /**
+     * Converte o estado atual do GameGroup para GameGroupUpdateRequest (base para aplicar um JSON Merge Patch).
+     */
+    GameGroupUpdateRequest toUpdateRequest(GameGroup gameGroup);
+
+    /**
+     * Aplica todos os campos do GameGroupUpdateRequest à entidade, inclusive os removidos (null) por um JSON Merge Patch.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "masterCount", ignore = true)
+    @Mapping(target = "playerCount", ignore = true)
+    @Mapping(target = "guestCount", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "visibility", expression = "java(request.getVisibility() != null ? br.com.systemrpg.backend.domain.entity.GameGroup.Visibility.valueOf(request.getVisibility()) : null)")
+    @Mapping(target = "accessRule", expression = "java(request.getAccessRule() != null ? br.com.systemrpg.backend.domain.entity.GameGroup.AccessRule.valueOf(request.getAccessRule()) : null)")
+    @Mapping(target = "modality", expression = "java(request.getModality() != null ? br.com.systemrpg.backend.domain.entity.GameGroup.Modality.valueOf(request.getModality()) : null)")
+    void applyUpdateRequest(GameGroupUpdateRequest request, @MappingTarget GameGroup gameGroup);
+
     /**
      * Converte GameGroup para GameGroupResponse.
      */
     @Mapping(target = "visibility", expression = "java(gameGroup.getVisibility() != null ? gameGroup.getVisibility().name() : null)")
     @Mapping(target = "accessRule", expression = "java(gameGroup.getAccessRule() != null ? gameGroup.getAccessRule().name() : null)")
     @Mapping(target = "modality", expression = "java(gameGroup.getModality() != null ? gameGroup.getModality().name() : null)")
-    @Mapping(target = "currentParticipants", expression = "java(gameGroup.getParticipants() != null ? (int) gameGroup.getParticipants().stream().filter(p -> p.getIsActive() && p.getDeletedAt() == null).count() : 0)")
+    @Mapping(target = "currentParticipants", expression = "java(gameGroup.getCurrentParticipants())")
     @Mapping(target = "participants", expression = "java(gameGroup.getParticipants() != null ? gameGroup.getParticipants().stream().filter(p -> p.getDeletedAt() == null).map(participant -> gameGroupMemberMapper.toResponse(participant)).collect(java.util.stream.Collectors.toList()) : java.util.Collections.emptyList())")
     @Mapping(target = "themesContent", source = "gameGroup.themesContent")
     @Mapping(target = "punctualityAttendance", source = "gameGroup.punctualityAttendance")
     @Mapping(target = "houseRules", source = "gameGroup.houseRules")
     @Mapping(target = "behavioralExpectations", source = "gameGroup.behavioralExpectations")
+    @Mapping(target = "masterUsername", ignore = true)
+    @Mapping(target = "adventureCount", ignore = true)
     GameGroupResponse toResponse(GameGroup gameGroup, GameGroupMemberMapper gameGroupMemberMapper);
-}
\ No newline at end of file
+
+    /**
+     * Converte GameGroup para GameGroupResponse sem participantes (não inicializa a coleção lazy).
+     */
+    @Named("toSummaryResponse")
+    @Mapping(target = "visibility", expression = "java(gameGroup.getVisibility() != null ? gameGroup.getVisibility().name() : null)")
+    @Mapping(target = "accessRule", expression = "java(gameGroup.getAccessRule() != null ? gameGroup.getAccessRule().name() : null)")
+    @Mapping(target = "modality", expression = "java(gameGroup.getModality() != null ? gameGroup.getModality().name() : null)")
+    @Mapping(target = "currentParticipants", expression = "java(gameGroup.getCurrentParticipants())")
+    @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "masterUsername", ignore = true)
+    @Mapping(target = "adventureCount", ignore = true)
+    GameGroupResponse toSummaryResponse(GameGroup gameGroup);
+
+    /**
+     * Converte o card do modelo de leitura para GameGroupResponse.
+     */
+    @Mapping(target = "visibility", expression = "java(card.visibility() != null ? card.visibility().name() : null)")
+    @Mapping(target = "accessRule", expression = "java(card.accessRule() != null ? card.accessRule().name() : null)")
+    @Mapping(target = "modality", expression = "java(card.modality() != null ? card.modality().name() : null)")
+    @Mapping(target = "currentParticipants", expression = "java(card.currentParticipants())")
+    @Mapping(target = "description", ignore = true)
+    @Mapping(target = "minPlayers", ignore = true)
+    @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "country", ignore = true)
+    @Mapping(target = "state", ignore = true)
+    @Mapping(target = "city", ignore = true)
+    @Mapping(target = "themesContent", ignore = true)
+    @Mapping(target = "punctualityAttendance", ignore = true)
+    @Mapping(target = "houseRules", ignore = true)
+    @Mapping(target = "behavioralExpectations", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    GameGroupResponse toResponse(GameGroupCard card);
+}
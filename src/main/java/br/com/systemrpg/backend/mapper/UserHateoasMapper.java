@@ -4,10 +4,12 @@ import br.com.systemrpg.backend.dto.response.UserResponse;
 import br.com.systemrpg.backend.dto.hateoas.UserHateoasResponse;
 import br.com.systemrpg.backend.hateoas.PageInfo;
 import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
+import br.com.systemrpg.backend.util.CursorPage;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -48,4 +50,21 @@ public interface UserHateoasMapper {
         
         return new PagedHateoasResponse<>(content, pageInfo);
     }
+
+    /**
+     * Converte Slice<UserResponse> (sem contagem total) para PagedHateoasResponse<UserHateoasResponse>.
+     */
+    default PagedHateoasResponse<UserHateoasResponse> toPagedHateoasResponse(Slice<UserResponse> slice) {
+        if (slice instanceof Page<UserResponse> page) {
+            return toPagedHateoasResponse(page);
+        }
+        return new PagedHateoasResponse<>(toHateoasResponseList(slice.getContent()), PageInfo.fromSlice(slice));
+    }
+
+    /**
+     * Converte CursorPage<UserResponse> para PagedHateoasResponse<UserHateoasResponse>.
+     */
+    default PagedHateoasResponse<UserHateoasResponse> toPagedHateoasResponse(CursorPage<UserResponse> page) {
+        return new PagedHateoasResponse<>(toHateoasResponseList(page.getContent()), PageInfo.fromCursorPage(page));
+    }
 }
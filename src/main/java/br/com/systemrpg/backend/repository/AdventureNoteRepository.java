@@ -1,11 +1,22 @@
 package br.com.systemrpg.backend.repository;
 
 import br.com.systemrpg.backend.domain.entity.AdventureNote;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.systemrpg.backend.dto.response.AdventureNoteResponse;
+import br.com.systemrpg.backend.util.ResourceVersion;
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,9 +24,100 @@ import java.util.UUID;
 @Repository
 public interface AdventureNoteRepository extends JpaRepository<AdventureNote, UUID> {
 
+    String ARCHIVE_COLUMNS = "id, title, content, is_active, created_by, created_at, updated_at, deleted_at, adventure_id";
+
     List<AdventureNote> findByAdventure_IdAndDeletedAtIsNullOrderByCreatedAtDesc(UUID adventureId);
 
     Page<AdventureNote> findByAdventure_IdAndDeletedAtIsNull(UUID adventureId, Pageable pageable);
 
     Optional<AdventureNote> findByIdAndDeletedAtIsNull(UUID id);
+
+    @Query(value = "SELECT new br.com.systemrpg.backend.dto.response.AdventureNoteResponse(" +
+           "n.id, n.adventure.id, n.title, n.content, n.createdBy, n.isActive, n.createdAt, n.updatedAt) " +
+           "FROM AdventureNote n WHERE n.adventure.id = :adventureId AND n.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(n) FROM AdventureNote n WHERE n.adventure.id = :adventureId AND n.deletedAt IS NULL")
+    Page<AdventureNoteResponse> findResponsesByAdventureId(@Param("adventureId") UUID adventureId, Pageable pageable);
+
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.AdventureNoteResponse(" +
+           "n.id, n.adventure.id, n.title, n.content, n.createdBy, n.isActive, n.createdAt, n.updatedAt) " +
+           "FROM AdventureNote n WHERE n.id IN :ids")
+    List<AdventureNoteResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT n.updatedAt FROM AdventureNote n WHERE n.id = :id AND n.deletedAt IS NULL")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Query("SELECT new br.com.systemrpg.backend.util.ResourceVersion(MAX(n.updatedAt), COUNT(n)) FROM AdventureNote n WHERE n.adventure.id = :adventureId")
+    ResourceVersion findVersionByAdventureId(@Param("adventureId") UUID adventureId);
+
+    /**
+     * IDs da primeira página de notas de uma aventura, da mais recente para a mais antiga (keyset).
+     */
+    @Query(value = "SELECT n.id FROM adventure_note n " +
+           "WHERE n.adventure_id = :adventureId AND n.deleted_at IS NULL " +
+           "ORDER BY n.created_at DESC, n.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findFirstIdsByAdventureIdKeyset(@Param("adventureId") UUID adventureId, @Param("limit") int limit);
+
+    /**
+     * IDs das notas seguintes ao cursor (created_at, id), da mais recente para a mais antiga.
+     */
+    @Query(value = "SELECT n.id FROM adventure_note n " +
+           "WHERE n.adventure_id = :adventureId AND n.deleted_at IS NULL " +
+           "AND (n.created_at, n.id) < (:createdAt, :id) " +
+           "ORDER BY n.created_at DESC, n.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByAdventureIdAfterKeyset(@Param("adventureId") UUID adventureId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               @Param("limit") int limit);
+
+    /**
+     * IDs das notas anteriores ao cursor (created_at, id), em ordem crescente (o CursorUtil reordena a página).
+     */
+    @Query(value = "SELECT n.id FROM adventure_note n " +
+           "WHERE n.adventure_id = :adventureId AND n.deleted_at IS NULL " +
+           "AND (n.created_at, n.id) > (:createdAt, :id) " +
+           "ORDER BY n.created_at ASC, n.id ASC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByAdventureIdBeforeKeyset(@Param("adventureId") UUID adventureId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_note"))
+    @Query(value = "UPDATE adventure_note n SET is_active = false, deleted_at = :deletedAt, updated_at = :deletedAt " +
+           "FROM adventure a WHERE a.id = n.adventure_id AND a.game_group_id = :gameGroupId AND n.deleted_at IS NULL",
+           nativeQuery = true)
+    int softDeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_note"))
+    @Query(value = "UPDATE adventure_note n SET is_active = true, deleted_at = NULL, updated_at = :restoredAt " +
+           "FROM adventure a WHERE a.id = n.adventure_id AND a.game_group_id = :gameGroupId AND n.deleted_at BETWEEN :deletedAt AND :deletedUntil",
+           nativeQuery = true)
+    int undeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId,
+                              @Param("deletedAt") LocalDateTime deletedAt,
+                              @Param("deletedUntil") LocalDateTime deletedUntil,
+                              @Param("restoredAt") LocalDateTime restoredAt);
+
+    @Modifying
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_note"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_note_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM adventure_note WHERE id IN (" +
+           "SELECT id FROM adventure_note WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+           "RETURNING " + ARCHIVE_COLUMNS + ") " +
+           "INSERT INTO adventure_note_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_note"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_note_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM adventure_note_archive n USING adventure a " +
+           "WHERE a.id = n.adventure_id AND a.game_group_id = :gameGroupId RETURNING n.*) " +
+           "INSERT INTO adventure_note (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int restoreArchivedByGameGroupId(@Param("gameGroupId") UUID gameGroupId);
 }
\ No newline at end of file
@@ -1,16 +1,83 @@
 package br.com.systemrpg.backend.repository;
 
 import br.com.systemrpg.backend.domain.entity.Adventure;
+import br.com.systemrpg.backend.dto.response.AdventureResponse;
+import br.com.systemrpg.backend.util.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AdventureRepository extends JpaRepository<Adventure, UUID> {
+    String ARCHIVE_COLUMNS = "id, title, description, is_active, created_by, created_at, updated_at, deleted_at, game_group_id";
+
     List<Adventure> findByGameGroup_IdAndDeletedAtIsNullOrderByCreatedAtDesc(UUID gameGroupId);
     Page<Adventure> findByGameGroup_IdAndDeletedAtIsNull(UUID gameGroupId, Pageable pageable);
     Optional<Adventure> findByIdAndDeletedAtIsNull(UUID id);
+
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.AdventureResponse(" +
+           "a.id, a.title, a.description, a.isActive, a.gameGroup.id, a.createdAt) " +
+           "FROM Adventure a WHERE a.gameGroup.id = :gameGroupId AND a.deletedAt IS NULL ORDER BY a.createdAt DESC")
+    List<AdventureResponse> findResponsesByGameGroupId(@Param("gameGroupId") UUID gameGroupId);
+
+    @Query(value = "SELECT new br.com.systemrpg.backend.dto.response.AdventureResponse(" +
+           "a.id, a.title, a.description, a.isActive, a.gameGroup.id, a.createdAt) " +
+           "FROM Adventure a WHERE a.gameGroup.id = :gameGroupId AND a.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(a) FROM Adventure a WHERE a.gameGroup.id = :gameGroupId AND a.deletedAt IS NULL")
+    Page<AdventureResponse> findResponsesByGameGroupId(@Param("gameGroupId") UUID gameGroupId, Pageable pageable);
+
+    @Query("SELECT a.updatedAt FROM Adventure a WHERE a.id = :id AND a.deletedAt IS NULL")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Query("SELECT new br.com.systemrpg.backend.util.ResourceVersion(MAX(a.updatedAt), COUNT(a)) FROM Adventure a WHERE a.gameGroup.id = :gameGroupId")
+    ResourceVersion findVersionByGameGroupId(@Param("gameGroupId") UUID gameGroupId);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure"))
+    @Query(value = "UPDATE adventure SET is_active = false, deleted_at = :deletedAt, updated_at = :deletedAt " +
+           "WHERE game_group_id = :gameGroupId AND deleted_at IS NULL", nativeQuery = true)
+    int softDeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure"))
+    @Query(value = "UPDATE adventure SET is_active = true, deleted_at = NULL, updated_at = :restoredAt " +
+           "WHERE game_group_id = :gameGroupId AND deleted_at BETWEEN :deletedAt AND :deletedUntil", nativeQuery = true)
+    int undeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId,
+                              @Param("deletedAt") LocalDateTime deletedAt,
+                              @Param("deletedUntil") LocalDateTime deletedUntil,
+                              @Param("restoredAt") LocalDateTime restoredAt);
+
+    @Modifying
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM adventure WHERE id IN (" +
+           "SELECT a.id FROM adventure a WHERE a.deleted_at < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM adventure_note n WHERE n.adventure_id = a.id) " +
+           "ORDER BY a.deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+           "RETURNING " + ARCHIVE_COLUMNS + ") " +
+           "INSERT INTO adventure_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "adventure_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM adventure_archive WHERE game_group_id = :gameGroupId RETURNING *) " +
+           "INSERT INTO adventure (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int restoreArchivedByGameGroupId(@Param("gameGroupId") UUID gameGroupId);
 }
\ No newline at end of file
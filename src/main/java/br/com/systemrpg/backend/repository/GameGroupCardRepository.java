@@ -0,0 +1,148 @@
+package br.com.systemrpg.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.systemrpg.backend.domain.entity.GameGroupCardView;
+import br.com.systemrpg.backend.dto.response.GameGroupCard;
+import br.com.systemrpg.backend.dto.response.GameGroupMembershipCard;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repositório do modelo de leitura de cards de grupos de jogo (game_group_card).
+ */
+@Repository
+public interface GameGroupCardRepository extends JpaRepository<GameGroupCardView, UUID> {
+
+    /**
+     * Colunas do card, na ordem de {@link #CARD_SELECT}.
+     */
+    String CARD_COLUMNS = """
+        game_group_id, campaign_name, short_description, game_system, setting_world,
+        visibility, access_rule, modality, country, state, city, max_players, master_count, player_count, guest_count,
+        master_username, adventure_count, is_active, created_at, updated_at
+        """;
+
+    /**
+     * Monta o card a partir de game_group (role 0 = MASTER); completado pelo filtro de grupos.
+     */
+    String CARD_SELECT = """
+        SELECT g.id, g.campaign_name, g.short_description, g.game_system, g.setting_world,
+            g.visibility, g.access_rule, g.modality, g.country, g.state, g.city, g.max_players,
+            g.master_count, g.player_count, g.guest_count,
+            (SELECT u.username FROM game_group_participant p JOIN users u ON u.id = p.user_id
+             WHERE p.game_group_id = g.id AND p.role = 0 AND p.is_active = true AND p.deleted_at IS NULL
+             ORDER BY p.created_at LIMIT 1),
+            (SELECT COUNT(*) FROM adventure a WHERE a.game_group_id = g.id AND a.deleted_at IS NULL),
+            g.is_active, g.created_at, g.updated_at
+        FROM game_group g
+        WHERE g.deleted_at IS NULL
+        """;
+
+    /**
+     * Atualização do card já existente com os valores recalculados.
+     */
+    String ON_CONFLICT_UPDATE = """
+        ON CONFLICT (game_group_id) DO UPDATE SET
+            campaign_name = EXCLUDED.campaign_name, short_description = EXCLUDED.short_description,
+            game_system = EXCLUDED.game_system, setting_world = EXCLUDED.setting_world,
+            visibility = EXCLUDED.visibility, access_rule = EXCLUDED.access_rule, modality = EXCLUDED.modality,
+            country = EXCLUDED.country, state = EXCLUDED.state, city = EXCLUDED.city, max_players = EXCLUDED.max_players,
+            master_count = EXCLUDED.master_count, player_count = EXCLUDED.player_count, guest_count = EXCLUDED.guest_count,
+            master_username = EXCLUDED.master_username, adventure_count = EXCLUDED.adventure_count,
+            is_active = EXCLUDED.is_active, created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at,
+            refreshed_at = clock_timestamp()
+        """;
+
+    /**
+     * Retorna o último recálculo de card (inclui mudanças que não alteram o grupo, como aventuras e username do master).
+     */
+    @Query("SELECT MAX(c.refreshedAt) FROM GameGroupCardView c")
+    LocalDateTime findMaxRefreshedAt();
+
+    /**
+     * Carrega os cards dos IDs informados, sem instanciar entidades.
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.GameGroupCard(" +
+           "c.gameGroupId, c.campaignName, c.shortDescription, c.gameSystem, c.settingWorld, c.visibility, c.accessRule, c.modality, " +
+           "c.maxPlayers, c.masterCount, c.playerCount, c.guestCount, c.masterUsername, c.adventureCount, " +
+           "c.isActive, c.createdAt, c.updatedAt) " +
+           "FROM GameGroupCardView c WHERE c.gameGroupId IN :ids")
+    List<GameGroupCard> findCardsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista os cards dos grupos não excluídos do usuário, com o seu papel, paginando no banco (sem contagem).
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.GameGroupMembershipCard(p.role, " +
+           "c.gameGroupId, c.campaignName, c.shortDescription, c.gameSystem, c.settingWorld, c.visibility, c.accessRule, c.modality, " +
+           "c.maxPlayers, c.masterCount, c.playerCount, c.guestCount, c.masterUsername, c.adventureCount, " +
+           "c.isActive, c.createdAt, c.updatedAt) " +
+           "FROM GameGroupParticipant p JOIN GameGroupCardView c ON c.gameGroupId = p.gameGroup.id " +
+           "WHERE p.user.id = :userId AND p.deletedAt IS NULL " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<GameGroupMembershipCard> findMembershipCardsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Recalcula (insere ou atualiza) o card de um grupo não excluído, vendo as alterações pendentes da transação.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_card"))
+    @Query(value = "INSERT INTO game_group_card (" + CARD_COLUMNS + ") " + CARD_SELECT
+        + " AND g.id = :gameGroupId " + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int upsertCard(@Param("gameGroupId") UUID gameGroupId);
+
+    /**
+     * Recalcula os cards dos grupos em que o usuário é master ativo (ex.: troca de username).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_card"))
+    @Query(value = "INSERT INTO game_group_card (" + CARD_COLUMNS + ") " + CARD_SELECT
+        + " AND g.id IN (SELECT m.game_group_id FROM game_group_participant m "
+        + "WHERE m.user_id = :userId AND m.role = 0 AND m.is_active = true AND m.deleted_at IS NULL) "
+        + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int upsertCardsByMasterUserId(@Param("userId") UUID userId);
+
+    /**
+     * Remove o card de um grupo excluído (ou inexistente).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_card"))
+    @Query(value = """
+        DELETE FROM game_group_card c
+        WHERE c.game_group_id = :gameGroupId
+          AND NOT EXISTS (SELECT 1 FROM game_group g WHERE g.id = c.game_group_id AND g.deleted_at IS NULL)
+        """, nativeQuery = true)
+    int deleteStaleCard(@Param("gameGroupId") UUID gameGroupId);
+
+    /**
+     * Recalcula (insere ou atualiza) os cards de todos os grupos não excluídos a partir das tabelas de origem.
+     * Sem esvaziar a tabela, as listagens e os recálculos concorrentes nunca veem um card ausente.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_card"))
+    @Query(value = "INSERT INTO game_group_card (" + CARD_COLUMNS + ") " + CARD_SELECT + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int rebuildCards();
+
+    /**
+     * Remove os cards de grupos excluídos ou inexistentes (etapa final da reconstrução).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_card"))
+    @Query(value = """
+        DELETE FROM game_group_card c
+        WHERE NOT EXISTS (SELECT 1 FROM game_group g WHERE g.id = c.game_group_id AND g.deleted_at IS NULL)
+        """, nativeQuery = true)
+    int deleteOrphanCards();
+}
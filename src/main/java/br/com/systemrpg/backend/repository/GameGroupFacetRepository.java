@@ -0,0 +1,94 @@
+package br.com.systemrpg.backend.repository;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.systemrpg.backend.domain.entity.GameGroupFacet;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repositório para operações com os contadores de facetas de grupos de jogo.
+ */
+@Repository
+public interface GameGroupFacetRepository extends JpaRepository<GameGroupFacet, GameGroupFacet.FacetKey> {
+
+    /**
+     * Contagem de grupos ativos e não excluídos por valor de faceta, calculada a partir de game_group.
+     */
+    String FACET_COUNTS = """
+        SELECT facet, value, COUNT(*) FROM (
+            SELECT 'gameSystem' AS facet, trim(game_system) AS value FROM game_group WHERE deleted_at IS NULL AND is_active = true
+            UNION ALL
+            SELECT 'settingWorld', trim(setting_world) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+            UNION ALL
+            SELECT 'modality', CASE modality WHEN 0 THEN 'ONLINE' WHEN 1 THEN 'PRESENTIAL' END FROM game_group WHERE deleted_at IS NULL AND is_active = true
+            UNION ALL
+            SELECT 'visibility', CASE visibility WHEN 0 THEN 'PUBLIC' WHEN 1 THEN 'FRIENDS' WHEN 2 THEN 'PRIVATE' END FROM game_group WHERE deleted_at IS NULL AND is_active = true
+            UNION ALL
+            SELECT 'country', trim(country) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+            UNION ALL
+            SELECT 'state', trim(state) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+            UNION ALL
+            SELECT 'city', trim(city) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+        ) v
+        WHERE value IS NOT NULL AND value <> ''
+        GROUP BY facet, value
+        """;
+
+    /**
+     * Soma atomicamente o delta ao contador do valor da faceta, criando a linha se necessário.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_facet"))
+    @Query(value = """
+        INSERT INTO game_group_facet (facet, value, group_count)
+        VALUES (:facet, :value, GREATEST(:delta, 0))
+        ON CONFLICT (facet, value)
+        DO UPDATE SET group_count = GREATEST(game_group_facet.group_count + :delta, 0)
+        """, nativeQuery = true)
+    int adjust(@Param("facet") String facet, @Param("value") String value, @Param("delta") long delta);
+
+    /**
+     * Lista os valores com grupos de todas as facetas, mais frequentes primeiro.
+     */
+    @Query("SELECT f FROM GameGroupFacet f WHERE f.groupCount > 0 ORDER BY f.id.facet, f.groupCount DESC, f.id.value")
+    List<GameGroupFacet> findAllWithGroups();
+
+    /**
+     * Lista, em ordem alfabética, os valores de uma faceta que começam com o prefixo informado (case insensitive).
+     */
+    @Query(value = """
+        SELECT * FROM game_group_facet
+        WHERE facet = :facet AND group_count > 0
+          AND lower(value) LIKE CONCAT(lower(CAST(:prefix AS TEXT)), '%')
+        ORDER BY lower(value), value
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<GameGroupFacet> findByFacetAndPrefix(@Param("facet") String facet, @Param("prefix") String prefix, @Param("limit") int limit);
+
+    /**
+     * Recalcula (insere ou atualiza) os contadores de facetas a partir dos grupos de jogo ativos e não excluídos,
+     * sem esvaziar a tabela.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_facet"))
+    @Query(value = "INSERT INTO game_group_facet (facet, value, group_count) " + FACET_COUNTS
+        + " ON CONFLICT (facet, value) DO UPDATE SET group_count = EXCLUDED.group_count", nativeQuery = true)
+    int rebuildFacets();
+
+    /**
+     * Remove os valores que não têm mais grupos (etapa final da reconstrução).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_facet"))
+    @Query(value = "DELETE FROM game_group_facet f WHERE NOT EXISTS (SELECT 1 FROM (" + FACET_COUNTS
+        + ") c WHERE c.facet = f.facet AND c.value = f.value)", nativeQuery = true)
+    int deleteMissingFacets();
+}
@@ -1,19 +1,24 @@
 package br.com.systemrpg.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.systemrpg.backend.domain.entity.GameGroupInvite;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório para operações de acesso a dados da entidade GameGroupInvite.
@@ -21,6 +26,12 @@ import br.com.systemrpg.backend.domain.entity.GameGroupInvite;
 @Repository
 public interface GameGroupInviteRepository extends JpaRepository<GameGroupInvite, UUID> {
 
+    /**
+     * Colunas de game_group_invite copiadas para game_group_invite_archive (e de volta na restauração).
+     */
+    String ARCHIVE_COLUMNS = "id, game_group_id, invite_code, role, is_unique_use, is_used, created_by, used_by, "
+        + "used_at, expires_at, created_at, updated_at, deleted_at";
+
     /**
      * Busca um convite por código, incluindo grupo e usuários, excluindo convites deletados.
      */
@@ -113,4 +124,96 @@ public interface GameGroupInviteRepository extends JpaRepository<GameGroupInvite
     @Query("UPDATE GameGroupInvite i SET i.deletedAt = :now " +
            "WHERE i.expiresAt < :now AND i.deletedAt IS NULL")
     int deleteExpiredInvites(@Param("now") LocalDateTime now);
-}
\ No newline at end of file
+
+
+    /**
+     * Primeira página por cursor (keyset) dos IDs de convites de um grupo, excluindo convites deletados.
+     */
+    @Query(value = "SELECT i.id FROM game_group_invite i " +
+           "WHERE i.game_group_id = :gameGroupId AND i.deleted_at IS NULL " +
+           "ORDER BY i.created_at DESC, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findFirstIdsByGameGroupIdKeyset(@Param("gameGroupId") UUID gameGroupId, @Param("limit") int limit);
+
+    /**
+     * Próxima página por cursor (keyset): IDs de convites do grupo criados antes da posição informada.
+     */
+    @Query(value = "SELECT i.id FROM game_group_invite i " +
+           "WHERE i.game_group_id = :gameGroupId AND i.deleted_at IS NULL " +
+           "AND (i.created_at, i.id) < (:createdAt, :id) " +
+           "ORDER BY i.created_at DESC, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByGameGroupIdAfterKeyset(@Param("gameGroupId") UUID gameGroupId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               @Param("limit") int limit);
+
+    /**
+     * Página anterior por cursor (keyset): IDs de convites do grupo criados depois da posição informada, em ordem crescente.
+     */
+    @Query(value = "SELECT i.id FROM game_group_invite i " +
+           "WHERE i.game_group_id = :gameGroupId AND i.deleted_at IS NULL " +
+           "AND (i.created_at, i.id) > (:createdAt, :id) " +
+           "ORDER BY i.created_at ASC, i.id ASC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByGameGroupIdBeforeKeyset(@Param("gameGroupId") UUID gameGroupId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                @Param("limit") int limit);
+
+    /**
+     * Carrega os convites dos IDs informados, incluindo grupo e usuários.
+     */
+    @EntityGraph(attributePaths = {"gameGroup", "createdByUser", "usedByUser"})
+    @Query("SELECT i FROM GameGroupInvite i WHERE i.id IN :ids")
+    List<GameGroupInvite> findAllWithUsersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Exclui logicamente, em um único UPDATE, todos os convites não excluídos de um grupo.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_invite"))
+    @Query(value = "UPDATE game_group_invite SET deleted_at = :deletedAt, updated_at = :deletedAt " +
+           "WHERE game_group_id = :gameGroupId AND deleted_at IS NULL", nativeQuery = true)
+    int softDeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Reverte a exclusão em cascata dos convites de um grupo (deleted_at entre o do grupo e deletedUntil).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_invite"))
+    @Query(value = "UPDATE game_group_invite SET deleted_at = NULL, updated_at = :restoredAt " +
+           "WHERE game_group_id = :gameGroupId AND deleted_at BETWEEN :deletedAt AND :deletedUntil", nativeQuery = true)
+    int undeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId,
+                              @Param("deletedAt") LocalDateTime deletedAt,
+                              @Param("deletedUntil") LocalDateTime deletedUntil,
+                              @Param("restoredAt") LocalDateTime restoredAt);
+
+    /**
+     * Move para game_group_invite_archive um lote de convites excluídos antes do corte.
+     */
+    @Modifying
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_invite"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_invite_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM game_group_invite WHERE id IN (" +
+           "SELECT id FROM game_group_invite WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+           "RETURNING " + ARCHIVE_COLUMNS + ") " +
+           "INSERT INTO game_group_invite_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    /**
+     * Devolve à tabela quente os convites arquivados de um grupo cujo código não foi reutilizado e cujos usuários não estão arquivados.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_invite"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_invite_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM game_group_invite_archive a WHERE a.game_group_id = :gameGroupId " +
+           "AND NOT EXISTS (SELECT 1 FROM game_group_invite i WHERE i.invite_code = a.invite_code) " +
+           "AND EXISTS (SELECT 1 FROM users u WHERE u.id = a.created_by) " +
+           "AND (a.used_by IS NULL OR EXISTS (SELECT 1 FROM users u WHERE u.id = a.used_by)) RETURNING a.*) " +
+           "INSERT INTO game_group_invite (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int restoreArchivedByGameGroupId(@Param("gameGroupId") UUID gameGroupId);
+}
@@ -1,18 +1,26 @@
 package br.com.systemrpg.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+import br.com.systemrpg.backend.dto.response.GameGroupParticipantRow;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório para operações de acesso a dados da entidade GameGroupParticipant.
@@ -20,6 +28,11 @@ import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
 @Repository
 public interface GameGroupParticipantRepository extends JpaRepository<GameGroupParticipant, UUID> {
 
+    /**
+     * Colunas de game_group_participant copiadas para game_group_participant_archive (e de volta na restauração).
+     */
+    String ARCHIVE_COLUMNS = "id, game_group_id, user_id, role, is_active, created_at, updated_at, deleted_at";
+
     /**
      * Busca um participante por ID, incluindo grupo e usuário, excluindo participantes deletados.
      */
@@ -62,6 +75,21 @@ public interface GameGroupParticipantRepository extends JpaRepository<GameGroupP
     @Query("SELECT p FROM GameGroupParticipant p WHERE p.user.id = :userId AND p.isActive = true AND p.deletedAt IS NULL ORDER BY p.createdAt DESC")
     List<GameGroupParticipant> findByUserIdAndIsActiveTrueAndDeletedAtIsNull(@Param("userId") UUID userId);
 
+    /**
+     * Lista os vínculos do usuário com grupos não excluídos, já com o grupo, paginando no banco (sem contagem).
+     */
+    @Query("SELECT p FROM GameGroupParticipant p JOIN FETCH p.gameGroup g "
+         + "WHERE p.user.id = :userId AND p.deletedAt IS NULL AND g.deletedAt IS NULL "
+         + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<GameGroupParticipant> findMembershipsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Conta os vínculos do usuário com grupos não excluídos.
+     */
+    @Query("SELECT COUNT(p) FROM GameGroupParticipant p JOIN p.gameGroup g "
+         + "WHERE p.user.id = :userId AND p.deletedAt IS NULL AND g.deletedAt IS NULL")
+    long countMembershipsByUserId(@Param("userId") UUID userId);
+
     /**
      * Busca um participante específico por grupo e usuário, excluindo participantes deletados.
      */
@@ -103,19 +131,168 @@ public interface GameGroupParticipantRepository extends JpaRepository<GameGroupP
     Page<GameGroupParticipant> findByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
 
     /**
-     * Lista participantes com filtros opcionais (gameGroupId, userId, role, isActive), excluindo deletados.
+     * Lista participantes com filtros opcionais (gameGroupId, userId, role, isActive) sem contagem, excluindo deletados,
+     * como projeção com os dados do usuário (sem instanciar entidades).
      */
-    @EntityGraph(attributePaths = {"gameGroup", "user"})
-    @Query("SELECT p FROM GameGroupParticipant p \n"
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.GameGroupParticipantRow(" +
+           "p.id, p.role, p.isActive, p.createdAt, p.updatedAt, p.deletedAt, " +
+           "u.id, u.username, u.email, u.firstName, u.lastName, u.isActive, u.isEmailVerified, " +
+           "u.createdAt, u.updatedAt, u.lastLoginAt, u.passwordChangedAt) \n"
+         + "FROM GameGroupParticipant p JOIN p.user u \n"
          + "WHERE p.deletedAt IS NULL \n"
          + "AND (:gameGroupId IS NULL OR p.gameGroup.id = :gameGroupId) \n"
          + "AND (:userId IS NULL OR p.user.id = :userId) \n"
          + "AND (:role IS NULL OR p.role = :role) \n"
          + "AND (:isActive IS NULL OR p.isActive = :isActive) \n"
-         + "ORDER BY p.createdAt DESC")
-    Page<GameGroupParticipant> findAllByFilters(@Param("gameGroupId") UUID gameGroupId,
+         + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<GameGroupParticipantRow> findRowsByFilters(@Param("gameGroupId") UUID gameGroupId,
                                                 @Param("userId") UUID userId,
                                                 @Param("role") Integer role,
                                                 @Param("isActive") Boolean isActive,
                                                 Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Conta participantes com filtros opcionais (gameGroupId, userId, role, isActive), excluindo deletados.
+     */
+    @Query("SELECT COUNT(p) FROM GameGroupParticipant p \n"
+         + "WHERE p.deletedAt IS NULL \n"
+         + "AND (:gameGroupId IS NULL OR p.gameGroup.id = :gameGroupId) \n"
+         + "AND (:userId IS NULL OR p.user.id = :userId) \n"
+         + "AND (:role IS NULL OR p.role = :role) \n"
+         + "AND (:isActive IS NULL OR p.isActive = :isActive)")
+    long countAllByFilters(@Param("gameGroupId") UUID gameGroupId,
+                           @Param("userId") UUID userId,
+                           @Param("role") Integer role,
+                           @Param("isActive") Boolean isActive);
+
+
+    /**
+     * Primeira página por cursor (keyset) dos IDs de participantes com filtros opcionais, excluindo deletados.
+     */
+    @Query(value = "SELECT p.id FROM game_group_participant p " +
+           "WHERE p.deleted_at IS NULL " +
+           "AND (CAST(:gameGroupId AS UUID) IS NULL OR p.game_group_id = :gameGroupId) " +
+           "AND (CAST(:userId AS UUID) IS NULL OR p.user_id = :userId) " +
+           "AND (CAST(:role AS INTEGER) IS NULL OR p.role = :role) " +
+           "AND (CAST(:isActive AS BOOLEAN) IS NULL OR p.is_active = :isActive) " +
+           "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findFirstIdsByFiltersKeyset(
+        @Param("gameGroupId") UUID gameGroupId,
+        @Param("userId") UUID userId,
+        @Param("role") Integer role,
+        @Param("isActive") Boolean isActive,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Próxima página por cursor (keyset): IDs de participantes criados antes da posição informada.
+     */
+    @Query(value = "SELECT p.id FROM game_group_participant p " +
+           "WHERE p.deleted_at IS NULL " +
+           "AND (CAST(:gameGroupId AS UUID) IS NULL OR p.game_group_id = :gameGroupId) " +
+           "AND (CAST(:userId AS UUID) IS NULL OR p.user_id = :userId) " +
+           "AND (CAST(:role AS INTEGER) IS NULL OR p.role = :role) " +
+           "AND (CAST(:isActive AS BOOLEAN) IS NULL OR p.is_active = :isActive) " +
+           "AND (p.created_at, p.id) < (:createdAt, :id) " +
+           "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByFiltersAfterKeyset(
+        @Param("gameGroupId") UUID gameGroupId,
+        @Param("userId") UUID userId,
+        @Param("role") Integer role,
+        @Param("isActive") Boolean isActive,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Página anterior por cursor (keyset): IDs de participantes criados depois da posição informada, em ordem crescente.
+     */
+    @Query(value = "SELECT p.id FROM game_group_participant p " +
+           "WHERE p.deleted_at IS NULL " +
+           "AND (CAST(:gameGroupId AS UUID) IS NULL OR p.game_group_id = :gameGroupId) " +
+           "AND (CAST(:userId AS UUID) IS NULL OR p.user_id = :userId) " +
+           "AND (CAST(:role AS INTEGER) IS NULL OR p.role = :role) " +
+           "AND (CAST(:isActive AS BOOLEAN) IS NULL OR p.is_active = :isActive) " +
+           "AND (p.created_at, p.id) > (:createdAt, :id) " +
+           "ORDER BY p.created_at ASC, p.id ASC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByFiltersBeforeKeyset(
+        @Param("gameGroupId") UUID gameGroupId,
+        @Param("userId") UUID userId,
+        @Param("role") Integer role,
+        @Param("isActive") Boolean isActive,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Carrega os participantes dos IDs informados como projeção com os dados do usuário.
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.GameGroupParticipantRow(" +
+           "p.id, p.role, p.isActive, p.createdAt, p.updatedAt, p.deletedAt, " +
+           "u.id, u.username, u.email, u.firstName, u.lastName, u.isActive, u.isEmailVerified, " +
+           "u.createdAt, u.updatedAt, u.lastLoginAt, u.passwordChangedAt) " +
+           "FROM GameGroupParticipant p JOIN p.user u WHERE p.id IN :ids")
+    List<GameGroupParticipantRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Retorna o maior updated_at entre todos os participantes (inclusive deletados).
+     */
+    @Query("SELECT MAX(p.updatedAt) FROM GameGroupParticipant p")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * Exclui logicamente, em um único UPDATE, todos os participantes não excluídos de um grupo.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_participant"))
+    @Query(value = "UPDATE game_group_participant SET deleted_at = :deletedAt, updated_at = :deletedAt " +
+           "WHERE game_group_id = :gameGroupId AND deleted_at IS NULL", nativeQuery = true)
+    int softDeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Reverte a exclusão em cascata dos participantes de um grupo (deleted_at entre o do grupo e deletedUntil).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_participant"))
+    @Query(value = "UPDATE game_group_participant SET deleted_at = NULL, updated_at = :restoredAt " +
+           "WHERE game_group_id = :gameGroupId AND deleted_at BETWEEN :deletedAt AND :deletedUntil", nativeQuery = true)
+    int undeleteByGameGroupId(@Param("gameGroupId") UUID gameGroupId,
+                              @Param("deletedAt") LocalDateTime deletedAt,
+                              @Param("deletedUntil") LocalDateTime deletedUntil,
+                              @Param("restoredAt") LocalDateTime restoredAt);
+
+    /**
+     * Move para game_group_participant_archive um lote de participantes excluídos antes do corte.
+     */
+    @Modifying
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_participant"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_participant_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM game_group_participant WHERE id IN (" +
+           "SELECT id FROM game_group_participant WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+           "RETURNING " + ARCHIVE_COLUMNS + ") " +
+           "INSERT INTO game_group_participant_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    /**
+     * Devolve à tabela quente os participantes arquivados de um grupo: o vínculo mais recente de cada usuário
+     * não arquivado que não tenha outro vínculo no grupo (os demais permanecem no arquivo).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_participant"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_participant_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM game_group_participant_archive WHERE id IN (" +
+           "SELECT DISTINCT ON (a.user_id) a.id FROM game_group_participant_archive a WHERE a.game_group_id = :gameGroupId " +
+           "AND NOT EXISTS (SELECT 1 FROM game_group_participant p WHERE p.game_group_id = a.game_group_id AND p.user_id = a.user_id) " +
+           "AND EXISTS (SELECT 1 FROM users u WHERE u.id = a.user_id) " +
+           "ORDER BY a.user_id, a.deleted_at DESC) RETURNING *) " +
+           "INSERT INTO game_group_participant (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int restoreArchivedByGameGroupId(@Param("gameGroupId") UUID gameGroupId);
+}
@@ -1,18 +1,27 @@
 package br.com.systemrpg.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.dto.response.GameGroupMatchCandidate;
+import br.com.systemrpg.backend.util.ResourceVersion;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório para operações de acesso a dados da entidade GameGroup.
@@ -20,6 +29,16 @@ import br.com.systemrpg.backend.domain.entity.GameGroup;
 @Repository
 public interface GameGroupRepository extends JpaRepository<GameGroup, UUID> {
 
+    /**
+     * Colunas de game_group copiadas para game_group_archive (search_vector é gerada e não é arquivada).
+     */
+    String ARCHIVE_COLUMNS = """
+        id, campaign_name, game_system, setting_world, short_description, description, min_players, max_players,
+        visibility, access_rule, modality, country, state, city, themes_content, punctuality_attendance, house_rules,
+        behavioral_expectations, is_active, created_by, created_at, updated_at, deleted_at,
+        master_count, player_count, guest_count, version
+        """;
+
     /**
      * Busca um grupo de jogo por ID, incluindo participantes, excluindo grupos deletados.
      */
@@ -28,49 +47,89 @@ public interface GameGroupRepository extends JpaRepository<GameGroup, UUID> {
     Optional<GameGroup> findByIdAndDeletedAtIsNull(@Param("id") UUID id);
 
     /**
-     * Lista todos os grupos de jogo com paginação, excluindo grupos deletados.
+     * Busca um grupo de jogo não excluído para escrita, sem carregar participantes.
      */
-    @EntityGraph(attributePaths = {"participants"})
-    Page<GameGroup> findByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT g FROM GameGroup g WHERE g.id = :id AND g.deletedAt IS NULL")
+    Optional<GameGroup> findWithoutParticipantsById(@Param("id") UUID id);
 
     /**
-     * Lista grupos de jogo ativos com paginação, excluindo grupos deletados.
+     * Busca a versão de um grupo de jogo (updated_at do grupo e dos participantes), sem carregar o grafo, excluindo grupos deletados.
      */
-    @EntityGraph(attributePaths = {"participants"})
-    Page<GameGroup> findByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT new br.com.systemrpg.backend.util.ResourceVersion(g.updatedAt, MAX(p.updatedAt), COUNT(p)) " +
+           "FROM GameGroup g LEFT JOIN g.participants p WHERE g.id = :id AND g.deletedAt IS NULL GROUP BY g.id, g.updatedAt")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
 
     /**
-     * Busca grupos de jogo por nome da campanha (case insensitive), excluindo grupos deletados.
+     * Retorna o maior updated_at entre todos os grupos de jogo (inclusive deletados, já que a exclusão lógica também o atualiza).
      */
-    @EntityGraph(attributePaths = {"participants"})
-    @Query("SELECT g FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.campaignName) LIKE LOWER(CONCAT('%', :campaignName, '%')) ORDER BY g.createdAt DESC")
-    Page<GameGroup> findByCampaignNameContainingIgnoreCaseAndDeletedAtIsNull(@Param("campaignName") String campaignName, Pageable pageable);
+    @Query("SELECT MAX(g.updatedAt) FROM GameGroup g")
+    LocalDateTime findMaxUpdatedAt();
 
     /**
-     * Busca grupos de jogo por sistema de jogo (case insensitive), excluindo grupos deletados.
+     * Lista os IDs de todos os grupos de jogo com paginação (sem contagem), excluindo grupos deletados.
      */
-    @EntityGraph(attributePaths = {"participants"})
-    @Query("SELECT g FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.gameSystem) LIKE LOWER(CONCAT('%', :gameSystem, '%')) ORDER BY g.createdAt DESC")
-    Page<GameGroup> findByGameSystemContainingIgnoreCaseAndDeletedAtIsNull(@Param("gameSystem") String gameSystem, Pageable pageable);
+    @Query("SELECT g.id FROM GameGroup g WHERE g.deletedAt IS NULL ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<UUID> findIdsByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
 
     /**
-     * Busca grupos de jogo por mundo de ambientação (case insensitive), excluindo grupos deletados.
+     * Conta os grupos de jogo não deletados.
      */
-    @EntityGraph(attributePaths = {"participants"})
-    @Query("SELECT g FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.settingWorld) LIKE LOWER(CONCAT('%', :settingWorld, '%')) ORDER BY g.createdAt DESC")
-    Page<GameGroup> findBySettingWorldContainingIgnoreCaseAndDeletedAtIsNull(@Param("settingWorld") String settingWorld, Pageable pageable);
+    long countByDeletedAtIsNull();
+
+    /**
+     * Lista os IDs de grupos de jogo ativos com paginação (sem contagem), excluindo grupos deletados.
+     */
+    @Query("SELECT g.id FROM GameGroup g WHERE g.isActive = true AND g.deletedAt IS NULL ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<UUID> findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * Conta os grupos de jogo ativos e não deletados.
+     */
+    long countByIsActiveTrueAndDeletedAtIsNull();
+
+    /**
+     * Lista os IDs de grupos de jogo ativos com a visibilidade informada (diretório público), sem contagem, excluindo grupos deletados.
+     */
+    @Query("SELECT g.id FROM GameGroup g WHERE g.visibility = :visibility AND g.isActive = true AND g.deletedAt IS NULL ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<UUID> findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(@Param("visibility") GameGroup.Visibility visibility, Pageable pageable);
+
+    /**
+     * Conta os grupos de jogo ativos com a visibilidade informada, excluindo grupos deletados.
+     */
+    long countByVisibilityAndIsActiveTrueAndDeletedAtIsNull(GameGroup.Visibility visibility);
+
+    /**
+     * Busca os IDs de grupos de jogo por nome da campanha (case insensitive), excluindo grupos deletados.
+     */
+    @Query(value = "SELECT g.id FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.campaignName) LIKE LOWER(CONCAT('%', :campaignName, '%')) ORDER BY g.createdAt DESC, g.id DESC",
+           countQuery = "SELECT COUNT(g) FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.campaignName) LIKE LOWER(CONCAT('%', :campaignName, '%'))")
+    Page<UUID> findIdsByCampaignNameContainingIgnoreCaseAndDeletedAtIsNull(@Param("campaignName") String campaignName, Pageable pageable);
+
+    /**
+     * Busca os IDs de grupos de jogo por sistema de jogo (case insensitive), excluindo grupos deletados.
+     */
+    @Query(value = "SELECT g.id FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.gameSystem) LIKE LOWER(CONCAT('%', :gameSystem, '%')) ORDER BY g.createdAt DESC, g.id DESC",
+           countQuery = "SELECT COUNT(g) FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.gameSystem) LIKE LOWER(CONCAT('%', :gameSystem, '%'))")
+    Page<UUID> findIdsByGameSystemContainingIgnoreCaseAndDeletedAtIsNull(@Param("gameSystem") String gameSystem, Pageable pageable);
+
+    /**
+     * Busca os IDs de grupos de jogo por mundo de ambientação (case insensitive), excluindo grupos deletados.
+     */
+    @Query(value = "SELECT g.id FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.settingWorld) LIKE LOWER(CONCAT('%', :settingWorld, '%')) ORDER BY g.createdAt DESC, g.id DESC",
+           countQuery = "SELECT COUNT(g) FROM GameGroup g WHERE g.deletedAt IS NULL AND LOWER(g.settingWorld) LIKE LOWER(CONCAT('%', :settingWorld, '%'))")
+    Page<UUID> findIdsBySettingWorldContainingIgnoreCaseAndDeletedAtIsNull(@Param("settingWorld") String settingWorld, Pageable pageable);
 
     /**
-     * Busca grupos de jogo por múltiplos filtros (case insensitive), excluindo grupos deletados.
+     * Busca os IDs de grupos de jogo por múltiplos filtros (case insensitive) com paginação sem contagem, excluindo grupos deletados.
      * TEMPORÁRIO: Usando SQL nativo para evitar problema com LOWER() em JPQL
      */
-    @Query(value = "SELECT * FROM game_group g " +
+    @Query(value = "SELECT g.id FROM game_group g " +
            "WHERE g.deleted_at IS NULL " +
            "AND (:campaignName IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%'))) " +
            "AND (:gameSystem IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%'))) " +
            "AND (:settingWorld IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%'))) " +
-           "ORDER BY g.created_at DESC", nativeQuery = true)
-    Page<GameGroup> findByFiltersAndDeletedAtIsNull(
+           "ORDER BY g.created_at DESC, g.id DESC", nativeQuery = true)
+    Slice<UUID> findIdsByFiltersAndDeletedAtIsNull(
         @Param("campaignName") String campaignName,
         @Param("gameSystem") String gameSystem,
         @Param("settingWorld") String settingWorld,
@@ -78,11 +137,197 @@ public interface GameGroupRepository extends JpaRepository<GameGroup, UUID> {
     );
 
     /**
-     * Busca grupos de jogo por uma lista de IDs, excluindo grupos deletados.
+     * Conta os grupos de jogo que atendem aos filtros (case insensitive), excluindo grupos deletados.
      */
-    @EntityGraph(attributePaths = {"participants"})
-    @Query("SELECT g FROM GameGroup g WHERE g.id IN :ids AND g.deletedAt IS NULL ORDER BY g.createdAt DESC")
-    Page<GameGroup> findByIdsAndDeletedAtIsNull(@Param("ids") List<UUID> ids, Pageable pageable);
+    @Query(value = "SELECT COUNT(*) FROM game_group g " +
+           "WHERE g.deleted_at IS NULL " +
+           "AND (:campaignName IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%'))) " +
+           "AND (:gameSystem IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%'))) " +
+           "AND (:settingWorld IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%')))", nativeQuery = true)
+    long countByFiltersAndDeletedAtIsNull(
+        @Param("campaignName") String campaignName,
+        @Param("gameSystem") String gameSystem,
+        @Param("settingWorld") String settingWorld
+    );
+
+    /**
+     * Descoberta de grupos ativos por localização (modalidade, país, estado, cidade) e vagas abertas, sem contagem.
+     * As igualdades de localização seguem o índice idx_game_group_location.
+     */
+    @Query(value = """
+        SELECT g.id FROM game_group g
+        WHERE g.deleted_at IS NULL
+          AND g.is_active = true
+          AND (CAST(:modality AS INTEGER) IS NULL OR g.modality = :modality)
+          AND (CAST(:country AS TEXT) IS NULL OR lower(g.country) = lower(CAST(:country AS TEXT)))
+          AND (CAST(:state AS TEXT) IS NULL OR lower(g.state) = lower(CAST(:state AS TEXT)))
+          AND (CAST(:city AS TEXT) IS NULL OR lower(g.city) = lower(CAST(:city AS TEXT)))
+          AND (CAST(:campaignName AS TEXT) IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%')))
+          AND (CAST(:gameSystem AS TEXT) IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%')))
+          AND (CAST(:settingWorld AS TEXT) IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%')))
+          AND (:openSlots = false OR g.max_players IS NULL
+               OR g.master_count + g.player_count + g.guest_count < g.max_players)
+        ORDER BY g.created_at DESC, g.id DESC
+        """, nativeQuery = true)
+    Slice<UUID> findIdsByLocation(
+        @Param("modality") Integer modality,
+        @Param("country") String country,
+        @Param("state") String state,
+        @Param("city") String city,
+        @Param("openSlots") boolean openSlots,
+        @Param("campaignName") String campaignName,
+        @Param("gameSystem") String gameSystem,
+        @Param("settingWorld") String settingWorld,
+        Pageable pageable
+    );
+
+    /**
+     * Conta os grupos ativos encontrados pela descoberta por localização.
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM game_group g
+        WHERE g.deleted_at IS NULL
+          AND g.is_active = true
+          AND (CAST(:modality AS INTEGER) IS NULL OR g.modality = :modality)
+          AND (CAST(:country AS TEXT) IS NULL OR lower(g.country) = lower(CAST(:country AS TEXT)))
+          AND (CAST(:state AS TEXT) IS NULL OR lower(g.state) = lower(CAST(:state AS TEXT)))
+          AND (CAST(:city AS TEXT) IS NULL OR lower(g.city) = lower(CAST(:city AS TEXT)))
+          AND (CAST(:campaignName AS TEXT) IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%')))
+          AND (CAST(:gameSystem AS TEXT) IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%')))
+          AND (CAST(:settingWorld AS TEXT) IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%')))
+          AND (:openSlots = false OR g.max_players IS NULL
+               OR g.master_count + g.player_count + g.guest_count < g.max_players)
+        """, nativeQuery = true)
+    long countByLocation(
+        @Param("modality") Integer modality,
+        @Param("country") String country,
+        @Param("state") String state,
+        @Param("city") String city,
+        @Param("openSlots") boolean openSlots,
+        @Param("campaignName") String campaignName,
+        @Param("gameSystem") String gameSystem,
+        @Param("settingWorld") String settingWorld
+    );
+
+    /**
+     * Busca textual dos IDs de grupos de jogo ordenados por relevância (tsvector ponderado + trigramas), sem contagem.
+     */
+    @Query(value = """
+        SELECT g.id FROM game_group g
+        CROSS JOIN websearch_to_tsquery('simple', CAST(:query AS TEXT)) q
+        WHERE g.deleted_at IS NULL
+          AND (g.search_vector @@ q
+               OR lower(g.campaign_name) % lower(CAST(:query AS TEXT))
+               OR lower(g.campaign_name) LIKE CONCAT('%', lower(CAST(:query AS TEXT)), '%')
+               OR lower(g.game_system) LIKE CONCAT('%', lower(CAST(:query AS TEXT)), '%')
+               OR lower(g.setting_world) LIKE CONCAT('%', lower(CAST(:query AS TEXT)), '%'))
+        ORDER BY ts_rank_cd(g.search_vector, q) DESC,
+                 similarity(lower(g.campaign_name), lower(CAST(:query AS TEXT))) DESC,
+                 g.created_at DESC, g.id DESC
+        """, nativeQuery = true)
+    Slice<UUID> searchIds(@Param("query") String query, Pageable pageable);
+
+    /**
+     * Conta os grupos de jogo encontrados pela busca textual, excluindo grupos deletados.
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM game_group g
+        CROSS JOIN websearch_to_tsquery('simple', CAST(:query AS TEXT)) q
+        WHERE g.deleted_at IS NULL
+          AND (g.search_vector @@ q
+               OR lower(g.campaign_name) % lower(CAST(:query AS TEXT))
+               OR lower(g.campaign_name) LIKE CONCAT('%', lower(CAST(:query AS TEXT)), '%')
+               OR lower(g.game_system) LIKE CONCAT('%', lower(CAST(:query AS TEXT)), '%')
+               OR lower(g.setting_world) LIKE CONCAT('%', lower(CAST(:query AS TEXT)), '%'))
+        """, nativeQuery = true)
+    long countSearch(@Param("query") String query);
+
+    /**
+     * Primeira página por cursor (keyset) dos IDs de grupos de jogo com filtros opcionais, excluindo grupos deletados.
+     */
+    @Query(value = "SELECT g.id FROM game_group g " +
+           "WHERE g.deleted_at IS NULL " +
+           "AND (:campaignName IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%'))) " +
+           "AND (:gameSystem IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%'))) " +
+           "AND (:settingWorld IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%'))) " +
+           "ORDER BY g.created_at DESC, g.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findFirstIdsByFiltersKeyset(
+        @Param("campaignName") String campaignName,
+        @Param("gameSystem") String gameSystem,
+        @Param("settingWorld") String settingWorld,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Próxima página por cursor (keyset): IDs de grupos de jogo criados antes da posição informada.
+     */
+    @Query(value = "SELECT g.id FROM game_group g " +
+           "WHERE g.deleted_at IS NULL " +
+           "AND (:campaignName IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%'))) " +
+           "AND (:gameSystem IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%'))) " +
+           "AND (:settingWorld IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%'))) " +
+           "AND (g.created_at, g.id) < (:createdAt, :id) " +
+           "ORDER BY g.created_at DESC, g.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByFiltersAfterKeyset(
+        @Param("campaignName") String campaignName,
+        @Param("gameSystem") String gameSystem,
+        @Param("settingWorld") String settingWorld,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Página anterior por cursor (keyset): IDs de grupos de jogo criados depois da posição informada, em ordem crescente.
+     */
+    @Query(value = "SELECT g.id FROM game_group g " +
+           "WHERE g.deleted_at IS NULL " +
+           "AND (:campaignName IS NULL OR LOWER(g.campaign_name) LIKE LOWER(CONCAT('%', CAST(:campaignName AS TEXT), '%'))) " +
+           "AND (:gameSystem IS NULL OR LOWER(g.game_system) LIKE LOWER(CONCAT('%', CAST(:gameSystem AS TEXT), '%'))) " +
+           "AND (:settingWorld IS NULL OR LOWER(g.setting_world) LIKE LOWER(CONCAT('%', CAST(:settingWorld AS TEXT), '%'))) " +
+           "AND (g.created_at, g.id) > (:createdAt, :id) " +
+           "ORDER BY g.created_at ASC, g.id ASC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsByFiltersBeforeKeyset(
+        @Param("campaignName") String campaignName,
+        @Param("gameSystem") String gameSystem,
+        @Param("settingWorld") String settingWorld,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Carrega os grupos de jogo dos IDs informados com participantes e seus usuários (segunda fase da paginação).
+     */
+    @EntityGraph(attributePaths = {"participants", "participants.user"})
+    @Query("SELECT DISTINCT g FROM GameGroup g WHERE g.id IN :ids")
+    List<GameGroup> findAllWithParticipantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Carrega os grupos de jogo dos IDs informados, sem participantes.
+     */
+    @Query("SELECT g FROM GameGroup g WHERE g.id IN :ids")
+    List<GameGroup> findAllWithoutParticipantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista os grupos de jogo ativos e públicos como projeção (carga do índice de recomendação), excluindo grupos deletados.
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.GameGroupMatchCandidate(" +
+           "g.id, g.campaignName, g.gameSystem, g.settingWorld, g.shortDescription, g.modality, g.accessRule, " +
+           "g.country, g.state, g.city, g.maxPlayers, g.masterCount, g.playerCount, g.guestCount, g.createdAt) " +
+           "FROM GameGroup g WHERE g.isActive = true AND g.deletedAt IS NULL " +
+           "AND g.visibility = br.com.systemrpg.backend.domain.entity.GameGroup.Visibility.PUBLIC")
+    List<GameGroupMatchCandidate> findMatchCandidates();
+
+    /**
+     * Busca a projeção de recomendação de um grupo de jogo, se ele estiver ativo, público e não deletado.
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.GameGroupMatchCandidate(" +
+           "g.id, g.campaignName, g.gameSystem, g.settingWorld, g.shortDescription, g.modality, g.accessRule, " +
+           "g.country, g.state, g.city, g.maxPlayers, g.masterCount, g.playerCount, g.guestCount, g.createdAt) " +
+           "FROM GameGroup g WHERE g.id = :id AND g.isActive = true AND g.deletedAt IS NULL " +
+           "AND g.visibility = br.com.systemrpg.backend.domain.entity.GameGroup.Visibility.PUBLIC")
+    Optional<GameGroupMatchCandidate> findMatchCandidateById(@Param("id") UUID id);
 
     /**
      * Verifica se existe um grupo de jogo com o nome da campanha informado (case insensitive), excluindo grupos deletados.
@@ -95,4 +340,104 @@ public interface GameGroupRepository extends JpaRepository<GameGroup, UUID> {
      */
     @Query("SELECT COUNT(g) > 0 FROM GameGroup g WHERE g.deletedAt IS NULL AND g.id != :id AND LOWER(g.campaignName) = LOWER(:campaignName)")
     boolean existsByCampaignNameIgnoreCaseAndIdNotAndDeletedAtIsNull(@Param("campaignName") String campaignName, @Param("id") UUID id);
-}
\ No newline at end of file
+
+    /**
+     * Ajusta atomicamente os contadores de participantes ativos por papel de um grupo.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group"))
+    @Query(value = """
+        UPDATE game_group SET
+            master_count = GREATEST(master_count + :masterDelta, 0),
+            player_count = GREATEST(player_count + :playerDelta, 0),
+            guest_count = GREATEST(guest_count + :guestDelta, 0)
+        WHERE id = :id
+        """, nativeQuery = true)
+    int adjustParticipantCounters(@Param("id") UUID id,
+                                  @Param("masterDelta") int masterDelta,
+                                  @Param("playerDelta") int playerDelta,
+                                  @Param("guestDelta") int guestDelta);
+
+    /**
+     * Zera os contadores de participantes de um grupo.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group"))
+    @Query(value = "UPDATE game_group SET master_count = 0, player_count = 0, guest_count = 0 WHERE id = :id", nativeQuery = true)
+    int resetParticipantCounters(@Param("id") UUID id);
+
+    /**
+     * Recalcula os contadores de participantes a partir de game_group_participant, atualizando apenas grupos divergentes.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group"))
+    @Query(value = """
+        UPDATE game_group g SET
+            master_count = c.master_count,
+            player_count = c.player_count,
+            guest_count = c.guest_count
+        FROM (
+            SELECT gg.id,
+                   COUNT(p.id) FILTER (WHERE p.role = 0) AS master_count,
+                   COUNT(p.id) FILTER (WHERE p.role = 1) AS player_count,
+                   COUNT(p.id) FILTER (WHERE p.role = 2) AS guest_count
+            FROM game_group gg
+            LEFT JOIN game_group_participant p
+                   ON p.game_group_id = gg.id AND p.is_active = true AND p.deleted_at IS NULL
+            GROUP BY gg.id
+        ) c
+        WHERE g.id = c.id
+          AND (g.master_count, g.player_count, g.guest_count) IS DISTINCT FROM (c.master_count, c.player_count, c.guest_count)
+        """, nativeQuery = true)
+    int reconcileParticipantCounters();
+
+    /**
+     * Recalcula os contadores de participantes de um único grupo (ex.: restauração do grupo).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group"))
+    @Query(value = """
+        UPDATE game_group g SET
+            master_count = (SELECT COUNT(*) FROM game_group_participant p
+                            WHERE p.game_group_id = g.id AND p.role = 0 AND p.is_active = true AND p.deleted_at IS NULL),
+            player_count = (SELECT COUNT(*) FROM game_group_participant p
+                            WHERE p.game_group_id = g.id AND p.role = 1 AND p.is_active = true AND p.deleted_at IS NULL),
+            guest_count = (SELECT COUNT(*) FROM game_group_participant p
+                           WHERE p.game_group_id = g.id AND p.role = 2 AND p.is_active = true AND p.deleted_at IS NULL)
+        WHERE g.id = :id
+        """, nativeQuery = true)
+    int recalculateParticipantCounters(@Param("id") UUID id);
+
+    /**
+     * Move para game_group_archive um lote de grupos excluídos antes do corte que já não têm
+     * participantes, convites nem aventuras na tabela quente (evita o ON DELETE CASCADE sobre linhas vivas).
+     */
+    @Modifying
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM game_group WHERE id IN ("
+        + "SELECT g.id FROM game_group g WHERE g.deleted_at < :cutoff "
+        + "AND NOT EXISTS (SELECT 1 FROM game_group_participant p WHERE p.game_group_id = g.id) "
+        + "AND NOT EXISTS (SELECT 1 FROM game_group_invite i WHERE i.game_group_id = g.id) "
+        + "AND NOT EXISTS (SELECT 1 FROM adventure a WHERE a.game_group_id = g.id) "
+        + "ORDER BY g.deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) "
+        + "RETURNING " + ARCHIVE_COLUMNS + ") "
+        + "INSERT INTO game_group_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+        nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    /**
+     * Devolve um grupo arquivado à tabela quente (ainda excluído logicamente).
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_group_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM game_group_archive WHERE id = :id RETURNING *) "
+        + "INSERT INTO game_group (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+        nativeQuery = true)
+    int restoreArchivedById(@Param("id") UUID id);
+}
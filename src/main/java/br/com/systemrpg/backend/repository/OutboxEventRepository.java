@@ -0,0 +1,47 @@
+package br.com.systemrpg.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.systemrpg.backend.domain.entity.OutboxEvent;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repositório do outbox de eventos de domínio.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Reserva o próximo lote de eventos pendentes dos tipos informados posteriores a afterId, em ordem de gravação.
+     * As linhas ficam bloqueadas até o fim da transação e as já reservadas por outra instância são puladas (SKIP LOCKED).
+     */
+    @Query(value = "SELECT * FROM outbox WHERE id > :afterId AND event_type IN (:eventTypes) AND attempts < :maxAttempts "
+        + "ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("afterId") long afterId, @Param("eventTypes") Collection<String> eventTypes,
+                                 @Param("maxAttempts") int maxAttempts, @Param("batchSize") int batchSize);
+
+    /**
+     * Conta todos os eventos ainda não retidos por falhas (inclusive os de tipos sem assinante).
+     */
+    long countByAttemptsLessThan(int maxAttempts);
+
+    /**
+     * Remove um lote dos eventos mais antigos dos tipos informados gravados antes do corte, em ordem de gravação.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox"))
+    @Query(value = "DELETE FROM outbox WHERE id IN (SELECT id FROM outbox WHERE event_type IN (:eventTypes) "
+        + "AND created_at < :cutoff ORDER BY id LIMIT :batchSize)", nativeQuery = true)
+    int deleteBatchCreatedBefore(@Param("eventTypes") Collection<String> eventTypes, @Param("cutoff") LocalDateTime cutoff,
+                                 @Param("batchSize") int batchSize);
+}
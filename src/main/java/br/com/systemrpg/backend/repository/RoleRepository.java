@@ -4,12 +4,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.systemrpg.backend.domain.entity.Role;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório para operações de acesso a dados da entidade Role.
@@ -18,13 +21,21 @@ import br.com.systemrpg.backend.domain.entity.Role;
 public interface RoleRepository extends JpaRepository<Role, UUID> {
 
     /**
-     * Busca uma role pelo nome.
+     * Busca uma role pelo nome (resultado no cache de consultas; as roles vêm do cache de entidades).
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-queries")
+    })
     Optional<Role> findByName(String name);
 
     /**
-     * Busca roles ativas por nomes.
+     * Busca roles ativas por nomes (resultado no cache de consultas; as roles vêm do cache de entidades).
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-queries")
+    })
     @Query("SELECT r FROM Role r WHERE r.name IN :names AND r.isActive = true")
     Set<Role> findByNameInAndIsActiveTrue(@Param("names") Set<String> names);
 }
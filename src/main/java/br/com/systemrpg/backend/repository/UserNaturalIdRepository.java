@@ -0,0 +1,24 @@
+package br.com.systemrpg.backend.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.User;
+
+/**
+ * Acesso a usuários pelo natural id (username), servido pelo cache de segundo nível.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Busca um usuário pelo username (case insensitive): tenta o natural id exato (cacheado) e,
+     * se não encontrar, consulta por lower(username).
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * Remove o usuário (entidade e roles) do cache de segundo nível após o commit da transação corrente
+     * (ou imediatamente, fora de transação). A referência username → ID é mantida pelo próprio Hibernate.
+     */
+    void evictFromCache(UUID id);
+}
@@ -0,0 +1,104 @@
+package br.com.systemrpg.backend.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.service.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
+
+/**
+ * Implementação de {@link UserNaturalIdRepository} sobre a Session do Hibernate.
+ * As remoções do cache de segundo nível são repassadas às demais instâncias pelo {@link CacheInvalidationBus}
+ * (quando presente no contexto).
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    static final String CACHE_CHANNEL = "user-entities";
+
+    private static final String ROLES_ROLE = User.class.getName() + ".roles";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    @PostConstruct
+    void registerWithInvalidationBus() {
+        invalidationBus.ifAvailable(bus -> bus.register(CACHE_CHANNEL, key -> evictRemote((UUID) key), this::evictAll));
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        Optional<User> user = entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(username);
+        if (user.isPresent()) {
+            return user;
+        }
+        return entityManager
+            .createQuery("SELECT u FROM User u WHERE LOWER(u.username) = LOWER(:username)", User.class)
+            .setParameter("username", username)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public void evictFromCache(UUID id) {
+        invalidationBus.ifAvailable(bus -> bus.publishEvict(CACHE_CHANNEL, id));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    private void evict(UUID id) {
+        org.hibernate.Cache cache = cache();
+        cache.evictEntityData(User.class, id);
+        cache.evictCollectionData(ROLES_ROLE, id);
+    }
+
+    /**
+     * Remoção vinda de outra instância: o username antigo não é conhecido aqui, então a referência
+     * username -> id é descartada inteira para não resolver um nome trocado para o usuário errado.
+     */
+    private void evictRemote(UUID id) {
+        evict(id);
+        cache().evictNaturalIdData(User.class);
+    }
+
+    private void evictAll() {
+        org.hibernate.Cache cache = cache();
+        cache.evictEntityData(User.class);
+        cache.evictCollectionData(ROLES_ROLE);
+        cache.evictNaturalIdData(User.class);
+    }
+
+    private org.hibernate.Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -1,29 +1,46 @@
 package br.com.systemrpg.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.dto.response.RoleResponse;
+import br.com.systemrpg.backend.dto.response.UserAutocompleteResponse;
+import br.com.systemrpg.backend.dto.response.UserResponse;
+import br.com.systemrpg.backend.dto.response.UserRoleRow;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório para operações de acesso a dados da entidade User.
+ * A busca por username usa o cache de natural id (ver {@link UserNaturalIdRepository}).
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository {
 
     /**
-     * Busca um usuário pelo username (case insensitive).
+     * Colunas de users copiadas para users_archive (e de volta na restauração).
      */
-    @Query("SELECT u FROM User u WHERE LOWER(u.username) = LOWER(:username)")
-    Optional<User> findByUsername(@Param("username") String username);
+    String ARCHIVE_COLUMNS = "id, username, email, first_name, last_name, password_hash, is_active, is_email_verified, "
+        + "last_login_at, password_changed_at, created_at, updated_at, deleted_at";
 
     /**
      * Busca um usuário pelo username ou email (case insensitive).
@@ -32,27 +49,55 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsernameOrEmail(@Param("usernameOrEmail") String usernameOrEmail);
 
     /**
-     * Verifica se existe um usuário com o username informado (case insensitive), excluindo usuários deletados.
+     * Verifica se existe um usuário com o username informado (case insensitive), inclusive deletados:
+     * a unicidade é garantida por uk_users_username_lower sobre toda a tabela users.
      */
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.deletedAt IS NULL AND LOWER(u.username) = LOWER(:username)")
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.username) = LOWER(:username)")
     boolean existsByUsername(@Param("username") String username);
 
     /**
-     * Verifica se existe um usuário com o email informado (case insensitive), excluindo usuários deletados.
+     * Verifica se existe um usuário com o email informado (case insensitive), inclusive deletados
+     * (unicidade garantida por uk_users_email_lower).
      */
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.deletedAt IS NULL AND LOWER(u.email) = LOWER(:email)")
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.email) = LOWER(:email)")
     boolean existsByEmail(@Param("email") String email);
 
     /**
-     * Verifica se existe um usuário com o username informado, excluindo um ID específico (case insensitive), excluindo usuários deletados.
+     * Lista os usernames de todos os usuários (carga do filtro de disponibilidade).
      */
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.deletedAt IS NULL AND LOWER(u.username) = LOWER(:username) AND u.id != :id")
+    @Query("SELECT u.username FROM User u")
+    List<String> findAllUsernames();
+
+    /**
+     * Lista os emails de todos os usuários (carga do filtro de disponibilidade).
+     */
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    /**
+     * Lista os usuários ativos e não excluídos (carga do índice de autocomplete, sem instanciar entidades).
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.UserAutocompleteResponse(u.id, u.username, u.firstName, u.lastName) "
+         + "FROM User u WHERE u.isActive = true AND u.deletedAt IS NULL")
+    List<UserAutocompleteResponse> findAutocompleteEntries();
+
+    /**
+     * Busca a entrada de autocomplete de um usuário, se ele estiver ativo e não excluído.
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.UserAutocompleteResponse(u.id, u.username, u.firstName, u.lastName) "
+         + "FROM User u WHERE u.id = :id AND u.isActive = true AND u.deletedAt IS NULL")
+    Optional<UserAutocompleteResponse> findAutocompleteEntryById(@Param("id") UUID id);
+
+    /**
+     * Verifica se existe um usuário com o username informado, excluindo um ID específico (case insensitive), inclusive deletados.
+     */
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.username) = LOWER(:username) AND u.id != :id")
     boolean existsByUsernameAndIdNot(@Param("username") String username, @Param("id") UUID id);
 
     /**
-     * Verifica se existe um usuário com o email informado, excluindo um ID específico (case insensitive), excluindo usuários deletados.
+     * Verifica se existe um usuário com o email informado, excluindo um ID específico (case insensitive), inclusive deletados.
      */
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.deletedAt IS NULL AND LOWER(u.email) = LOWER(:email) AND u.id != :id")
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.email) = LOWER(:email) AND u.id != :id")
     boolean existsByEmailAndIdNot(@Param("email") String email, @Param("id") UUID id);
 
     /**
@@ -70,14 +115,161 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
 
     /**
-     * Lista todos os usuários com paginação, incluindo roles, excluindo usuários deletados.
+     * Lista os IDs de todos os usuários com paginação (sem contagem), excluindo usuários deletados.
      */
-    @EntityGraph(attributePaths = {"roles"})
-    Page<User> findByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NULL ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<UUID> findIdsByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * Conta os usuários não deletados.
+     */
+    long countByDeletedAtIsNull();
+
+    /**
+     * Lista os IDs de usuários ativos ordenados por data de criação (mais recentes primeiro, sem contagem), excluindo usuários deletados.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isActive = true AND u.deletedAt IS NULL ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<UUID> findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * Conta os usuários ativos e não deletados.
+     */
+    long countByIsActiveTrueAndDeletedAtIsNull();
+
+    /**
+     * Primeira página por cursor (keyset) dos IDs de usuários, opcionalmente filtrando por status ativo, excluindo usuários deletados.
+     */
+    @Query(value = "SELECT u.id FROM users u " +
+           "WHERE u.deleted_at IS NULL " +
+           "AND (CAST(:active AS BOOLEAN) IS NULL OR u.is_active = :active) " +
+           "ORDER BY u.created_at DESC, u.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findFirstIdsKeyset(
+        @Param("active") Boolean active,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Próxima página por cursor (keyset): IDs de usuários criados antes da posição informada.
+     */
+    @Query(value = "SELECT u.id FROM users u " +
+           "WHERE u.deleted_at IS NULL " +
+           "AND (CAST(:active AS BOOLEAN) IS NULL OR u.is_active = :active) " +
+           "AND (u.created_at, u.id) < (:createdAt, :id) " +
+           "ORDER BY u.created_at DESC, u.id DESC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsAfterKeyset(
+        @Param("active") Boolean active,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
 
     /**
-     * Busca usuários ativos ordenados por data de criação (mais recentes primeiro), excluindo usuários deletados.
+     * Página anterior por cursor (keyset): IDs de usuários criados depois da posição informada, em ordem crescente.
+     */
+    @Query(value = "SELECT u.id FROM users u " +
+           "WHERE u.deleted_at IS NULL " +
+           "AND (CAST(:active AS BOOLEAN) IS NULL OR u.is_active = :active) " +
+           "AND (u.created_at, u.id) > (:createdAt, :id) " +
+           "ORDER BY u.created_at ASC, u.id ASC LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsBeforeKeyset(
+        @Param("active") Boolean active,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Carrega os usuários dos IDs informados com suas roles (segunda fase da paginação).
      */
     @EntityGraph(attributePaths = {"roles"})
-    Page<User> findByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT DISTINCT u FROM User u WHERE u.id IN :ids")
+    List<User> findAllWithRolesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Carrega os usuários dos IDs informados como DTO de resposta (sem papéis), sem instanciar entidades.
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.UserResponse(" +
+           "u.id, u.username, u.email, u.firstName, u.lastName, u.isActive, u.isEmailVerified, " +
+           "u.createdAt, u.updatedAt, u.lastLoginAt, u.passwordChangedAt) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista os papéis dos usuários informados como projeção (uma linha por usuário e papel).
+     */
+    @Query("SELECT new br.com.systemrpg.backend.dto.response.UserRoleRow(" +
+           "u.id, r.id, r.name, r.description, r.isActive, r.createdAt, r.updatedAt) " +
+           "FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<UserRoleRow> findRoleRowsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Agrupa por usuário os papéis dos usuários informados (usuários sem papel não aparecem no mapa).
+     */
+    default Map<UUID, Set<RoleResponse>> findRoleResponsesByUserIdIn(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return findRoleRowsByUserIdIn(userIds).stream().collect(Collectors.groupingBy(UserRoleRow::userId,
+            Collectors.mapping(UserRoleRow::toResponse, Collectors.toCollection(HashSet::new))));
+    }
+
+    /**
+     * Retorna o updated_at de um usuário sem carregar a entidade.
+     */
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Retorna o maior updated_at entre todos os usuários (inclusive deletados, já que a exclusão lógica também o atualiza).
+     */
+    @Query("SELECT MAX(u.updatedAt) FROM User u")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * Move para users_archive (com os papéis em user_roles_archive) um lote de usuários excluídos antes do corte
+     * que não são mais referenciados por participantes ou convites da tabela quente.
+     */
+    @Modifying
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_roles"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users_archive"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_roles_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM users WHERE id IN ("
+        + "SELECT u.id FROM users u WHERE u.deleted_at < :cutoff "
+        + "AND NOT EXISTS (SELECT 1 FROM game_group_participant p WHERE p.user_id = u.id) "
+        + "AND NOT EXISTS (SELECT 1 FROM game_group_invite i WHERE i.created_by = u.id OR i.used_by = u.id) "
+        + "ORDER BY u.deleted_at LIMIT :batchSize FOR UPDATE SKIP LOCKED) "
+        + "RETURNING " + ARCHIVE_COLUMNS + "), "
+        + "roles AS (INSERT INTO user_roles_archive (role_id, user_id) "
+        + "SELECT r.role_id, r.user_id FROM user_roles r JOIN moved m ON m.id = r.user_id) "
+        + "INSERT INTO users_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved",
+        nativeQuery = true)
+    int archiveDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    /**
+     * Devolve um usuário arquivado (com seus papéis) à tabela quente, se username e email ainda estiverem livres.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_roles"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users_archive"),
+        @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_roles_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM users_archive a WHERE a.id = :id "
+        + "AND NOT EXISTS (SELECT 1 FROM users u WHERE LOWER(u.username) = LOWER(a.username) OR LOWER(u.email) = LOWER(a.email)) "
+        + "RETURNING a.*), "
+        + "restored AS (INSERT INTO users (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved RETURNING id), "
+        + "roles AS (DELETE FROM user_roles_archive r USING restored WHERE r.user_id = restored.id RETURNING r.role_id, r.user_id) "
+        + "INSERT INTO user_roles (role_id, user_id) SELECT role_id, user_id FROM roles",
+        nativeQuery = true)
+    void restoreArchivedById(@Param("id") UUID id);
+
+    /**
+     * Verifica se um usuário está no arquivo (users_archive).
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users_archive WHERE id = :id)", nativeQuery = true)
+    boolean existsArchivedById(@Param("id") UUID id);
 }
@@ -1,10 +1,18 @@
 package br.com.systemrpg.backend.service;
 
+import br.com.systemrpg.backend.config.CacheConfig;
 import br.com.systemrpg.backend.domain.entity.Adventure;
 import br.com.systemrpg.backend.domain.entity.AdventureNote;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
 import br.com.systemrpg.backend.dto.request.AdventureNoteUpdateRequest;
+import br.com.systemrpg.backend.dto.response.AdventureNoteResponse;
 import br.com.systemrpg.backend.repository.AdventureNoteRepository;
+import br.com.systemrpg.backend.util.CursorPage;
+import br.com.systemrpg.backend.util.CursorUtil;
 import br.com.systemrpg.backend.util.MessageUtil;
+import br.com.systemrpg.backend.util.ResourceVersion;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -12,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -19,22 +28,39 @@ public class AdventureNoteService {
 
     private final AdventureNoteRepository adventureNoteRepository;
     private final AdventureService adventureService;
+    private final GameGroupDashboardCache gameGroupDashboardCache;
+    private final OutboxService outboxService;
     private final MessageUtil messageUtil;
 
     public AdventureNoteService(AdventureNoteRepository adventureNoteRepository,
                                 AdventureService adventureService,
+                                GameGroupDashboardCache gameGroupDashboardCache,
+                                OutboxService outboxService,
                                 MessageUtil messageUtil) {
         this.adventureNoteRepository = adventureNoteRepository;
         this.adventureService = adventureService;
+        this.gameGroupDashboardCache = gameGroupDashboardCache;
+        this.outboxService = outboxService;
         this.messageUtil = messageUtil;
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ADVENTURE_NOTES, key = "#id")
     public AdventureNote findById(UUID id) {
         return adventureNoteRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("service.adventurenote.not.found")));
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion(UUID id) {
+        return adventureNoteRepository.findUpdatedAtById(id).map(ResourceVersion::of).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getCollectionVersion(UUID adventureId) {
+        return adventureNoteRepository.findVersionByAdventureId(adventureId);
+    }
+
     @Transactional
     public AdventureNote createNote(Adventure adventure, UUID createdBy, String title, String content) {
         AdventureNote note = AdventureNote.builder()
@@ -44,7 +70,10 @@ public class AdventureNoteService {
                 .content(content)
                 .isActive(true)
                 .build();
-        return adventureNoteRepository.save(note);
+        AdventureNote saved = adventureNoteRepository.save(note);
+        recordEvent(DomainEventType.ADVENTURE_NOTE_CREATED, saved);
+        gameGroupDashboardCache.invalidate(adventure.getGameGroup().getId());
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -57,21 +86,71 @@ public class AdventureNoteService {
         return adventureNoteRepository.findByAdventure_IdAndDeletedAtIsNull(adventureId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<AdventureNote> listByAdventureId(UUID adventureId, String cursor, int size) {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = adventureNoteRepository.findFirstIdsByAdventureIdKeyset(adventureId, size + 1);
+        } else if (position.isBackward()) {
+            ids = adventureNoteRepository.findIdsByAdventureIdBeforeKeyset(adventureId, position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = adventureNoteRepository.findIdsByAdventureIdAfterKeyset(adventureId, position.getCreatedAt(), position.getId(), size + 1);
+        }
+
+        return CursorUtil.toCursorPage(position, size, ids, adventureNoteRepository::findAllById,
+                AdventureNote::getId, AdventureNote::getCreatedAt);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AdventureNoteResponse> listByAdventureIdAsResponse(UUID adventureId, Pageable pageable) {
+        return adventureNoteRepository.findResponsesByAdventureId(adventureId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AdventureNoteResponse> listByAdventureIdAsResponse(UUID adventureId, String cursor, int size) {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = adventureNoteRepository.findFirstIdsByAdventureIdKeyset(adventureId, size + 1);
+        } else if (position.isBackward()) {
+            ids = adventureNoteRepository.findIdsByAdventureIdBeforeKeyset(adventureId, position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = adventureNoteRepository.findIdsByAdventureIdAfterKeyset(adventureId, position.getCreatedAt(), position.getId(), size + 1);
+        }
+
+        return CursorUtil.toCursorPage(position, size, ids, adventureNoteRepository::findResponsesByIdIn,
+                AdventureNoteResponse::getId, AdventureNoteResponse::getCreatedAt);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ADVENTURE_NOTES, key = "#id")
     public AdventureNote updateNote(UUID id, AdventureNoteUpdateRequest request) {
         AdventureNote note = findById(id);
         note.setTitle(request.getTitle());
         note.setContent(request.getContent());
         note.setUpdatedAt(LocalDateTime.now());
-        return adventureNoteRepository.save(note);
+        AdventureNote saved = adventureNoteRepository.save(note);
+        recordEvent(DomainEventType.ADVENTURE_NOTE_UPDATED, saved);
+        gameGroupDashboardCache.invalidate(note.getAdventure().getGameGroup().getId());
+        return saved;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ADVENTURE_NOTES, key = "#id")
     public void deleteNote(UUID id) {
         AdventureNote note = findById(id);
         note.setIsActive(false);
         note.setDeletedAt(LocalDateTime.now());
         adventureNoteRepository.save(note);
+        recordEvent(DomainEventType.ADVENTURE_NOTE_DELETED, note);
+        gameGroupDashboardCache.invalidate(note.getAdventure().getGameGroup().getId());
+    }
+
+    private void recordEvent(DomainEventType type, AdventureNote note) {
+        outboxService.record(type, note.getId(), Map.of(
+                "adventureId", note.getAdventure().getId(),
+                "gameGroupId", note.getAdventure().getGameGroup().getId()));
     }
 
     // Authorization helpers for SpEL
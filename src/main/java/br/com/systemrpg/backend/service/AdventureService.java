@@ -1,10 +1,16 @@
 package br.com.systemrpg.backend.service;
 
+import br.com.systemrpg.backend.config.CacheConfig;
 import br.com.systemrpg.backend.domain.entity.Adventure;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
 import br.com.systemrpg.backend.dto.request.AdventureUpdateRequest;
+import br.com.systemrpg.backend.dto.response.AdventureResponse;
 import br.com.systemrpg.backend.repository.AdventureRepository;
 import br.com.systemrpg.backend.util.MessageUtil;
+import br.com.systemrpg.backend.util.ResourceVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -12,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -20,18 +27,36 @@ public class AdventureService {
 
     private final AdventureRepository adventureRepository;
     private final GameGroupService gameGroupService;
+    private final GameGroupCardService gameGroupCardService;
+    private final GameGroupDashboardCache gameGroupDashboardCache;
+    private final OutboxService outboxService;
     private final MessageUtil messageUtil;
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ADVENTURES, key = "#id")
     public Adventure findById(UUID id) {
         return adventureRepository.findByIdAndDeletedAtIsNull(id)
             .orElseThrow(() -> new IllegalArgumentException(messageUtil.getMessage("service.adventure.not.found")));
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion(UUID id) {
+        return adventureRepository.findUpdatedAtById(id).map(ResourceVersion::of).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getCollectionVersion(UUID gameGroupId) {
+        return adventureRepository.findVersionByGameGroupId(gameGroupId);
+    }
+
     @Transactional
     public Adventure createAdventure(Adventure adventure, UUID createdByUserId) {
         adventure.setCreatedBy(createdByUserId);
-        return adventureRepository.save(adventure);
+        Adventure saved = adventureRepository.save(adventure);
+        recordEvent(DomainEventType.ADVENTURE_CREATED, saved);
+        gameGroupCardService.refresh(saved.getGameGroup().getId());
+        gameGroupDashboardCache.invalidate(saved.getGameGroup().getId());
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -44,21 +69,43 @@ public class AdventureService {
         return adventureRepository.findByGameGroup_IdAndDeletedAtIsNull(gameGroupId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public List<AdventureResponse> listByGameGroupIdAsResponse(UUID gameGroupId) {
+        return adventureRepository.findResponsesByGameGroupId(gameGroupId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AdventureResponse> listByGameGroupIdAsResponse(UUID gameGroupId, Pageable pageable) {
+        return adventureRepository.findResponsesByGameGroupId(gameGroupId, pageable);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ADVENTURES, key = "#id")
     public Adventure updateAdventure(UUID id, AdventureUpdateRequest request) {
         Adventure adventure = findById(id);
         adventure.setTitle(request.getTitle());
         adventure.setDescription(request.getDescription());
         adventure.setUpdatedAt(LocalDateTime.now());
-        return adventureRepository.save(adventure);
+        Adventure saved = adventureRepository.save(adventure);
+        recordEvent(DomainEventType.ADVENTURE_UPDATED, saved);
+        gameGroupDashboardCache.invalidate(saved.getGameGroup().getId());
+        return saved;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ADVENTURES, key = "#id")
     public void deleteAdventure(UUID id) {
         Adventure adventure = findById(id);
         adventure.setIsActive(false);
         adventure.setDeletedAt(LocalDateTime.now());
         adventureRepository.save(adventure);
+        recordEvent(DomainEventType.ADVENTURE_DELETED, adventure);
+        gameGroupCardService.refresh(adventure.getGameGroup().getId());
+        gameGroupDashboardCache.invalidate(adventure.getGameGroup().getId());
+    }
+
+    private void recordEvent(DomainEventType type, Adventure adventure) {
+        outboxService.record(type, adventure.getId(), Map.of("gameGroupId", adventure.getGameGroup().getId()));
     }
 
     @Transactional(readOnly = true)
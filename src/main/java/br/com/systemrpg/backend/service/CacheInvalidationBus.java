@@ -0,0 +1,267 @@
+package br.com.systemrpg.backend.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Barramento de invalidação de caches em memória entre instâncias, sobre LISTEN/NOTIFY do Postgres.
+ * As invalidações são publicadas com pg_notify após o commit de quem escreve (descartadas no rollback), em uma
+ * conexão própria fora do pool: uma falha ao publicar não afeta a transação de negócio, só deixa as demais
+ * instâncias dependendo do TTL. Cada instância mantém outra conexão dedicada escutando o canal e remove localmente
+ * as entradas invalidadas pelas demais. Ao (re)conectar, todos os caches locais são esvaziados, pois
+ * mensagens podem ter sido perdidas enquanto a conexão estava fora.
+ */
+@Service
+public class CacheInvalidationBus {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    static final String CLEAR_ALL = "*";
+
+    private static final String SEPARATOR = "|";
+    private static final String UUID_KEY = "u:";
+    private static final String STRING_KEY = "s:";
+    private static final int POLL_TIMEOUT_MILLIS = 10_000;
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final boolean enabled;
+    private final Duration reconnectDelay;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, LocalCache> caches = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile Thread listener;
+    private volatile Connection listenerConnection;
+    private Connection publisherConnection;
+
+    public CacheInvalidationBus(@Value("${spring.datasource.url}") String url,
+                                @Value("${spring.datasource.username}") String username,
+                                @Value("${spring.datasource.password}") String password,
+                                @Value("${app.cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${app.cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Registra um cache local para receber as invalidações publicadas pelas outras instâncias.
+     */
+    public void register(String cacheName, Consumer<Object> evict, Runnable clear) {
+        caches.put(cacheName, new LocalCache(evict, clear));
+    }
+
+    /**
+     * Publica a remoção de uma chave (UUID ou String; outros tipos esvaziam o cache inteiro nas demais instâncias).
+     */
+    public void publishEvict(String cacheName, Object key) {
+        String encoded = encodeKey(key);
+        publish(cacheName, encoded != null ? encoded : CLEAR_ALL);
+    }
+
+    /**
+     * Publica o esvaziamento de um cache inteiro.
+     */
+    public void publishClear(String cacheName) {
+        publish(cacheName, CLEAR_ALL);
+    }
+
+    /**
+     * Abre a conexão de escuta em uma thread dedicada (reconectando com espera em caso de falha).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        listener = thread;
+        thread.start();
+    }
+
+    /**
+     * Encerra a escuta e fecha as conexões dedicadas.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeQuietly(listenerConnection);
+        closeQuietly(publisherConnection);
+        publisherConnection = null;
+    }
+
+    /**
+     * Aplica uma mensagem recebida, ignorando as publicadas por esta instância (já aplicadas localmente).
+     */
+    void onMessage(String payload) {
+        String[] parts = payload.split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        LocalCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        Object key = decodeKey(parts[2]);
+        if (key == null) {
+            cache.clear().run();
+        } else {
+            cache.evict().accept(key);
+        }
+    }
+
+    /**
+     * Esvazia todos os caches locais registrados.
+     */
+    void clearAll() {
+        caches.values().forEach(cache -> cache.clear().run());
+    }
+
+    /**
+     * Abre uma conexão dedicada ao banco, fora do pool da aplicação.
+     */
+    Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    private void publish(String cacheName, String key) {
+        if (!enabled) {
+            return;
+        }
+        String payload = nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(cacheName, payload);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(cacheName, payload);
+            }
+        });
+    }
+
+    private synchronized void send(String cacheName, String payload) {
+        try {
+            if (publisherConnection == null || publisherConnection.isClosed()) {
+                publisherConnection = openConnection();
+            }
+            try (PreparedStatement statement = publisherConnection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, CHANNEL);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        } catch (SQLException e) {
+            closeQuietly(publisherConnection);
+            publisherConnection = null;
+            log.warn("Falha ao publicar invalidação do cache {} (as demais instâncias dependem do TTL)", cacheName, e);
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                listenerConnection = connection;
+                // Invalidações publicadas enquanto a conexão estava fora não serão entregues
+                clearAll();
+                log.info("Escutando invalidações de cache no canal {} (instância {})", CHANNEL, nodeId);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onMessage(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Conexão de escuta de invalidações de cache perdida; reconectando em {}", reconnectDelay, e);
+                    sleep(reconnectDelay);
+                }
+            } catch (RuntimeException e) {
+                log.error("Falha ao aplicar invalidação de cache recebida", e);
+            }
+        }
+    }
+
+    private static String encodeKey(Object key) {
+        if (key instanceof UUID uuid) {
+            return UUID_KEY + uuid;
+        }
+        if (key instanceof String value) {
+            return STRING_KEY + value;
+        }
+        return null;
+    }
+
+    private static Object decodeKey(String key) {
+        if (key.startsWith(UUID_KEY)) {
+            return UUID.fromString(key.substring(UUID_KEY.length()));
+        }
+        if (key.startsWith(STRING_KEY)) {
+            return key.substring(STRING_KEY.length());
+        }
+        return null;
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Falha ao fechar a conexão do barramento de invalidações de cache", e);
+        }
+    }
+
+    private record LocalCache(Consumer<Object> evict, Runnable clear) {
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.systemrpg.backend.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache de curta duração para os totais das listagens paginadas.
+ * Evita repetir o COUNT(*) com os mesmos filtros a cada página navegada.
+ */
+@Service
+public class CountCacheService {
+
+    public static final String GAME_GROUPS_SCOPE = "game-groups";
+    public static final String USERS_SCOPE = "users";
+    public static final String PARTICIPANTS_SCOPE = "game-group-participants";
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Duration ttl;
+
+    public CountCacheService(@Value("${app.pagination.count-cache-ttl:PT30S}") Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Retorna o total em cache para a chave ou executa a contagem e armazena o resultado.
+     */
+    public long getOrCount(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt - now > 0) {
+            return cached.value;
+        }
+
+        long countGeneration = generation.get();
+        long value = counter.getAsLong();
+        // Não armazena contagens que concorreram com uma invalidação (podem refletir o estado anterior)
+        if (generation.get() == countGeneration) {
+            counts.put(key, new CachedCount(value, now + ttl.toNanos()));
+        }
+        return value;
+    }
+
+    /**
+     * Remove todos os totais de um escopo (ex.: após criar ou excluir registros) após o commit da
+     * transação corrente (ou imediatamente, fora de transação), para que nenhuma listagem concorrente
+     * recalcule e guarde o total anterior à alteração.
+     */
+    public void invalidate(String scope) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            String prefix = scope + KEY_SEPARATOR;
+            counts.keySet().removeIf(key -> key.startsWith(prefix));
+        });
+    }
+
+    /**
+     * Monta a chave normalizada do escopo e filtros (trim, minúsculas e nulos/vazios equivalentes).
+     */
+    public static String key(String scope, Object... filters) {
+        return scope + KEY_SEPARATOR + Stream.of(filters)
+            .map(filter -> filter == null ? "" : filter.toString().trim().toLowerCase(Locale.ROOT))
+            .collect(Collectors.joining(KEY_SEPARATOR));
+    }
+
+    /**
+     * Descarta periodicamente os totais expirados.
+     */
+    @Scheduled(fixedDelayString = "${app.pagination.count-cache-cleanup-interval:PT5M}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        counts.values().removeIf(cached -> cached.expiresAt - now <= 0);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class CachedCount {
+        private final long value;
+        private final long expiresAt;
+
+        private CachedCount(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.repository.GameGroupCardRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço responsável pelo modelo de leitura de cards de grupos de jogo (game_group_card).
+ * Os cards são recalculados na mesma transação das escritas em grupos, participantes e aventuras,
+ * logo antes do commit, uma única vez por grupo alterado.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GameGroupCardService {
+
+    private static final Object PENDING_REFRESH_KEY = GameGroupCardService.class.getName() + ".pendingRefresh";
+
+    private static final Logger log = LoggerFactory.getLogger(GameGroupCardService.class);
+
+    private final GameGroupCardRepository cardRepository;
+
+    /**
+     * Agenda o recálculo do card de um grupo para antes do commit da transação corrente
+     * (ou imediatamente, fora de transação). Grupos excluídos têm o card removido.
+     */
+    public void refresh(UUID gameGroupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recalculate(gameGroupId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(PENDING_REFRESH_KEY);
+        if (pending == null) {
+            Set<UUID> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_REFRESH_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    ids.forEach(GameGroupCardService.this::recalculate);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_REFRESH_KEY);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(gameGroupId);
+    }
+
+    /**
+     * Recalcula os cards dos grupos em que o usuário é master (o username é exibido no card).
+     */
+    public void refreshByMasterUserId(UUID userId) {
+        cardRepository.upsertCardsByMasterUserId(userId);
+    }
+
+    /**
+     * Reconstrói todos os cards a partir das tabelas de origem, corrigindo eventuais divergências.
+     * Os cards são atualizados no lugar (upsert) e só os de grupos excluídos são removidos, sem disputar
+     * com os recálculos feitos pelas escritas concorrentes.
+     */
+    @Scheduled(cron = "${app.game-group.card-rebuild-cron:0 15 4 * * ?}")
+    public int rebuild() {
+        int rows = cardRepository.rebuildCards();
+        int removed = cardRepository.deleteOrphanCards();
+        log.info("Cards de grupos de jogo reconstruídos: {} grupos ({} cards órfãos removidos)", rows, removed);
+        return rows;
+    }
+
+    private void recalculate(UUID gameGroupId) {
+        if (cardRepository.upsertCard(gameGroupId) == 0) {
+            cardRepository.deleteStaleCard(gameGroupId);
+        }
+    }
+}
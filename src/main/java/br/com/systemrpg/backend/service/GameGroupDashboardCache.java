@@ -0,0 +1,162 @@
+package br.com.systemrpg.backend.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.dto.response.GameGroupDashboardResponse;
+
+/**
+ * Cache dos painéis de grupos de jogo com carga única por grupo (single-flight): requisições simultâneas
+ * para o mesmo grupo aguardam a mesma carga. Os painéis ficam em cache até uma escrita relevante invalidá-los.
+ */
+@Service
+public class GameGroupDashboardCache {
+
+    static final String CACHE_NAME = "game-group-dashboards";
+
+    private final Map<UUID, CachedDashboard> dashboards = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<GameGroupDashboardResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Duration ttl;
+    private final CacheInvalidationBus invalidationBus;
+
+    public GameGroupDashboardCache(@Value("${app.game-group.dashboard.cache-ttl:PT10M}") Duration ttl,
+                                   CacheInvalidationBus invalidationBus) {
+        this.ttl = ttl;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(CACHE_NAME, gameGroupId -> evict((UUID) gameGroupId), this::clear);
+    }
+
+    /**
+     * Retorna o painel em cache ou o carrega uma única vez, mesmo com requisições simultâneas para o mesmo grupo.
+     */
+    public GameGroupDashboardResponse getOrLoad(UUID gameGroupId, Supplier<GameGroupDashboardResponse> loader) {
+        GameGroupDashboardResponse cached = getCached(gameGroupId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<GameGroupDashboardResponse> flight = new CompletableFuture<>();
+        CompletableFuture<GameGroupDashboardResponse> running = inFlight.putIfAbsent(gameGroupId, flight);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // Outra carga pode ter terminado entre a consulta ao cache e o registro desta
+            GameGroupDashboardResponse dashboard = getCached(gameGroupId);
+            if (dashboard == null) {
+                long loadGeneration = generation.get();
+                dashboard = loader.get();
+                store(gameGroupId, dashboard, loadGeneration);
+            }
+            flight.complete(dashboard);
+            return dashboard;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(gameGroupId, flight);
+        }
+    }
+
+    /**
+     * Invalida o painel de um grupo após o commit da transação corrente (ou imediatamente, fora de transação),
+     * nesta e nas demais instâncias.
+     */
+    public void invalidate(UUID gameGroupId) {
+        invalidationBus.publishEvict(CACHE_NAME, gameGroupId);
+        afterCommit(() -> evict(gameGroupId));
+    }
+
+    /**
+     * Invalida todos os painéis (ex.: troca de username exibido nas listas de participantes).
+     */
+    public void invalidateAll() {
+        invalidationBus.publishClear(CACHE_NAME);
+        afterCommit(this::clear);
+    }
+
+    /**
+     * Descarta periodicamente os painéis expirados.
+     */
+    @Scheduled(fixedDelayString = "${app.game-group.dashboard.cache-cleanup-interval:PT5M}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        dashboards.values().removeIf(cached -> cached.expiresAt - now <= 0);
+    }
+
+    private void evict(UUID gameGroupId) {
+        generation.incrementAndGet();
+        inFlight.remove(gameGroupId);
+        dashboards.remove(gameGroupId);
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        dashboards.clear();
+    }
+
+    private GameGroupDashboardResponse getCached(UUID gameGroupId) {
+        CachedDashboard cached = dashboards.get(gameGroupId);
+        return cached != null && cached.expiresAt - System.nanoTime() > 0 ? cached.value : null;
+    }
+
+    /**
+     * Armazena o painel carregado, descartando-o se houve invalidação durante a carga (o resultado pode estar desatualizado).
+     */
+    private void store(UUID gameGroupId, GameGroupDashboardResponse dashboard, long loadGeneration) {
+        CachedDashboard entry = new CachedDashboard(dashboard, System.nanoTime() + ttl.toNanos());
+        dashboards.put(gameGroupId, entry);
+        if (generation.get() != loadGeneration) {
+            dashboards.remove(gameGroupId, entry);
+        }
+    }
+
+    private GameGroupDashboardResponse await(CompletableFuture<GameGroupDashboardResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class CachedDashboard {
+        private final GameGroupDashboardResponse value;
+        private final long expiresAt;
+
+        private CachedDashboard(GameGroupDashboardResponse value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
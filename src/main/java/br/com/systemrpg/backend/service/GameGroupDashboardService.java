@@ -0,0 +1,93 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.systemrpg.backend.dto.response.AdventureNoteResponse;
+import br.com.systemrpg.backend.dto.response.AdventureResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupDashboardResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupParticipantResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupResponse;
+import br.com.systemrpg.backend.mapper.GameGroupMapper;
+import br.com.systemrpg.backend.mapper.GameGroupMemberMapper;
+
+/**
+ * Serviço do painel de um grupo de jogo: agrega em uma resposta o que o cliente busca ao iniciar uma sessão
+ * (grupo, participantes, aventuras e notas da aventura atual). Requisições simultâneas são agrupadas pelo
+ * {@link GameGroupDashboardCache}, e apenas a primeira executa as consultas.
+ */
+@Service
+public class GameGroupDashboardService {
+
+    private final GameGroupService gameGroupService;
+    private final GameGroupParticipantService participantService;
+    private final AdventureService adventureService;
+    private final AdventureNoteService adventureNoteService;
+    private final GameGroupMapper gameGroupMapper;
+    private final GameGroupMemberMapper gameGroupMemberMapper;
+    private final GameGroupDashboardCache dashboardCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int participantsLimit;
+    private final int notesLimit;
+
+    public GameGroupDashboardService(GameGroupService gameGroupService,
+                                     GameGroupParticipantService participantService,
+                                     AdventureService adventureService,
+                                     AdventureNoteService adventureNoteService,
+                                     GameGroupMapper gameGroupMapper,
+                                     GameGroupMemberMapper gameGroupMemberMapper,
+                                     GameGroupDashboardCache dashboardCache,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.game-group.dashboard.participants-limit:50}") int participantsLimit,
+                                     @Value("${app.game-group.dashboard.notes-limit:10}") int notesLimit) {
+        this.gameGroupService = gameGroupService;
+        this.participantService = participantService;
+        this.adventureService = adventureService;
+        this.adventureNoteService = adventureNoteService;
+        this.gameGroupMapper = gameGroupMapper;
+        this.gameGroupMemberMapper = gameGroupMemberMapper;
+        this.dashboardCache = dashboardCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.participantsLimit = participantsLimit;
+        this.notesLimit = notesLimit;
+    }
+
+    /**
+     * Retorna o painel do grupo, do cache ou carregado em uma única transação somente leitura.
+     * Quem aguarda uma carga em andamento não abre transação nem ocupa conexão.
+     */
+    public GameGroupDashboardResponse getDashboard(UUID gameGroupId) {
+        return dashboardCache.getOrLoad(gameGroupId, () -> readOnlyTransaction.execute(status -> load(gameGroupId)));
+    }
+
+    private GameGroupDashboardResponse load(UUID gameGroupId) {
+        GameGroupResponse gameGroup = gameGroupMapper.toResponse(gameGroupService.findById(gameGroupId), gameGroupMemberMapper);
+        List<GameGroupParticipantResponse> participants = participantService
+            .findAllSlice(PageRequest.of(0, participantsLimit), gameGroupId, null, null, true).getContent();
+        List<AdventureResponse> adventures = adventureService.listByGameGroupIdAsResponse(gameGroupId);
+
+        // Aventura atual: a ativa mais recente (a lista vem ordenada por criação decrescente)
+        UUID currentAdventureId = adventures.stream()
+            .filter(adventure -> Boolean.TRUE.equals(adventure.getIsActive()))
+            .map(AdventureResponse::getId)
+            .findFirst()
+            .orElse(null);
+        List<AdventureNoteResponse> latestNotes = currentAdventureId == null ? List.of()
+            : adventureNoteService.listByAdventureIdAsResponse(currentAdventureId, null, notesLimit).getContent();
+
+        return GameGroupDashboardResponse.builder()
+            .gameGroup(gameGroup)
+            .participants(participants)
+            .adventures(adventures)
+            .currentAdventureId(currentAdventureId)
+            .latestNotes(latestNotes)
+            .build();
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.systemrpg.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.config.MessageSourceConfig;
+import br.com.systemrpg.backend.constants.MessageConstants;
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.dto.response.GameGroupCard;
+import br.com.systemrpg.backend.dto.response.GameGroupDirectoryItem;
+import br.com.systemrpg.backend.dto.response.ResponseApi;
+import br.com.systemrpg.backend.hateoas.HateoasLinkBuilder;
+import br.com.systemrpg.backend.hateoas.PageInfo;
+import br.com.systemrpg.backend.hateoas.PagedHateoasResponse;
+import br.com.systemrpg.backend.repository.GameGroupCardRepository;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+import br.com.systemrpg.backend.util.PageUtil;
+
+/**
+ * Diretório público de grupos de jogo (ativos e públicos) servido a partir de um snapshot em memória.
+ * As primeiras páginas ficam pré-serializadas e pré-compactadas (gzip) por idioma; alterações em grupos
+ * apenas marcam o snapshot como desatualizado e a reconstrução é agrupada (debounce) em segundo plano.
+ * O endpoint é público: os itens vêm dos cards e não expõem participantes, usuários nem campos de auditoria.
+ */
+@Service
+public class GameGroupDirectoryService {
+
+    private static final String BASE_PATH = "/game-groups/directory";
+
+    static final String CACHE_NAME = "game-group-directory";
+
+    private static final Logger log = LoggerFactory.getLogger(GameGroupDirectoryService.class);
+
+    private final GameGroupRepository gameGroupRepository;
+    private final GameGroupCardRepository cardRepository;
+    private final CountCacheService countCacheService;
+    private final HateoasLinkBuilder hateoasLinkBuilder;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final int snapshotPages;
+    private final int pageSize;
+    private final int maxPage;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Map<Locale, List<DirectoryPage>> snapshot = Map.of();
+
+    public GameGroupDirectoryService(GameGroupRepository gameGroupRepository,
+                                     GameGroupCardRepository cardRepository,
+                                     CountCacheService countCacheService,
+                                     HateoasLinkBuilder hateoasLinkBuilder,
+                                     MessageSource messageSource,
+                                     ObjectMapper objectMapper,
+                                     CacheInvalidationBus invalidationBus,
+                                     @Value("${app.game-group.directory.snapshot-pages:5}") int snapshotPages,
+                                     @Value("${app.game-group.directory.page-size:20}") int pageSize,
+                                     @Value("${app.game-group.directory.max-page:500}") int maxPage) {
+        this.gameGroupRepository = gameGroupRepository;
+        this.cardRepository = cardRepository;
+        this.countCacheService = countCacheService;
+        this.hateoasLinkBuilder = hateoasLinkBuilder;
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.snapshotPages = snapshotPages;
+        this.pageSize = pageSize;
+        this.maxPage = maxPage;
+        // Alterações feitas em outras instâncias (ou perdidas durante uma reconexão) também desatualizam o snapshot
+        invalidationBus.register(CACHE_NAME, key -> dirty.set(true), () -> dirty.set(true));
+    }
+
+    /**
+     * Página do diretório já serializada: corpo JSON, corpo gzip e ETag.
+     */
+    public record DirectoryPage(byte[] json, byte[] gzip, String etag, String fingerprint) {
+    }
+
+    /**
+     * Retorna uma página do diretório no idioma informado. As primeiras páginas vêm do snapshot
+     * (sem acesso ao banco); as demais são montadas sob demanda, até app.game-group.directory.max-page.
+     *
+     * @throws IllegalArgumentException se a página for negativa ou maior que o limite
+     *         (mensagem {@link MessageConstants#INVALID_PAGE})
+     */
+    public DirectoryPage getPage(int page, Locale locale) {
+        if (page < 0 || page > maxPage) {
+            throw new IllegalArgumentException(MessageConstants.INVALID_PAGE);
+        }
+        Locale snapshotLocale = MessageSourceConfig.SUPPORTED_LOCALES.contains(locale) ? locale : MessageSourceConfig.DEFAULT_LOCALE;
+        List<DirectoryPage> pages = snapshot.get(snapshotLocale);
+        if (pages != null && page < pages.size()) {
+            return pages.get(page);
+        }
+
+        Pageable pageable = PageRequest.of(page, pageSize);
+        return render(findPublicDirectory(pageable), pageable, snapshotLocale, null);
+    }
+
+    /**
+     * Marca o snapshot como desatualizado após o commit da transação corrente (ou imediatamente, fora de transação),
+     * nesta e nas demais instâncias.
+     */
+    public void markDirty() {
+        invalidationBus.publishClear(CACHE_NAME);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirty.set(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirty.set(true);
+            }
+        });
+    }
+
+    /**
+     * Reconstrói o snapshot se houve alterações desde a última reconstrução; rajadas de escrita geram uma única reconstrução.
+     */
+    @Scheduled(fixedDelayString = "${app.game-group.directory.rebuild-delay:PT2S}")
+    @Transactional(readOnly = true)
+    public void rebuildIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reconstrói o snapshot com uma única consulta para as primeiras páginas. Páginas cujo conteúdo não mudou
+     * mantêm os mesmos bytes e ETag.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        dirty.set(false);
+        Page<GameGroupCard> firstPages;
+        try {
+            firstPages = findPublicDirectory(PageRequest.of(0, snapshotPages * pageSize));
+        } catch (DataAccessException e) {
+            dirty.set(true);
+            log.error("Falha ao reconstruir o diretório público de grupos de jogo", e);
+            return;
+        }
+
+        Map<Locale, List<DirectoryPage>> previous = snapshot;
+        Map<Locale, List<DirectoryPage>> rebuilt = new HashMap<>();
+        List<GameGroupCard> content = firstPages.getContent();
+        for (Locale locale : MessageSourceConfig.SUPPORTED_LOCALES) {
+            List<DirectoryPage> previousPages = previous.getOrDefault(locale, List.of());
+            List<DirectoryPage> pages = new ArrayList<>(snapshotPages);
+            for (int i = 0; i < snapshotPages; i++) {
+                Pageable pageable = PageRequest.of(i, pageSize);
+                List<GameGroupCard> pageContent = content.subList(Math.min(i * pageSize, content.size()),
+                    Math.min((i + 1) * pageSize, content.size()));
+                Page<GameGroupCard> page = new PageImpl<>(pageContent, pageable, firstPages.getTotalElements());
+                pages.add(render(page, pageable, locale, i < previousPages.size() ? previousPages.get(i) : null));
+            }
+            rebuilt.put(locale, List.copyOf(pages));
+        }
+        snapshot = Map.copyOf(rebuilt);
+        log.debug("Diretório público de grupos de jogo reconstruído: {} grupos", firstPages.getTotalElements());
+    }
+
+    private Page<GameGroupCard> findPublicDirectory(Pageable pageable) {
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "public"),
+            () -> gameGroupRepository.countByVisibilityAndIsActiveTrueAndDeletedAtIsNull(GameGroup.Visibility.PUBLIC));
+        if (pageable.getOffset() >= total) {
+            // Além da última página: não há o que buscar
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        return PageUtil.fetchByIds(
+            PageUtil.toPage(gameGroupRepository.findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(GameGroup.Visibility.PUBLIC, pageable), total),
+            cardRepository::findCardsByIdIn, GameGroupCard::id);
+    }
+
+    private DirectoryPage render(Page<GameGroupCard> cards, Pageable pageable, Locale locale, DirectoryPage previous) {
+        PagedHateoasResponse<GameGroupDirectoryItem> data = new PagedHateoasResponse<>(
+            cards.getContent().stream().map(GameGroupDirectoryItem::from).toList(), PageInfo.fromPage(cards));
+        hateoasLinkBuilder.addPaginationLinks(data, pageable, BASE_PATH, "");
+
+        try {
+            String fingerprint = DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(data));
+            if (previous != null && previous.fingerprint().equals(fingerprint)) {
+                return previous;
+            }
+
+            String message = messageSource.getMessage("controller.gamegroup.directory.success", null, locale);
+            byte[] json = objectMapper.writeValueAsBytes(ResponseApi.success(message, data));
+            return new DirectoryPage(json, gzip(json), "\"" + fingerprint + "-" + locale.toLanguageTag() + "\"", fingerprint);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o diretório público de grupos de jogo", e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
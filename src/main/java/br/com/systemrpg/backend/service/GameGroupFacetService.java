@@ -0,0 +1,184 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.domain.entity.GameGroupFacet;
+import br.com.systemrpg.backend.dto.response.FacetValueResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupFacetsResponse;
+import br.com.systemrpg.backend.repository.GameGroupFacetRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço responsável pelas facetas de navegação de grupos de jogo.
+ * Os contadores são ajustados incrementalmente a cada escrita em grupos ativos, na mesma transação.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GameGroupFacetService {
+
+    public static final String GAME_SYSTEM = "gameSystem";
+    public static final String SETTING_WORLD = "settingWorld";
+    public static final String MODALITY = "modality";
+    public static final String VISIBILITY = "visibility";
+    public static final String COUNTRY = "country";
+    public static final String STATE = "state";
+    public static final String CITY = "city";
+
+    private static final List<String> FACETS = List.of(GAME_SYSTEM, SETTING_WORLD, MODALITY, VISIBILITY, COUNTRY, STATE, CITY);
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(GameGroupFacetService.class);
+
+    private final GameGroupFacetRepository facetRepository;
+    private final MessageSource messageSource;
+
+    /**
+     * Extrai os valores de faceta preenchidos de um grupo de jogo.
+     */
+    public Map<String, String> snapshot(GameGroup gameGroup) {
+        Map<String, String> values = new LinkedHashMap<>();
+        putIfPresent(values, GAME_SYSTEM, gameGroup.getGameSystem());
+        putIfPresent(values, SETTING_WORLD, gameGroup.getSettingWorld());
+        putIfPresent(values, MODALITY, gameGroup.getModality() != null ? gameGroup.getModality().name() : null);
+        putIfPresent(values, VISIBILITY, gameGroup.getVisibility() != null ? gameGroup.getVisibility().name() : null);
+        putIfPresent(values, COUNTRY, gameGroup.getCountry());
+        putIfPresent(values, STATE, gameGroup.getState());
+        putIfPresent(values, CITY, gameGroup.getCity());
+        return values;
+    }
+
+    /**
+     * Contabiliza um grupo recém-criado.
+     */
+    public void onCreated(GameGroup gameGroup) {
+        if (isCounted(gameGroup)) {
+            apply(snapshot(gameGroup), 1);
+        }
+    }
+
+    /**
+     * Ajusta apenas as facetas cujo valor mudou na atualização do grupo.
+     */
+    public void onUpdated(Map<String, String> before, GameGroup gameGroup) {
+        if (!isCounted(gameGroup)) {
+            return;
+        }
+
+        Map<String, String> after = snapshot(gameGroup);
+        for (String facet : FACETS) {
+            String oldValue = before.get(facet);
+            String newValue = after.get(facet);
+            if (Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            if (oldValue != null) {
+                facetRepository.adjust(facet, oldValue, -1);
+            }
+            if (newValue != null) {
+                facetRepository.adjust(facet, newValue, 1);
+            }
+        }
+    }
+
+    /**
+     * Contabiliza a ativação ou desativação de um grupo.
+     */
+    public void onStatusChanged(GameGroup gameGroup) {
+        apply(snapshot(gameGroup), Boolean.TRUE.equals(gameGroup.getIsActive()) ? 1 : -1);
+    }
+
+    /**
+     * Descontabiliza um grupo excluído (apenas se estava ativo).
+     */
+    public void onDeleted(GameGroup gameGroup) {
+        if (Boolean.TRUE.equals(gameGroup.getIsActive())) {
+            apply(snapshot(gameGroup), -1);
+        }
+    }
+
+    /**
+     * Retorna as contagens de todas as facetas, mais frequentes primeiro.
+     */
+    @Transactional(readOnly = true)
+    public GameGroupFacetsResponse getFacets() {
+        Map<String, List<FacetValueResponse>> byFacet = new HashMap<>();
+        for (GameGroupFacet facet : facetRepository.findAllWithGroups()) {
+            byFacet.computeIfAbsent(facet.getId().getFacet(), key -> new ArrayList<>()).add(toResponse(facet));
+        }
+
+        return GameGroupFacetsResponse.builder()
+            .gameSystem(byFacet.getOrDefault(GAME_SYSTEM, List.of()))
+            .settingWorld(byFacet.getOrDefault(SETTING_WORLD, List.of()))
+            .modality(byFacet.getOrDefault(MODALITY, List.of()))
+            .visibility(byFacet.getOrDefault(VISIBILITY, List.of()))
+            .country(byFacet.getOrDefault(COUNTRY, List.of()))
+            .state(byFacet.getOrDefault(STATE, List.of()))
+            .city(byFacet.getOrDefault(CITY, List.of()))
+            .build();
+    }
+
+    /**
+     * Lista em ordem alfabética os valores de uma faceta que começam com o prefixo (type-ahead).
+     */
+    @Transactional(readOnly = true)
+    public List<FacetValueResponse> suggest(String facet, String prefix, Integer limit) {
+        if (!FACETS.contains(facet)) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.facet.invalid", new Object[]{facet}, LocaleContextHolder.getLocale()));
+        }
+
+        int size = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return facetRepository.findByFacetAndPrefix(facet, prefix != null ? prefix.trim() : "", size).stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    /**
+     * Reconstrói periodicamente os contadores a partir de game_group, corrigindo eventuais divergências.
+     * Os contadores são sobrescritos no lugar (upsert) e só os valores sem grupos são removidos, sem esvaziar a tabela.
+     */
+    @Scheduled(cron = "${app.game-group.facet-rebuild-cron:0 45 3 * * ?}")
+    public int rebuild() {
+        int rows = facetRepository.rebuildFacets();
+        int removed = facetRepository.deleteMissingFacets();
+        log.info("Facetas de grupos de jogo reconstruídas: {} valores ({} sem grupos removidos)", rows, removed);
+        return rows;
+    }
+
+    private boolean isCounted(GameGroup gameGroup) {
+        return Boolean.TRUE.equals(gameGroup.getIsActive()) && gameGroup.getDeletedAt() == null;
+    }
+
+    private void apply(Map<String, String> values, long delta) {
+        values.forEach((facet, value) -> facetRepository.adjust(facet, value, delta));
+    }
+
+    private void putIfPresent(Map<String, String> values, String facet, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            values.put(facet, value.trim());
+        }
+    }
+
+    private FacetValueResponse toResponse(GameGroupFacet facet) {
+        return FacetValueResponse.builder()
+            .value(facet.getId().getValue())
+            .count(facet.getGroupCount())
+            .build();
+    }
+}
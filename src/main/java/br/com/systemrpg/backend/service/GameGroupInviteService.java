@@ -3,11 +3,14 @@ package br.com.systemrpg.backend.service;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
@@ -15,15 +18,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.systemrpg.backend.config.CacheConfig;
 import br.com.systemrpg.backend.domain.entity.GameGroup;
 import br.com.systemrpg.backend.domain.entity.GameGroupInvite;
 import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
 import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
 import br.com.systemrpg.backend.exception.RecordNotFoundException;
 import br.com.systemrpg.backend.repository.GameGroupInviteRepository;
 import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
 import br.com.systemrpg.backend.repository.GameGroupRepository;
 import br.com.systemrpg.backend.repository.UserRepository;
+import br.com.systemrpg.backend.util.CursorPage;
+import br.com.systemrpg.backend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -44,6 +51,9 @@ public class GameGroupInviteService {
     private final GameGroupParticipantRepository participantRepository;
     private final UserRepository userRepository;
     private final GameGroupParticipantValidationService validationService;
+    private final GameGroupParticipantCounterService counterService;
+    private final CountCacheService countCacheService;
+    private final OutboxService outboxService;
     private final MessageSource messageSource;
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -121,6 +131,7 @@ public class GameGroupInviteService {
      * @return O participante criado
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.INVITES_BY_CODE, key = "#inviteCode")
     public GameGroupParticipant useInvite(String inviteCode, String username) {
         log.info("Usuário {} tentando usar convite {}", username, inviteCode);
 
@@ -173,6 +184,8 @@ public class GameGroupInviteService {
         participant.setIsActive(true);
 
         GameGroupParticipant savedParticipant = participantRepository.save(participant);
+        counterService.increment(gameGroup.getId(), savedParticipant.getRole());
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
 
         // Marca o convite como usado (se for de uso único)
         if (invite.getIsUniqueUse()) {
@@ -180,6 +193,11 @@ public class GameGroupInviteService {
             inviteRepository.save(invite);
         }
 
+        outboxService.record(DomainEventType.INVITE_USED, invite.getId(), Map.of(
+            "gameGroupId", gameGroup.getId(), "userId", user.getId(), "participantId", savedParticipant.getId()));
+        outboxService.record(DomainEventType.PARTICIPANT_JOINED, savedParticipant.getId(), Map.of(
+            "gameGroupId", gameGroup.getId(), "userId", user.getId(), "role", savedParticipant.getRole()));
+
         log.info("Convite {} usado com sucesso por usuário {}, participante criado: {}", 
             inviteCode, username, savedParticipant.getId());
         
@@ -202,6 +220,25 @@ public class GameGroupInviteService {
         return inviteRepository.findByGameGroupIdAndDeletedAtIsNull(gameGroupId, pageable);
     }
 
+    /**
+     * Lista convites de um grupo com paginação por cursor (keyset), sem contagem total.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<GameGroupInvite> findByGameGroupId(UUID gameGroupId, String cursor, int size) {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = inviteRepository.findFirstIdsByGameGroupIdKeyset(gameGroupId, size + 1);
+        } else if (position.isBackward()) {
+            ids = inviteRepository.findIdsByGameGroupIdBeforeKeyset(gameGroupId, position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = inviteRepository.findIdsByGameGroupIdAfterKeyset(gameGroupId, position.getCreatedAt(), position.getId(), size + 1);
+        }
+
+        return CursorUtil.toCursorPage(position, size, ids, inviteRepository::findAllWithUsersByIdIn,
+            GameGroupInvite::getId, GameGroupInvite::getCreatedAt);
+    }
+
     /**
      * Lista convites válidos de um grupo.
      */
@@ -211,9 +248,10 @@ public class GameGroupInviteService {
     }
 
     /**
-     * Busca um convite por código.
+     * Busca um convite por código (em cache, com grupo e usuários já carregados).
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.INVITES_BY_CODE, key = "#inviteCode", unless = "#result == null")
     public Optional<GameGroupInvite> findByInviteCode(String inviteCode) {
         return inviteRepository.findByInviteCodeAndDeletedAtIsNull(inviteCode);
     }
@@ -222,6 +260,7 @@ public class GameGroupInviteService {
      * Remove um convite (soft delete).
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.INVITES_BY_CODE, allEntries = true)
     public void deleteInvite(UUID inviteId, String username) {
         log.info("Removendo convite {} por usuário {}", inviteId, username);
 
@@ -251,6 +290,7 @@ public class GameGroupInviteService {
      * Remove convites expirados.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.INVITES_BY_CODE, allEntries = true)
     public int cleanupExpiredInvites() {
         log.info("Removendo convites expirados");
         int deletedCount = inviteRepository.deleteExpiredInvites(LocalDateTime.now());
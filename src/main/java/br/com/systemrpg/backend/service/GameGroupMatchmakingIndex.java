@@ -0,0 +1,255 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.dto.response.GameGroupMatchCandidate;
+
+/**
+ * Índice invertido em memória dos grupos de jogo recomendáveis (ativos, públicos e com vagas).
+ * Cada valor de atributo aponta para uma lista de documentos (int); não é thread-safe, o acesso é
+ * coordenado pelo {@link GameGroupMatchmakingService}.
+ */
+class GameGroupMatchmakingIndex {
+
+    static final int GAME_SYSTEM_WEIGHT = 8;
+    static final int MODALITY_WEIGHT = 4;
+    static final int CITY_WEIGHT = 4;
+    static final int STATE_WEIGHT = 2;
+    static final int COUNTRY_WEIGHT = 1;
+    static final int FREE_ACCESS_WEIGHT = 2;
+
+    private static final String FREE_ACCESS_KEY = "access:FREE";
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Vetores de pontuação reaproveitados entre as buscas de uma mesma thread (só as posições tocadas são zeradas).
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final Map<UUID, Integer> docsByGroup = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private GameGroupMatchCandidate[] candidates = new GameGroupMatchCandidate[INITIAL_CAPACITY];
+    private int[] freeDocs = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int docCount;
+
+    /**
+     * Critérios de uma consulta de recomendação; valores nulos ou vazios são ignorados.
+     */
+    record Query(String gameSystem, GameGroup.Modality modality, String country, String state, String city) {
+    }
+
+    /**
+     * Grupo recomendado com sua pontuação.
+     */
+    record Match(GameGroupMatchCandidate candidate, int score) {
+    }
+
+    /**
+     * Quantidade de grupos indexados.
+     */
+    int size() {
+        return docsByGroup.size();
+    }
+
+    /**
+     * Insere ou atualiza um grupo; grupos sem vagas abertas são retirados do índice.
+     */
+    void upsert(GameGroupMatchCandidate candidate) {
+        remove(candidate.id());
+        if (candidate.openSlots() <= 0) {
+            return;
+        }
+
+        int doc = allocateDoc();
+        candidates[doc] = candidate;
+        docsByGroup.put(candidate.id(), doc);
+        for (String key : keysOf(candidate)) {
+            postings.computeIfAbsent(key, k -> new Postings()).add(doc);
+        }
+    }
+
+    /**
+     * Remove um grupo do índice, se presente.
+     */
+    void remove(UUID gameGroupId) {
+        Integer doc = docsByGroup.remove(gameGroupId);
+        if (doc == null) {
+            return;
+        }
+
+        for (String key : keysOf(candidates[doc])) {
+            Postings list = postings.get(key);
+            if (list != null && list.remove(doc) && list.size == 0) {
+                postings.remove(key);
+            }
+        }
+        candidates[doc] = null;
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, freeDocs.length * 2);
+        }
+        freeDocs[freeCount++] = doc;
+    }
+
+    /**
+     * Retorna os {@code limit} grupos de maior pontuação; empates favorecem mais vagas e grupos mais recentes.
+     */
+    List<Match> search(Query query, int limit) {
+        Scratch scratch = SCRATCH.get();
+        scratch.ensureCapacity(docCount);
+        int[] scores = scratch.scores;
+        int[] touched = scratch.touched;
+        int touchedCount = 0;
+
+        try {
+            touchedCount = accumulate(attributeKey("gameSystem", query.gameSystem()), GAME_SYSTEM_WEIGHT, scores, touched, touchedCount);
+            touchedCount = accumulate(query.modality() != null ? "modality:" + query.modality().name() : null,
+                MODALITY_WEIGHT, scores, touched, touchedCount);
+            touchedCount = accumulate(attributeKey("country", query.country()), COUNTRY_WEIGHT, scores, touched, touchedCount);
+            touchedCount = accumulate(attributeKey("state", query.state()), STATE_WEIGHT, scores, touched, touchedCount);
+            touchedCount = accumulate(attributeKey("city", query.city()), CITY_WEIGHT, scores, touched, touchedCount);
+            touchedCount = accumulate(FREE_ACCESS_KEY, FREE_ACCESS_WEIGHT, scores, touched, touchedCount);
+
+            int[] top = new int[Math.min(limit, touchedCount)];
+            int topCount = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (topCount == top.length && !ranksBefore(doc, top[topCount - 1], scores)) {
+                    continue;
+                }
+                int position = topCount == top.length ? topCount - 1 : topCount++;
+                while (position > 0 && ranksBefore(doc, top[position - 1], scores)) {
+                    top[position] = top[position - 1];
+                    position--;
+                }
+                top[position] = doc;
+            }
+
+            List<Match> matches = new ArrayList<>(topCount);
+            for (int i = 0; i < topCount; i++) {
+                matches.add(new Match(candidates[top[i]], scores[top[i]]));
+            }
+            return matches;
+        } finally {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+        }
+    }
+
+    private int accumulate(String key, int weight, int[] scores, int[] touched, int touchedCount) {
+        Postings list = key != null ? postings.get(key) : null;
+        if (list == null) {
+            return touchedCount;
+        }
+
+        int count = touchedCount;
+        for (int i = 0; i < list.size; i++) {
+            int doc = list.docs[i];
+            if (scores[doc] == 0) {
+                touched[count++] = doc;
+            }
+            scores[doc] += weight;
+        }
+        return count;
+    }
+
+    private boolean ranksBefore(int doc, int other, int[] scores) {
+        if (scores[doc] != scores[other]) {
+            return scores[doc] > scores[other];
+        }
+        int slots = candidates[doc].openSlots();
+        int otherSlots = candidates[other].openSlots();
+        if (slots != otherSlots) {
+            return slots > otherSlots;
+        }
+        return candidates[doc].createdAt() != null && candidates[other].createdAt() != null
+            && candidates[doc].createdAt().isAfter(candidates[other].createdAt());
+    }
+
+    private int allocateDoc() {
+        if (freeCount > 0) {
+            return freeDocs[--freeCount];
+        }
+        if (docCount == candidates.length) {
+            candidates = Arrays.copyOf(candidates, candidates.length * 2);
+        }
+        return docCount++;
+    }
+
+    private List<String> keysOf(GameGroupMatchCandidate candidate) {
+        List<String> keys = new ArrayList<>(6);
+        addIfPresent(keys, attributeKey("gameSystem", candidate.gameSystem()));
+        addIfPresent(keys, candidate.modality() != null ? "modality:" + candidate.modality().name() : null);
+        addIfPresent(keys, attributeKey("country", candidate.country()));
+        addIfPresent(keys, attributeKey("state", candidate.state()));
+        addIfPresent(keys, attributeKey("city", candidate.city()));
+        if (candidate.accessRule() == GameGroup.AccessRule.FREE) {
+            keys.add(FREE_ACCESS_KEY);
+        }
+        return keys;
+    }
+
+    private void addIfPresent(List<String> keys, String key) {
+        if (key != null) {
+            keys.add(key);
+        }
+    }
+
+    private String attributeKey(String attribute, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return attribute + ":" + value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Pontuações por documento e documentos pontuados de uma busca, mantidos zerados entre buscas.
+     */
+    private static final class Scratch {
+
+        private int[] scores = new int[INITIAL_CAPACITY];
+        private int[] touched = new int[INITIAL_CAPACITY];
+
+        void ensureCapacity(int docs) {
+            if (scores.length < docs) {
+                int capacity = Math.max(docs, scores.length * 2);
+                scores = new int[capacity];
+                touched = new int[capacity];
+            }
+        }
+    }
+
+    /**
+     * Lista de documentos (postings) de um valor de atributo.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[8];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        boolean remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    docs[i] = docs[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
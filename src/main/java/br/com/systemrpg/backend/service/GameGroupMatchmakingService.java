@@ -0,0 +1,193 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.dto.response.GameGroupMatchCandidate;
+import br.com.systemrpg.backend.dto.response.GameGroupRecommendationResponse;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+
+/**
+ * Serviço de recomendação de grupos de jogo ("grupos para mim") sobre um índice invertido em memória.
+ * O índice é carregado na inicialização e atualizado após o commit das alterações de grupos e participantes;
+ * as atualizações são repassadas às demais instâncias pelo {@link CacheInvalidationBus}.
+ */
+@Service
+public class GameGroupMatchmakingService {
+
+    private static final int DEFAULT_RECOMMENDATIONS = 10;
+    private static final int MAX_RECOMMENDATIONS = 50;
+    private static final Object PENDING_REFRESH_KEY = GameGroupMatchmakingService.class.getName() + ".pendingRefresh";
+
+    static final String CACHE_NAME = "game-group-matchmaking";
+
+    private static final Logger log = LoggerFactory.getLogger(GameGroupMatchmakingService.class);
+
+    private final GameGroupRepository gameGroupRepository;
+    private final MessageSource messageSource;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile GameGroupMatchmakingIndex index = new GameGroupMatchmakingIndex();
+    /** Grupos reindexados enquanto uma reconstrução carrega game_group (nulo fora da carga). */
+    private volatile Set<UUID> reindexedDuringRebuild;
+
+    public GameGroupMatchmakingService(GameGroupRepository gameGroupRepository,
+                                       MessageSource messageSource,
+                                       CacheInvalidationBus invalidationBus) {
+        this.gameGroupRepository = gameGroupRepository;
+        this.messageSource = messageSource;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(CACHE_NAME, gameGroupId -> reindex((UUID) gameGroupId), this::rebuild);
+    }
+
+    /**
+     * Recarrega o índice a partir de game_group (na inicialização e periodicamente, após a reconciliação dos contadores).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.game-group.matchmaking-rebuild-cron:0 0 4 * * ?}")
+    public synchronized int rebuild() {
+        Set<UUID> reindexed = ConcurrentHashMap.newKeySet();
+        reindexedDuringRebuild = reindexed;
+        GameGroupMatchmakingIndex rebuilt = new GameGroupMatchmakingIndex();
+        try {
+            gameGroupRepository.findMatchCandidates().forEach(rebuilt::upsert);
+        } catch (DataAccessException e) {
+            reindexedDuringRebuild = null;
+            log.error("Falha ao carregar o índice de recomendação de grupos de jogo", e);
+            return index.size();
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+            reindexedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Alterações aplicadas ao índice antigo durante a carga podem não estar no que foi lido: relê esses grupos
+        reindexed.forEach(this::reindex);
+        log.info("Índice de recomendação de grupos de jogo carregado: {} grupos", rebuilt.size());
+        return rebuilt.size();
+    }
+
+    /**
+     * Agenda a atualização de um grupo no índice para depois do commit da transação corrente
+     * (ou imediatamente, fora de transação), nesta e nas demais instâncias. Várias chamadas na mesma transação
+     * geram uma única leitura por grupo.
+     */
+    public void refresh(UUID gameGroupId) {
+        invalidationBus.publishEvict(CACHE_NAME, gameGroupId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(gameGroupId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(PENDING_REFRESH_KEY);
+        if (pending == null) {
+            Set<UUID> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_REFRESH_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(GameGroupMatchmakingService.this::reindex);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_REFRESH_KEY);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(gameGroupId);
+    }
+
+    /**
+     * Recomenda grupos ativos, públicos e com vagas, pontuados por sistema, modalidade, localização e acesso livre.
+     */
+    public List<GameGroupRecommendationResponse> recommend(String gameSystem, String modality, String country,
+                                                           String state, String city, Integer limit) {
+        GameGroupMatchmakingIndex.Query query = new GameGroupMatchmakingIndex.Query(
+            gameSystem, parseModality(modality), country, state, city);
+        int size = limit == null ? DEFAULT_RECOMMENDATIONS : Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS));
+
+        List<GameGroupMatchmakingIndex.Match> matches;
+        lock.readLock().lock();
+        try {
+            matches = index.search(query, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches.stream().map(this::toResponse).toList();
+    }
+
+    private void reindex(UUID gameGroupId) {
+        Set<UUID> reindexed = reindexedDuringRebuild;
+        if (reindexed != null) {
+            reindexed.add(gameGroupId);
+        }
+        GameGroupMatchCandidate candidate = gameGroupRepository.findMatchCandidateById(gameGroupId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (candidate != null) {
+                index.upsert(candidate);
+            } else {
+                index.remove(gameGroupId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private GameGroup.Modality parseModality(String modality) {
+        if (!StringUtils.hasText(modality)) {
+            return null;
+        }
+        try {
+            return GameGroup.Modality.valueOf(modality.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.modality.invalid", new Object[]{modality}, LocaleContextHolder.getLocale()));
+        }
+    }
+
+    private GameGroupRecommendationResponse toResponse(GameGroupMatchmakingIndex.Match match) {
+        GameGroupMatchCandidate candidate = match.candidate();
+        return GameGroupRecommendationResponse.builder()
+            .id(candidate.id())
+            .campaignName(candidate.campaignName())
+            .gameSystem(candidate.gameSystem())
+            .settingWorld(candidate.settingWorld())
+            .shortDescription(candidate.shortDescription())
+            .modality(candidate.modality() != null ? candidate.modality().name() : null)
+            .accessRule(candidate.accessRule() != null ? candidate.accessRule().name() : null)
+            .country(candidate.country())
+            .state(candidate.state())
+            .city(candidate.city())
+            .maxPlayers(candidate.maxPlayers())
+            .currentParticipants(candidate.currentParticipants())
+            .score(match.score())
+            .build();
+    }
+}
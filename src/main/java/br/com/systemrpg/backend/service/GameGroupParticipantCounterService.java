@@ -0,0 +1,89 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.systemrpg.backend.config.CacheConfig;
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço responsável pelos contadores de participantes ativos por papel em game_group.
+ * Os ajustes participam da transação de quem altera o participante e descartam o grupo em cache
+ * (que inclui os participantes) após o commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GameGroupParticipantCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameGroupParticipantCounterService.class);
+
+    private final GameGroupRepository gameGroupRepository;
+    private final GameGroupMatchmakingService matchmakingService;
+    private final GameGroupDirectoryService directoryService;
+    private final GameGroupCardService cardService;
+    private final GameGroupDashboardCache dashboardCache;
+
+    /**
+     * Registra a entrada (ou reativação) de um participante ativo com o papel informado.
+     */
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#gameGroupId")
+    public void increment(UUID gameGroupId, Integer role) {
+        adjust(gameGroupId, role, 1);
+    }
+
+    /**
+     * Registra a saída (remoção ou desativação) de um participante ativo com o papel informado.
+     */
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#gameGroupId")
+    public void decrement(UUID gameGroupId, Integer role) {
+        adjust(gameGroupId, role, -1);
+    }
+
+    /**
+     * Zera os contadores de um grupo (ex.: exclusão do grupo com todos os participantes).
+     */
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#gameGroupId")
+    public void reset(UUID gameGroupId) {
+        gameGroupRepository.resetParticipantCounters(gameGroupId);
+        matchmakingService.refresh(gameGroupId);
+        directoryService.markDirty();
+        cardService.refresh(gameGroupId);
+        dashboardCache.invalidate(gameGroupId);
+    }
+
+    /**
+     * Recalcula periodicamente os contadores a partir de game_group_participant, corrigindo divergências.
+     */
+    @Scheduled(cron = "${app.game-group.counter-reconciliation-cron:0 30 3 * * ?}")
+    public int reconcile() {
+        int updated = gameGroupRepository.reconcileParticipantCounters();
+        if (updated > 0) {
+            log.warn("Contadores de participantes corrigidos em {} grupo(s) de jogo", updated);
+        } else {
+            log.debug("Contadores de participantes consistentes");
+        }
+        return updated;
+    }
+
+    private void adjust(UUID gameGroupId, Integer role, int delta) {
+        GameGroupParticipant.ParticipantRole participantRole = GameGroupParticipant.ParticipantRole.fromValue(role);
+        gameGroupRepository.adjustParticipantCounters(gameGroupId,
+            participantRole == GameGroupParticipant.ParticipantRole.MASTER ? delta : 0,
+            participantRole == GameGroupParticipant.ParticipantRole.PLAYER ? delta : 0,
+            participantRole == GameGroupParticipant.ParticipantRole.GUEST ? delta : 0);
+        // Vagas abertas mudaram: índice de recomendação e diretório público são atualizados após o commit
+        matchmakingService.refresh(gameGroupId);
+        directoryService.markDirty();
+        cardService.refresh(gameGroupId);
+        dashboardCache.invalidate(gameGroupId);
+    }
+}
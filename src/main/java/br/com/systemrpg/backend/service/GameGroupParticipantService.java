@@ -1,8 +1,12 @@
 package br.com.systemrpg.backend.service;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,19 +14,26 @@ import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import br.com.systemrpg.backend.domain.entity.GameGroup;
 import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
 import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
 import br.com.systemrpg.backend.dto.request.GameGroupParticipantCreateRequest;
 import br.com.systemrpg.backend.dto.response.GameGroupParticipantResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupParticipantRow;
+import br.com.systemrpg.backend.dto.response.RoleResponse;
 import br.com.systemrpg.backend.exception.RecordNotFoundException;
 import br.com.systemrpg.backend.mapper.GameGroupParticipantMapper;
 import br.com.systemrpg.backend.repository.GameGroupRepository;
 import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
 import br.com.systemrpg.backend.repository.UserRepository;
+import br.com.systemrpg.backend.util.CursorPage;
+import br.com.systemrpg.backend.util.CursorUtil;
+import br.com.systemrpg.backend.util.PageUtil;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -40,6 +51,9 @@ public class GameGroupParticipantService {
     private final UserRepository userRepository;
     private final GameGroupParticipantMapper gameGroupParticipantMapper;
     private final MessageSource messageSource;
+    private final CountCacheService countCacheService;
+    private final GameGroupParticipantCounterService counterService;
+    private final OutboxService outboxService;
 
     /**
      * Lista todos os participantes com paginação.
@@ -54,19 +68,64 @@ public class GameGroupParticipantService {
      */
     @Transactional(readOnly = true)
     public Page<GameGroupParticipantResponse> findAll(Pageable pageable, UUID gameGroupId, UUID userId, String role, Boolean isActive) {
-        Integer roleValue = null;
-        if (role != null && !role.isEmpty()) {
-            try {
-                GameGroupParticipant.ParticipantRole parsed = GameGroupParticipant.ParticipantRole.valueOf(role.toUpperCase());
-                roleValue = parsed.getValue();
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Role inválido: " + role);
-            }
+        Integer roleValue = parseRoleFilter(role);
+
+        long total = countCacheService.getOrCount(
+            CountCacheService.key(CountCacheService.PARTICIPANTS_SCOPE, gameGroupId, userId, roleValue, isActive),
+            () -> participantRepository.countAllByFilters(gameGroupId, userId, roleValue, isActive));
+        return PageUtil.toPage(findAllSlice(pageable, gameGroupId, userId, role, isActive), total);
+    }
+
+    /**
+     * Lista participantes com paginação e filtros sem contagem total, retornando como Response DTO.
+     */
+    @Transactional(readOnly = true)
+    public Slice<GameGroupParticipantResponse> findAllSlice(Pageable pageable, UUID gameGroupId, UUID userId, String role, Boolean isActive) {
+        Slice<GameGroupParticipantRow> rows = participantRepository
+            .findRowsByFilters(gameGroupId, userId, parseRoleFilter(role), isActive, pageable);
+        Map<UUID, Set<RoleResponse>> roles = userRepository.findRoleResponsesByUserIdIn(
+            rows.getContent().stream().map(GameGroupParticipantRow::userId).collect(Collectors.toSet()));
+        return rows.map(row -> row.toResponse(roles.getOrDefault(row.userId(), new HashSet<>())));
+    }
+
+    /**
+     * Lista participantes com filtros e paginação por cursor (keyset), retornando como Response DTO.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<GameGroupParticipantResponse> findAll(String cursor, int size, UUID gameGroupId, UUID userId, String role, Boolean isActive) {
+        Integer roleValue = parseRoleFilter(role);
+
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = participantRepository.findFirstIdsByFiltersKeyset(gameGroupId, userId, roleValue, isActive, size + 1);
+        } else if (position.isBackward()) {
+            ids = participantRepository.findIdsByFiltersBeforeKeyset(gameGroupId, userId, roleValue, isActive,
+                position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = participantRepository.findIdsByFiltersAfterKeyset(gameGroupId, userId, roleValue, isActive,
+                position.getCreatedAt(), position.getId(), size + 1);
         }
 
-        Page<GameGroupParticipant> participants = participantRepository
-            .findAllByFilters(gameGroupId, userId, roleValue, isActive, pageable);
-        return participants.map(gameGroupParticipantMapper::toResponse);
+        CursorPage<GameGroupParticipantRow> rows = CursorUtil.toCursorPage(position, size, ids,
+            participantRepository::findRowsByIdIn, GameGroupParticipantRow::id, GameGroupParticipantRow::createdAt);
+        Map<UUID, Set<RoleResponse>> roles = userRepository.findRoleResponsesByUserIdIn(
+            rows.getContent().stream().map(GameGroupParticipantRow::userId).collect(Collectors.toSet()));
+        return rows.map(row -> row.toResponse(roles.getOrDefault(row.userId(), new HashSet<>())));
+    }
+
+    /**
+     * Converte o filtro textual de papel para o valor persistido.
+     */
+    private Integer parseRoleFilter(String role) {
+        if (role == null || role.isEmpty()) {
+            return null;
+        }
+        try {
+            return GameGroupParticipant.ParticipantRole.valueOf(role.toUpperCase()).getValue();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Role inválido: " + role);
+        }
     }
 
     /**
@@ -162,8 +221,7 @@ public class GameGroupParticipantService {
 
             // Verifica limite de participantes (reativação conta como +1)
             if (gameGroup.getMaxPlayers() != null) {
-                long currentParticipants = participantRepository.countActiveParticipantsByGameGroupId(gameGroupId);
-                if (currentParticipants >= gameGroup.getMaxPlayers()) {
+                if (gameGroup.getCurrentParticipants() >= gameGroup.getMaxPlayers()) {
                     throw new IllegalArgumentException(messageSource
                         .getMessage("service.gameGroupParticipant.max.participants.reached", 
                             new Object[]{gameGroup.getMaxPlayers()}, LocaleContextHolder.getLocale()));
@@ -177,6 +235,9 @@ public class GameGroupParticipantService {
             participant.setUpdatedAt(LocalDateTime.now());
 
             GameGroupParticipant savedParticipant = participantRepository.save(participant);
+            recordJoined(savedParticipant, gameGroupId, userId);
+            counterService.increment(gameGroupId, role.getValue());
+            countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
             log.info("Participante reativado com sucesso: {} no grupo {}", userId, gameGroupId);
             return savedParticipant;
         }
@@ -192,8 +253,7 @@ public class GameGroupParticipantService {
 
         // Verifica limite de participantes
         if (gameGroup.getMaxPlayers() != null) {
-            long currentParticipants = participantRepository.countActiveParticipantsByGameGroupId(gameGroupId);
-            if (currentParticipants >= gameGroup.getMaxPlayers()) {
+            if (gameGroup.getCurrentParticipants() >= gameGroup.getMaxPlayers()) {
                 throw new IllegalArgumentException(messageSource
                     .getMessage("service.gameGroupParticipant.max.participants.reached", 
                         new Object[]{gameGroup.getMaxPlayers()}, LocaleContextHolder.getLocale()));
@@ -210,6 +270,9 @@ public class GameGroupParticipantService {
         participant.setUpdatedAt(LocalDateTime.now());
 
         GameGroupParticipant savedParticipant = participantRepository.save(participant);
+        recordJoined(savedParticipant, gameGroupId, userId);
+        counterService.increment(gameGroupId, role.getValue());
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
         log.info("Participante adicionado com sucesso: {} ao grupo {}", userId, gameGroupId);
         return savedParticipant;
     }
@@ -252,6 +315,15 @@ public class GameGroupParticipantService {
         participant.setUpdatedAt(LocalDateTime.now());
 
         GameGroupParticipant updatedParticipant = participantRepository.save(participant);
+        outboxService.record(DomainEventType.PARTICIPANT_TOGGLED, updatedParticipant.getId(), Map.of(
+            "gameGroupId", updatedParticipant.getGameGroup().getId(),
+            "isActive", updatedParticipant.getIsActive()));
+        if (updatedParticipant.getIsActive()) {
+            counterService.increment(updatedParticipant.getGameGroup().getId(), updatedParticipant.getRole());
+        } else {
+            counterService.decrement(updatedParticipant.getGameGroup().getId(), updatedParticipant.getRole());
+        }
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
         log.info("Status do participante alterado para: {} (ID: {})", 
             updatedParticipant.getIsActive() ? "ATIVO" : "INATIVO", updatedParticipant.getId());
         return updatedParticipant;
@@ -277,6 +349,9 @@ public class GameGroupParticipantService {
         participant.setUpdatedAt(LocalDateTime.now());
 
         participantRepository.save(participant);
+        recordLeft(participant);
+        decrementIfActive(participant);
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
         log.info("Participante removido com sucesso: {}", id);
     }
 
@@ -301,6 +376,9 @@ public class GameGroupParticipantService {
         participant.setDeletedAt(LocalDateTime.now());
         participant.setUpdatedAt(LocalDateTime.now());
         participantRepository.save(participant);
+        recordLeft(participant);
+        decrementIfActive(participant);
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
         log.info("Participante removido com sucesso por groupId/userId: participantId={}", participant.getId());
     }
 
@@ -329,9 +407,38 @@ public class GameGroupParticipantService {
         participant.setDeletedAt(LocalDateTime.now());
         participant.setUpdatedAt(LocalDateTime.now());
         participantRepository.save(participant);
+        recordLeft(participant);
+        decrementIfActive(participant);
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
         log.info("Participante removido com sucesso por groupId/username: participantId={}", participant.getId());
     }
 
+    /**
+     * Registra no outbox a entrada de um participante no grupo.
+     */
+    private void recordJoined(GameGroupParticipant participant, UUID gameGroupId, UUID userId) {
+        outboxService.record(DomainEventType.PARTICIPANT_JOINED, participant.getId(),
+            Map.of("gameGroupId", gameGroupId, "userId", userId, "role", participant.getRole()));
+    }
+
+    /**
+     * Registra no outbox a saída de um participante do grupo.
+     */
+    private void recordLeft(GameGroupParticipant participant) {
+        outboxService.record(DomainEventType.PARTICIPANT_LEFT, participant.getId(), Map.of(
+            "gameGroupId", participant.getGameGroup().getId(),
+            "userId", participant.getUser().getId()));
+    }
+
+    /**
+     * Atualiza os contadores do grupo quando um participante ativo deixa de contar.
+     */
+    private void decrementIfActive(GameGroupParticipant participant) {
+        if (Boolean.TRUE.equals(participant.getIsActive())) {
+            counterService.decrement(participant.getGameGroup().getId(), participant.getRole());
+        }
+    }
+
     /**
      * Busca o master de um grupo específico.
      */
@@ -1,6 +1,5 @@
 package br.com.systemrpg.backend.service;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -12,7 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import br.com.systemrpg.backend.domain.entity.GameGroup;
 import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
-import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -26,7 +25,7 @@ public class GameGroupParticipantValidationService {
     private static final Logger log = LoggerFactory.getLogger(GameGroupParticipantValidationService.class);
     private static final int MAX_GUESTS_PER_GROUP = 10;
 
-    private final GameGroupParticipantRepository participantRepository;
+    private final GameGroupRepository gameGroupRepository;
     private final MessageSource messageSource;
 
     /**
@@ -41,22 +40,10 @@ public class GameGroupParticipantValidationService {
         
         log.debug("Validando adição de participante com role {} ao grupo {}", role, gameGroupId);
         
-        // Busca todos os participantes ativos do grupo
-        List<GameGroupParticipant> activeParticipants = participantRepository
-            .findByGameGroupIdAndIsActiveTrueAndDeletedAtIsNull(gameGroupId);
-        
-        // Conta participantes por role
-        long masterCount = activeParticipants.stream()
-            .filter(p -> p.getRole().equals(GameGroupParticipant.ParticipantRole.MASTER.getValue()))
-            .count();
-        
-        long playerCount = activeParticipants.stream()
-            .filter(p -> p.getRole().equals(GameGroupParticipant.ParticipantRole.PLAYER.getValue()))
-            .count();
-        
-        long guestCount = activeParticipants.stream()
-            .filter(p -> p.getRole().equals(GameGroupParticipant.ParticipantRole.GUEST.getValue()))
-            .count();
+        // Contadores de participantes ativos por role mantidos em game_group
+        long masterCount = gameGroup.getMasterCount();
+        long playerCount = gameGroup.getPlayerCount();
+        long guestCount = gameGroup.getGuestCount();
         
         log.debug("Participantes atuais - Master: {}, Player: {}, Guest: {}", masterCount, playerCount, guestCount);
         
@@ -91,8 +78,7 @@ public class GameGroupParticipantValidationService {
         
         // Valida limite total de participantes (se definido)
         if (gameGroup.getMaxPlayers() != null) {
-            long totalParticipants = participantRepository.countActiveParticipantsByGameGroupId(gameGroupId);
-            if (totalParticipants >= gameGroup.getMaxPlayers()) {
+            if (gameGroup.getCurrentParticipants() >= gameGroup.getMaxPlayers()) {
                 throw new IllegalArgumentException(messageSource
                     .getMessage("service.gameGroupParticipant.max.participants.reached", 
                         new Object[]{gameGroup.getMaxPlayers()}, LocaleContextHolder.getLocale()));
@@ -125,22 +111,9 @@ public class GameGroupParticipantValidationService {
      * @return Array com [masterCount, playerCount, guestCount]
      */
     public long[] countParticipantsByRole(UUID gameGroupId) {
-        List<GameGroupParticipant> activeParticipants = participantRepository
-            .findByGameGroupIdAndIsActiveTrueAndDeletedAtIsNull(gameGroupId);
-        
-        long masterCount = activeParticipants.stream()
-            .filter(p -> p.getRole().equals(GameGroupParticipant.ParticipantRole.MASTER.getValue()))
-            .count();
-        
-        long playerCount = activeParticipants.stream()
-            .filter(p -> p.getRole().equals(GameGroupParticipant.ParticipantRole.PLAYER.getValue()))
-            .count();
-        
-        long guestCount = activeParticipants.stream()
-            .filter(p -> p.getRole().equals(GameGroupParticipant.ParticipantRole.GUEST.getValue()))
-            .count();
-        
-        return new long[]{masterCount, playerCount, guestCount};
+        return gameGroupRepository.findById(gameGroupId)
+            .map(gameGroup -> new long[]{gameGroup.getMasterCount(), gameGroup.getPlayerCount(), gameGroup.getGuestCount()})
+            .orElseGet(() -> new long[]{0, 0, 0});
     }
     
     /**
@@ -1,27 +1,58 @@
 package br.com.systemrpg.backend.service;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.config.CacheConfig;
+import br.com.systemrpg.backend.constants.MessageConstants;
 import br.com.systemrpg.backend.domain.entity.GameGroup;
 import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
 import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+import br.com.systemrpg.backend.dto.request.GameGroupFieldSet;
+import br.com.systemrpg.backend.dto.request.GameGroupLocationFilter;
+import br.com.systemrpg.backend.dto.request.GameGroupUpdateRequest;
+import br.com.systemrpg.backend.dto.response.GameGroupCard;
+import br.com.systemrpg.backend.dto.response.GameGroupMembershipCard;
 import br.com.systemrpg.backend.exception.RecordNotFoundException;
+import br.com.systemrpg.backend.mapper.GameGroupMapper;
+import br.com.systemrpg.backend.repository.AdventureNoteRepository;
+import br.com.systemrpg.backend.repository.AdventureRepository;
+import br.com.systemrpg.backend.repository.GameGroupCardRepository;
+import br.com.systemrpg.backend.repository.GameGroupInviteRepository;
 import br.com.systemrpg.backend.repository.GameGroupRepository;
 import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
 import br.com.systemrpg.backend.repository.UserRepository;
+import br.com.systemrpg.backend.util.CursorPage;
+import br.com.systemrpg.backend.util.CursorUtil;
+import br.com.systemrpg.backend.util.PageUtil;
+import br.com.systemrpg.backend.util.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -33,18 +64,65 @@ import lombok.RequiredArgsConstructor;
 public class GameGroupService {
 
     private static final Logger log = LoggerFactory.getLogger(GameGroupService.class);
+    private static final int MIN_SEARCH_QUERY_LENGTH = 3;
+
+    /**
+     * Janela após o deleted_at do grupo em que a exclusão de um filho é tratada como parte da cascata.
+     * Grupos excluídos antes da cascata em lote gravavam o now() de cada participante, alguns instantes depois do grupo.
+     */
+    private static final Duration CASCADE_DELETE_WINDOW = Duration.ofMinutes(1);
 
     private final GameGroupRepository gameGroupRepository;
+    private final GameGroupCardRepository cardRepository;
     private final GameGroupParticipantRepository participantRepository;
+    private final GameGroupInviteRepository inviteRepository;
+    private final AdventureRepository adventureRepository;
+    private final AdventureNoteRepository adventureNoteRepository;
     private final UserRepository userRepository;
     private final MessageSource messageSource;
+    private final CountCacheService countCacheService;
+    private final GameGroupParticipantCounterService counterService;
+    private final GameGroupFacetService facetService;
+    private final GameGroupMatchmakingService matchmakingService;
+    private final GameGroupDirectoryService directoryService;
+    private final GameGroupCardService cardService;
+    private final GameGroupDashboardCache dashboardCache;
+    private final OutboxService outboxService;
+    private final GameGroupMapper gameGroupMapper;
+    private final ObjectMapper objectMapper;
 
     /**
      * Lista todos os grupos de jogo com paginação.
      */
     @Transactional(readOnly = true)
     public Page<GameGroup> findAll(Pageable pageable) {
-        return gameGroupRepository.findByDeletedAtIsNullOrderByCreatedAtDesc(pageable);
+        return findAll(pageable, entityLoader(true));
+    }
+
+    /**
+     * Lista todos os grupos de jogo com paginação, carregando cada página com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Page<T> findAll(Pageable pageable, Loader<T> loader) {
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE),
+            gameGroupRepository::countByDeletedAtIsNull);
+        return PageUtil.toPage(findAllSlice(pageable, loader), total);
+    }
+
+    /**
+     * Lista todos os grupos de jogo com paginação, sem contagem total.
+     */
+    @Transactional(readOnly = true)
+    public Slice<GameGroup> findAllSlice(Pageable pageable) {
+        return findAllSlice(pageable, entityLoader(true));
+    }
+
+    /**
+     * Lista todos os grupos de jogo com paginação, sem contagem total, com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Slice<T> findAllSlice(Pageable pageable, Loader<T> loader) {
+        return loader.fetch(gameGroupRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(pageable));
     }
 
     /**
@@ -52,7 +130,10 @@ public class GameGroupService {
      */
     @Transactional(readOnly = true)
     public Page<GameGroup> findAllActive(Pageable pageable) {
-        return gameGroupRepository.findByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable);
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "active"),
+            gameGroupRepository::countByIsActiveTrueAndDeletedAtIsNull);
+        return PageUtil.toPage(fetchWithParticipants(
+            gameGroupRepository.findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable)), total);
     }
 
     /**
@@ -60,27 +141,207 @@ public class GameGroupService {
      */
     @Transactional(readOnly = true)
     public Page<GameGroup> findByFilters(String campaignName, String gameSystem, String settingWorld, Pageable pageable) {
+        return findByFilters(campaignName, gameSystem, settingWorld, pageable, entityLoader(true));
+    }
+
+    /**
+     * Busca grupos de jogo por filtros, carregando a página com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Page<T> findByFilters(String campaignName, String gameSystem, String settingWorld, Pageable pageable, Loader<T> loader) {
         // Se todos os filtros estão vazios, retorna todos os grupos
         if (!StringUtils.hasText(campaignName) && !StringUtils.hasText(gameSystem) && !StringUtils.hasText(settingWorld)) {
-            return findAll(pageable);
+            return findAll(pageable, loader);
         }
-        
-        return gameGroupRepository.findByFiltersAndDeletedAtIsNull(
-            StringUtils.hasText(campaignName) ? campaignName.trim() : null,
-            StringUtils.hasText(gameSystem) ? gameSystem.trim() : null,
-            StringUtils.hasText(settingWorld) ? settingWorld.trim() : null,
-            pageable
-        );
+
+        String campaignFilter = trimToNull(campaignName);
+        String systemFilter = trimToNull(gameSystem);
+        String worldFilter = trimToNull(settingWorld);
+
+        long total = countCacheService.getOrCount(
+            CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "filters", campaignFilter, systemFilter, worldFilter),
+            () -> gameGroupRepository.countByFiltersAndDeletedAtIsNull(campaignFilter, systemFilter, worldFilter));
+        return PageUtil.toPage(findSliceByFilters(campaignName, gameSystem, settingWorld, pageable, loader), total);
+    }
+
+    /**
+     * Busca grupos de jogo por filtros, sem contagem total (apenas indica se há próxima página).
+     */
+    @Transactional(readOnly = true)
+    public Slice<GameGroup> findSliceByFilters(String campaignName, String gameSystem, String settingWorld, Pageable pageable) {
+        return findSliceByFilters(campaignName, gameSystem, settingWorld, pageable, entityLoader(true));
+    }
+
+    /**
+     * Busca grupos de jogo por filtros, sem contagem total, com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Slice<T> findSliceByFilters(String campaignName, String gameSystem, String settingWorld, Pageable pageable, Loader<T> loader) {
+        if (!StringUtils.hasText(campaignName) && !StringUtils.hasText(gameSystem) && !StringUtils.hasText(settingWorld)) {
+            return findAllSlice(pageable, loader);
+        }
+
+        return loader.fetch(gameGroupRepository.findIdsByFiltersAndDeletedAtIsNull(
+            trimToNull(campaignName), trimToNull(gameSystem), trimToNull(settingWorld), pageable));
+    }
+
+    /**
+     * Descobre grupos ativos por localização e vagas abertas, combinando os filtros textuais.
+     */
+    @Transactional(readOnly = true)
+    public Page<GameGroup> findByLocation(GameGroupLocationFilter location, String campaignName, String gameSystem, String settingWorld, Pageable pageable) {
+        return findByLocation(location, campaignName, gameSystem, settingWorld, pageable, entityLoader(true));
+    }
+
+    /**
+     * Descobre grupos ativos por localização e vagas abertas, carregando a página com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Page<T> findByLocation(GameGroupLocationFilter location, String campaignName, String gameSystem, String settingWorld,
+                                      Pageable pageable, Loader<T> loader) {
+        Integer modality = parseModalityFilter(location.getModality());
+        String country = trimToNull(location.getCountry());
+        String state = trimToNull(location.getState());
+        String city = trimToNull(location.getCity());
+        String campaignFilter = trimToNull(campaignName);
+        String systemFilter = trimToNull(gameSystem);
+        String worldFilter = trimToNull(settingWorld);
+
+        long total = countCacheService.getOrCount(
+            CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "location", modality, country, state, city,
+                location.isOpenSlots(), campaignFilter, systemFilter, worldFilter),
+            () -> gameGroupRepository.countByLocation(modality, country, state, city, location.isOpenSlots(),
+                campaignFilter, systemFilter, worldFilter));
+        return PageUtil.toPage(findSliceByLocation(location, campaignName, gameSystem, settingWorld, pageable, loader), total);
     }
 
     /**
-     * Busca um grupo de jogo por ID.
+     * Descobre grupos ativos por localização e vagas abertas, sem contagem total.
      */
     @Transactional(readOnly = true)
+    public Slice<GameGroup> findSliceByLocation(GameGroupLocationFilter location, String campaignName, String gameSystem, String settingWorld, Pageable pageable) {
+        return findSliceByLocation(location, campaignName, gameSystem, settingWorld, pageable, entityLoader(true));
+    }
+
+    /**
+     * Descobre grupos ativos por localização e vagas abertas, sem contagem total, com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Slice<T> findSliceByLocation(GameGroupLocationFilter location, String campaignName, String gameSystem, String settingWorld,
+                                            Pageable pageable, Loader<T> loader) {
+        return loader.fetch(gameGroupRepository.findIdsByLocation(
+            parseModalityFilter(location.getModality()), trimToNull(location.getCountry()), trimToNull(location.getState()),
+            trimToNull(location.getCity()), location.isOpenSlots(),
+            trimToNull(campaignName), trimToNull(gameSystem), trimToNull(settingWorld), pageable));
+    }
+
+    /**
+     * Busca grupos de jogo por filtros com paginação por cursor (keyset), sem contagem total.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<GameGroup> findByFilters(String campaignName, String gameSystem, String settingWorld, String cursor, int size) {
+        return findByFilters(campaignName, gameSystem, settingWorld, cursor, size, entityLoader(true));
+    }
+
+    /**
+     * Busca grupos de jogo por filtros com paginação por cursor (keyset), com o plano de carga informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> CursorPage<T> findByFilters(String campaignName, String gameSystem, String settingWorld, String cursor, int size, Loader<T> loader) {
+        String campaignFilter = trimToNull(campaignName);
+        String systemFilter = trimToNull(gameSystem);
+        String worldFilter = trimToNull(settingWorld);
+
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = gameGroupRepository.findFirstIdsByFiltersKeyset(campaignFilter, systemFilter, worldFilter, size + 1);
+        } else if (position.isBackward()) {
+            ids = gameGroupRepository.findIdsByFiltersBeforeKeyset(campaignFilter, systemFilter, worldFilter,
+                position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = gameGroupRepository.findIdsByFiltersAfterKeyset(campaignFilter, systemFilter, worldFilter,
+                position.getCreatedAt(), position.getId(), size + 1);
+        }
+
+        return CursorUtil.toCursorPage(position, size, ids, loader.load(), loader.id(), loader.createdAt());
+    }
+
+    /**
+     * Busca um grupo de jogo por ID (em cache, com participantes e seus usuários já carregados).
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GAME_GROUPS, key = "#id")
     public GameGroup findById(UUID id) {
-        return gameGroupRepository.findByIdAndDeletedAtIsNull(id)
+        GameGroup gameGroup = gameGroupRepository.findByIdAndDeletedAtIsNull(id)
             .orElseThrow(() -> new RecordNotFoundException(messageSource
                 .getMessage("service.gameGroup.not.found", new Object[]{id}, LocaleContextHolder.getLocale())));
+        gameGroup.getParticipants().forEach(participant -> Hibernate.initialize(participant.getUser()));
+        return gameGroup;
+    }
+
+    /**
+     * Busca um grupo de jogo para escrita, sem carregar a coleção de participantes.
+     */
+    private GameGroup findForWrite(UUID id) {
+        return gameGroupRepository.findWithoutParticipantsById(id)
+            .orElseThrow(() -> new RecordNotFoundException(messageSource
+                .getMessage("service.gameGroup.not.found", new Object[]{id}, LocaleContextHolder.getLocale())));
+    }
+
+    /**
+     * Rejeita a escrita se o cliente informou uma versão diferente da atual (bloqueio otimista).
+     */
+    private void checkVersion(GameGroup gameGroup, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(gameGroup.getVersion())) {
+            throw new OptimisticLockingFailureException(MessageConstants.CONCURRENT_UPDATE);
+        }
+    }
+
+    /**
+     * Garante que um merge patch não removeu um campo obrigatório.
+     */
+    private void requirePatchedField(String field, String value) {
+        if (!StringUtils.hasText(value)) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.patch.field.required", new Object[]{field}, LocaleContextHolder.getLocale()));
+        }
+    }
+
+    /**
+     * Grava a atualização de um grupo e propaga para facetas, recomendações, diretório, cards e painel.
+     */
+    private GameGroup saveUpdated(GameGroup gameGroup, Map<String, String> facetsBefore) {
+        GameGroup updatedGroup = gameGroupRepository.save(gameGroup);
+        outboxService.record(DomainEventType.GAME_GROUP_UPDATED, updatedGroup.getId(), Map.of());
+        facetService.onUpdated(facetsBefore, updatedGroup);
+        matchmakingService.refresh(updatedGroup.getId());
+        directoryService.markDirty();
+        cardService.refresh(updatedGroup.getId());
+        dashboardCache.invalidate(updatedGroup.getId());
+        countCacheService.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
+        log.info("Grupo de jogo atualizado com sucesso: {}", updatedGroup.getId());
+        return updatedGroup;
+    }
+
+    /**
+     * Retorna a versão de um grupo de jogo (para GET condicional) sem carregar participantes, ou null se não existir.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion(UUID id) {
+        return gameGroupRepository.findVersionById(id).orElse(null);
+    }
+
+    /**
+     * Retorna a versão da listagem de grupos de jogo: maior updated_at entre grupos, participantes e recálculos
+     * de card (aventuras, username do master) e a contagem total.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getCollectionVersion() {
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE),
+            gameGroupRepository::countByDeletedAtIsNull);
+        ResourceVersion groups = new ResourceVersion(gameGroupRepository.findMaxUpdatedAt(), participantRepository.findMaxUpdatedAt(), total);
+        return new ResourceVersion(groups.lastModified(), cardRepository.findMaxRefreshedAt(), total);
     }
 
     /**
@@ -101,6 +362,11 @@ public class GameGroupService {
         gameGroup.setCreatedAt(LocalDateTime.now());
         gameGroup.setUpdatedAt(LocalDateTime.now());
 
+        // O criador entra como MASTER, já refletido nos contadores inseridos com o grupo
+        gameGroup.setMasterCount(1);
+        gameGroup.setPlayerCount(0);
+        gameGroup.setGuestCount(0);
+
         // Salva o grupo
         GameGroup savedGroup = gameGroupRepository.save(gameGroup);
 
@@ -113,8 +379,17 @@ public class GameGroupService {
         masterParticipant.setCreatedAt(LocalDateTime.now());
         masterParticipant.setUpdatedAt(LocalDateTime.now());
 
-        participantRepository.save(masterParticipant);
-
+        GameGroupParticipant savedMaster = participantRepository.save(masterParticipant);
+        outboxService.record(DomainEventType.GAME_GROUP_CREATED, savedGroup.getId(), Map.of("createdBy", creatorUserId));
+        outboxService.record(DomainEventType.PARTICIPANT_JOINED, savedMaster.getId(), Map.of(
+            "gameGroupId", savedGroup.getId(), "userId", creatorUserId, "role", savedMaster.getRole()));
+        facetService.onCreated(savedGroup);
+        matchmakingService.refresh(savedGroup.getId());
+        directoryService.markDirty();
+        cardService.refresh(savedGroup.getId());
+
+        countCacheService.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
         log.info("Grupo de jogo criado com sucesso: {} (ID: {})", savedGroup.getCampaignName(), savedGroup.getId());
         return savedGroup;
     }
@@ -123,10 +398,13 @@ public class GameGroupService {
      * Atualiza um grupo de jogo existente.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#id")
     public GameGroup updateGameGroup(UUID id, GameGroup gameGroupUpdate) {
         log.info("Atualizando grupo de jogo: {}", id);
 
-        GameGroup existingGroup = findById(id);
+        GameGroup existingGroup = findForWrite(id);
+        checkVersion(existingGroup, gameGroupUpdate.getVersion());
+        Map<String, String> facetsBefore = facetService.snapshot(existingGroup);
 
         // Atualiza os campos
         if (StringUtils.hasText(gameGroupUpdate.getCampaignName())) {
@@ -183,49 +461,161 @@ public class GameGroupService {
 
         existingGroup.setUpdatedAt(LocalDateTime.now());
 
-        GameGroup updatedGroup = gameGroupRepository.save(existingGroup);
-        log.info("Grupo de jogo atualizado com sucesso: {}", updatedGroup.getId());
-        return updatedGroup;
+        return saveUpdated(existingGroup, facetsBefore);
+    }
+
+    /**
+     * Aplica um JSON Merge Patch (RFC 7386) a um grupo de jogo: apenas os campos enviados são alterados
+     * e campos com valor null são removidos.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#id")
+    public GameGroup patchGameGroup(UUID id, JsonNode patch) {
+        log.info("Aplicando merge patch ao grupo de jogo: {}", id);
+
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.patch.invalid", null, LocaleContextHolder.getLocale()));
+        }
+
+        GameGroup existingGroup = findForWrite(id);
+        Map<String, String> facetsBefore = facetService.snapshot(existingGroup);
+
+        // Estado atual como documento alvo; o patch sobrescreve apenas os campos presentes
+        GameGroupUpdateRequest target = gameGroupMapper.toUpdateRequest(existingGroup);
+        target.setVersion(null);
+        GameGroupUpdateRequest patched;
+        try {
+            patched = objectMapper.readerForUpdating(target).readValue(patch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.patch.invalid", null, LocaleContextHolder.getLocale()), e);
+        }
+
+        checkVersion(existingGroup, patched.getVersion());
+        requirePatchedField("campaignName", patched.getCampaignName());
+        requirePatchedField("gameSystem", patched.getGameSystem());
+        requirePatchedField("shortDescription", patched.getShortDescription());
+        requirePatchedField("visibility", patched.getVisibility());
+        requirePatchedField("accessRule", patched.getAccessRule());
+        requirePatchedField("modality", patched.getModality());
+
+        gameGroupMapper.applyUpdateRequest(patched, existingGroup);
+        existingGroup.setUpdatedAt(LocalDateTime.now());
+
+        return saveUpdated(existingGroup, facetsBefore);
     }
 
     /**
      * Ativa ou desativa um grupo de jogo.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#id")
     public GameGroup toggleActiveStatus(UUID id) {
         log.info("Alterando status ativo do grupo de jogo: {}", id);
 
-        GameGroup gameGroup = findById(id);
+        GameGroup gameGroup = findForWrite(id);
         gameGroup.setIsActive(!gameGroup.getIsActive());
         gameGroup.setUpdatedAt(LocalDateTime.now());
 
         GameGroup updatedGroup = gameGroupRepository.save(gameGroup);
+        outboxService.record(DomainEventType.GAME_GROUP_UPDATED, updatedGroup.getId(),
+            Map.of("isActive", updatedGroup.getIsActive()));
+        facetService.onStatusChanged(updatedGroup);
+        matchmakingService.refresh(updatedGroup.getId());
+        directoryService.markDirty();
+        cardService.refresh(updatedGroup.getId());
+        dashboardCache.invalidate(updatedGroup.getId());
+        countCacheService.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
         log.info("Status do grupo de jogo alterado para: {} (ID: {})", 
             updatedGroup.getIsActive() ? "ATIVO" : "INATIVO", updatedGroup.getId());
         return updatedGroup;
     }
 
     /**
-     * Exclui logicamente um grupo de jogo.
+     * Exclui logicamente um grupo de jogo em cascata (participantes, convites, aventuras e notas).
+     * Cada tabela recebe um único UPDATE em lote, independente da quantidade de registros do grupo.
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#id"),
+        @CacheEvict(cacheNames = {CacheConfig.ADVENTURES, CacheConfig.ADVENTURE_NOTES, CacheConfig.INVITES_BY_CODE}, allEntries = true)
+    })
     public void deleteGameGroup(UUID id) {
         log.info("Excluindo grupo de jogo: {}", id);
 
-        GameGroup gameGroup = findById(id);
-        gameGroup.setDeletedAt(LocalDateTime.now());
-        gameGroup.setUpdatedAt(LocalDateTime.now());
+        LocalDateTime deletedAt = LocalDateTime.now();
+        GameGroup gameGroup = findForWrite(id);
+        gameGroup.setDeletedAt(deletedAt);
+        gameGroup.setUpdatedAt(deletedAt);
+        gameGroupRepository.save(gameGroup);
+
+        int participants = participantRepository.softDeleteByGameGroupId(id, deletedAt);
+        int invites = inviteRepository.softDeleteByGameGroupId(id, deletedAt);
+        int notes = adventureNoteRepository.softDeleteByGameGroupId(id, deletedAt);
+        int adventures = adventureRepository.softDeleteByGameGroupId(id, deletedAt);
+        log.debug("Exclusão em cascata do grupo {}: {} participantes, {} convites, {} aventuras, {} notas",
+            id, participants, invites, adventures, notes);
+
+        outboxService.record(DomainEventType.GAME_GROUP_DELETED, id, Map.of());
+        counterService.reset(id);
+        facetService.onDeleted(gameGroup);
+        matchmakingService.refresh(id);
+        directoryService.markDirty();
+        cardService.refresh(id);
+        dashboardCache.invalidate(id);
+        countCacheService.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
+        log.info("Grupo de jogo excluído com sucesso: {}", id);
+    }
+
+    /**
+     * Restaura um grupo excluído (inclusive já arquivado), junto com os participantes, convites,
+     * aventuras e notas excluídos em cascata com ele (até {@link #CASCADE_DELETE_WINDOW} após o grupo).
+     */
+    @CacheEvict(cacheNames = CacheConfig.GAME_GROUPS, key = "#id")
+    public GameGroup restoreGameGroup(UUID id) {
+        log.info("Restaurando grupo de jogo: {}", id);
 
-        // Também exclui logicamente todos os participantes
-        participantRepository.findByGameGroupIdAndDeletedAtIsNull(id)
-            .forEach(participant -> {
-                participant.setDeletedAt(LocalDateTime.now());
-                participant.setUpdatedAt(LocalDateTime.now());
-                participantRepository.save(participant);
-            });
+        gameGroupRepository.restoreArchivedById(id);
+        GameGroup gameGroup = gameGroupRepository.findById(id)
+            .orElseThrow(() -> new RecordNotFoundException(messageSource
+                .getMessage("service.gameGroup.not.found", new Object[]{id}, LocaleContextHolder.getLocale())));
+        if (gameGroup.getDeletedAt() == null) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.restore.not.deleted", new Object[]{id}, LocaleContextHolder.getLocale()));
+        }
 
+        int archived = adventureRepository.restoreArchivedByGameGroupId(id)
+            + adventureNoteRepository.restoreArchivedByGameGroupId(id)
+            + participantRepository.restoreArchivedByGameGroupId(id)
+            + inviteRepository.restoreArchivedByGameGroupId(id);
+
+        LocalDateTime deletedAt = gameGroup.getDeletedAt();
+        LocalDateTime deletedUntil = deletedAt.plus(CASCADE_DELETE_WINDOW);
+        LocalDateTime restoredAt = LocalDateTime.now();
+        adventureRepository.undeleteByGameGroupId(id, deletedAt, deletedUntil, restoredAt);
+        adventureNoteRepository.undeleteByGameGroupId(id, deletedAt, deletedUntil, restoredAt);
+        participantRepository.undeleteByGameGroupId(id, deletedAt, deletedUntil, restoredAt);
+        inviteRepository.undeleteByGameGroupId(id, deletedAt, deletedUntil, restoredAt);
+        log.debug("Restauração do grupo {}: {} linhas trazidas do arquivo", id, archived);
+
+        gameGroup.setDeletedAt(null);
+        gameGroup.setUpdatedAt(restoredAt);
         gameGroupRepository.save(gameGroup);
-        log.info("Grupo de jogo excluído com sucesso: {}", id);
+        gameGroupRepository.recalculateParticipantCounters(id);
+        GameGroup restored = findForWrite(id);
+        outboxService.record(DomainEventType.GAME_GROUP_RESTORED, id, Map.of());
+
+        facetService.onCreated(restored);
+        matchmakingService.refresh(id);
+        directoryService.markDirty();
+        cardService.refresh(id);
+        dashboardCache.invalidate(id);
+        countCacheService.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
+        countCacheService.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
+        log.info("Grupo de jogo restaurado com sucesso: {}", id);
+        return restored;
     }
 
     /**
@@ -277,10 +667,63 @@ public class GameGroupService {
     }
 
     /**
-     * Lista todos os grupos que um usuário participa (como owner, player ou guest).
+     * Busca grupos de jogo por texto livre, ordenados por relevância.
+     */
+    @Transactional(readOnly = true)
+    public Page<GameGroup> search(String query, Pageable pageable) {
+        return search(query, pageable, entityLoader(true));
+    }
+
+    /**
+     * Busca grupos de jogo por texto livre, ordenados por relevância, carregando a página pelo plano informado.
+     */
+    @Transactional(readOnly = true)
+    public <T> Page<T> search(String query, Pageable pageable, Loader<T> loader) {
+        String normalizedQuery = query != null ? query.trim() : "";
+        if (normalizedQuery.length() < MIN_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.search.query.invalid", new Object[]{MIN_SEARCH_QUERY_LENGTH}, LocaleContextHolder.getLocale()));
+        }
+
+        long total = countCacheService.getOrCount(
+            CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "search", normalizedQuery),
+            () -> gameGroupRepository.countSearch(normalizedQuery));
+        return PageUtil.toPage(loader.fetch(gameGroupRepository.searchIds(normalizedQuery, pageable)), total);
+    }
+
+    /**
+     * Interpreta o parâmetro {@code fields} da listagem, rejeitando campos inexistentes.
+     */
+    public GameGroupFieldSet parseFieldSet(String fields) {
+        GameGroupFieldSet fieldSet = GameGroupFieldSet.parse(fields);
+        if (!fieldSet.getUnknownFields().isEmpty()) {
+            throw new IllegalArgumentException(messageSource.getMessage("service.gameGroup.fields.invalid",
+                new Object[]{String.join(", ", fieldSet.getUnknownFields()), String.join(", ", GameGroupFieldSet.AVAILABLE_FIELDS)},
+                LocaleContextHolder.getLocale()));
+        }
+        return fieldSet;
+    }
+
+    /**
+     * Converte o filtro textual de modalidade para o valor persistido.
+     */
+    private Integer parseModalityFilter(String modality) {
+        if (!StringUtils.hasText(modality)) {
+            return null;
+        }
+        try {
+            return GameGroup.Modality.valueOf(modality.trim().toUpperCase()).getValue();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(messageSource
+                .getMessage("service.gameGroup.modality.invalid", new Object[]{modality}, LocaleContextHolder.getLocale()));
+        }
+    }
+
+    /**
+     * Lista os cards dos grupos do usuário (como owner, player ou guest), cada um com o seu papel.
      */
     @Transactional(readOnly = true)
-    public Page<GameGroup> findMyGameGroups(String username, Pageable pageable) {
+    public Page<GameGroupMembershipCard> findMyGameGroups(String username, Pageable pageable) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RecordNotFoundException(messageSource
                 .getMessage("service.user.not.found", new Object[]{username}, LocaleContextHolder.getLocale())));
@@ -290,20 +733,84 @@ public class GameGroupService {
                 .getMessage("service.user.inactive", new Object[]{username}, LocaleContextHolder.getLocale()));
         }
         
-        // Busca todos os participantes do usuário
-        List<GameGroupParticipant> participants = participantRepository.findByUserIdAndDeletedAtIsNull(user.getId());
-        
-        // Extrai os IDs dos grupos
-        List<UUID> gameGroupIds = participants.stream()
-            .map(participant -> participant.getGameGroup().getId())
-            .distinct()
-            .collect(Collectors.toList());
+        // Vínculo ⋈ card filtrado pelo usuário, ordenado e limitado no banco (uma única consulta)
+        Slice<GameGroupMembershipCard> memberships = cardRepository.findMembershipCardsByUserId(user.getId(), pageable);
         
-        if (gameGroupIds.isEmpty()) {
-            return Page.empty(pageable);
+        long total = countCacheService.getOrCount(
+            CountCacheService.key(CountCacheService.PARTICIPANTS_SCOPE, "my-groups", user.getId()),
+            () -> participantRepository.countMembershipsByUserId(user.getId()));
+        return PageUtil.toPage(memberships, total);
+    }
+
+    /**
+     * Lista os grupos do usuário carregando a página pelo plano informado (ex.: entidade completa); o papel de cada
+     * grupo vem do próprio vínculo.
+     */
+    @Transactional(readOnly = true)
+    public <T> Page<Membership<T>> findMyGameGroups(String username, Pageable pageable, Loader<T> loader) {
+        Page<GameGroupMembershipCard> memberships = findMyGameGroups(username, pageable);
+        Map<UUID, Integer> roles = memberships.getContent().stream()
+            .collect(Collectors.toMap(membership -> membership.card().id(), GameGroupMembershipCard::role, (first, second) -> first));
+        return PageUtil.toPage(loader.fetch(memberships.map(membership -> membership.card().id())), memberships.getTotalElements())
+            .map(gameGroup -> new Membership<>(gameGroup, roles.get(loader.id().apply(gameGroup))));
+    }
+
+    /**
+     * Plano de carga das entidades com (ou sem) participantes, a partir dos IDs de uma página.
+     */
+    public Loader<GameGroup> entityLoader(boolean withParticipants) {
+        return new Loader<>(withParticipants
+            ? gameGroupRepository::findAllWithParticipantsByIdIn
+            : gameGroupRepository::findAllWithoutParticipantsByIdIn, GameGroup::getId, GameGroup::getCreatedAt);
+    }
+
+    /**
+     * Plano de carga pelo modelo de leitura de cards (game_group_card, sem instanciar entidades), a partir dos IDs de uma página.
+     */
+    public Loader<GameGroupCard> cardLoader() {
+        return new Loader<>(cardRepository::findCardsByIdIn, GameGroupCard::id, GameGroupCard::createdAt);
+    }
+
+    /**
+     * Plano de carga de uma página de grupos de jogo a partir dos seus IDs (entidade completa, entidade sem
+     * participantes ou projeção de card), conforme os campos solicitados.
+     *
+     * @param load função que carrega os itens dos IDs informados
+     * @param id função que extrai o ID de um item carregado
+     * @param createdAt função que extrai a data de criação (posição do cursor keyset)
+     * @param <T> tipo do item carregado
+     */
+    public record Loader<T>(Function<Collection<UUID>, List<T>> load, Function<T, UUID> id, Function<T, LocalDateTime> createdAt) {
+
+        /**
+         * Carrega os itens de uma fatia (ou página) de IDs, mantendo a ordem.
+         */
+        public Slice<T> fetch(Slice<UUID> idSlice) {
+            return PageUtil.fetchByIds(idSlice, load, id);
         }
-        
-        // Busca os grupos com paginação
-        return gameGroupRepository.findByIdsAndDeletedAtIsNull(gameGroupIds, pageable);
+    }
+
+    /**
+     * Grupo de jogo carregado por um {@link Loader} acompanhado do papel do usuário no grupo.
+     *
+     * @param gameGroup item carregado (entidade ou card)
+     * @param role papel do usuário no grupo
+     * @param <T> tipo do item carregado
+     */
+    public record Membership<T>(T gameGroup, Integer role) {
+    }
+
+    /**
+     * Carrega os grupos de uma fatia de IDs com seus participantes, mantendo a ordem da fatia.
+     */
+    private Slice<GameGroup> fetchWithParticipants(Slice<UUID> idSlice) {
+        return PageUtil.fetchByIds(idSlice, gameGroupRepository::findAllWithParticipantsByIdIn, GameGroup::getId);
+    }
+
+    /**
+     * Normaliza um filtro textual (trim), tratando vazio como ausente.
+     */
+    private String trimToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,210 @@
+package br.com.systemrpg.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.domain.entity.OutboxEvent;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+import br.com.systemrpg.backend.domain.event.DomainEvent;
+import br.com.systemrpg.backend.domain.event.DomainEventSubscriber;
+import br.com.systemrpg.backend.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Serviço responsável por drenar o outbox em lotes e entregar os eventos aos {@link DomainEventSubscriber}.
+ * Cada lote é reservado com FOR UPDATE SKIP LOCKED em uma transação curta, então várias instâncias drenam
+ * em paralelo sem entregar o mesmo evento duas vezes. Cada entrega roda em uma transação própria (REQUIRES_NEW):
+ * um assinante transacional que falha desfaz só o próprio trabalho, sem marcar o lote inteiro para rollback. Eventos entregues são removidos; os que falham voltam
+ * no próximo ciclo até app.outbox.max-attempts e depois ficam retidos na tabela para análise.
+ * Só são reservados os tipos de evento que algum assinante trata: os demais permanecem no outbox, sem tentativas,
+ * por app.outbox.unsubscribed-retention-days (um consumidor implantado nesse prazo ainda os recebe) e depois são removidos.
+ * Métricas: outbox.events (result=delivered|failed), outbox.lag (gravação até entrega) e outbox.pending
+ * (todo o backlog não retido, com ou sem assinante).
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventSubscriber> subscribers;
+    private final List<String> supportedTypes;
+    private final List<String> unsubscribedTypes;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deliveryTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int unsubscribedRetentionDays;
+
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectProvider<DomainEventSubscriber> subscribers,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.unsubscribed-retention-days:7}") int unsubscribedRetentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers.orderedStream().toList();
+        this.supportedTypes = Arrays.stream(DomainEventType.values())
+            .filter(type -> this.subscribers.stream().anyMatch(subscriber -> subscriber.supports(type)))
+            .map(DomainEventType::name)
+            .toList();
+        this.unsubscribedTypes = Arrays.stream(DomainEventType.values())
+            .map(DomainEventType::name)
+            .filter(type -> !supportedTypes.contains(type))
+            .toList();
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deliveryTemplate = new TransactionTemplate(transactionManager);
+        this.deliveryTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.unsubscribedRetentionDays = unsubscribedRetentionDays;
+        this.deliveredCounter = Counter.builder("outbox.events").tag("result", "delivered")
+            .description("Eventos do outbox entregues aos assinantes").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events").tag("result", "failed")
+            .description("Entregas de eventos do outbox que falharam").register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.lag")
+            .description("Tempo entre a gravação do evento no outbox e sua entrega").register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+            .description("Eventos do outbox aguardando entrega").register(meterRegistry);
+        if (supportedTypes.isEmpty()) {
+            log.info("Nenhum assinante de eventos de domínio registrado; os eventos ficam no outbox por {} dias",
+                unsubscribedRetentionDays);
+        }
+    }
+
+    /**
+     * Drena os eventos com assinantes até esvaziá-los; cada evento é tentado no máximo uma vez por ciclo.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public int dispatch() {
+        if (supportedTypes.isEmpty()) {
+            pending.set(outboxEventRepository.countByAttemptsLessThan(maxAttempts));
+            return 0;
+        }
+        int delivered = 0;
+        BatchResult batch = new BatchResult(0, 0, 0L);
+        do {
+            long afterId = batch.lastId();
+            batch = Objects.requireNonNullElse(transactionTemplate.execute(status -> dispatchBatch(afterId)),
+                new BatchResult(0, 0, afterId));
+            delivered += batch.delivered();
+        } while (batch.claimed() >= batchSize);
+
+        pending.set(outboxEventRepository.countByAttemptsLessThan(maxAttempts));
+        if (delivered > 0) {
+            log.debug("Outbox: {} eventos entregues", delivered);
+        }
+        return delivered;
+    }
+
+    /**
+     * Remove, em lotes, os eventos de tipos sem assinante gravados há mais de app.outbox.unsubscribed-retention-days.
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 45 4 * * ?}")
+    public int purgeUnsubscribed() {
+        if (unsubscribedTypes.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(unsubscribedRetentionDays);
+        int purged = 0;
+        int removed;
+        do {
+            removed = Objects.requireNonNullElse(transactionTemplate.execute(status ->
+                outboxEventRepository.deleteBatchCreatedBefore(unsubscribedTypes, cutoff, PURGE_BATCH_SIZE)), 0);
+            purged += removed;
+        } while (removed >= PURGE_BATCH_SIZE);
+
+        if (purged > 0) {
+            log.info("Outbox: {} eventos sem assinante removidos (gravados antes de {})", purged, cutoff);
+        }
+        return purged;
+    }
+
+    private BatchResult dispatchBatch(long afterId) {
+        List<OutboxEvent> claimed = outboxEventRepository.claimBatch(afterId, supportedTypes, maxAttempts, batchSize);
+        List<Long> deliveredIds = new ArrayList<>(claimed.size());
+        long lastId = afterId;
+
+        for (OutboxEvent outboxEvent : claimed) {
+            lastId = Math.max(lastId, outboxEvent.getId());
+            try {
+                DomainEvent event = toDomainEvent(outboxEvent);
+                deliveryTemplate.executeWithoutResult(status -> deliver(event));
+                deliveredIds.add(outboxEvent.getId());
+                lagTimer.record(Duration.between(outboxEvent.getCreatedAt(), LocalDateTime.now()));
+            } catch (RuntimeException | JsonProcessingException e) {
+                markFailed(outboxEvent, e);
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(deliveredIds);
+            deliveredCounter.increment(deliveredIds.size());
+        }
+        return new BatchResult(claimed.size(), deliveredIds.size(), lastId);
+    }
+
+    private void deliver(DomainEvent event) {
+        for (DomainEventSubscriber subscriber : subscribers) {
+            if (subscriber.supports(event.type())) {
+                subscriber.onEvent(event);
+            }
+        }
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent outboxEvent) throws JsonProcessingException {
+        return new DomainEvent(outboxEvent.getId(), DomainEventType.valueOf(outboxEvent.getEventType()),
+            outboxEvent.getAggregateId(), objectMapper.readTree(outboxEvent.getPayload()), outboxEvent.getCreatedAt());
+    }
+
+    private void markFailed(OutboxEvent outboxEvent, Exception e) {
+        failedCounter.increment();
+        int attempts = outboxEvent.getAttempts() + 1;
+        String error = String.valueOf(e.getMessage());
+        outboxEvent.setAttempts(attempts);
+        outboxEvent.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (attempts >= maxAttempts) {
+            log.error("Evento {} ({}) do outbox retido após {} tentativas", outboxEvent.getId(),
+                outboxEvent.getEventType(), attempts, e);
+        } else {
+            log.warn("Falha ao entregar o evento {} ({}) do outbox (tentativa {} de {})", outboxEvent.getId(),
+                outboxEvent.getEventType(), attempts, maxAttempts, e);
+        }
+    }
+
+    private record BatchResult(int claimed, int delivered, long lastId) {
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.domain.entity.OutboxEvent;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+import br.com.systemrpg.backend.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço que grava eventos de domínio no outbox, na mesma transação da alteração que os origina:
+ * o evento só existe se a alteração for confirmada. A entrega fica a cargo do {@link OutboxDispatcher}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Registra um evento do agregado informado; exige uma transação em andamento.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEventType type, UUID aggregateId, Map<String, ?> payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+            .aggregateType(type.getAggregateType())
+            .aggregateId(aggregateId)
+            .eventType(type.name())
+            .payload(objectMapper.valueToTree(payload).toString())
+            .build());
+    }
+}
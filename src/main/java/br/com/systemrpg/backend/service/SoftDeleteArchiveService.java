@@ -0,0 +1,94 @@
+package br.com.systemrpg.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.systemrpg.backend.repository.AdventureNoteRepository;
+import br.com.systemrpg.backend.repository.AdventureRepository;
+import br.com.systemrpg.backend.repository.GameGroupInviteRepository;
+import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+import br.com.systemrpg.backend.repository.UserRepository;
+
+/**
+ * Serviço responsável por mover para as tabelas *_archive as linhas excluídas logicamente há mais
+ * de N dias, mantendo as tabelas quentes (e seus índices) proporcionais aos dados vivos.
+ * Cada lote roda em uma transação curta; filhos são arquivados antes dos pais.
+ * As linhas arquivadas mantêm o próprio deleted_at: na restauração de um grupo voltam à tabela quente e só são
+ * reativadas as excluídas na janela da cascata (ver {@link GameGroupService#restoreGameGroup}).
+ */
+@Service
+public class SoftDeleteArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(SoftDeleteArchiveService.class);
+
+    private final AdventureNoteRepository adventureNoteRepository;
+    private final AdventureRepository adventureRepository;
+    private final GameGroupInviteRepository inviteRepository;
+    private final GameGroupParticipantRepository participantRepository;
+    private final GameGroupRepository gameGroupRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public SoftDeleteArchiveService(AdventureNoteRepository adventureNoteRepository,
+                                    AdventureRepository adventureRepository,
+                                    GameGroupInviteRepository inviteRepository,
+                                    GameGroupParticipantRepository participantRepository,
+                                    GameGroupRepository gameGroupRepository,
+                                    UserRepository userRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.archive.retention-days:30}") int retentionDays,
+                                    @Value("${app.archive.batch-size:500}") int batchSize) {
+        this.adventureNoteRepository = adventureNoteRepository;
+        this.adventureRepository = adventureRepository;
+        this.inviteRepository = inviteRepository;
+        this.participantRepository = participantRepository;
+        this.gameGroupRepository = gameGroupRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Arquiva as linhas excluídas antes do período de retenção. Linhas ainda referenciadas por filhos
+     * vivos (ex.: grupo com aventura não excluída) permanecem na tabela quente.
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 4 * * ?}")
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = drain("adventure_note", () -> adventureNoteRepository.archiveDeletedBefore(cutoff, batchSize))
+            + drain("adventure", () -> adventureRepository.archiveDeletedBefore(cutoff, batchSize))
+            + drain("game_group_invite", () -> inviteRepository.archiveDeletedBefore(cutoff, batchSize))
+            + drain("game_group_participant", () -> participantRepository.archiveDeletedBefore(cutoff, batchSize))
+            + drain("game_group", () -> gameGroupRepository.archiveDeletedBefore(cutoff, batchSize))
+            + drain("users", () -> userRepository.archiveDeletedBefore(cutoff, batchSize));
+        log.info("Arquivamento de excluídos concluído: {} linhas anteriores a {}", total, cutoff);
+        return total;
+    }
+
+    private int drain(String table, IntSupplier batch) {
+        int total = 0;
+        int moved;
+        do {
+            moved = Objects.requireNonNullElse(transactionTemplate.execute(status -> batch.getAsInt()), 0);
+            total += moved;
+        } while (moved >= batchSize);
+
+        if (total > 0) {
+            log.debug("{}: {} linhas arquivadas", table, total);
+        }
+        return total;
+    }
+}
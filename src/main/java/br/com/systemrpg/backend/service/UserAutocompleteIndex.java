@@ -0,0 +1,110 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import br.com.systemrpg.backend.dto.response.UserAutocompleteResponse;
+
+/**
+ * Índice de prefixos em memória dos usuários ativos: chaves ordenadas "prefixo\0id" por username e por nome
+ * (nome, sobrenome e nome completo). Consultas são sem bloqueio; escritas são serializadas pelo próprio índice.
+ */
+class UserAutocompleteIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, UUID> usernameKeys = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, UUID> nameKeys = new ConcurrentSkipListMap<>();
+    private final Map<UUID, UserAutocompleteResponse> users = new ConcurrentHashMap<>();
+
+    /**
+     * Insere ou substitui um usuário (as chaves antigas são removidas).
+     */
+    synchronized void upsert(UserAutocompleteResponse user) {
+        remove(user.id());
+        users.put(user.id(), user);
+        usernameKeys(user).forEach(key -> usernameKeys.put(key, user.id()));
+        nameKeys(user).forEach(key -> nameKeys.put(key, user.id()));
+    }
+
+    /**
+     * Remove um usuário do índice, se presente.
+     */
+    synchronized void remove(UUID id) {
+        UserAutocompleteResponse previous = users.remove(id);
+        if (previous != null) {
+            usernameKeys(previous).forEach(usernameKeys::remove);
+            nameKeys(previous).forEach(nameKeys::remove);
+        }
+    }
+
+    /**
+     * Retorna até limit usuários cujo username começa pelo prefixo (primeiro, em ordem alfabética)
+     * ou cujo nome, sobrenome ou nome completo começa pelo prefixo.
+     */
+    List<UserAutocompleteResponse> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Set<UUID> ids = new LinkedHashSet<>();
+        collect(usernameKeys, normalized, ids, limit);
+        collect(nameKeys, normalized, ids, limit);
+
+        List<UserAutocompleteResponse> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            UserAutocompleteResponse user = users.get(id);
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return users.size();
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void collect(NavigableMap<String, UUID> keys, String prefix, Set<UUID> ids, int limit) {
+        if (ids.size() >= limit) {
+            return;
+        }
+        for (UUID id : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            ids.add(id);
+            if (ids.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private static List<String> usernameKeys(UserAutocompleteResponse user) {
+        return user.username() == null ? List.of() : List.of(key(user.username(), user.id()));
+    }
+
+    private static List<String> nameKeys(UserAutocompleteResponse user) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (user.firstName() != null) {
+            keys.add(key(user.firstName(), user.id()));
+        }
+        if (user.lastName() != null) {
+            keys.add(key(user.lastName(), user.id()));
+        }
+        if (user.firstName() != null && user.lastName() != null) {
+            keys.add(key(user.firstName() + " " + user.lastName(), user.id()));
+        }
+        return List.copyOf(keys);
+    }
+
+    private static String key(String value, UUID id) {
+        return normalize(value) + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.systemrpg.backend.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.dto.response.UserAutocompleteResponse;
+import br.com.systemrpg.backend.repository.UserRepository;
+
+/**
+ * Serviço de autocomplete de usuários (username e nome) sobre um índice de prefixos em memória.
+ * O índice é carregado na inicialização e atualizado após o commit das alterações de usuários; as atualizações
+ * são repassadas às demais instâncias pelo {@link CacheInvalidationBus}.
+ */
+@Service
+public class UserAutocompleteService {
+
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final Object PENDING_REFRESH_KEY = UserAutocompleteService.class.getName() + ".pendingRefresh";
+
+    static final String CACHE_NAME = "user-autocomplete";
+
+    private static final Logger log = LoggerFactory.getLogger(UserAutocompleteService.class);
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    private volatile UserAutocompleteIndex index = new UserAutocompleteIndex();
+    /** Usuários reindexados enquanto uma reconstrução carrega users (nulo fora da carga). */
+    private volatile Set<UUID> reindexedDuringRebuild;
+
+    public UserAutocompleteService(UserRepository userRepository, CacheInvalidationBus invalidationBus) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(CACHE_NAME, userId -> reindex((UUID) userId), this::rebuild);
+    }
+
+    /**
+     * Recarrega o índice a partir de users (na inicialização e periodicamente).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.user.autocomplete-rebuild-cron:0 45 4 * * ?}")
+    public synchronized int rebuild() {
+        Set<UUID> reindexed = ConcurrentHashMap.newKeySet();
+        reindexedDuringRebuild = reindexed;
+        UserAutocompleteIndex rebuilt = new UserAutocompleteIndex();
+        try {
+            userRepository.findAutocompleteEntries().forEach(rebuilt::upsert);
+        } catch (DataAccessException e) {
+            reindexedDuringRebuild = null;
+            log.error("Falha ao carregar o índice de autocomplete de usuários", e);
+            return index.size();
+        }
+
+        index = rebuilt;
+        reindexedDuringRebuild = null;
+        // Alterações aplicadas ao índice antigo durante a carga podem não estar no que foi lido: relê esses usuários
+        reindexed.forEach(this::reindex);
+        log.info("Índice de autocomplete de usuários carregado: {} usuários", rebuilt.size());
+        return rebuilt.size();
+    }
+
+    /**
+     * Agenda a atualização de um usuário no índice para depois do commit da transação corrente
+     * (ou imediatamente, fora de transação), nesta e nas demais instâncias. Várias chamadas na mesma transação
+     * geram uma única leitura por usuário.
+     */
+    public void refresh(UUID userId) {
+        invalidationBus.publishEvict(CACHE_NAME, userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(userId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(PENDING_REFRESH_KEY);
+        if (pending == null) {
+            Set<UUID> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_REFRESH_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(UserAutocompleteService.this::reindex);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_REFRESH_KEY);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(userId);
+    }
+
+    /**
+     * Sugere usuários ativos cujo username (primeiro) ou nome começa pelo prefixo, sem consultar o banco.
+     */
+    public List<UserAutocompleteResponse> suggest(String prefix, Integer limit) {
+        if (UserAutocompleteIndex.normalize(prefix).isEmpty()) {
+            return List.of();
+        }
+        int size = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return index.search(prefix, size);
+    }
+
+    private void reindex(UUID userId) {
+        Set<UUID> reindexed = reindexedDuringRebuild;
+        if (reindexed != null) {
+            reindexed.add(userId);
+        }
+        UserAutocompleteResponse entry = userRepository.findAutocompleteEntryById(userId).orElse(null);
+        if (entry != null) {
+            index.upsert(entry);
+        } else {
+            index.remove(userId);
+        }
+    }
+}
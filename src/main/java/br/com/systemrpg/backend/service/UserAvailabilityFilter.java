@@ -0,0 +1,172 @@
+package br.com.systemrpg.backend.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.systemrpg.backend.repository.UserRepository;
+
+/**
+ * Filtro em memória dos usernames e emails já usados, para responder às verificações de disponibilidade
+ * sem consultar o banco. Um "certamente livre" dispensa a consulta; um "talvez usado" é confirmado no banco.
+ * Carregado na inicialização, alimentado na criação/atualização de usuários e reconstruído periodicamente
+ * (nomes liberados por exclusão ou troca deixam de ser falsos positivos só após a reconstrução).
+ * Os registros são repassados às demais instâncias pelo {@link CacheInvalidationBus}; se a escuta do barramento
+ * cair, mensagens podem ter sido perdidas e o filtro passa a consultar o banco até ser reconstruído.
+ */
+@Service
+public class UserAvailabilityFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityFilter.class);
+
+    /**
+     * Quanto tempo um registro recente é reaplicado nas reconstruções (cobre transações ainda não
+     * confirmadas quando a carga leu a tabela users).
+     */
+    private static final Duration RECENT_RETENTION = Duration.ofMinutes(5);
+    private static final int MIN_CAPACITY = 10_000;
+
+    static final String USERNAMES_CHANNEL = "user-availability-usernames";
+    static final String EMAILS_CHANNEL = "user-availability-emails";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> recentUsernames = new ConcurrentHashMap<>();
+    private final Map<String, Long> recentEmails = new ConcurrentHashMap<>();
+    private volatile Filters filters;
+
+    public UserAvailabilityFilter(UserRepository userRepository,
+                                  CacheInvalidationBus invalidationBus,
+                                  @Value("${app.user.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.falsePositiveRate = falsePositiveRate;
+        invalidationBus.register(USERNAMES_CHANNEL, key -> registerLocally((String) key, null), this::resync);
+        invalidationBus.register(EMAILS_CHANNEL, key -> registerLocally(null, (String) key), this::resync);
+    }
+
+    /**
+     * Retorna true se o username certamente não está em uso (false também antes da primeira carga).
+     */
+    public boolean isUsernameDefinitelyFree(String username) {
+        Filters current = filters;
+        return current != null && username != null && !current.usernames().mightContain(normalize(username));
+    }
+
+    /**
+     * Retorna true se o email certamente não está em uso (false também antes da primeira carga).
+     */
+    public boolean isEmailDefinitelyFree(String email) {
+        Filters current = filters;
+        return current != null && email != null && !current.emails().mightContain(normalize(email));
+    }
+
+    /**
+     * Registra o username e o email de um usuário criado, alterado ou restaurado, nesta e nas demais instâncias.
+     */
+    public void register(String username, String email) {
+        String usernameKey = username != null ? normalize(username) : null;
+        String emailKey = email != null ? normalize(email) : null;
+        registerLocally(usernameKey, emailKey);
+        if (usernameKey != null) {
+            invalidationBus.publishEvict(USERNAMES_CHANNEL, usernameKey);
+        }
+        if (emailKey != null) {
+            invalidationBus.publishEvict(EMAILS_CHANNEL, emailKey);
+        }
+    }
+
+    private void registerLocally(String usernameKey, String emailKey) {
+        long now = System.currentTimeMillis();
+        // Primeiro nos recentes: uma reconstrução concorrente os reaplica após a troca dos filtros
+        if (usernameKey != null) {
+            recentUsernames.put(usernameKey, now);
+        }
+        if (emailKey != null) {
+            recentEmails.put(emailKey, now);
+        }
+
+        Filters current = filters;
+        if (current != null) {
+            if (usernameKey != null) {
+                current.usernames().put(usernameKey);
+            }
+            if (emailKey != null) {
+                current.emails().put(emailKey);
+            }
+        }
+    }
+
+    /**
+     * Reconstrói o filtro a partir da tabela users (na inicialização e periodicamente).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.user.availability.reconcile-interval:PT30M}",
+               initialDelayString = "${app.user.availability.reconcile-interval:PT30M}")
+    public synchronized int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<String> usernames;
+        List<String> emails;
+        try {
+            usernames = userRepository.findAllUsernames();
+            emails = userRepository.findAllEmails();
+        } catch (DataAccessException e) {
+            log.error("Falha ao carregar o filtro de disponibilidade de usuários", e);
+            return 0;
+        }
+
+        long capacity = Math.max(MIN_CAPACITY, 2L * usernames.size());
+        Filters rebuilt = new Filters(new IdentityBloomFilter(capacity, falsePositiveRate),
+            new IdentityBloomFilter(capacity, falsePositiveRate));
+        usernames.forEach(username -> rebuilt.usernames().put(normalize(username)));
+        emails.forEach(email -> rebuilt.emails().put(normalize(email)));
+
+        // Registros feitos durante a carga podem não estar no que foi lido: reaplica antes e depois da troca
+        applyRecent(rebuilt);
+        filters = rebuilt;
+        applyRecent(rebuilt);
+
+        long cutoff = startedAt - RECENT_RETENTION.toMillis();
+        recentUsernames.values().removeIf(registeredAt -> registeredAt < cutoff);
+        recentEmails.values().removeIf(registeredAt -> registeredAt < cutoff);
+        log.info("Filtro de disponibilidade de usuários carregado: {} usernames", usernames.size());
+        return usernames.size();
+    }
+
+    /**
+     * Chamado quando registros de outras instâncias podem ter sido perdidos (reconexão do barramento):
+     * deixa de responder "certamente livre" e reconstrói a partir do banco.
+     */
+    private void resync() {
+        filters = null;
+        rebuild();
+    }
+
+    private void applyRecent(Filters target) {
+        recentUsernames.keySet().forEach(target.usernames()::put);
+        recentEmails.keySet().forEach(target.emails()::put);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Par de filtros trocado atomicamente a cada reconstrução.
+     */
+    private record Filters(IdentityBloomFilter usernames, IdentityBloomFilter emails) {
+    }
+}
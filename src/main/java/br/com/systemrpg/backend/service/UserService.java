@@ -1,26 +1,40 @@
 package br.com.systemrpg.backend.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import br.com.systemrpg.backend.config.CacheConfig;
 import br.com.systemrpg.backend.domain.entity.Role;
 import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.dto.response.RoleResponse;
+import br.com.systemrpg.backend.dto.response.UserResponse;
 import br.com.systemrpg.backend.exception.RecordNotFoundException;
 import br.com.systemrpg.backend.repository.RoleRepository;
 import br.com.systemrpg.backend.repository.UserRepository;
+import br.com.systemrpg.backend.util.CursorPage;
+import br.com.systemrpg.backend.util.CursorUtil;
+import br.com.systemrpg.backend.util.PageUtil;
+import br.com.systemrpg.backend.util.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -37,28 +51,137 @@ public class UserService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final MessageSource messageSource;
+    private final CountCacheService countCacheService;
+    private final GameGroupCardService gameGroupCardService;
+    private final GameGroupDashboardCache gameGroupDashboardCache;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final UserAutocompleteService autocompleteService;
 
     /**
-     * Busca um usuário por ID.
+     * Busca um usuário por ID (em cache, com as roles já carregadas).
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
     public User findById(UUID id) {
-        return userRepository.findById(id)
+        User user = userRepository.findById(id)
                 .orElseThrow(() -> new RecordNotFoundException(messageSource
                         .getMessage("service.user.not.found", new Object[]{id}, LocaleContextHolder.getLocale())));
+        Hibernate.initialize(user.getRoles());
+        return user;
+    }
+
+    /**
+     * Retorna a versão de um usuário (para GET condicional) sem carregar a entidade, ou null se não existir.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion(UUID id) {
+        return userRepository.findUpdatedAtById(id).map(ResourceVersion::of).orElse(null);
+    }
+
+    /**
+     * Retorna a versão da listagem de usuários: maior updated_at e a contagem total (detecta exclusões definitivas).
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getCollectionVersion() {
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.USERS_SCOPE),
+                userRepository::countByDeletedAtIsNull);
+        return new ResourceVersion(userRepository.findMaxUpdatedAt(), total);
     }
 
     /**
      * Lista todos os usuários com paginação, excluindo usuários deletados.
      */
     public Page<User> findAll(Pageable pageable) {
-        return userRepository.findByDeletedAtIsNullOrderByCreatedAtDesc(pageable);
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.USERS_SCOPE),
+                userRepository::countByDeletedAtIsNull);
+        return PageUtil.toPage(findAllSlice(false, pageable), total);
     }
 
     /**
      * Lista usuários ativos com paginação, excluindo usuários deletados.
      */
     public Page<User> findActiveUsers(Pageable pageable) {
-        return userRepository.findByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable);
+        long total = countCacheService.getOrCount(CountCacheService.key(CountCacheService.USERS_SCOPE, "active"),
+                userRepository::countByIsActiveTrueAndDeletedAtIsNull);
+        return PageUtil.toPage(findAllSlice(true, pageable), total);
+    }
+
+    /**
+     * Lista usuários com paginação sem contagem total, opcionalmente apenas os ativos, excluindo usuários deletados.
+     */
+    public Slice<User> findAllSlice(boolean activeOnly, Pageable pageable) {
+        Slice<UUID> ids = activeOnly
+                ? userRepository.findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable)
+                : userRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(pageable);
+        return PageUtil.fetchByIds(ids, userRepository::findAllWithRolesByIdIn, User::getId);
+    }
+
+    /**
+     * Lista usuários com paginação por cursor (keyset), opcionalmente filtrando por status ativo, sem contagem total.
+     */
+    public CursorPage<User> findAll(Boolean active, String cursor, int size) {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = userRepository.findFirstIdsKeyset(active, size + 1);
+        } else if (position.isBackward()) {
+            ids = userRepository.findIdsBeforeKeyset(active, position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = userRepository.findIdsAfterKeyset(active, position.getCreatedAt(), position.getId(), size + 1);
+        }
+
+        return CursorUtil.toCursorPage(position, size, ids, userRepository::findAllWithRolesByIdIn,
+            User::getId, User::getCreatedAt);
+    }
+
+    /**
+     * Lista usuários já como DTO (projeção somente leitura, sem carregar entidades), opcionalmente apenas os ativos.
+     */
+    @Transactional(readOnly = true)
+    public Page<UserResponse> findAllAsResponse(boolean activeOnly, Pageable pageable) {
+        long total = activeOnly
+                ? countCacheService.getOrCount(CountCacheService.key(CountCacheService.USERS_SCOPE, "active"),
+                        userRepository::countByIsActiveTrueAndDeletedAtIsNull)
+                : countCacheService.getOrCount(CountCacheService.key(CountCacheService.USERS_SCOPE),
+                        userRepository::countByDeletedAtIsNull);
+        return PageUtil.toPage(findAllSliceAsResponse(activeOnly, pageable), total);
+    }
+
+    /**
+     * Lista usuários já como DTO sem contagem total, opcionalmente apenas os ativos.
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserResponse> findAllSliceAsResponse(boolean activeOnly, Pageable pageable) {
+        Slice<UUID> ids = activeOnly
+                ? userRepository.findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable)
+                : userRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(pageable);
+        return PageUtil.fetchByIds(ids, this::findResponsesByIdIn, UserResponse::getId);
+    }
+
+    /**
+     * Lista usuários já como DTO com paginação por cursor (keyset), opcionalmente filtrando por status ativo.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findAllAsResponse(Boolean active, String cursor, int size) {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(cursor);
+        List<UUID> ids;
+        if (position == null) {
+            ids = userRepository.findFirstIdsKeyset(active, size + 1);
+        } else if (position.isBackward()) {
+            ids = userRepository.findIdsBeforeKeyset(active, position.getCreatedAt(), position.getId(), size + 1);
+        } else {
+            ids = userRepository.findIdsAfterKeyset(active, position.getCreatedAt(), position.getId(), size + 1);
+        }
+
+        return CursorUtil.toCursorPage(position, size, ids, this::findResponsesByIdIn,
+            UserResponse::getId, UserResponse::getCreatedAt);
+    }
+
+    private List<UserResponse> findResponsesByIdIn(Collection<UUID> ids) {
+        List<UserResponse> responses = userRepository.findResponsesByIdIn(ids);
+        Map<UUID, Set<RoleResponse>> roles = userRepository.findRoleResponsesByUserIdIn(ids);
+        responses.forEach(response -> response.setRoles(roles.getOrDefault(response.getId(), new HashSet<>())));
+        return responses;
     }
 
     /**
@@ -113,13 +236,18 @@ public class UserService {
             user.getRoles().add(defaultRole);
         }
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        availabilityFilter.register(user.getUsername(), user.getEmail());
+        autocompleteService.refresh(user.getId());
+        countCacheService.invalidate(CountCacheService.USERS_SCOPE);
+        return savedUser;
     }
 
     /**
      * Atualiza um usuário existente.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public User updateUser(UUID id, User updatedUser, Set<String> roleNames) {
         
         User existingUser = findById(id);
@@ -136,6 +264,7 @@ public class UserService {
                     .getMessage("service.user.email.exists", new Object[]{updatedUser.getEmail()}, LocaleContextHolder.getLocale()));
         }
 
+        boolean usernameChanged = !existingUser.getUsername().equals(updatedUser.getUsername());
         existingUser.setUsername(updatedUser.getUsername());
         existingUser.setEmail(updatedUser.getEmail());
         existingUser.setFirstName(updatedUser.getFirstName());
@@ -160,26 +289,42 @@ public class UserService {
             }
         }
         
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        availabilityFilter.register(existingUser.getUsername(), existingUser.getEmail());
+        autocompleteService.refresh(id);
+        userRepository.evictFromCache(id);
+        if (usernameChanged) {
+            // O username do master aparece nos cards dos seus grupos
+            gameGroupCardService.refreshByMasterUserId(id);
+            // e nas listas de participantes dos painéis em cache
+            gameGroupDashboardCache.invalidateAll();
+        }
+        return savedUser;
     }
 
     /**
      * Ativa ou desativa um usuário.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public User toggleUserStatus(UUID id, Boolean isActive) {
         
         User user = findById(id);
         user.setIsActive(isActive);
         user.setUpdatedAt(LocalDateTime.now());
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        autocompleteService.refresh(id);
+        userRepository.evictFromCache(id);
+        countCacheService.invalidate(CountCacheService.USERS_SCOPE);
+        return savedUser;
     }
 
     /**
      * Exclui um usuário (soft delete - marca como deletado).
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public void deactivateUser(UUID id) {
         
         User user = findById(id);
@@ -187,37 +332,75 @@ public class UserService {
         user.setUpdatedAt(LocalDateTime.now());
         
         userRepository.save(user);
+        autocompleteService.refresh(id);
+        userRepository.evictFromCache(id);
+        countCacheService.invalidate(CountCacheService.USERS_SCOPE);
+    }
+
+    /**
+     * Restaura um usuário excluído logicamente (inclusive já arquivado, com seus papéis).
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
+    public User restoreUser(UUID id) {
+        log.info("Restaurando usuário com ID: {}", id);
+
+        userRepository.restoreArchivedById(id);
+        if (userRepository.existsArchivedById(id)) {
+            throw new IllegalArgumentException(messageSource
+                    .getMessage("service.user.restore.conflict", new Object[]{id}, LocaleContextHolder.getLocale()));
+        }
+
+        User user = findById(id);
+        if (user.getDeletedAt() == null) {
+            throw new IllegalArgumentException(messageSource
+                    .getMessage("service.user.restore.not.deleted", new Object[]{id}, LocaleContextHolder.getLocale()));
+        }
+        user.setDeletedAt(null);
+        user.setUpdatedAt(LocalDateTime.now());
+
+        User savedUser = userRepository.save(user);
+        availabilityFilter.register(user.getUsername(), user.getEmail());
+        autocompleteService.refresh(id);
+        userRepository.evictFromCache(id);
+        countCacheService.invalidate(CountCacheService.USERS_SCOPE);
+        return savedUser;
     }
 
     /**
      * Exclui permanentemente um usuário.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public void deleteUser(UUID id) {
         
         User user = findById(id);
         userRepository.delete(user);
+        autocompleteService.refresh(id);
+        userRepository.evictFromCache(id);
+        countCacheService.invalidate(CountCacheService.USERS_SCOPE);
 
     }
 
     /**
-     * Verifica se um username está disponível.
+     * Verifica se um username está disponível (em memória; o banco só confirma prováveis usos).
      */
     public boolean isUsernameAvailable(String username) {
-        return !userRepository.existsByUsername(username);
+        return availabilityFilter.isUsernameDefinitelyFree(username) || !userRepository.existsByUsername(username);
     }
 
     /**
-     * Verifica se um email está disponível.
+     * Verifica se um email está disponível (em memória; o banco só confirma prováveis usos).
      */
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        return availabilityFilter.isEmailDefinitelyFree(email) || !userRepository.existsByEmail(email);
     }
 
     /**
      * Verifica o status de verificação de email.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public User verifyEmail(UUID id) {
         log.info("Verificando email do usuário com ID: {}", id);
         
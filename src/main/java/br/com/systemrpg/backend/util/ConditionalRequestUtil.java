@@ -0,0 +1,62 @@
+package br.com.systemrpg.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Utilitário para GET condicional (If-None-Match / If-Modified-Since).
+ * A verificação roda antes de carregar o grafo da entidade, mapear e montar os links HATEOAS:
+ * quando retorna true o controller devolve null e o Spring MVC responde 304 Not Modified.
+ */
+public class ConditionalRequestUtil {
+
+    /**
+     * Construtor privado para prevenir instanciação.
+     */
+    private ConditionalRequestUtil() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Verifica um recurso individual por ETag fraco e Last-Modified. Recurso inexistente (versão nula)
+     * segue o fluxo normal, que responde 404.
+     */
+    public static boolean checkNotModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+            return false;
+        }
+        return request.checkNotModified(weakEtag(request, version), version.lastModifiedMillis());
+    }
+
+    /**
+     * Verifica uma coleção apenas por ETag fraco (máximo de updated_at + contagem + parâmetros da consulta).
+     * Last-Modified não é usado: a exclusão de um registro não aumenta o máximo de updated_at.
+     */
+    public static boolean checkCollectionNotModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+            return false;
+        }
+        return request.checkNotModified(weakEtag(request, version));
+    }
+
+    /**
+     * Monta o ETag fraco da versão, variando por idioma, usuário autenticado (links HATEOAS dependem das permissões)
+     * e parâmetros da requisição.
+     */
+    public static String weakEtag(WebRequest request, ResourceVersion version) {
+        StringBuilder source = new StringBuilder()
+            .append(version.lastModified()).append('|')
+            .append(version.count()).append('|')
+            .append(LocaleContextHolder.getLocale().toLanguageTag()).append('|')
+            .append(request.getRemoteUser());
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            source.append('|').append(parameter.getKey()).append('=').append(String.join(",", parameter.getValue()));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.systemrpg.backend.util;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de uma consulta paginada por cursor (keyset), sem contagem total.
+ *
+ * @param <T> tipo do conteúdo
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final String prevCursor;
+
+    /**
+     * Indica se existe uma próxima página.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Indica se existe uma página anterior.
+     */
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+
+    /**
+     * Converte o conteúdo mantendo os cursores.
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorPage<>(content.stream().<R>map(converter).toList(), size, nextCursor, prevCursor);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.systemrpg.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import br.com.systemrpg.backend.constants.MessageConstants;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Utilitário para paginação por cursor (keyset) ordenada por (created_at DESC, id DESC).
+ * O cursor é opaco para o cliente: Base64 URL-safe de "direção|created_at|id".
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+    private static final String FORWARD = "n";
+    private static final String BACKWARD = "p";
+
+    /**
+     * Construtor privado para prevenir instanciação.
+     */
+    private CursorUtil() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Posição decodificada de um cursor.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class KeysetCursor {
+        private final LocalDateTime createdAt;
+        private final UUID id;
+        private final boolean backward;
+    }
+
+    /**
+     * Decodifica um cursor opaco.
+     *
+     * @param cursor cursor recebido na requisição
+     * @return posição do cursor, ou null para a primeira página (cursor vazio)
+     * @throws IllegalArgumentException se o cursor for inválido (mensagem {@link MessageConstants#INVALID_CURSOR},
+     *         resolvida pelo handler de exceções)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            parts = decoded.split("\\" + SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MessageConstants.INVALID_CURSOR, e);
+        }
+        if (parts.length != 3 || !(FORWARD.equals(parts[0]) || BACKWARD.equals(parts[0]))) {
+            throw new IllegalArgumentException(MessageConstants.INVALID_CURSOR);
+        }
+        try {
+            return new KeysetCursor(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]), BACKWARD.equals(parts[0]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(MessageConstants.INVALID_CURSOR, e);
+        }
+    }
+
+    /**
+     * Codifica uma posição em um cursor opaco.
+     *
+     * @param createdAt data de criação do registro de referência
+     * @param id ID do registro de referência
+     * @param backward true para navegar para registros mais recentes (página anterior)
+     * @return cursor opaco
+     */
+    public static String encode(LocalDateTime createdAt, UUID id, boolean backward) {
+        String raw = (backward ? BACKWARD : FORWARD) + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Monta a página de cursor a partir dos IDs retornados pela consulta keyset (limitada a size + 1).
+     *
+     * @param position posição solicitada (null para a primeira página)
+     * @param size tamanho da página
+     * @param ids IDs na ordem da consulta (DESC para avanço, ASC para retrocesso)
+     * @param loader função que carrega as entidades dos IDs
+     * @param idExtractor função que extrai o ID da entidade
+     * @param createdAtExtractor função que extrai a data de criação da entidade
+     * @param <T> tipo da entidade
+     * @return página com o conteúdo em ordem decrescente e os cursores de navegação
+     */
+    public static <T> CursorPage<T> toCursorPage(KeysetCursor position, int size, List<UUID> ids,
+            Function<Collection<UUID>, List<T>> loader, Function<T, UUID> idExtractor,
+            Function<T, LocalDateTime> createdAtExtractor) {
+        boolean hasMore = ids.size() > size;
+        List<UUID> pageIds = new ArrayList<>(hasMore ? ids.subList(0, size) : ids);
+        boolean backward = position != null && position.isBackward();
+        if (backward) {
+            Collections.reverse(pageIds);
+        }
+
+        List<T> content = pageIds.isEmpty()
+            ? List.of()
+            : PageUtil.orderByIds(pageIds, loader.apply(pageIds), idExtractor);
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : position != null;
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            T last = content.get(content.size() - 1);
+            T first = content.get(0);
+            nextCursor = hasNext ? encode(createdAtExtractor.apply(last), idExtractor.apply(last), false) : null;
+            prevCursor = hasPrevious ? encode(createdAtExtractor.apply(first), idExtractor.apply(first), true) : null;
+        }
+        return new CursorPage<>(content, size, nextCursor, prevCursor);
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.systemrpg.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Utilitário para paginação em duas fases (página de IDs primeiro, grafo das entidades depois).
+ * Evita que o Hibernate pagine em memória consultas com fetch de coleções (HHH90003004).
+ */
+public class PageUtil {
+
+    /**
+     * Construtor privado para prevenir instanciação.
+     */
+    private PageUtil() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Carrega as entidades de uma página de IDs preservando a ordem e os metadados de paginação.
+     *
+     * @param idPage página de IDs já ordenada e limitada no banco
+     * @param loader função que carrega as entidades (com seus grafos) para os IDs informados
+     * @param idExtractor função que extrai o ID de uma entidade carregada
+     * @param <T> tipo da entidade
+     * @param <I> tipo do ID
+     * @return página de entidades na mesma ordem da página de IDs
+     */
+    public static <T, I> Page<T> fetchByIds(Page<I> idPage, Function<Collection<I>, List<T>> loader, Function<T, I> idExtractor) {
+        if (!idPage.hasContent()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        return new PageImpl<>(orderByIds(idPage.getContent(), loader.apply(idPage.getContent()), idExtractor),
+            idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * Carrega as entidades de uma fatia de IDs preservando a ordem, sem total de registros.
+     *
+     * @param idSlice fatia de IDs já ordenada e limitada no banco
+     * @param loader função que carrega as entidades (com seus grafos) para os IDs informados
+     * @param idExtractor função que extrai o ID de uma entidade carregada
+     * @param <T> tipo da entidade
+     * @param <I> tipo do ID
+     * @return fatia de entidades na mesma ordem da fatia de IDs
+     */
+    public static <T, I> Slice<T> fetchByIds(Slice<I> idSlice, Function<Collection<I>, List<T>> loader, Function<T, I> idExtractor) {
+        if (!idSlice.hasContent()) {
+            return new SliceImpl<>(List.of(), idSlice.getPageable(), false);
+        }
+
+        return new SliceImpl<>(orderByIds(idSlice.getContent(), loader.apply(idSlice.getContent()), idExtractor),
+            idSlice.getPageable(), idSlice.hasNext());
+    }
+
+    /**
+     * Converte uma fatia em página usando um total obtido à parte (ex.: cache de contagem).
+     *
+     * @param slice fatia com o conteúdo da página
+     * @param total total de registros
+     * @param <T> tipo do conteúdo
+     * @return página com o total informado
+     */
+    public static <T> Page<T> toPage(Slice<T> slice, long total) {
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * Reordena entidades conforme a lista de IDs, descartando IDs sem entidade correspondente.
+     *
+     * @param ids IDs na ordem desejada
+     * @param entities entidades carregadas em ordem arbitrária
+     * @param idExtractor função que extrai o ID de uma entidade
+     * @param <T> tipo da entidade
+     * @param <I> tipo do ID
+     * @return entidades na ordem dos IDs
+     */
+    public static <T, I> List<T> orderByIds(List<I> ids, List<T> entities, Function<T, I> idExtractor) {
+        Map<I, T> byId = entities.stream()
+            .collect(Collectors.toMap(idExtractor, Function.identity(), (first, second) -> first));
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (I id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.systemrpg.backend.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Versão de um recurso ou coleção usada nas requisições condicionais (ETag / Last-Modified).
+ * Para um recurso, {@code lastModified} é o seu updated_at; para coleções, o maior updated_at
+ * e {@code count} a quantidade de registros (detecta exclusões que não alteram o máximo).
+ *
+ * @param lastModified maior updated_at considerado (nulo para coleção vazia)
+ * @param count quantidade de registros (nulo para recurso individual)
+ */
+public record ResourceVersion(LocalDateTime lastModified, Long count) {
+
+    /**
+     * Versão considerando também o updated_at dos filhos (ex.: participantes de um grupo).
+     * Usado em projeções JPQL.
+     */
+    public ResourceVersion(LocalDateTime updatedAt, LocalDateTime childrenUpdatedAt, Long count) {
+        this(childrenUpdatedAt != null && (updatedAt == null || childrenUpdatedAt.isAfter(updatedAt)) ? childrenUpdatedAt : updatedAt, count);
+    }
+
+    /**
+     * Versão de um recurso individual a partir do seu updated_at.
+     */
+    public static ResourceVersion of(LocalDateTime updatedAt) {
+        return new ResourceVersion(updatedAt, null);
+    }
+
+    /**
+     * Instante da última alteração em milissegundos, ou -1 quando desconhecido.
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
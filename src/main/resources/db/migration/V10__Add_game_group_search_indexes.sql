@@ -0,0 +1,20 @@
+-- V10: Add Game Group Search Indexes (pg_trgm + weighted tsvector)
+-- Domain: Game Groups Discovery (GET /game-groups/search and LIKE filters)
+-- Created: 2026-10-18
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Trigram indexes matching the LOWER(col) LIKE '%x%' filters and the fuzzy (%) match on campaign_name
+CREATE INDEX idx_game_group_campaign_name_trgm ON game_group USING gin (lower(campaign_name) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_game_group_game_system_trgm ON game_group USING gin (lower(game_system) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_game_group_setting_world_trgm ON game_group USING gin (lower(setting_world) gin_trgm_ops) WHERE deleted_at IS NULL;
+
+-- Weighted document for ranked free-text search: name (A), system/world (B), short description (C)
+ALTER TABLE game_group ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(campaign_name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(game_system, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(setting_world, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(short_description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_game_group_search_vector ON game_group USING gin (search_vector) WHERE deleted_at IS NULL;
@@ -0,0 +1,34 @@
+-- V11: Create Game Group Facet Table (game_group_facet)
+-- Domain: Game Groups Discovery (facet counts and type-ahead dictionary)
+-- Created: 2026-10-18
+
+-- One row per (facet, value) with the number of active, non-deleted groups
+CREATE TABLE game_group_facet (
+    facet varchar(30) not null,
+    value varchar(100) not null,
+    group_count bigint not null default 0,
+    primary key (facet, value)
+);
+
+-- Prefix lookup for type-ahead (lower(value) LIKE 'x%')
+CREATE INDEX idx_game_group_facet_facet_value_prefix ON game_group_facet(facet, lower(value) text_pattern_ops);
+
+-- Backfill from existing groups (modality: 0 = ONLINE, 1 = PRESENTIAL; visibility: 0 = PUBLIC, 1 = FRIENDS, 2 = PRIVATE)
+INSERT INTO game_group_facet (facet, value, group_count)
+SELECT facet, value, COUNT(*) FROM (
+    SELECT 'gameSystem' AS facet, trim(game_system) AS value FROM game_group WHERE deleted_at IS NULL AND is_active = true
+    UNION ALL
+    SELECT 'settingWorld', trim(setting_world) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+    UNION ALL
+    SELECT 'modality', CASE modality WHEN 0 THEN 'ONLINE' WHEN 1 THEN 'PRESENTIAL' END FROM game_group WHERE deleted_at IS NULL AND is_active = true
+    UNION ALL
+    SELECT 'visibility', CASE visibility WHEN 0 THEN 'PUBLIC' WHEN 1 THEN 'FRIENDS' WHEN 2 THEN 'PRIVATE' END FROM game_group WHERE deleted_at IS NULL AND is_active = true
+    UNION ALL
+    SELECT 'country', trim(country) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+    UNION ALL
+    SELECT 'state', trim(state) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+    UNION ALL
+    SELECT 'city', trim(city) FROM game_group WHERE deleted_at IS NULL AND is_active = true
+) v
+WHERE value IS NOT NULL AND value <> ''
+GROUP BY facet, value;
@@ -0,0 +1,7 @@
+-- V12: Add Game Group Location Discovery Index
+-- Domain: Game Groups Discovery (modality/country/state/city filters on GET /game-groups)
+-- Created: 2026-10-18
+
+-- Equality lookups on location are case insensitive, so the text columns are indexed as lower(col)
+CREATE INDEX idx_game_group_location ON game_group(modality, lower(country), lower(state), lower(city), is_active)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,12 @@
+-- V13: Add updated_at Indexes for Conditional GET
+-- Domain: Game Groups, Participants, Users, Adventures and Adventure Notes (ETag / Last-Modified versions)
+-- Created: 2026-10-18
+
+-- Collection versions read MAX(updated_at) over all rows (soft-deleted rows included, since soft delete bumps updated_at)
+CREATE INDEX idx_game_group_updated_at ON game_group(updated_at);
+CREATE INDEX idx_game_group_participant_updated_at ON game_group_participant(updated_at);
+CREATE INDEX idx_users_updated_at ON users(updated_at);
+
+-- Per-parent versions (adventures of a group, notes of an adventure)
+CREATE INDEX idx_adventure_game_group_updated_at ON adventure(game_group_id, updated_at);
+CREATE INDEX idx_adventure_note_adventure_updated_at ON adventure_note(adventure_id, updated_at);
@@ -0,0 +1,55 @@
+-- V14: Create Game Group Card Table (game_group_card)
+-- Domain: Game Groups Listing (denormalized read model for list cards)
+-- Created: 2026-10-19
+
+-- One row per non-deleted group with everything a list card renders: group columns, participant counters,
+-- the master's username and the number of adventures (visibility/access_rule/modality keep the ordinal values)
+CREATE TABLE game_group_card (
+    game_group_id uuid not null,
+
+    campaign_name varchar(100) not null,
+    short_description varchar(100) not null,
+    game_system varchar(100) not null,
+    setting_world varchar(100),
+
+    visibility integer not null,
+    access_rule integer not null,
+    modality integer not null,
+    country varchar(100),
+    state varchar(100),
+    city varchar(100),
+
+    max_players integer,
+    master_count integer not null default 0,
+    player_count integer not null default 0,
+    guest_count integer not null default 0,
+    master_username varchar(50),
+    adventure_count integer not null default 0,
+
+    is_active boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (game_group_id)
+);
+
+-- Listing order (newest first, id as tie-breaker)
+CREATE INDEX idx_game_group_card_created ON game_group_card(created_at DESC, game_group_id DESC);
+
+ALTER TABLE game_group_card
+ADD CONSTRAINT fk_game_group_card_game_group
+FOREIGN KEY (game_group_id) REFERENCES game_group(id) ON DELETE CASCADE;
+
+-- Backfill from existing groups (role: 0 = MASTER)
+INSERT INTO game_group_card (game_group_id, campaign_name, short_description, game_system, setting_world,
+    visibility, access_rule, modality, country, state, city, max_players, master_count, player_count, guest_count,
+    master_username, adventure_count, is_active, created_at, updated_at)
+SELECT g.id, g.campaign_name, g.short_description, g.game_system, g.setting_world,
+    g.visibility, g.access_rule, g.modality, g.country, g.state, g.city, g.max_players,
+    g.master_count, g.player_count, g.guest_count,
+    (SELECT u.username FROM game_group_participant p JOIN users u ON u.id = p.user_id
+     WHERE p.game_group_id = g.id AND p.role = 0 AND p.is_active = true AND p.deleted_at IS NULL
+     ORDER BY p.created_at LIMIT 1),
+    (SELECT COUNT(*) FROM adventure a WHERE a.game_group_id = g.id AND a.deleted_at IS NULL),
+    g.is_active, g.created_at, g.updated_at
+FROM game_group g
+WHERE g.deleted_at IS NULL;
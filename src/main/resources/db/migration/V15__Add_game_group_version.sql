@@ -0,0 +1,6 @@
+-- V15: Add optimistic locking version to game_group
+-- Domain: Game Groups (concurrent updates)
+-- Created: 2026-10-19
+
+-- Incremented by every entity UPDATE (JPA @Version); atomic counter updates do not touch it
+ALTER TABLE game_group ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,77 @@
+-- V16: Add Soft Delete Archive (partial live-row indexes + *_archive tables)
+-- Domain: Users, Game Groups, Participants, Invites, Adventures and Adventure Notes (hot/cold storage split)
+-- Created: 2026-10-19
+
+-- Hot access paths only ever read live rows: replace the full indexes with partial ones (deleted_at IS NULL)
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_users_active;
+CREATE INDEX idx_users_username_live ON users(lower(username)) WHERE deleted_at IS NULL;
+CREATE INDEX idx_users_email_live ON users(lower(email)) WHERE deleted_at IS NULL;
+CREATE INDEX idx_users_active_live ON users(is_active) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS idx_game_group_active;
+DROP INDEX IF EXISTS idx_game_group_created_by;
+CREATE INDEX idx_game_group_active_live ON game_group(is_active) WHERE deleted_at IS NULL;
+CREATE INDEX idx_game_group_created_by_live ON game_group(created_by) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS idx_game_group_participant_group;
+DROP INDEX IF EXISTS idx_game_group_participant_user_deleted_created;
+CREATE INDEX idx_game_group_participant_group_live ON game_group_participant(game_group_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_game_group_participant_user_created_live ON game_group_participant(user_id, created_at, id) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS idx_game_group_invite_group;
+CREATE INDEX idx_game_group_invite_group_live ON game_group_invite(game_group_id) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS idx_adventure_group;
+DROP INDEX IF EXISTS idx_adventure_active;
+CREATE INDEX idx_adventure_group_live ON adventure(game_group_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_adventure_active_live ON adventure(is_active) WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS idx_adventure_note_adventure;
+DROP INDEX IF EXISTS idx_adventure_note_active;
+CREATE INDEX idx_adventure_note_adventure_live ON adventure_note(adventure_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_adventure_note_active_live ON adventure_note(is_active) WHERE deleted_at IS NULL;
+
+-- Archiver scan: only soft-deleted rows, oldest first
+CREATE INDEX idx_users_deleted_at ON users(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_game_group_deleted_at ON game_group(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_game_group_participant_deleted_at ON game_group_participant(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_game_group_invite_deleted_at ON game_group_invite(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_adventure_deleted_at ON adventure(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_adventure_note_deleted_at ON adventure_note(deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Cold storage: same columns as the hot table plus archived_at, no foreign keys nor unique constraints
+-- (columns added to a hot table must also be added to its archive table)
+CREATE TABLE users_archive (LIKE users INCLUDING DEFAULTS);
+ALTER TABLE users_archive ADD COLUMN archived_at timestamp(6) not null default now();
+ALTER TABLE users_archive ADD PRIMARY KEY (id);
+
+CREATE TABLE user_roles_archive (LIKE user_roles);
+ALTER TABLE user_roles_archive ADD PRIMARY KEY (role_id, user_id);
+CREATE INDEX idx_user_roles_archive_user ON user_roles_archive(user_id);
+
+CREATE TABLE game_group_archive (LIKE game_group INCLUDING DEFAULTS);
+ALTER TABLE game_group_archive DROP COLUMN search_vector;
+ALTER TABLE game_group_archive ADD COLUMN archived_at timestamp(6) not null default now();
+ALTER TABLE game_group_archive ADD PRIMARY KEY (id);
+
+CREATE TABLE game_group_participant_archive (LIKE game_group_participant INCLUDING DEFAULTS);
+ALTER TABLE game_group_participant_archive ADD COLUMN archived_at timestamp(6) not null default now();
+ALTER TABLE game_group_participant_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_game_group_participant_archive_group ON game_group_participant_archive(game_group_id);
+
+CREATE TABLE game_group_invite_archive (LIKE game_group_invite INCLUDING DEFAULTS);
+ALTER TABLE game_group_invite_archive ADD COLUMN archived_at timestamp(6) not null default now();
+ALTER TABLE game_group_invite_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_game_group_invite_archive_group ON game_group_invite_archive(game_group_id);
+
+CREATE TABLE adventure_archive (LIKE adventure INCLUDING DEFAULTS);
+ALTER TABLE adventure_archive ADD COLUMN archived_at timestamp(6) not null default now();
+ALTER TABLE adventure_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_adventure_archive_group ON adventure_archive(game_group_id);
+
+CREATE TABLE adventure_note_archive (LIKE adventure_note INCLUDING DEFAULTS);
+ALTER TABLE adventure_note_archive ADD COLUMN archived_at timestamp(6) not null default now();
+ALTER TABLE adventure_note_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_adventure_note_archive_adventure ON adventure_note_archive(adventure_id);
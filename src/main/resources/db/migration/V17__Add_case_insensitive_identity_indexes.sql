@@ -0,0 +1,17 @@
+-- V17: Add Case-Insensitive Identity Indexes (lower(username), lower(email), lower(campaign_name))
+-- Domain: Users (login, availability checks, authorization helpers) and Game Groups (campaign name lookup)
+-- Created: 2026-10-19
+
+-- Every identity lookup compares LOWER(col) = LOWER(:x); uniqueness is now enforced case-insensitively
+-- over the whole table (soft-deleted rows included). Fails if case-only duplicates already exist.
+CREATE UNIQUE INDEX uk_users_username_lower ON users(lower(username));
+CREATE UNIQUE INDEX uk_users_email_lower ON users(lower(email));
+
+-- Superseded: the case-sensitive constraints and the live-only lower() indexes from V16
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_username_key;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+DROP INDEX IF EXISTS idx_users_username_live;
+DROP INDEX IF EXISTS idx_users_email_live;
+
+-- Campaign name equality (existsByCampaignNameIgnoreCase...) on live groups
+CREATE INDEX idx_game_group_campaign_name_lower ON game_group(lower(campaign_name)) WHERE deleted_at IS NULL;
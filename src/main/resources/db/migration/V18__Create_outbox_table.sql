@@ -0,0 +1,18 @@
+-- V18: Create Outbox Table (transactional outbox for domain events)
+-- Domain: Game Groups, Participants, Invites, Adventures and Adventure Notes (events written with each state change)
+-- Created: 2026-10-19
+
+-- Rows are inserted in the same transaction as the change and deleted once delivered to every subscriber;
+-- rows whose delivery keeps failing stay here (attempts >= app.outbox.max-attempts) for inspection
+CREATE TABLE outbox (
+    id bigserial PRIMARY KEY,
+    aggregate_type varchar(50) not null,
+    aggregate_id uuid not null,
+    event_type varchar(50) not null,
+    payload jsonb not null,
+    created_at timestamp(6) not null default now(),
+    attempts integer not null default 0,
+    last_error varchar(500)
+);
+
+-- The dispatcher walks the primary key in insertion order (FOR UPDATE SKIP LOCKED); the table only holds the backlog
@@ -0,0 +1,7 @@
+-- V19: Add Users Username Natural Id Index (exact username)
+-- Domain: Users (natural id resolution in AuthService and the authorization helpers)
+-- Created: 2026-10-19
+
+-- bySimpleNaturalId resolves username -> id with "where username = ?" on every natural id cache miss;
+-- V17 left only the lower(username) index, which that predicate cannot use
+CREATE INDEX idx_users_username ON users(username);
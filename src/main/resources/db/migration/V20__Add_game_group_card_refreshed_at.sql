@@ -0,0 +1,10 @@
+-- V20: Add Game Group Card Refreshed At (game_group_card.refreshed_at)
+-- Domain: Game Groups Listing (version of the listing used by conditional requests)
+-- Created: 2026-10-19
+
+-- updated_at mirrors the group's own column, so a new adventure or a master username change rewrites the card
+-- without moving it; refreshed_at records every recalculation of the card and enters the listing version
+ALTER TABLE game_group_card ADD COLUMN refreshed_at timestamp(6) not null default clock_timestamp();
+
+-- MAX(refreshed_at) for the listing version without scanning the table
+CREATE INDEX idx_game_group_card_refreshed ON game_group_card(refreshed_at);
@@ -0,0 +1,10 @@
+-- V7: Add Keyset Pagination Indexes
+-- Domain: Pagination (cursor mode ordered by created_at DESC, id DESC)
+-- Created: 2026-10-18
+
+-- Composite indexes matching the (created_at, id) seek predicates of the cursor listings
+CREATE INDEX idx_game_group_created_id ON game_group(created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_users_created_id ON users(created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_game_group_participant_created_id ON game_group_participant(created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_game_group_invite_group_created_id ON game_group_invite(game_group_id, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_adventure_note_adventure_created_id ON adventure_note(adventure_id, created_at, id) WHERE deleted_at IS NULL;
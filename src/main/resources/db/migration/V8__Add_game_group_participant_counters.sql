@@ -0,0 +1,23 @@
+-- V8: Add Game Group Participant Counters (master_count, player_count, guest_count)
+-- Domain: Game Groups Management (denormalized active participants per role)
+-- Created: 2026-10-18
+
+ALTER TABLE game_group ADD COLUMN master_count integer not null default 0;
+ALTER TABLE game_group ADD COLUMN player_count integer not null default 0;
+ALTER TABLE game_group ADD COLUMN guest_count integer not null default 0;
+
+-- Backfill from active, non-deleted participants (role: 0 = MASTER, 1 = PLAYER, 2 = GUEST)
+UPDATE game_group g SET
+    master_count = c.master_count,
+    player_count = c.player_count,
+    guest_count = c.guest_count
+FROM (
+    SELECT p.game_group_id,
+           COUNT(*) FILTER (WHERE p.role = 0) AS master_count,
+           COUNT(*) FILTER (WHERE p.role = 1) AS player_count,
+           COUNT(*) FILTER (WHERE p.role = 2) AS guest_count
+    FROM game_group_participant p
+    WHERE p.is_active = true AND p.deleted_at IS NULL
+    GROUP BY p.game_group_id
+) c
+WHERE g.id = c.game_group_id;
@@ -0,0 +1,6 @@
+-- V9: Add My Groups Membership Index
+-- Domain: Game Groups Management (GET /game-groups/my-groups)
+-- Created: 2026-10-18
+
+-- Supports the participant ⋈ game_group listing filtered by user and ordered by join date
+CREATE INDEX idx_game_group_participant_user_deleted_created ON game_group_participant(user_id, deleted_at, created_at);
@@ -0,0 +1,108 @@
+package br.com.systemrpg.backend.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.service.CacheInvalidationBus;
+
+/**
+ * Testes unitários para CacheConfig.
+ */
+class CacheConfigTest {
+
+    private final MockEnvironment environment = new MockEnvironment()
+        .withProperty("app.cache.users.max-size", "2")
+        .withProperty("app.cache.users.ttl", "PT30S");
+
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+
+    private final CacheManager cacheManager = new CacheConfig().cacheManager(environment, invalidationBus);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cacheManager_ShouldBoundEachCacheBySizeAndTtlFromProperties() {
+        // Act
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> users = nativeCache(CacheConfig.USERS);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> adventures = nativeCache(CacheConfig.ADVENTURES);
+
+        // Assert
+        assertTrue(cacheManager.getCacheNames().containsAll(CacheConfig.CACHE_NAMES));
+        assertEquals(2L, users.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofSeconds(30), users.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(1_000L, adventures.policy().eviction().orElseThrow().getMaximum());
+        assertTrue(users.policy().isRecordingStats());
+    }
+
+    @Test
+    void evict_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Cache cache = cacheManager.getCache(CacheConfig.GAME_GROUPS);
+        cache.put(id, "grupo");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.evict(id);
+        Cache.ValueWrapper beforeCommit = cache.get(id);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertNotNull(beforeCommit);
+        assertNull(cache.get(id));
+        verify(invalidationBus).publishEvict(CacheConfig.GAME_GROUPS, id);
+    }
+
+    @Test
+    void cacheManager_ShouldRegisterEveryCacheForRemoteInvalidation() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Cache cache = cacheManager.getCache(CacheConfig.USERS);
+        cache.put(id, "usuario");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<Object>> evict = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).register(eq(CacheConfig.USERS), evict.capture(), any());
+
+        // Act
+        evict.getValue().accept(id);
+
+        // Assert
+        assertNull(cache.get(id));
+        verify(invalidationBus, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    void put_WithNullValue_ShouldBeRejected() {
+        // Arrange
+        Cache cache = cacheManager.getCache(CacheConfig.INVITES_BY_CODE);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> cache.put("ABC123", null));
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        Cache cache = ((TransactionAwareCacheDecorator) cacheManager.getCache(name)).getTargetCache();
+        return ((CaffeineCache) cache).getNativeCache();
+    }
+}
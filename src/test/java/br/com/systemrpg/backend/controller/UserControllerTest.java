@@ -47,6 +47,7 @@ import br.com.systemrpg.backend.hateoas.PageInfo;
 import br.com.systemrpg.backend.mapper.UserHateoasMapper;
 import br.com.systemrpg.backend.mapper.UserMapper;
 import br.com.systemrpg.backend.service.JwtService;
+import br.com.systemrpg.backend.service.UserAutocompleteService;
 import br.com.systemrpg.backend.service.UserService;
 
 @WebMvcTest(UserController.class)
@@ -63,6 +64,9 @@ class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private UserAutocompleteService autocompleteService;
+
     @MockitoBean
     private UserMapper userMapper;
 
@@ -167,7 +171,7 @@ class UserControllerTest {
     @WithMockUser(roles = "ADMIN")
     void getAllUsers_WithoutFilter_ShouldReturnPagedUsers() throws Exception {
         // Arrange
-        Page<User> userPage = new PageImpl<>(List.of(testUser), PageRequest.of(0, 20), 1);
+        Page<UserResponse> userPage = new PageImpl<>(List.of(userResponse), PageRequest.of(0, 20), 1);
         PageInfo pageInfo = PageInfo.builder()
                 .number(0)
                 .size(20)
@@ -185,8 +189,7 @@ class UserControllerTest {
                 .page(pageInfo)
                 .build();
 
-        when(userService.findAll(any(Pageable.class))).thenReturn(userPage);
-        when(userMapper.toResponse(testUser)).thenReturn(userResponse);
+        when(userService.findAllAsResponse(eq(false), any(Pageable.class))).thenReturn(userPage);
         when(userHateoasMapper.toPagedHateoasResponse(any(Page.class))).thenReturn(pagedResponse);
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Success message");
 
@@ -200,7 +203,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.data.page.totalElements").value(1))
                 .andExpect(jsonPath("$.data.page.totalPages").value(1));
 
-        verify(userService).findAll(any(Pageable.class));
+        verify(userService).findAllAsResponse(eq(false), any(Pageable.class));
         verify(userHateoasMapper).toPagedHateoasResponse(any(Page.class));
     }
 
@@ -208,7 +211,7 @@ class UserControllerTest {
     @WithMockUser(roles = "ADMIN")
     void getAllUsers_WithActiveFilter_ShouldReturnFilteredUsers() throws Exception {
         // Arrange
-        Page<User> userPage = new PageImpl<>(List.of(testUser), PageRequest.of(0, 20), 1);
+        Page<UserResponse> userPage = new PageImpl<>(List.of(userResponse), PageRequest.of(0, 20), 1);
         PageInfo pageInfo = PageInfo.builder()
                 .number(0)
                 .size(20)
@@ -226,7 +229,7 @@ class UserControllerTest {
                 .page(pageInfo)
                 .build();
 
-        when(userService.findActiveUsers(any(Pageable.class))).thenReturn(userPage);
+        when(userService.findAllAsResponse(eq(true), any(Pageable.class))).thenReturn(userPage);
         when(userHateoasMapper.toPagedHateoasResponse(any(Page.class))).thenReturn(pagedResponse);
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Success message");
 
@@ -238,14 +241,14 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Success message"));
 
-        verify(userService).findActiveUsers(any(Pageable.class));
+        verify(userService).findAllAsResponse(eq(true), any(Pageable.class));
     }
 
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAllUsers_WithInactiveFilter_ShouldReturnAllUsers() throws Exception {
         // Arrange
-        Page<User> userPage = new PageImpl<>(List.of(testUser), PageRequest.of(0, 20), 1);
+        Page<UserResponse> userPage = new PageImpl<>(List.of(userResponse), PageRequest.of(0, 20), 1);
         PageInfo pageInfo = PageInfo.builder()
                 .number(0)
                 .size(20)
@@ -263,7 +266,7 @@ class UserControllerTest {
                 .page(pageInfo)
                 .build();
 
-        when(userService.findAll(any(Pageable.class))).thenReturn(userPage);
+        when(userService.findAllAsResponse(eq(false), any(Pageable.class))).thenReturn(userPage);
         when(userHateoasMapper.toPagedHateoasResponse(any(Page.class))).thenReturn(pagedResponse);
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Success message");
 
@@ -275,7 +278,7 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Success message"));
 
-        verify(userService).findAll(any(Pageable.class));
+        verify(userService).findAllAsResponse(eq(false), any(Pageable.class));
     }
 
     @Test
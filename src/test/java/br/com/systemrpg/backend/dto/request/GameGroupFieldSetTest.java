@@ -0,0 +1,83 @@
+package br.com.systemrpg.backend.dto.request;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.systemrpg.backend.dto.hateoas.GameGroupHateoasResponse;
+
+class GameGroupFieldSetTest {
+
+    @Test
+    void parse_WithoutFields_ShouldIncludeEverything() {
+        // Act
+        GameGroupFieldSet fieldSet = GameGroupFieldSet.parse(" , ");
+
+        // Assert
+        assertTrue(fieldSet.isAll());
+        assertTrue(fieldSet.includesParticipants());
+        assertFalse(fieldSet.isCardOnly());
+        assertNull(fieldSet.toQueryValue());
+    }
+
+    @Test
+    void parse_WithCardFields_ShouldUseCardProjectionAndAlwaysIncludeId() {
+        // Act
+        GameGroupFieldSet fieldSet = GameGroupFieldSet.parse("campaignName, gameSystem,currentParticipants");
+
+        // Assert
+        assertTrue(fieldSet.isCardOnly());
+        assertFalse(fieldSet.includesParticipants());
+        assertTrue(fieldSet.includes("id"));
+        assertEquals("id,campaignName,gameSystem,currentParticipants", fieldSet.toQueryValue());
+    }
+
+    @Test
+    void parse_WithDescription_ShouldLoadEntityWithoutParticipants() {
+        // Act
+        GameGroupFieldSet fieldSet = GameGroupFieldSet.parse("campaignName,description");
+
+        // Assert
+        assertFalse(fieldSet.isCardOnly());
+        assertFalse(fieldSet.includesParticipants());
+    }
+
+    @Test
+    void getUnknownFields_ShouldReturnFieldsMissingFromResponse() {
+        // Act
+        GameGroupFieldSet fieldSet = GameGroupFieldSet.parse("campaignName,password,links");
+
+        // Assert
+        assertEquals(Set.of("password", "links"), fieldSet.getUnknownFields());
+    }
+
+    @Test
+    void apply_ShouldClearFieldsNotRequested() {
+        // Arrange
+        GameGroupHateoasResponse response = new GameGroupHateoasResponse();
+        response.setId(UUID.randomUUID());
+        response.setCampaignName("Mesa A");
+        response.setDescription("Descrição longa");
+        response.setHouseRules("Regras da casa");
+        response.setParticipants(List.of());
+        response.setIsActive(true);
+        response.setCreatedAt(LocalDateTime.now());
+
+        // Act
+        GameGroupFieldSet.parse("campaignName").apply(response);
+
+        // Assert
+        assertNotNull(response.getId());
+        assertEquals("Mesa A", response.getCampaignName());
+        assertNull(response.getDescription());
+        assertNull(response.getHouseRules());
+        assertNull(response.getParticipants());
+        assertNull(response.getIsActive());
+        assertNull(response.getCreatedAt());
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -733,4 +734,51 @@ class HateoasLinkBuilderTest {
             // Na última página, não deve haver links next e last
         }
     }
+
+    @Test
+    @DisplayName("Deve adicionar links de cursor opacos na paginação keyset")
+    void shouldAddCursorPaginationLinks() {
+        ReflectionTestUtils.setField(hateoasLinkBuilder, "apiV1Path", "/api/v1");
+        PagedHateoasResponse<Object> pagedResponse = new PagedHateoasResponse<>();
+        PageInfo pageInfo = new PageInfo();
+        pageInfo.setNextCursor("next-token");
+        pageInfo.setPrevCursor("prev-token");
+        pagedResponse.setPage(pageInfo);
+
+        hateoasLinkBuilder.addPaginationLinks(pagedResponse, "current-token", 10, "/game-groups", "gameSystem=D%26D");
+
+        assertEquals("http://localhost:8080/api/v1/game-groups?cursor=current-token&size=10&gameSystem=D%26D",
+                findLink(pagedResponse, "self").getHref());
+        assertEquals("http://localhost:8080/api/v1/game-groups?cursor=next-token&size=10&gameSystem=D%26D",
+                findLink(pagedResponse, "next").getHref());
+        assertEquals("http://localhost:8080/api/v1/game-groups?cursor=prev-token&size=10&gameSystem=D%26D",
+                findLink(pagedResponse, "prev").getHref());
+        assertEquals("http://localhost:8080/api/v1/game-groups?cursor=&size=10&gameSystem=D%26D",
+                findLink(pagedResponse, "first").getHref());
+        assertTrue(pagedResponse.getLinks().stream().noneMatch(link -> "last".equals(link.getRel())));
+    }
+
+    @Test
+    @DisplayName("Deve omitir prev e first na primeira página keyset")
+    void shouldOmitPrevLinksOnFirstCursorPage() {
+        ReflectionTestUtils.setField(hateoasLinkBuilder, "apiV1Path", "/api/v1");
+        PagedHateoasResponse<Object> pagedResponse = new PagedHateoasResponse<>();
+        PageInfo pageInfo = new PageInfo();
+        pageInfo.setNextCursor("next-token");
+        pagedResponse.setPage(pageInfo);
+
+        hateoasLinkBuilder.addPaginationLinks(pagedResponse, "", 20, "/users", null);
+
+        assertEquals("http://localhost:8080/api/v1/users?cursor=&size=20", findLink(pagedResponse, "self").getHref());
+        assertNotNull(findLink(pagedResponse, "next"));
+        assertTrue(pagedResponse.getLinks().stream()
+                .noneMatch(link -> "prev".equals(link.getRel()) || "first".equals(link.getRel())));
+    }
+
+    private Link findLink(HateoasResponse hateoasResponse, String rel) {
+        return hateoasResponse.getLinks().stream()
+                .filter(link -> rel.equals(link.getRel()))
+                .findFirst()
+                .orElse(null);
+    }
 }
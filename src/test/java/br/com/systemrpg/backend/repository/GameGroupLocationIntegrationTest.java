@@ -0,0 +1,87 @@
+package br.com.systemrpg.backend.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante a descoberta por localização com vagas abertas e o uso do índice idx_game_group_location.
+ */
+class GameGroupLocationIntegrationTest extends QueryPlanIntegrationTestSupport {
+
+    private static final int FILLER_ROWS = 100_000;
+
+    @Autowired
+    private GameGroupRepository gameGroupRepository;
+
+    private UUID openGroupId;
+
+    @Override
+    protected void seed() {
+        bulkInsert("game_group", "id, campaign_name, game_system, setting_world, short_description, "
+            + "visibility, access_rule, modality, country, state, city, max_players, is_active, created_by, created_at, updated_at",
+            "gen_random_uuid(), 'Mesa ' || n, 'D&D 5e', 'Forgotten Realms', 'Mesa', 0, 0, n % 2, "
+            + "'Brasil', 'UF' || (n % 27), 'Cidade ' || (n % 500), 5, true, gen_random_uuid(), now(), now()", FILLER_ROWS);
+
+        openGroupId = insertPresentialGroup("Curitiba", 5, 2, LocalDateTime.now());
+        insertPresentialGroup("Curitiba", 3, 3, LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    void findIdsByLocation_WithOpenSlots_ShouldSkipFullGroups() {
+        // Arrange
+        int presential = GameGroup.Modality.PRESENTIAL.getValue();
+
+        // Act
+        Slice<UUID> ids = gameGroupRepository.findIdsByLocation(presential, "brasil", "pr", "curitiba", true,
+            null, null, null, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(openGroupId), ids.getContent());
+        assertEquals(2, gameGroupRepository.countByLocation(presential, "Brasil", "PR", "Curitiba", false, null, null, null));
+    }
+
+    @Test
+    void findIdsByLocation_ShouldUseLocationIndex() {
+        // Arrange: os mesmos parâmetros da descoberta acima, com o LIMIT da primeira página de um Slice de 20
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("modality", GameGroup.Modality.PRESENTIAL.getValue(), Types.INTEGER)
+            .addValue("country", "brasil", Types.VARCHAR)
+            .addValue("state", "pr", Types.VARCHAR)
+            .addValue("city", "curitiba", Types.VARCHAR)
+            .addValue("openSlots", true, Types.BOOLEAN)
+            .addValue("campaignName", null, Types.VARCHAR)
+            .addValue("gameSystem", null, Types.VARCHAR)
+            .addValue("settingWorld", null, Types.VARCHAR);
+
+        // Act
+        String plan = explain(nativeQuery(GameGroupRepository.class, "findIdsByLocation") + " LIMIT 21", params);
+
+        // Assert
+        assertTrue(plan.contains("idx_game_group_location"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    private UUID insertPresentialGroup(String city, int maxPlayers, int playerCount, LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.update("INSERT INTO game_group (id, campaign_name, game_system, setting_world, short_description, "
+            + "visibility, access_rule, modality, country, state, city, max_players, master_count, player_count, "
+            + "is_active, created_by, created_at, updated_at) "
+            + "VALUES (?, 'Mesa presencial', 'D&D 5e', 'Forgotten Realms', 'Mesa', 0, 0, 1, 'Brasil', 'PR', ?, ?, 1, ?, true, ?, ?, ?)",
+            id, city, maxPlayers, playerCount - 1, UUID.randomUUID(), timestamp, timestamp);
+        return id;
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.systemrpg.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante a ordenação por relevância da busca textual e o uso dos índices GIN (trigramas e tsvector).
+ */
+class GameGroupSearchIntegrationTest extends QueryPlanIntegrationTestSupport {
+
+    private static final int FILLER_ROWS = 200_000;
+
+    @Autowired
+    private GameGroupRepository gameGroupRepository;
+
+    private UUID nameMatchId;
+    private UUID descriptionMatchId;
+
+    @Override
+    protected void seed() {
+        bulkInsert("game_group", "id, campaign_name, game_system, setting_world, short_description, "
+            + "visibility, access_rule, modality, is_active, created_by, created_at, updated_at",
+            "gen_random_uuid(), 'Mesa ' || n, 'Sistema ' || (n % 50), 'Mundo ' || (n % 200), 'Grupo semanal', "
+            + "0, 0, 0, true, gen_random_uuid(), now(), now()", FILLER_ROWS);
+
+        nameMatchId = insertGroup("A Maldição de Strahd", "D&D 5e", "Ravenloft", "Horror gótico", LocalDateTime.now().minusDays(1));
+        descriptionMatchId = insertGroup("Noites de Sábado", "D&D 5e", "Forgotten Realms", "Campanha inspirada em Strahd", LocalDateTime.now());
+    }
+
+    @Test
+    void searchIds_ShouldRankNameMatchesAboveDescriptionMatches() {
+        // Act
+        Slice<UUID> ids = gameGroupRepository.searchIds("strahd", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(nameMatchId, descriptionMatchId), ids.getContent());
+        assertFalse(ids.hasNext());
+        assertEquals(2, gameGroupRepository.countSearch("strahd"));
+    }
+
+    @Test
+    void searchIds_WithTypo_ShouldFindByTrigramSimilarity() {
+        // Act
+        Slice<UUID> ids = gameGroupRepository.searchIds("maldicao de strahd", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(nameMatchId, ids.getContent().get(0));
+    }
+
+    @Test
+    void searchIds_ShouldUseGinIndexes() {
+        // Arrange: o LIMIT da primeira página de um Slice de 20
+        MapSqlParameterSource params = new MapSqlParameterSource("query", "strahd");
+
+        // Act
+        String plan = explain(nativeQuery(GameGroupRepository.class, "searchIds") + " LIMIT 21", params);
+
+        // Assert
+        assertTrue(plan.contains("idx_game_group_search_vector"), plan);
+        assertTrue(plan.contains("idx_game_group_campaign_name_trgm"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    private UUID insertGroup(String campaignName, String gameSystem, String settingWorld, String shortDescription, LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.update("INSERT INTO game_group (id, campaign_name, game_system, setting_world, short_description, "
+            + "visibility, access_rule, modality, is_active, created_by, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, 0, 0, 0, true, ?, ?, ?)",
+            id, campaignName, gameSystem, settingWorld, shortDescription, UUID.randomUUID(), timestamp, timestamp);
+        return id;
+    }
+}
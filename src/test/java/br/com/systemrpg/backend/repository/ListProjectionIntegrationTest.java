@@ -0,0 +1,180 @@
+package br.com.systemrpg.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import br.com.systemrpg.backend.domain.entity.Adventure;
+import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.dto.response.AdventureResponse;
+import br.com.systemrpg.backend.dto.response.GameGroupParticipantRow;
+import br.com.systemrpg.backend.dto.response.RoleResponse;
+import br.com.systemrpg.backend.dto.response.UserResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara as listagens por entidade com as projeções somente leitura: as projeções não hidratam entidades
+ * (nem as registram no contexto de persistência). Os tempos medidos são apenas registrados em log.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ListProjectionIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ListProjectionIntegrationTest.class);
+
+    private static final int ROWS = 500;
+    private static final int PAGE_SIZE = 100;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameGroupParticipantRepository participantRepository;
+
+    @Autowired
+    private AdventureRepository adventureRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID gameGroupId;
+    private long lastEntityLoadCount;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID roleId = UUID.randomUUID();
+        gameGroupId = UUID.randomUUID();
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.update("INSERT INTO roles (id, name, description, is_active, created_at, updated_at) "
+            + "VALUES (?, 'PLAYER', 'Jogador', true, ?, ?)", roleId, nowTimestamp, nowTimestamp);
+        for (int i = 0; i < ROWS; i++) {
+            UUID userId = UUID.randomUUID();
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(i));
+            jdbcTemplate.update("INSERT INTO users (id, username, email, first_name, last_name, password_hash, "
+                + "is_active, is_email_verified, created_at, updated_at) VALUES (?, ?, ?, 'First', 'Last', 'hash', true, true, ?, ?)",
+                userId, "user" + i, "user" + i + "@example.com", createdAt, createdAt);
+            jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", userId, roleId);
+            if (i == 0) {
+                jdbcTemplate.update("INSERT INTO game_group (id, campaign_name, game_system, setting_world, short_description, "
+                    + "visibility, access_rule, modality, is_active, created_by, created_at, updated_at) "
+                    + "VALUES (?, 'Campanha', 'D&D 5e', 'Forgotten Realms', 'Mesa', 0, 0, 0, true, ?, ?, ?)",
+                    gameGroupId, userId, createdAt, createdAt);
+            }
+            jdbcTemplate.update("INSERT INTO game_group_participant (id, game_group_id, user_id, role, is_active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 1, true, ?, ?)", UUID.randomUUID(), gameGroupId, userId, createdAt, createdAt);
+            jdbcTemplate.update("INSERT INTO adventure (id, title, description, is_active, created_by, created_at, updated_at, game_group_id) "
+                + "VALUES (?, ?, 'Descrição', true, ?, ?, ?, ?)", UUID.randomUUID(), "Aventura " + i, userId, createdAt, createdAt, gameGroupId);
+        }
+    }
+
+    @Test
+    void userListing_WithProjection_ShouldNotLoadEntities() {
+        // Arrange
+        Slice<UUID> ids = userRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(PageRequest.of(0, PAGE_SIZE));
+
+        // Act
+        List<User> entities = measure("usuários (entidades)", () -> userRepository.findAllWithRolesByIdIn(ids.getContent()));
+        long entityLoads = lastEntityLoadCount;
+        List<UserResponse> responses = measure("usuários (projeção)", () -> userRepository.findResponsesByIdIn(ids.getContent()));
+        long projectionLoads = lastEntityLoadCount;
+        Map<UUID, Set<RoleResponse>> roles = measure("papéis (projeção)",
+            () -> userRepository.findRoleResponsesByUserIdIn(ids.getContent()));
+
+        // Assert
+        assertEquals(PAGE_SIZE, entities.size());
+        assertEquals(PAGE_SIZE, responses.size());
+        assertEquals(PAGE_SIZE, roles.size());
+        assertTrue(entityLoads >= PAGE_SIZE);
+        assertEquals(0, projectionLoads);
+        assertEquals(0, lastEntityLoadCount);
+    }
+
+    @Test
+    void participantListing_WithProjection_ShouldNotLoadEntities() {
+        // Act
+        Slice<GameGroupParticipantRow> rows = measure("participantes (projeção)",
+            () -> participantRepository.findRowsByFilters(gameGroupId, null, null, true, PageRequest.of(0, PAGE_SIZE)));
+
+        // Assert
+        assertEquals(PAGE_SIZE, rows.getContent().size());
+        assertTrue(rows.hasNext());
+        assertEquals("PLAYER", rows.getContent().get(0).toResponse(Set.of()).getRole());
+        assertEquals(0, lastEntityLoadCount);
+    }
+
+    @Test
+    void adventureListing_WithProjection_ShouldNotLoadEntities() {
+        // Act
+        List<Adventure> entities = measure("aventuras (entidades)",
+            () -> adventureRepository.findByGameGroup_IdAndDeletedAtIsNullOrderByCreatedAtDesc(gameGroupId));
+        long entityLoads = lastEntityLoadCount;
+        List<AdventureResponse> responses = measure("aventuras (projeção)",
+            () -> adventureRepository.findResponsesByGameGroupId(gameGroupId));
+
+        // Assert
+        assertEquals(ROWS, entities.size());
+        assertEquals(ROWS, responses.size());
+        assertEquals(gameGroupId, responses.get(0).getGameGroupId());
+        assertEquals("Aventura 0", responses.get(0).getTitle());
+        assertTrue(entityLoads >= ROWS);
+        assertEquals(0, lastEntityLoadCount);
+    }
+
+    private <T> T measure(String label, Supplier<T> query) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        T result = query.get();
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        lastEntityLoadCount = statistics.getEntityLoadCount();
+        log.info("{}: {} µs, {} entidades carregadas, {} consultas", label, elapsedMicros,
+            lastEntityLoadCount, statistics.getPrepareStatementCount());
+        return result;
+    }
+}
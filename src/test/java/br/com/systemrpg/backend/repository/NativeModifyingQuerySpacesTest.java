@@ -0,0 +1,72 @@
+package br.com.systemrpg.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Garante que toda escrita nativa declara as tabelas que altera; sem isso o Hibernate esvazia todas as regiões
+ * do cache de segundo nível a cada execução.
+ */
+class NativeModifyingQuerySpacesTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+        AdventureNoteRepository.class,
+        AdventureRepository.class,
+        GameGroupCardRepository.class,
+        GameGroupFacetRepository.class,
+        GameGroupInviteRepository.class,
+        GameGroupParticipantRepository.class,
+        GameGroupRepository.class,
+        OutboxEventRepository.class,
+        UserRepository.class);
+
+    @Test
+    void nativeModifyingQueries_ShouldDeclareTheTablesTheyWrite() {
+        // Arrange
+        List<String> missing = new ArrayList<>();
+
+        // Act
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null || !query.nativeQuery() || !method.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                List<String> spaces = nativeSpaces(method);
+                String sql = query.value().toLowerCase(Locale.ROOT);
+                if (spaces.isEmpty() || spaces.stream().noneMatch(sql::contains)) {
+                    missing.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(missing.isEmpty(), "Consultas nativas de escrita sem query spaces: " + missing);
+    }
+
+    private static List<String> nativeSpaces(Method method) {
+        QueryHints hints = method.getAnnotation(QueryHints.class);
+        if (hints == null) {
+            return List.of();
+        }
+        List<String> spaces = new ArrayList<>();
+        for (QueryHint hint : hints.value()) {
+            if (HibernateHints.HINT_NATIVE_SPACES.equals(hint.name())) {
+                spaces.add(hint.value());
+            }
+        }
+        return spaces;
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.systemrpg.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import br.com.systemrpg.backend.domain.entity.OutboxEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que instâncias concorrentes do despachante reservam lotes disjuntos do outbox (SKIP LOCKED)
+ * e que só os tipos de evento pedidos são reservados.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class OutboxEventRepositoryIntegrationTest {
+
+    private static final List<String> GROUP_TYPES = List.of("GAME_GROUP_UPDATED");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType("game_group")
+                .aggregateId(UUID.randomUUID())
+                .eventType("GAME_GROUP_UPDATED")
+                .payload("{}")
+                .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void claimBatch_WithConcurrentDispatchers_ShouldSkipRowsLockedByTheOther() {
+        // Arrange
+        TransactionTemplate first = new TransactionTemplate(transactionManager);
+        TransactionTemplate second = new TransactionTemplate(transactionManager);
+        second.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Act
+        List<List<Long>> claims = first.execute(status -> {
+            List<Long> firstClaim = ids(outboxEventRepository.claimBatch(0L, GROUP_TYPES, 10, 3));
+            List<Long> secondClaim = second.execute(inner -> ids(outboxEventRepository.claimBatch(0L, GROUP_TYPES, 10, 5)));
+            return List.of(firstClaim, secondClaim);
+        });
+
+        // Assert
+        assertEquals(3, claims.get(0).size());
+        assertEquals(2, claims.get(1).size());
+        assertTrue(claims.get(1).stream().noneMatch(claims.get(0)::contains));
+        assertEquals(5L, outboxEventRepository.countByAttemptsLessThan(10));
+    }
+
+    @Test
+    void claimBatch_ShouldLeaveEventTypesWithoutSubscribersUnclaimed() {
+        // Arrange
+        outboxEventRepository.save(OutboxEvent.builder()
+            .aggregateType("adventure")
+            .aggregateId(UUID.randomUUID())
+            .eventType("ADVENTURE_UPDATED")
+            .payload("{}")
+            .build());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        List<OutboxEvent> claimed = transaction.execute(status -> outboxEventRepository.claimBatch(0L, GROUP_TYPES, 10, 10));
+
+        // Assert
+        assertEquals(5, claimed.size());
+        assertTrue(claimed.stream().allMatch(event -> event.getEventType().equals("GAME_GROUP_UPDATED")));
+        assertEquals(6L, outboxEventRepository.countByAttemptsLessThan(10));
+    }
+
+    @Test
+    void deleteBatchCreatedBefore_ShouldRemoveOnlyOldEventsOfTheGivenTypes() {
+        // Arrange
+        outboxEventRepository.save(OutboxEvent.builder()
+            .aggregateType("adventure")
+            .aggregateId(UUID.randomUUID())
+            .eventType("ADVENTURE_UPDATED")
+            .payload("{}")
+            .build());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        Integer stillRecent = transaction.execute(status -> outboxEventRepository.deleteBatchCreatedBefore(
+            List.of("ADVENTURE_UPDATED"), LocalDateTime.now().minusDays(1), 10));
+        Integer removed = transaction.execute(status -> outboxEventRepository.deleteBatchCreatedBefore(
+            List.of("ADVENTURE_UPDATED"), LocalDateTime.now().plusMinutes(1), 10));
+
+        // Assert
+        assertEquals(0, stillRecent);
+        assertEquals(1, removed);
+        assertEquals(5L, outboxEventRepository.countByAttemptsLessThan(10));
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+}
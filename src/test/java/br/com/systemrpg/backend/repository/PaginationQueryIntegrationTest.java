@@ -0,0 +1,181 @@
+package br.com.systemrpg.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.util.PageUtil;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que as listagens paginadas com grafos de coleção paginam no banco (sem HHH90003004).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PaginationQueryIntegrationTest {
+
+    private static final String IN_MEMORY_PAGINATION_WARNING = "HHH90003004";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private GameGroupRepository gameGroupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameGroupParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ListAppender<ILoggingEvent> appender;
+    private Logger hibernateLogger;
+
+    @BeforeEach
+    void setUp() {
+        hibernateLogger = (Logger) LoggerFactory.getLogger("org.hibernate");
+        appender = new ListAppender<>();
+        appender.start();
+        hibernateLogger.addAppender(appender);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            UUID userId = UUID.randomUUID();
+            UUID groupId = UUID.randomUUID();
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+
+            jdbcTemplate.update("INSERT INTO users (id, username, email, first_name, last_name, password_hash, "
+                + "is_active, is_email_verified, created_at, updated_at) VALUES (?, ?, ?, 'First', 'Last', 'hash', true, true, ?, ?)",
+                userId, "user" + i, "user" + i + "@example.com", createdAt, createdAt);
+            jdbcTemplate.update("INSERT INTO game_group (id, campaign_name, game_system, setting_world, short_description, "
+                + "visibility, access_rule, modality, is_active, created_by, created_at, updated_at) "
+                + "VALUES (?, ?, 'D&D 5e', 'Forgotten Realms', 'Mesa', 0, 0, 0, true, ?, ?, ?)",
+                groupId, "Campanha " + i, userId, createdAt, createdAt);
+            jdbcTemplate.update("INSERT INTO game_group_participant (id, game_group_id, user_id, role, is_active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 0, true, ?, ?)", UUID.randomUUID(), groupId, userId, createdAt, createdAt);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        hibernateLogger.detachAppender(appender);
+    }
+
+    @Test
+    void gameGroupListing_ShouldPaginateInDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+
+        // Act
+        Slice<GameGroup> page = PageUtil.fetchByIds(gameGroupRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(pageable),
+            gameGroupRepository::findAllWithParticipantsByIdIn, GameGroup::getId);
+
+        // Assert
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.hasNext());
+        assertEquals(5, gameGroupRepository.countByDeletedAtIsNull());
+        assertEquals("Campanha 0", page.getContent().get(0).getCampaignName());
+        assertEquals(1, page.getContent().get(0).getParticipants().size());
+        assertNoInMemoryPagination();
+    }
+
+    @Test
+    void gameGroupFilterListing_ShouldPaginateInDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(1, 2);
+
+        // Act
+        Slice<GameGroup> page = PageUtil.fetchByIds(
+            gameGroupRepository.findIdsByFiltersAndDeletedAtIsNull("campanha", null, null, pageable),
+            gameGroupRepository::findAllWithParticipantsByIdIn, GameGroup::getId);
+
+        // Assert
+        assertEquals(List.of("Campanha 2", "Campanha 3"),
+            page.getContent().stream().map(GameGroup::getCampaignName).toList());
+        assertEquals(5, gameGroupRepository.countByFiltersAndDeletedAtIsNull("campanha", null, null));
+        assertNoInMemoryPagination();
+    }
+
+    @Test
+    void userListing_ShouldPaginateInDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 3);
+
+        // Act
+        Slice<User> page = PageUtil.fetchByIds(userRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(pageable),
+            userRepository::findAllWithRolesByIdIn, User::getId);
+
+        // Assert
+        assertEquals(3, page.getContent().size());
+        assertTrue(page.hasNext());
+        assertEquals(5, userRepository.countByDeletedAtIsNull());
+        assertNoInMemoryPagination();
+    }
+
+    @Test
+    void myGroupsListing_ShouldPaginateMembershipsInDatabase() {
+        // Arrange
+        UUID userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'user0'", UUID.class);
+        List<UUID> otherGroupIds = jdbcTemplate.queryForList(
+            "SELECT id FROM game_group WHERE campaign_name <> 'Campanha 0' ORDER BY created_at DESC", UUID.class);
+        LocalDateTime joinedAt = LocalDateTime.now().plusMinutes(1);
+        for (int i = 0; i < 3; i++) {
+            Timestamp createdAt = Timestamp.valueOf(joinedAt.minusSeconds(i));
+            jdbcTemplate.update("INSERT INTO game_group_participant (id, game_group_id, user_id, role, is_active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 1, true, ?, ?)", UUID.randomUUID(), otherGroupIds.get(i), userId, createdAt, createdAt);
+        }
+
+        // Act
+        Slice<GameGroupParticipant> memberships = participantRepository.findMembershipsByUserId(userId, PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, memberships.getContent().size());
+        assertTrue(memberships.hasNext());
+        assertEquals(otherGroupIds.get(0), memberships.getContent().get(0).getGameGroup().getId());
+        assertEquals(GameGroupParticipant.ParticipantRole.PLAYER.getValue(), memberships.getContent().get(0).getRole());
+        assertEquals(4, participantRepository.countMembershipsByUserId(userId));
+        assertNoInMemoryPagination();
+    }
+
+    private void assertNoInMemoryPagination() {
+        assertTrue(appender.list.stream()
+            .noneMatch(event -> event.getFormattedMessage().contains(IN_MEMORY_PAGINATION_WARNING)),
+            "Hibernate aplicou paginação em memória");
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.systemrpg.backend.repository;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Base dos testes de plano de execução: um PostgreSQL compartilhado entre as classes, carga em massa feita uma
+ * vez por classe (descartada ao final) e EXPLAIN das consultas de produção com os parâmetros vinculados.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class QueryPlanIntegrationTestSupport {
+
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        // Iniciado antes do contexto: no ciclo PER_CLASS a instância (e o datasource) é criada antes dos callbacks de classe
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector", StatementCapture.class::getName);
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Set<String> seededTables = new LinkedHashSet<>();
+
+    /**
+     * Massa de dados da classe, inserida uma única vez e confirmada fora da transação dos testes.
+     */
+    protected abstract void seed();
+
+    @BeforeAll
+    void seedOnce() {
+        seed();
+        seededTables.forEach(table -> jdbcTemplate.execute("ANALYZE " + table));
+    }
+
+    @AfterAll
+    void discardSeed() {
+        if (!seededTables.isEmpty()) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + String.join(", ", seededTables) + " CASCADE");
+        }
+    }
+
+    /**
+     * Insere {@code rows} linhas geradas por {@code generate_series} (a expressão pode usar {@code n}).
+     */
+    protected void bulkInsert(String table, String columns, String select, int rows) {
+        seededTables.add(table);
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") SELECT " + select
+            + " FROM generate_series(1, ?) n", rows);
+    }
+
+    /**
+     * Marca uma tabela semeada fora de {@link #bulkInsert} para ser analisada e descartada com as demais.
+     */
+    protected void seeded(String table) {
+        seededTables.add(table);
+    }
+
+    /**
+     * SQL declarado no {@code @Query} nativo de um método de repositório.
+     */
+    protected static String nativeQuery(Class<?> repository, String methodName) {
+        for (Method method : repository.getDeclaredMethods()) {
+            Query query = method.getAnnotation(Query.class);
+            if (method.getName().equals(methodName) && query != null && query.nativeQuery()) {
+                return query.value();
+            }
+        }
+        throw new IllegalArgumentException("Consulta nativa não encontrada: " + repository.getSimpleName() + "." + methodName);
+    }
+
+    /**
+     * SQL emitido pelo Hibernate ao executar a ação (caches de primeiro e segundo nível esvaziados antes).
+     */
+    protected List<String> capturedSql(Runnable action) {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        StatementCapture.start();
+        try {
+            action.run();
+            return StatementCapture.statements();
+        } finally {
+            StatementCapture.stop();
+        }
+    }
+
+    protected String explain(String sql, SqlParameterSource params) {
+        return String.join("\n", namedJdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class));
+    }
+
+    protected String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    /**
+     * Registra o SQL preparado pelo Hibernate na thread do teste enquanto a captura está ativa.
+     */
+    public static class StatementCapture implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS.get());
+        }
+
+        static void stop() {
+            STATEMENTS.remove();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
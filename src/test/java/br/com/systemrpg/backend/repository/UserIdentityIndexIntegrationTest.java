@@ -0,0 +1,103 @@
+package br.com.systemrpg.backend.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que as buscas de identidade case insensitive (usuários e nome de campanha) usam os índices lower(),
+ * que a unicidade ignora maiúsculas e que a resolução por natural id usa o índice exato de username.
+ */
+class UserIdentityIndexIntegrationTest extends QueryPlanIntegrationTestSupport {
+
+    private static final int FILLER_ROWS = 50_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameGroupRepository gameGroupRepository;
+
+    @Override
+    protected void seed() {
+        bulkInsert("users", "id, username, email, first_name, last_name, password_hash, "
+            + "is_active, is_email_verified, created_at, updated_at",
+            "gen_random_uuid(), 'jogador' || n, 'jogador' || n || '@example.com', 'Jogador', 'Teste', 'hash', "
+            + "true, true, now(), now()", FILLER_ROWS);
+        bulkInsert("game_group", "id, campaign_name, game_system, setting_world, short_description, "
+            + "visibility, access_rule, modality, is_active, created_by, created_at, updated_at",
+            "gen_random_uuid(), 'Mesa ' || n, 'D&D 5e', 'Forgotten Realms', 'Mesa', 0, 0, 0, true, gen_random_uuid(), now(), now()",
+            FILLER_ROWS);
+    }
+
+    @Test
+    void findByUsernameOrEmail_ShouldIgnoreCase() {
+        // Act & Assert
+        assertTrue(userRepository.findByUsernameOrEmail("JOGADOR42").isPresent());
+        assertTrue(userRepository.findByUsernameOrEmail("Jogador42@Example.com").isPresent());
+        assertTrue(userRepository.existsByUsername("Jogador7"));
+        assertFalse(userRepository.existsByEmail("ninguem@example.com"));
+        assertTrue(gameGroupRepository.existsByCampaignNameIgnoreCaseAndDeletedAtIsNull("MESA 42"));
+    }
+
+    @Test
+    void insert_WithUsernameDifferingOnlyInCase_ShouldViolateUniqueness() {
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+            "INSERT INTO users (id, username, email, first_name, last_name, password_hash, "
+                + "is_active, is_email_verified, created_at, updated_at) "
+                + "VALUES (?, 'JOGADOR1', 'outro@example.com', 'Outro', 'Teste', 'hash', true, true, now(), now())",
+            UUID.randomUUID()));
+    }
+
+    @Test
+    void identityLookups_ShouldUseLowerIndexes() {
+        // Arrange
+        UUID otherUserId = UUID.randomUUID();
+        String usernameSql = capturedSql(() -> userRepository.existsByUsername("Jogador42")).get(0);
+        String loginSql = capturedSql(() -> userRepository.findByUsernameOrEmail("Jogador42@Example.com")).get(0);
+        String emailSql = capturedSql(() -> userRepository.existsByEmailAndIdNot("jogador42@example.com", otherUserId)).get(0);
+
+        // Act
+        String usernamePlan = explain(usernameSql, "Jogador42");
+        String loginPlan = explain(loginSql, "Jogador42@Example.com", "Jogador42@Example.com");
+        String emailPlan = explain(emailSql, "jogador42@example.com", otherUserId);
+
+        // Assert
+        assertTrue(usernamePlan.contains("uk_users_username_lower"), usernamePlan);
+        assertTrue(loginPlan.contains("uk_users_username_lower") && loginPlan.contains("uk_users_email_lower"), loginPlan);
+        assertTrue(emailPlan.contains("uk_users_email_lower"), emailPlan);
+        assertFalse((usernamePlan + loginPlan + emailPlan).contains("Seq Scan"));
+    }
+
+    @Test
+    void campaignNameLookup_ShouldUseLowerIndex() {
+        // Arrange
+        String sql = capturedSql(() -> gameGroupRepository.existsByCampaignNameIgnoreCaseAndDeletedAtIsNull("Mesa 42")).get(0);
+
+        // Act
+        String plan = explain(sql, "Mesa 42");
+
+        // Assert
+        assertTrue(plan.contains("idx_game_group_campaign_name_lower"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void naturalIdResolution_ShouldUseExactUsernameIndex() {
+        // Arrange
+        List<String> statements = capturedSql(() -> userRepository.findByUsername("jogador42"));
+
+        // Act
+        String plan = explain(statements.get(0), "jogador42");
+
+        // Assert
+        assertTrue(plan.contains("idx_users_username"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+}
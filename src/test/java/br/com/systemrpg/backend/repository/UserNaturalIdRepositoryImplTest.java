@@ -0,0 +1,108 @@
+package br.com.systemrpg.backend.repository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.service.CacheInvalidationBus;
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class UserNaturalIdRepositoryImplTest {
+
+    private static final String ROLES_ROLE = User.class.getName() + ".roles";
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBus> invalidationBusProvider;
+
+    private UserNaturalIdRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getCache()).thenReturn(cache);
+        doAnswer(invocation -> {
+            Consumer<CacheInvalidationBus> action = invocation.getArgument(0);
+            action.accept(invalidationBus);
+            return null;
+        }).when(invalidationBusProvider).ifAvailable(any());
+        repository = new UserNaturalIdRepositoryImpl();
+        ReflectionTestUtils.setField(repository, "entityManagerFactory", entityManagerFactory);
+        ReflectionTestUtils.setField(repository, "invalidationBus", invalidationBusProvider);
+        repository.registerWithInvalidationBus();
+    }
+
+    @Test
+    void evictFromCache_ShouldEvictLocallyAndPublishTheId() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        repository.evictFromCache(id);
+
+        // Assert
+        verify(cache).evictEntityData(User.class, id);
+        verify(cache).evictCollectionData(ROLES_ROLE, id);
+        verify(invalidationBus).publishEvict(UserNaturalIdRepositoryImpl.CACHE_CHANNEL, id);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void remoteEvict_ShouldEvictTheUserAndTheUsernameReferences() {
+        // Arrange
+        ArgumentCaptor<Consumer<Object>> evict = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).register(eq(UserNaturalIdRepositoryImpl.CACHE_CHANNEL), evict.capture(), any());
+        UUID id = UUID.randomUUID();
+
+        // Act
+        evict.getValue().accept(id);
+
+        // Assert
+        verify(cache).evictEntityData(User.class, id);
+        verify(cache).evictCollectionData(ROLES_ROLE, id);
+        verify(cache).evictNaturalIdData(User.class);
+        verify(invalidationBus, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    void remoteClear_ShouldEvictAllUserRegions() {
+        // Arrange
+        ArgumentCaptor<Runnable> clear = ArgumentCaptor.forClass(Runnable.class);
+        verify(invalidationBus).register(eq(UserNaturalIdRepositoryImpl.CACHE_CHANNEL), any(), clear.capture());
+
+        // Act
+        clear.getValue().run();
+
+        // Assert
+        verify(cache).evictEntityData(User.class);
+        verify(cache).evictCollectionData(ROLES_ROLE);
+        verify(cache).evictNaturalIdData(User.class);
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.systemrpg.backend.repository;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import br.com.systemrpg.backend.domain.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que roles e usuários por username são servidos pelo cache de segundo nível entre sessões e que as
+ * escritas nativas dos grupos não esvaziam as regiões de usuários.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class UserSecondLevelCacheIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private GameGroupRepository gameGroupRepository;
+
+    @Autowired
+    private GameGroupCardRepository gameGroupCardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, username, email, first_name, last_name, password_hash, "
+            + "is_active, is_email_verified, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 'Mestre', 'Cache', 'hash', true, true, now(), now())",
+            userId, "mestre" + userId.toString().substring(0, 8), userId + "@example.com");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByUsername_SecondLookup_ShouldHitNaturalIdAndEntityCaches() {
+        // Arrange
+        String username = "mestre" + userId.toString().substring(0, 8);
+
+        // Act
+        User first = userRepository.findByUsername(username).orElseThrow();
+        User second = userRepository.findByUsername(username).orElseThrow();
+
+        // Assert
+        assertEquals(first.getId(), second.getId());
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 1);
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+    }
+
+    @Test
+    void findByUsername_WithDifferentCase_ShouldFallBackToLowerLookup() {
+        // Act & Assert
+        assertTrue(userRepository.findByUsername("MESTRE" + userId.toString().substring(0, 8).toUpperCase()).isPresent());
+    }
+
+    @Test
+    void roleLookups_ShouldBeServedFromQueryCache() {
+        // Act
+        roleRepository.findByName("USER");
+        roleRepository.findByName("USER");
+        roleRepository.findByNameInAndIsActiveTrue(Set.of("USER"));
+        roleRepository.findByNameInAndIsActiveTrue(Set.of("USER"));
+
+        // Assert
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void joiningGroup_NativeCounterAndCardWrites_ShouldKeepCachedUser() {
+        // Arrange
+        UUID groupId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO game_group (id, campaign_name, game_system, setting_world, short_description, "
+            + "visibility, access_rule, modality, is_active, created_by, created_at, updated_at) "
+            + "VALUES (?, ?, 'D&D 5e', 'Forgotten Realms', 'Mesa', 0, 0, 0, true, ?, now(), now())",
+            groupId, "Campanha " + groupId, userId);
+        jdbcTemplate.update("INSERT INTO game_group_participant (id, game_group_id, user_id, role, is_active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 1, true, now(), now())", UUID.randomUUID(), groupId, userId);
+        userRepository.findById(userId);
+        statistics.clear();
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            gameGroupRepository.adjustParticipantCounters(groupId, 0, 1, 0);
+            gameGroupCardRepository.upsertCard(groupId);
+        });
+        userRepository.findById(userId);
+
+        // Assert
+        assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    @Test
+    void evictFromCache_ShouldDropCachedUser() {
+        // Arrange
+        userRepository.findById(userId);
+
+        // Act
+        userRepository.evictFromCache(userId);
+
+        // Assert
+        assertFalse(entityManagerFactory.getCache().contains(User.class, userId));
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Garante que as invalidações chegam às demais instâncias só após o commit e que a reconexão esvazia os caches.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationBusIntegrationTest {
+
+    private static final String CACHE = "game-groups";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private CacheInvalidationBus writer;
+    private CacheInvalidationBus reader;
+
+    private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        writer = newBus();
+        reader = newBus();
+        reader.register(CACHE, received::add, () -> received.add(CacheInvalidationBus.CLEAR_ALL));
+        reader.start();
+        // Limpeza da conexão inicial
+        assertEquals(CacheInvalidationBus.CLEAR_ALL, received.poll(10, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+        reader.stop();
+    }
+
+    @Test
+    void publishEvict_ShouldReachOtherNodeOnlyAfterCommit() throws Exception {
+        // Arrange
+        UUID rolledBack = UUID.randomUUID();
+        UUID committed = UUID.randomUUID();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            writer.publishEvict(CACHE, rolledBack);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> writer.publishEvict(CACHE, committed));
+
+        // Assert
+        assertEquals(committed, received.poll(10, TimeUnit.SECONDS));
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publishEvict_WhenNotifyFails_ShouldKeepBusinessWrite() {
+        // Arrange
+        CacheInvalidationBus unreachable = new CacheInvalidationBus(postgres.getJdbcUrl(), postgres.getUsername(),
+            "senha-invalida", true, Duration.ofMillis(200));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS bus_probe (id INT PRIMARY KEY)");
+        jdbcTemplate.execute("TRUNCATE bus_probe");
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO bus_probe (id) VALUES (1)");
+            unreachable.publishEvict(CACHE, UUID.randomUUID());
+        });
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM bus_probe", Integer.class));
+    }
+
+    @Test
+    void listener_AfterConnectionLoss_ShouldReconnectAndClearLocalCaches() throws Exception {
+        // Act
+        jdbcTemplate.queryForList(
+            "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query = 'LISTEN " + CacheInvalidationBus.CHANNEL + "'");
+
+        // Assert
+        assertEquals(CacheInvalidationBus.CLEAR_ALL, received.poll(15, TimeUnit.SECONDS));
+        writer.publishEvict(CACHE, "ABC123");
+        assertEquals("ABC123", received.poll(10, TimeUnit.SECONDS));
+    }
+
+    private CacheInvalidationBus newBus() {
+        return new CacheInvalidationBus(postgres.getJdbcUrl(), postgres.getUsername(),
+            postgres.getPassword(), true, Duration.ofMillis(200));
+    }
+}
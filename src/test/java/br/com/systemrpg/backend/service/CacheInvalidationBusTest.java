@@ -0,0 +1,138 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheInvalidationBusTest {
+
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+
+    private final CacheInvalidationBus bus = spy(new CacheInvalidationBus(
+        "jdbc:postgresql://localhost/test", "user", "secret", true, Duration.ofSeconds(1)));
+
+    private final List<Object> evicted = new ArrayList<>();
+    private final AtomicInteger clears = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        doReturn(connection).when(bus).openConnection();
+        lenient().when(connection.prepareStatement("SELECT pg_notify(?, ?)")).thenReturn(statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishEvict_ShouldNotifyChannelWithNodeCacheAndTypedKey() throws SQLException {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        bus.publishEvict("game-groups", id);
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(statement).setString(1, CacheInvalidationBus.CHANNEL);
+        verify(statement).setString(eq(2), payload.capture());
+        verify(statement).execute();
+        assertTrue(payload.getValue().endsWith("|game-groups|u:" + id));
+    }
+
+    @Test
+    void publishEvict_InsideTransaction_ShouldNotifyOnlyAfterCommit() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publishEvict("users", "ABC123");
+
+        // Assert
+        verify(bus, never()).openConnection();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(statement).execute();
+    }
+
+    @Test
+    void publishEvict_WhenNotifyFails_ShouldNotPropagateErrorAndReconnectNextTime() throws SQLException {
+        // Arrange
+        when(statement.execute()).thenThrow(new SQLException("conexão perdida")).thenReturn(true);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> bus.publishClear("users"));
+        bus.publishClear("users");
+        verify(connection).close();
+        verify(bus, times(2)).openConnection();
+        verify(statement, times(2)).execute();
+    }
+
+    @Test
+    void onMessage_FromAnotherNode_ShouldEvictDecodedKeyOrClear() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        bus.register("users", evicted::add, clears::incrementAndGet);
+
+        // Act
+        bus.onMessage("outra-instancia|users|u:" + id);
+        bus.onMessage("outra-instancia|users|s:ABC123");
+        bus.onMessage("outra-instancia|users|" + CacheInvalidationBus.CLEAR_ALL);
+        bus.onMessage("outra-instancia|desconhecido|s:ABC123");
+
+        // Assert
+        assertEquals(List.of(id, "ABC123"), evicted);
+        assertEquals(1, clears.get());
+    }
+
+    @Test
+    void onMessage_FromSameNode_ShouldBeIgnored() throws SQLException {
+        // Arrange
+        bus.register("users", evicted::add, clears::incrementAndGet);
+        bus.publishEvict("users", "ABC123");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(statement).setString(eq(2), payload.capture());
+
+        // Act
+        bus.onMessage(payload.getValue());
+
+        // Assert
+        assertTrue(evicted.isEmpty());
+        assertEquals(0, clears.get());
+    }
+
+    @Test
+    void publish_WhenDisabled_ShouldNotTouchDatabase() throws SQLException {
+        // Arrange
+        CacheInvalidationBus disabled = spy(new CacheInvalidationBus(
+            "jdbc:postgresql://localhost/test", "user", "secret", false, Duration.ofSeconds(1)));
+
+        // Act
+        disabled.publishEvict("users", UUID.randomUUID());
+        disabled.start();
+
+        // Assert
+        verify(disabled, never()).openConnection();
+    }
+}
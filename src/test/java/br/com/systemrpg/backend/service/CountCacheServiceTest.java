@@ -0,0 +1,116 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CountCacheServiceTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        CountCacheService service = new CountCacheService(Duration.ofMinutes(1));
+        String key = CountCacheService.key(CountCacheService.PARTICIPANTS_SCOPE);
+        service.getOrCount(key, () -> 3L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        service.invalidate(CountCacheService.PARTICIPANTS_SCOPE);
+        long beforeCommit = service.getOrCount(key, () -> 4L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        long afterCommit = service.getOrCount(key, () -> 4L);
+
+        // Assert
+        assertEquals(3L, beforeCommit);
+        assertEquals(4L, afterCommit);
+    }
+
+    @Test
+    void getOrCount_ConcurrentWithInvalidate_ShouldNotCacheStaleTotal() {
+        // Arrange
+        CountCacheService service = new CountCacheService(Duration.ofMinutes(1));
+        String key = CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE);
+
+        // Act
+        long stale = service.getOrCount(key, () -> {
+            service.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
+            return 1L;
+        });
+        long fresh = service.getOrCount(key, () -> 2L);
+
+        // Assert
+        assertEquals(1L, stale);
+        assertEquals(2L, fresh);
+    }
+
+    @Test
+    void getOrCount_WithinTtl_ShouldReuseCachedTotal() {
+        // Arrange
+        CountCacheService service = new CountCacheService(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        String key = CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE);
+
+        // Act
+        long first = service.getOrCount(key, () -> calls.incrementAndGet() * 10L);
+        long second = service.getOrCount(key, () -> calls.incrementAndGet() * 10L);
+
+        // Assert
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void getOrCount_WithExpiredEntry_ShouldCountAgain() {
+        // Arrange
+        CountCacheService service = new CountCacheService(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+        String key = CountCacheService.key(CountCacheService.USERS_SCOPE, "active");
+
+        // Act
+        service.getOrCount(key, calls::incrementAndGet);
+        long second = service.getOrCount(key, calls::incrementAndGet);
+
+        // Assert
+        assertEquals(2L, second);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void invalidate_ShouldOnlyRemoveEntriesOfScope() {
+        // Arrange
+        CountCacheService service = new CountCacheService(Duration.ofMinutes(1));
+        String groupsKey = CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "filters", "dragon", null, null);
+        String usersKey = CountCacheService.key(CountCacheService.USERS_SCOPE);
+        service.getOrCount(groupsKey, () -> 1L);
+        service.getOrCount(usersKey, () -> 2L);
+
+        // Act
+        service.invalidate(CountCacheService.GAME_GROUPS_SCOPE);
+
+        // Assert
+        assertEquals(5L, service.getOrCount(groupsKey, () -> 5L));
+        assertEquals(2L, service.getOrCount(usersKey, () -> 7L));
+    }
+
+    @Test
+    void key_ShouldNormalizeFilters() {
+        // Act & Assert
+        assertEquals(
+            CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "filters", "dragon", null, ""),
+            CountCacheService.key(CountCacheService.GAME_GROUPS_SCOPE, "filters", "  Dragon ", "", null));
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.repository.GameGroupCardRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupCardServiceTest {
+
+    @Mock
+    private GameGroupCardRepository cardRepository;
+
+    @InjectMocks
+    private GameGroupCardService cardService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void refresh_OutsideTransaction_ShouldUpsertImmediately() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        when(cardRepository.upsertCard(gameGroupId)).thenReturn(1);
+
+        // Act
+        cardService.refresh(gameGroupId);
+
+        // Assert
+        verify(cardRepository).upsertCard(gameGroupId);
+        verify(cardRepository, never()).deleteStaleCard(any());
+    }
+
+    @Test
+    void refresh_InsideTransaction_ShouldUpsertOncePerGroupBeforeCommit() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        UUID otherGameGroupId = UUID.randomUUID();
+        when(cardRepository.upsertCard(any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cardService.refresh(gameGroupId);
+        cardService.refresh(gameGroupId);
+        cardService.refresh(otherGameGroupId);
+        verifyNoInteractions(cardRepository);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        verify(cardRepository, times(1)).upsertCard(gameGroupId);
+        verify(cardRepository, times(1)).upsertCard(otherGameGroupId);
+        assertFalse(TransactionSynchronizationManager.hasResource(GameGroupCardService.class.getName() + ".pendingRefresh"));
+    }
+
+    @Test
+    void refresh_WhenGroupIsDeleted_ShouldRemoveStaleCard() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        when(cardRepository.upsertCard(gameGroupId)).thenReturn(0);
+
+        // Act
+        cardService.refresh(gameGroupId);
+
+        // Assert
+        verify(cardRepository).deleteStaleCard(gameGroupId);
+    }
+
+    @Test
+    void rebuild_ShouldUpsertAllCardsAndThenRemoveOrphans() {
+        // Arrange
+        when(cardRepository.rebuildCards()).thenReturn(7);
+
+        // Act
+        int rows = cardService.rebuild();
+
+        // Assert
+        assertEquals(7, rows);
+        InOrder inOrder = inOrder(cardRepository);
+        inOrder.verify(cardRepository).rebuildCards();
+        inOrder.verify(cardRepository).deleteOrphanCards();
+    }
+}
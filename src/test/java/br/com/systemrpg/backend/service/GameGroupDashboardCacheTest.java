@@ -0,0 +1,158 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.dto.response.GameGroupDashboardResponse;
+
+class GameGroupDashboardCacheTest {
+
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+
+    private final GameGroupDashboardCache cache = new GameGroupDashboardCache(Duration.ofMinutes(10), invalidationBus);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getOrLoad_WithConcurrentRequests_ShouldLoadOnce() throws Exception {
+        // Arrange
+        int requests = 8;
+        UUID gameGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        // Act
+        List<Future<GameGroupDashboardResponse>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> cache.getOrLoad(gameGroupId, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                awaitQuietly(release);
+                return new GameGroupDashboardResponse();
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < requests; i++) {
+                results.add(executor.submit(() -> cache.getOrLoad(gameGroupId, () -> {
+                    loads.incrementAndGet();
+                    return new GameGroupDashboardResponse();
+                })));
+            }
+            release.countDown();
+
+            // Assert
+            GameGroupDashboardResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<GameGroupDashboardResponse> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getOrLoad_AfterInvalidate_ShouldLoadAgain() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+
+        // Act
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+        cache.invalidate(gameGroupId);
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getOrLoad_WhenInvalidatedDuringLoad_ShouldNotCacheStaleResult() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.getOrLoad(gameGroupId, () -> {
+            cache.invalidate(gameGroupId);
+            return dashboard(loads);
+        });
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldEvictOnlyAfterCommit() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.invalidate(gameGroupId);
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+        int loadsBeforeCommit = loads.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+
+        // Assert
+        assertEquals(1, loadsBeforeCommit);
+        assertEquals(2, loads.get());
+        verify(invalidationBus).publishEvict(GameGroupDashboardCache.CACHE_NAME, gameGroupId);
+    }
+
+    @Test
+    void getOrLoad_WhenLoaderFails_ShouldPropagateAndNotCache() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> cache.getOrLoad(gameGroupId, () -> {
+            throw new IllegalArgumentException("falha");
+        }));
+        cache.getOrLoad(gameGroupId, () -> dashboard(loads));
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    private GameGroupDashboardResponse dashboard(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new GameGroupDashboardResponse();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.config.MessageSourceConfig;
+import br.com.systemrpg.backend.constants.MessageConstants;
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.dto.response.GameGroupCard;
+import br.com.systemrpg.backend.hateoas.HateoasLinkBuilder;
+import br.com.systemrpg.backend.repository.GameGroupCardRepository;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupDirectoryServiceTest {
+
+    @Mock
+    private GameGroupRepository gameGroupRepository;
+
+    @Mock
+    private GameGroupCardRepository cardRepository;
+
+    @Mock
+    private HateoasLinkBuilder hateoasLinkBuilder;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private GameGroupDirectoryService directoryService;
+
+    @BeforeEach
+    void setUp() {
+        directoryService = new GameGroupDirectoryService(gameGroupRepository, cardRepository,
+            new CountCacheService(Duration.ofSeconds(30)), hateoasLinkBuilder, messageSource,
+            new ObjectMapper().findAndRegisterModules(), invalidationBus, 2, 2, 10);
+        lenient().when(messageSource.getMessage(eq("controller.gamegroup.directory.success"), any(), any())).thenReturn("ok");
+    }
+
+    private void stubPublicGroups(GameGroupCard... cards) {
+        List<UUID> ids = Arrays.stream(cards).map(GameGroupCard::id).toList();
+        when(gameGroupRepository.countByVisibilityAndIsActiveTrueAndDeletedAtIsNull(GameGroup.Visibility.PUBLIC)).thenReturn((long) ids.size());
+        lenient().when(gameGroupRepository.findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(eq(GameGroup.Visibility.PUBLIC), any()))
+            .thenAnswer(invocation -> new SliceImpl<>(ids, invocation.getArgument(1), false));
+        lenient().when(cardRepository.findCardsByIdIn(any())).thenReturn(List.of(cards));
+    }
+
+    private GameGroupCard buildCard(String campaignName) {
+        return new GameGroupCard(UUID.randomUUID(), campaignName, "Mesa", "D&D 5e", "Forgotten Realms",
+            GameGroup.Visibility.PUBLIC, GameGroup.AccessRule.FREE, GameGroup.Modality.ONLINE, 5, 1, 2, 0,
+            "mestre", 3, true, null, null);
+    }
+
+    @Test
+    void getPage_AfterRebuild_ShouldServeSnapshotWithoutDatabaseAccess() throws IOException {
+        // Arrange
+        stubPublicGroups(buildCard("Mesa A"), buildCard("Mesa B"), buildCard("Mesa C"));
+        directoryService.rebuild();
+        clearInvocations(gameGroupRepository);
+
+        // Act
+        GameGroupDirectoryService.DirectoryPage page = directoryService.getPage(1, MessageSourceConfig.DEFAULT_LOCALE);
+
+        // Assert
+        verifyNoInteractions(gameGroupRepository);
+        String json = new String(page.json(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("Mesa C"));
+        assertFalse(json.contains("Mesa A"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(page.gzip()))) {
+            assertArrayEquals(page.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void rebuild_WithUnchangedContent_ShouldKeepEtag() {
+        // Arrange
+        stubPublicGroups(buildCard("Mesa A"));
+        directoryService.rebuild();
+        String etag = directoryService.getPage(0, Locale.of("en", "US")).etag();
+
+        // Act
+        directoryService.rebuild();
+
+        // Assert
+        assertEquals(etag, directoryService.getPage(0, Locale.of("en", "US")).etag());
+        assertNotEquals(etag, directoryService.getPage(0, MessageSourceConfig.DEFAULT_LOCALE).etag());
+    }
+
+    @Test
+    void rebuildIfDirty_ShouldCoalesceChangesIntoSingleRebuild() {
+        // Arrange
+        stubPublicGroups(buildCard("Mesa A"));
+        directoryService.rebuild();
+        clearInvocations(gameGroupRepository);
+        directoryService.markDirty();
+        directoryService.markDirty();
+
+        // Act
+        directoryService.rebuildIfDirty();
+        directoryService.rebuildIfDirty();
+
+        // Assert
+        verify(gameGroupRepository, times(1)).findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(eq(GameGroup.Visibility.PUBLIC), any());
+        verify(invalidationBus, times(2)).publishClear(GameGroupDirectoryService.CACHE_NAME);
+    }
+
+    @Test
+    void remoteInvalidation_ShouldMarkSnapshotDirty() {
+        // Arrange
+        ArgumentCaptor<Runnable> clear = ArgumentCaptor.forClass(Runnable.class);
+        verify(invalidationBus).register(eq(GameGroupDirectoryService.CACHE_NAME), any(), clear.capture());
+        stubPublicGroups(buildCard("Mesa A"));
+        directoryService.rebuild();
+        clearInvocations(gameGroupRepository);
+
+        // Act
+        clear.getValue().run();
+        directoryService.rebuildIfDirty();
+
+        // Assert
+        verify(gameGroupRepository).findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(eq(GameGroup.Visibility.PUBLIC), any());
+        verify(invalidationBus, never()).publishClear(any());
+    }
+
+    @Test
+    void getPage_BeyondSnapshot_ShouldRenderOnDemand() {
+        // Arrange
+        stubPublicGroups(buildCard("Mesa A"), buildCard("Mesa B"), buildCard("Mesa C"), buildCard("Mesa D"),
+            buildCard("Mesa E"), buildCard("Mesa F"));
+        directoryService.rebuild();
+        clearInvocations(gameGroupRepository);
+
+        // Act
+        GameGroupDirectoryService.DirectoryPage page = directoryService.getPage(2, MessageSourceConfig.DEFAULT_LOCALE);
+
+        // Assert
+        assertNotNull(page.etag());
+        verify(gameGroupRepository).findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(eq(GameGroup.Visibility.PUBLIC), any());
+    }
+
+    @Test
+    void getPage_AfterLastPage_ShouldRenderEmptyPageWithoutQueryingIds() {
+        // Arrange
+        stubPublicGroups(buildCard("Mesa A"));
+        directoryService.rebuild();
+        clearInvocations(gameGroupRepository);
+
+        // Act
+        GameGroupDirectoryService.DirectoryPage page = directoryService.getPage(7, MessageSourceConfig.DEFAULT_LOCALE);
+
+        // Assert
+        assertFalse(new String(page.json(), StandardCharsets.UTF_8).contains("Mesa A"));
+        verify(gameGroupRepository, never()).findIdsByVisibilityAndIsActiveTrueAndDeletedAtIsNull(any(), any());
+    }
+
+    @Test
+    void getPage_WithNegativeOrTooLargePage_ShouldReject() {
+        // Act & Assert
+        IllegalArgumentException negative = assertThrows(IllegalArgumentException.class,
+            () -> directoryService.getPage(-1, MessageSourceConfig.DEFAULT_LOCALE));
+        assertEquals(MessageConstants.INVALID_PAGE, negative.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> directoryService.getPage(11, MessageSourceConfig.DEFAULT_LOCALE));
+        verifyNoInteractions(gameGroupRepository);
+    }
+
+    @Test
+    void rebuild_ShouldNotExposeRosterUsersOrAuditFields() {
+        // Arrange
+        stubPublicGroups(buildCard("Mesa A"));
+
+        // Act
+        directoryService.rebuild();
+
+        // Assert
+        String json = new String(directoryService.getPage(0, MessageSourceConfig.DEFAULT_LOCALE).json(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"currentParticipants\":3"));
+        for (String field : List.of("participants", "masterUsername", "createdBy", "version", "deletedAt", "createdAt", "updatedAt")) {
+            assertFalse(json.contains("\"" + field + "\""), field);
+        }
+    }
+}
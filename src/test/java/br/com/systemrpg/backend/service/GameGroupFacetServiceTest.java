@@ -0,0 +1,129 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.domain.entity.GameGroupFacet;
+import br.com.systemrpg.backend.dto.response.GameGroupFacetsResponse;
+import br.com.systemrpg.backend.repository.GameGroupFacetRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupFacetServiceTest {
+
+    @Mock
+    private GameGroupFacetRepository facetRepository;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private GameGroupFacetService facetService;
+
+    private GameGroup buildGameGroup(boolean active) {
+        return GameGroup.builder()
+            .gameSystem("D&D 5e")
+            .settingWorld("Forgotten Realms")
+            .modality(GameGroup.Modality.ONLINE)
+            .visibility(GameGroup.Visibility.PUBLIC)
+            .country("Brasil")
+            .isActive(active)
+            .build();
+    }
+
+    @Test
+    void onCreated_WithActiveGroup_ShouldIncrementEveryFilledFacet() {
+        // Act
+        facetService.onCreated(buildGameGroup(true));
+
+        // Assert
+        verify(facetRepository).adjust(GameGroupFacetService.GAME_SYSTEM, "D&D 5e", 1);
+        verify(facetRepository).adjust(GameGroupFacetService.SETTING_WORLD, "Forgotten Realms", 1);
+        verify(facetRepository).adjust(GameGroupFacetService.MODALITY, "ONLINE", 1);
+        verify(facetRepository).adjust(GameGroupFacetService.VISIBILITY, "PUBLIC", 1);
+        verify(facetRepository).adjust(GameGroupFacetService.COUNTRY, "Brasil", 1);
+        verifyNoMoreInteractions(facetRepository);
+    }
+
+    @Test
+    void onCreated_WithInactiveGroup_ShouldNotTouchCounters() {
+        // Act
+        facetService.onCreated(buildGameGroup(false));
+
+        // Assert
+        verifyNoInteractions(facetRepository);
+    }
+
+    @Test
+    void onUpdated_ShouldOnlyMoveChangedFacets() {
+        // Arrange
+        GameGroup gameGroup = buildGameGroup(true);
+        Map<String, String> before = facetService.snapshot(gameGroup);
+        gameGroup.setGameSystem("Pathfinder 2e");
+        gameGroup.setCity("Curitiba");
+
+        // Act
+        facetService.onUpdated(before, gameGroup);
+
+        // Assert
+        verify(facetRepository).adjust(GameGroupFacetService.GAME_SYSTEM, "D&D 5e", -1);
+        verify(facetRepository).adjust(GameGroupFacetService.GAME_SYSTEM, "Pathfinder 2e", 1);
+        verify(facetRepository).adjust(GameGroupFacetService.CITY, "Curitiba", 1);
+        verifyNoMoreInteractions(facetRepository);
+    }
+
+    @Test
+    void getFacets_ShouldGroupRowsByFacet() {
+        // Arrange
+        when(facetRepository.findAllWithGroups()).thenReturn(List.of(
+            new GameGroupFacet(new GameGroupFacet.FacetKey(GameGroupFacetService.GAME_SYSTEM, "D&D 5e"), 12L),
+            new GameGroupFacet(new GameGroupFacet.FacetKey(GameGroupFacetService.GAME_SYSTEM, "Tormenta20"), 4L),
+            new GameGroupFacet(new GameGroupFacet.FacetKey(GameGroupFacetService.MODALITY, "ONLINE"), 16L)));
+
+        // Act
+        GameGroupFacetsResponse response = facetService.getFacets();
+
+        // Assert
+        assertEquals(2, response.getGameSystem().size());
+        assertEquals("D&D 5e", response.getGameSystem().get(0).getValue());
+        assertEquals(16L, response.getModality().get(0).getCount());
+        assertTrue(response.getCity().isEmpty());
+    }
+
+    @Test
+    void suggest_WithUnknownFacet_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        when(messageSource.getMessage(eq("service.gameGroup.facet.invalid"), any(), any())).thenReturn("Faceta inválida");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> facetService.suggest("houseRules", "a", 10));
+        verifyNoInteractions(facetRepository);
+    }
+
+    @Test
+    void rebuild_ShouldUpsertCountsAndThenRemoveValuesWithoutGroups() {
+        // Arrange
+        when(facetRepository.rebuildFacets()).thenReturn(9);
+
+        // Act
+        int rows = facetService.rebuild();
+
+        // Assert
+        assertEquals(9, rows);
+        InOrder inOrder = inOrder(facetRepository);
+        inOrder.verify(facetRepository).rebuildFacets();
+        inOrder.verify(facetRepository).deleteMissingFacets();
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.dto.response.GameGroupMatchCandidate;
+import br.com.systemrpg.backend.dto.response.GameGroupRecommendationResponse;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupMatchmakingServiceTest {
+
+    @Mock
+    private GameGroupRepository gameGroupRepository;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @InjectMocks
+    private GameGroupMatchmakingService matchmakingService;
+
+    private GameGroupMatchCandidate buildCandidate(String gameSystem, GameGroup.Modality modality, GameGroup.AccessRule accessRule,
+                                                   String city, Integer maxPlayers, int playerCount) {
+        return new GameGroupMatchCandidate(UUID.randomUUID(), "Mesa " + gameSystem, gameSystem, "Mundo", "Mesa semanal",
+            modality, accessRule, "Brasil", "PR", city, maxPlayers, 1, playerCount, 0, LocalDateTime.now());
+    }
+
+    @Test
+    void recommend_ShouldRankBySummedAttributeWeights() {
+        // Arrange
+        GameGroupMatchCandidate best = buildCandidate("D&D 5e", GameGroup.Modality.PRESENTIAL, GameGroup.AccessRule.FREE, "Curitiba", 5, 1);
+        GameGroupMatchCandidate sameSystem = buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.APPROVAL, null, 5, 1);
+        GameGroupMatchCandidate otherSystem = buildCandidate("Tormenta20", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 5, 1);
+        when(gameGroupRepository.findMatchCandidates()).thenReturn(List.of(otherSystem, sameSystem, best));
+        matchmakingService.rebuild();
+
+        // Act
+        List<GameGroupRecommendationResponse> recommendations =
+            matchmakingService.recommend("d&d 5E", "presential", null, null, "curitiba", 10);
+
+        // Assert
+        assertEquals(List.of(best.id(), sameSystem.id(), otherSystem.id()),
+            recommendations.stream().map(GameGroupRecommendationResponse::getId).toList());
+        assertEquals(GameGroupMatchmakingIndex.GAME_SYSTEM_WEIGHT + GameGroupMatchmakingIndex.MODALITY_WEIGHT
+            + GameGroupMatchmakingIndex.CITY_WEIGHT + GameGroupMatchmakingIndex.FREE_ACCESS_WEIGHT,
+            recommendations.get(0).getScore());
+    }
+
+    @Test
+    void recommend_ShouldRespectLimit() {
+        // Arrange
+        when(gameGroupRepository.findMatchCandidates()).thenReturn(List.of(
+            buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, null, 0),
+            buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 10, 2),
+            buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 4, 2)));
+        matchmakingService.rebuild();
+
+        // Act
+        List<GameGroupRecommendationResponse> recommendations = matchmakingService.recommend("D&D 5e", null, null, null, null, 2);
+
+        // Assert
+        assertEquals(2, recommendations.size());
+        assertNull(recommendations.get(0).getMaxPlayers());
+        assertEquals(10, recommendations.get(1).getMaxPlayers());
+    }
+
+    @Test
+    void refresh_WhenGroupBecomesFull_ShouldRemoveItFromIndex() {
+        // Arrange
+        GameGroupMatchCandidate candidate = buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 3, 1);
+        GameGroupMatchCandidate full = new GameGroupMatchCandidate(candidate.id(), candidate.campaignName(), candidate.gameSystem(),
+            candidate.settingWorld(), candidate.shortDescription(), candidate.modality(), candidate.accessRule(), candidate.country(),
+            candidate.state(), candidate.city(), 3, 1, 2, 0, candidate.createdAt());
+        when(gameGroupRepository.findMatchCandidates()).thenReturn(List.of(candidate));
+        when(gameGroupRepository.findMatchCandidateById(candidate.id())).thenReturn(Optional.of(full));
+        matchmakingService.rebuild();
+
+        // Act
+        matchmakingService.refresh(candidate.id());
+
+        // Assert
+        assertTrue(matchmakingService.recommend("D&D 5e", null, null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void refresh_WhenGroupIsNoLongerEligible_ShouldRemoveItFromIndex() {
+        // Arrange
+        GameGroupMatchCandidate candidate = buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 5, 1);
+        when(gameGroupRepository.findMatchCandidates()).thenReturn(List.of(candidate));
+        when(gameGroupRepository.findMatchCandidateById(candidate.id())).thenReturn(Optional.empty());
+        matchmakingService.rebuild();
+
+        // Act
+        matchmakingService.refresh(candidate.id());
+
+        // Assert
+        assertTrue(matchmakingService.recommend("D&D 5e", null, null, null, null, 10).isEmpty());
+        verify(invalidationBus).publishEvict(GameGroupMatchmakingService.CACHE_NAME, candidate.id());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void remoteEvict_ShouldReindexGroupWithoutRepublishing() {
+        // Arrange
+        ArgumentCaptor<Consumer<Object>> evict = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).register(eq(GameGroupMatchmakingService.CACHE_NAME), evict.capture(), any());
+        GameGroupMatchCandidate candidate = buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 5, 1);
+        when(gameGroupRepository.findMatchCandidateById(candidate.id())).thenReturn(Optional.of(candidate));
+
+        // Act
+        evict.getValue().accept(candidate.id());
+
+        // Assert
+        assertEquals(List.of(candidate.id()), matchmakingService.recommend("D&D 5e", null, null, null, null, 10).stream()
+            .map(GameGroupRecommendationResponse::getId).toList());
+        verify(invalidationBus, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    void rebuild_ShouldReplayGroupsReindexedWhileLoading() {
+        // Arrange
+        GameGroupMatchCandidate candidate = buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.FREE, null, 3, 1);
+        GameGroupMatchCandidate full = new GameGroupMatchCandidate(candidate.id(), candidate.campaignName(), candidate.gameSystem(),
+            candidate.settingWorld(), candidate.shortDescription(), candidate.modality(), candidate.accessRule(), candidate.country(),
+            candidate.state(), candidate.city(), 3, 1, 2, 0, candidate.createdAt());
+        when(gameGroupRepository.findMatchCandidateById(candidate.id())).thenReturn(Optional.of(full));
+        when(gameGroupRepository.findMatchCandidates()).thenAnswer(invocation -> {
+            // Grupo lotado e confirmado depois da leitura da carga: a carga ainda traz a vaga aberta
+            matchmakingService.refresh(candidate.id());
+            return List.of(candidate);
+        });
+
+        // Act
+        matchmakingService.rebuild();
+
+        // Assert
+        assertTrue(matchmakingService.recommend("D&D 5e", null, null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void recommend_ConsecutiveQueries_ShouldNotCarryScoresOver() {
+        // Arrange
+        GameGroupMatchCandidate online = buildCandidate("D&D 5e", GameGroup.Modality.ONLINE, GameGroup.AccessRule.APPROVAL, null, 5, 1);
+        when(gameGroupRepository.findMatchCandidates()).thenReturn(List.of(online));
+        matchmakingService.rebuild();
+
+        // Act
+        int first = matchmakingService.recommend("D&D 5e", "online", null, null, null, 10).get(0).getScore();
+        int second = matchmakingService.recommend("D&D 5e", "online", null, null, null, 10).get(0).getScore();
+
+        // Assert
+        assertEquals(GameGroupMatchmakingIndex.GAME_SYSTEM_WEIGHT + GameGroupMatchmakingIndex.MODALITY_WEIGHT, first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void recommend_WithInvalidModality_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        when(messageSource.getMessage(eq("service.gameGroup.modality.invalid"), any(), any())).thenReturn("Modalidade inválida");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> matchmakingService.recommend(null, "hybrid", null, null, null, 10));
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupParticipantCounterServiceTest {
+
+    @Mock
+    private GameGroupRepository gameGroupRepository;
+
+    @Mock
+    private GameGroupMatchmakingService matchmakingService;
+
+    @Mock
+    private GameGroupDirectoryService directoryService;
+
+    @Mock
+    private GameGroupCardService cardService;
+
+    @Mock
+    private GameGroupDashboardCache dashboardCache;
+
+    @InjectMocks
+    private GameGroupParticipantCounterService counterService;
+
+    @Test
+    void increment_WithPlayerRole_ShouldOnlyAdjustPlayerCount() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+
+        // Act
+        counterService.increment(gameGroupId, GameGroupParticipant.ParticipantRole.PLAYER.getValue());
+
+        // Assert
+        verify(gameGroupRepository).adjustParticipantCounters(gameGroupId, 0, 1, 0);
+    }
+
+    @Test
+    void decrement_WithGuestRole_ShouldOnlyAdjustGuestCount() {
+        // Arrange
+        UUID gameGroupId = UUID.randomUUID();
+
+        // Act
+        counterService.decrement(gameGroupId, GameGroupParticipant.ParticipantRole.GUEST.getValue());
+
+        // Assert
+        verify(gameGroupRepository).adjustParticipantCounters(gameGroupId, 0, 0, -1);
+    }
+
+    @Test
+    void reconcile_ShouldReturnNumberOfCorrectedGroups() {
+        // Arrange
+        when(gameGroupRepository.reconcileParticipantCounters()).thenReturn(3);
+
+        // Act
+        int updated = counterService.reconcile();
+
+        // Assert
+        assertEquals(3, updated);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupParticipantValidationServiceTest {
+
+    @Mock
+    private GameGroupRepository gameGroupRepository;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private GameGroupParticipantValidationService validationService;
+
+    private GameGroup buildGameGroup(int masterCount, int playerCount, int guestCount, Integer maxPlayers) {
+        return GameGroup.builder()
+            .id(UUID.randomUUID())
+            .maxPlayers(maxPlayers)
+            .masterCount(masterCount)
+            .playerCount(playerCount)
+            .guestCount(guestCount)
+            .build();
+    }
+
+    @Test
+    void validateCanAddParticipant_WithExistingMaster_ShouldRejectNewMaster() {
+        // Arrange
+        GameGroup gameGroup = buildGameGroup(1, 0, 0, null);
+        when(messageSource.getMessage(eq("service.gameGroupParticipant.master.already.exists"), any(), any()))
+            .thenReturn("master já existe");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> validationService.validateCanAddParticipant(gameGroup, GameGroupParticipant.ParticipantRole.MASTER));
+    }
+
+    @Test
+    void validateCanAddParticipant_WithGroupFull_ShouldRejectPlayer() {
+        // Arrange
+        GameGroup gameGroup = buildGameGroup(1, 2, 1, 4);
+        when(messageSource.getMessage(eq("service.gameGroupParticipant.max.participants.reached"), any(), any()))
+            .thenReturn("grupo cheio");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> validationService.validateCanAddParticipant(gameGroup, GameGroupParticipant.ParticipantRole.PLAYER));
+    }
+
+    @Test
+    void validateCanAddParticipant_WithAvailableSlots_ShouldNotQueryParticipants() {
+        // Arrange
+        GameGroup gameGroup = buildGameGroup(1, 1, 0, 5);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> validationService.validateCanAddParticipant(gameGroup, GameGroupParticipant.ParticipantRole.GUEST));
+        verifyNoInteractions(gameGroupRepository);
+    }
+
+    @Test
+    void countParticipantsByRole_ShouldReadCountersFromGameGroup() {
+        // Arrange
+        GameGroup gameGroup = buildGameGroup(1, 3, 2, null);
+        when(gameGroupRepository.findById(gameGroup.getId())).thenReturn(Optional.of(gameGroup));
+
+        // Act
+        long[] counts = validationService.countParticipantsByRole(gameGroup.getId());
+
+        // Assert
+        assertArrayEquals(new long[]{1, 3, 2}, counts);
+    }
+}
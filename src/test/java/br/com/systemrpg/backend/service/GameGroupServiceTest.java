@@ -0,0 +1,329 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.domain.entity.GameGroup;
+import br.com.systemrpg.backend.domain.entity.GameGroupParticipant;
+import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+import br.com.systemrpg.backend.dto.response.GameGroupCard;
+import br.com.systemrpg.backend.dto.response.GameGroupMembershipCard;
+import br.com.systemrpg.backend.mapper.GameGroupMapper;
+import br.com.systemrpg.backend.mapper.GameGroupMapperImpl;
+import br.com.systemrpg.backend.repository.AdventureNoteRepository;
+import br.com.systemrpg.backend.repository.AdventureRepository;
+import br.com.systemrpg.backend.repository.GameGroupCardRepository;
+import br.com.systemrpg.backend.repository.GameGroupInviteRepository;
+import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+import br.com.systemrpg.backend.repository.UserRepository;
+import br.com.systemrpg.backend.util.ResourceVersion;
+
+@ExtendWith(MockitoExtension.class)
+class GameGroupServiceTest {
+
+    @Mock
+    private GameGroupRepository gameGroupRepository;
+
+    @Mock
+    private GameGroupCardRepository cardRepository;
+
+    @Mock
+    private GameGroupParticipantRepository participantRepository;
+
+    @Mock
+    private GameGroupInviteRepository inviteRepository;
+
+    @Mock
+    private AdventureRepository adventureRepository;
+
+    @Mock
+    private AdventureNoteRepository adventureNoteRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private CountCacheService countCacheService;
+
+    @Mock
+    private GameGroupParticipantCounterService counterService;
+
+    @Mock
+    private GameGroupFacetService facetService;
+
+    @Mock
+    private GameGroupMatchmakingService matchmakingService;
+
+    @Mock
+    private GameGroupDirectoryService directoryService;
+
+    @Mock
+    private GameGroupCardService cardService;
+
+    @Mock
+    private GameGroupDashboardCache dashboardCache;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private GameGroupMapper gameGroupMapper = new GameGroupMapperImpl();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private GameGroupService gameGroupService;
+
+    private GameGroup buildGameGroup(UUID id) {
+        return GameGroup.builder()
+            .id(id)
+            .campaignName("A Mina Perdida")
+            .gameSystem("D&D 5e")
+            .shortDescription("Mesa semanal")
+            .description("Campanha longa")
+            .city("Curitiba")
+            .visibility(GameGroup.Visibility.PUBLIC)
+            .accessRule(GameGroup.AccessRule.FREE)
+            .modality(GameGroup.Modality.ONLINE)
+            .version(3L)
+            .build();
+    }
+
+    @Test
+    void patchGameGroup_ShouldChangeOnlySentFieldsAndRemoveNullOnes() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        GameGroup gameGroup = buildGameGroup(id);
+        when(gameGroupRepository.findWithoutParticipantsById(id)).thenReturn(Optional.of(gameGroup));
+        when(gameGroupRepository.save(gameGroup)).thenReturn(gameGroup);
+        JsonNode patch = objectMapper.readTree("{\"campaignName\":\"A Mina Reencontrada\",\"city\":null,\"version\":3}");
+
+        // Act
+        GameGroup patched = gameGroupService.patchGameGroup(id, patch);
+
+        // Assert
+        assertEquals("A Mina Reencontrada", patched.getCampaignName());
+        assertNull(patched.getCity());
+        assertEquals("Campanha longa", patched.getDescription());
+        assertEquals(GameGroup.Visibility.PUBLIC, patched.getVisibility());
+        assertEquals(3L, patched.getVersion());
+        verify(gameGroupRepository, never()).findByIdAndDeletedAtIsNull(any());
+        verify(cardService).refresh(id);
+        verify(outboxService).record(DomainEventType.GAME_GROUP_UPDATED, id, Map.of());
+    }
+
+    @Test
+    void patchGameGroup_WithStaleVersion_ShouldRejectUpdate() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(gameGroupRepository.findWithoutParticipantsById(id)).thenReturn(Optional.of(buildGameGroup(id)));
+        JsonNode patch = objectMapper.readTree("{\"campaignName\":\"Outro nome\",\"version\":2}");
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> gameGroupService.patchGameGroup(id, patch));
+        verify(gameGroupRepository, never()).save(any());
+    }
+
+    @Test
+    void patchGameGroup_RemovingRequiredField_ShouldThrowIllegalArgument() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(gameGroupRepository.findWithoutParticipantsById(id)).thenReturn(Optional.of(buildGameGroup(id)));
+        when(messageSource.getMessage(eq("service.gameGroup.patch.field.required"), any(), any(Locale.class)))
+            .thenReturn("O campo campaignName é obrigatório e não pode ser removido");
+        JsonNode patch = objectMapper.readTree("{\"campaignName\":null}");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> gameGroupService.patchGameGroup(id, patch));
+        verify(gameGroupRepository, never()).save(any());
+    }
+
+    @Test
+    void updateGameGroup_ShouldLoadGroupWithoutParticipants() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        GameGroup gameGroup = buildGameGroup(id);
+        when(gameGroupRepository.findWithoutParticipantsById(id)).thenReturn(Optional.of(gameGroup));
+        when(gameGroupRepository.save(gameGroup)).thenReturn(gameGroup);
+        GameGroup changes = new GameGroup();
+        changes.setCampaignName("Nova campanha");
+
+        // Act
+        GameGroup updated = gameGroupService.updateGameGroup(id, changes);
+
+        // Assert
+        assertEquals("Nova campanha", updated.getCampaignName());
+        verify(gameGroupRepository, never()).findByIdAndDeletedAtIsNull(any());
+    }
+
+    @Test
+    void deleteGameGroup_ShouldCascadeWithSetBasedUpdates() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        GameGroup gameGroup = buildGameGroup(id);
+        when(gameGroupRepository.findWithoutParticipantsById(id)).thenReturn(Optional.of(gameGroup));
+
+        // Act
+        gameGroupService.deleteGameGroup(id);
+
+        // Assert
+        assertNotNull(gameGroup.getDeletedAt());
+        verify(participantRepository).softDeleteByGameGroupId(id, gameGroup.getDeletedAt());
+        verify(inviteRepository).softDeleteByGameGroupId(id, gameGroup.getDeletedAt());
+        verify(adventureRepository).softDeleteByGameGroupId(id, gameGroup.getDeletedAt());
+        verify(adventureNoteRepository).softDeleteByGameGroupId(id, gameGroup.getDeletedAt());
+        verify(participantRepository, never()).findByGameGroupIdAndDeletedAtIsNull(any());
+        verify(participantRepository, never()).save(any());
+        verify(counterService).reset(id);
+        verify(outboxService).record(DomainEventType.GAME_GROUP_DELETED, id, Map.of());
+        verify(dashboardCache).invalidate(id);
+        verify(cardService).refresh(id);
+        verify(countCacheService).invalidate(CountCacheService.PARTICIPANTS_SCOPE);
+    }
+
+    @Test
+    void restoreGameGroup_ShouldBringBackArchivedRowsAndUndeleteCascade() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime deletedAt = LocalDateTime.now().minusDays(45);
+        GameGroup deleted = buildGameGroup(id);
+        deleted.setDeletedAt(deletedAt);
+        GameGroup restored = buildGameGroup(id);
+        when(gameGroupRepository.findById(id)).thenReturn(Optional.of(deleted));
+        when(gameGroupRepository.findWithoutParticipantsById(id)).thenReturn(Optional.of(restored));
+
+        // Act
+        GameGroup result = gameGroupService.restoreGameGroup(id);
+
+        // Assert
+        assertSame(restored, result);
+        assertNull(deleted.getDeletedAt());
+        verify(gameGroupRepository).restoreArchivedById(id);
+        verify(adventureRepository).restoreArchivedByGameGroupId(id);
+        verify(adventureNoteRepository).restoreArchivedByGameGroupId(id);
+        verify(participantRepository).restoreArchivedByGameGroupId(id);
+        verify(inviteRepository).restoreArchivedByGameGroupId(id);
+        verify(participantRepository).undeleteByGameGroupId(eq(id), eq(deletedAt), eq(deletedAt.plusMinutes(1)), any());
+        verify(adventureRepository).undeleteByGameGroupId(eq(id), eq(deletedAt), eq(deletedAt.plusMinutes(1)), any());
+        verify(gameGroupRepository).recalculateParticipantCounters(id);
+        verify(facetService).onCreated(restored);
+        verify(cardService).refresh(id);
+        verify(dashboardCache).invalidate(id);
+    }
+
+    @Test
+    void restoreGameGroup_WhenNotDeleted_ShouldThrowIllegalArgument() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(gameGroupRepository.findById(id)).thenReturn(Optional.of(buildGameGroup(id)));
+        when(messageSource.getMessage(eq("service.gameGroup.restore.not.deleted"), any(), any(Locale.class)))
+            .thenReturn("O grupo de jogo não está excluído");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> gameGroupService.restoreGameGroup(id));
+        verify(gameGroupRepository, never()).save(any());
+        verify(participantRepository, never()).restoreArchivedByGameGroupId(any());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void findMyGameGroups_WithEntityLoader_ShouldKeepOrderAndRoleOfEachGroup() {
+        // Arrange
+        User user = User.builder().id(UUID.randomUUID()).username("jogador").build();
+        GameGroup first = buildGameGroup(UUID.randomUUID());
+        GameGroup second = buildGameGroup(UUID.randomUUID());
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(userRepository.findByUsername("jogador")).thenReturn(Optional.of(user));
+        when(cardRepository.findMembershipCardsByUserId(user.getId(), pageable)).thenReturn(new SliceImpl<>(List.of(
+            new GameGroupMembershipCard(buildCard(first.getId()), GameGroupParticipant.ParticipantRole.MASTER.getValue()),
+            new GameGroupMembershipCard(buildCard(second.getId()), GameGroupParticipant.ParticipantRole.PLAYER.getValue())),
+            pageable, false));
+        when(countCacheService.getOrCount(any(), any())).thenReturn(2L);
+        when(gameGroupRepository.findAllWithParticipantsByIdIn(any())).thenReturn(List.of(second, first));
+
+        // Act
+        Page<GameGroupService.Membership<GameGroup>> memberships =
+            gameGroupService.findMyGameGroups("jogador", pageable, gameGroupService.entityLoader(true));
+
+        // Assert
+        assertEquals(List.of(first, second), memberships.map(GameGroupService.Membership::gameGroup).getContent());
+        assertEquals(List.of(GameGroupParticipant.ParticipantRole.MASTER.getValue(), GameGroupParticipant.ParticipantRole.PLAYER.getValue()),
+            memberships.map(GameGroupService.Membership::role).getContent());
+        assertEquals(2L, memberships.getTotalElements());
+    }
+
+    @Test
+    void getCollectionVersion_ShouldMoveWithCardRefreshes() {
+        // Arrange
+        LocalDateTime groupsUpdatedAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+        LocalDateTime cardRefreshedAt = groupsUpdatedAt.plusMinutes(5);
+        when(countCacheService.getOrCount(any(), any())).thenReturn(3L);
+        when(gameGroupRepository.findMaxUpdatedAt()).thenReturn(groupsUpdatedAt);
+        when(participantRepository.findMaxUpdatedAt()).thenReturn(groupsUpdatedAt.minusDays(1));
+        when(cardRepository.findMaxRefreshedAt()).thenReturn(cardRefreshedAt);
+
+        // Act
+        ResourceVersion version = gameGroupService.getCollectionVersion();
+
+        // Assert
+        assertEquals(cardRefreshedAt, version.lastModified());
+        assertEquals(3L, version.count());
+    }
+
+    @Test
+    void createGameGroup_ShouldRecordCreationAndMasterJoin() {
+        // Arrange
+        UUID creatorId = UUID.randomUUID();
+        UUID masterParticipantId = UUID.randomUUID();
+        GameGroup gameGroup = buildGameGroup(UUID.randomUUID());
+        when(userRepository.findById(creatorId)).thenReturn(Optional.of(User.builder().id(creatorId).username("mestre").build()));
+        when(gameGroupRepository.save(gameGroup)).thenReturn(gameGroup);
+        when(participantRepository.save(any(GameGroupParticipant.class))).thenAnswer(invocation -> {
+            GameGroupParticipant participant = invocation.getArgument(0);
+            participant.setId(masterParticipantId);
+            return participant;
+        });
+
+        // Act
+        gameGroupService.createGameGroup(gameGroup, creatorId);
+
+        // Assert
+        verify(outboxService).record(DomainEventType.GAME_GROUP_CREATED, gameGroup.getId(), Map.of("createdBy", creatorId));
+        verify(outboxService).record(DomainEventType.PARTICIPANT_JOINED, masterParticipantId, Map.of(
+            "gameGroupId", gameGroup.getId(), "userId", creatorId, "role", GameGroupParticipant.ParticipantRole.MASTER.getValue()));
+    }
+
+    private GameGroupCard buildCard(UUID id) {
+        return new GameGroupCard(id, "A Mina Perdida", "Mesa semanal", "D&D 5e", null, GameGroup.Visibility.PUBLIC,
+            GameGroup.AccessRule.FREE, GameGroup.Modality.ONLINE, 5, 1, 1, 0, "mestre", 0, true, null, null);
+    }
+}
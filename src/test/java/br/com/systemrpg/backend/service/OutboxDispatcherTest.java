@@ -0,0 +1,236 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.domain.entity.OutboxEvent;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+import br.com.systemrpg.backend.domain.event.DomainEvent;
+import br.com.systemrpg.backend.domain.event.DomainEventSubscriber;
+import br.com.systemrpg.backend.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int RETENTION_DAYS = 7;
+    private static final List<String> ALL_TYPES = Arrays.stream(DomainEventType.values()).map(Enum::name).toList();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectProvider<DomainEventSubscriber> subscriberProvider;
+
+    @Mock
+    private DomainEventSubscriber subscriber;
+
+    @Mock
+    private DomainEventSubscriber noteSubscriber;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxDispatcher newDispatcher(DomainEventSubscriber... subscribers) {
+        when(subscriberProvider.orderedStream()).thenReturn(Stream.of(subscribers));
+        return new OutboxDispatcher(outboxEventRepository, subscriberProvider, new ObjectMapper(),
+            transactionManager, meterRegistry, BATCH_SIZE, MAX_ATTEMPTS, RETENTION_DAYS);
+    }
+
+    private OutboxEvent buildEvent(long id, DomainEventType type) {
+        return OutboxEvent.builder()
+            .id(id)
+            .aggregateType(type.getAggregateType())
+            .aggregateId(UUID.randomUUID())
+            .eventType(type.name())
+            .payload("{\"gameGroupId\":\"" + UUID.randomUUID() + "\"}")
+            .createdAt(LocalDateTime.now().minusSeconds(2))
+            .build();
+    }
+
+    @Test
+    void dispatch_ShouldDrainFullBatchesAfterLastClaimedIdAndDeleteDelivered() {
+        // Arrange
+        when(subscriber.supports(any())).thenReturn(true);
+        OutboxDispatcher dispatcher = newDispatcher(subscriber);
+        when(outboxEventRepository.claimBatch(0L, ALL_TYPES, MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(
+            buildEvent(1, DomainEventType.GAME_GROUP_CREATED), buildEvent(2, DomainEventType.PARTICIPANT_JOINED)));
+        when(outboxEventRepository.claimBatch(2L, ALL_TYPES, MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(
+            buildEvent(3, DomainEventType.INVITE_USED)));
+        when(outboxEventRepository.countByAttemptsLessThan(MAX_ATTEMPTS)).thenReturn(0L);
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(3, delivered);
+        ArgumentCaptor<DomainEvent> events = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(subscriber, times(3)).onEvent(events.capture());
+        assertEquals(List.of(DomainEventType.GAME_GROUP_CREATED, DomainEventType.PARTICIPANT_JOINED,
+            DomainEventType.INVITE_USED), events.getAllValues().stream().map(DomainEvent::type).toList());
+        assertTrue(events.getValue().payload().has("gameGroupId"));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        assertEquals(3.0, meterRegistry.get("outbox.events").tag("result", "delivered").counter().count());
+        assertEquals(3L, meterRegistry.get("outbox.lag").timer().count());
+    }
+
+    @Test
+    void dispatch_WhenSubscriberFails_ShouldKeepEventAndCountAttempt() {
+        // Arrange
+        OutboxEvent failing = buildEvent(1, DomainEventType.ADVENTURE_UPDATED);
+        when(subscriber.supports(any())).thenReturn(true);
+        OutboxDispatcher dispatcher = newDispatcher(subscriber);
+        doThrow(new IllegalStateException("leitura indisponível")).when(subscriber).onEvent(any());
+        when(outboxEventRepository.claimBatch(0L, ALL_TYPES, MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(failing));
+        when(outboxEventRepository.countByAttemptsLessThan(MAX_ATTEMPTS)).thenReturn(1L);
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(0, delivered);
+        assertEquals(1, failing.getAttempts());
+        assertEquals("leitura indisponível", failing.getLastError());
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(1.0, meterRegistry.get("outbox.events").tag("result", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("outbox.pending").gauge().value());
+    }
+
+    @Test
+    void dispatch_WhenSubscriberFails_ShouldRollBackOnlyItsOwnDelivery() {
+        // Arrange
+        OutboxEvent failing = buildEvent(1, DomainEventType.ADVENTURE_UPDATED);
+        OutboxEvent delivered = buildEvent(2, DomainEventType.ADVENTURE_CREATED);
+        when(subscriber.supports(any())).thenReturn(true);
+        OutboxDispatcher dispatcher = newDispatcher(subscriber);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        doThrow(new IllegalStateException("leitura indisponível")).doNothing().when(subscriber).onEvent(any());
+        when(outboxEventRepository.claimBatch(0L, ALL_TYPES, MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(failing, delivered));
+
+        // Act
+        int count = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(1, count);
+        assertEquals(1, failing.getAttempts());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(2L));
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definitions.capture());
+        assertEquals(2, definitions.getAllValues().stream()
+            .filter(definition -> definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW).count());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void dispatch_ShouldDeliverOnlyToSubscribersOfTheEventType() {
+        // Arrange
+        when(subscriber.supports(any())).thenReturn(true);
+        when(noteSubscriber.supports(any())).thenAnswer(invocation ->
+            invocation.getArgument(0, DomainEventType.class).getAggregateType().equals("adventure_note"));
+        OutboxDispatcher dispatcher = newDispatcher(subscriber, noteSubscriber);
+        when(outboxEventRepository.claimBatch(0L, ALL_TYPES, MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(
+            buildEvent(7, DomainEventType.GAME_GROUP_UPDATED)));
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(1, delivered);
+        verify(subscriber).onEvent(any());
+        verify(noteSubscriber, never()).onEvent(any());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    void dispatch_ShouldClaimOnlyEventTypesWithSubscribers() {
+        // Arrange
+        when(noteSubscriber.supports(any())).thenAnswer(invocation ->
+            invocation.getArgument(0, DomainEventType.class).getAggregateType().equals("adventure_note"));
+        OutboxDispatcher dispatcher = newDispatcher(noteSubscriber);
+        List<String> noteTypes = List.of("ADVENTURE_NOTE_CREATED", "ADVENTURE_NOTE_UPDATED", "ADVENTURE_NOTE_DELETED");
+        when(outboxEventRepository.claimBatch(0L, noteTypes, MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of());
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(outboxEventRepository).claimBatch(0L, noteTypes, MAX_ATTEMPTS, BATCH_SIZE);
+        verify(outboxEventRepository).countByAttemptsLessThan(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void dispatch_WithoutSubscribers_ShouldLeaveEventsInOutboxAndReportTheBacklog() {
+        // Arrange
+        OutboxDispatcher dispatcher = newDispatcher();
+        when(outboxEventRepository.countByAttemptsLessThan(MAX_ATTEMPTS)).thenReturn(42L);
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(outboxEventRepository, never()).claimBatch(anyLong(), any(), anyInt(), anyInt());
+        verifyNoInteractions(transactionManager);
+        assertEquals(42.0, meterRegistry.get("outbox.pending").gauge().value());
+    }
+
+    @Test
+    void purgeUnsubscribed_ShouldRemoveOnlyTypesWithoutSubscribersInBatches() {
+        // Arrange
+        when(noteSubscriber.supports(any())).thenAnswer(invocation ->
+            invocation.getArgument(0, DomainEventType.class).getAggregateType().equals("adventure_note"));
+        OutboxDispatcher dispatcher = newDispatcher(noteSubscriber);
+        List<String> otherTypes = ALL_TYPES.stream().filter(type -> !type.startsWith("ADVENTURE_NOTE_")).toList();
+        when(outboxEventRepository.deleteBatchCreatedBefore(eq(otherTypes), any(), anyInt())).thenReturn(1000, 3);
+        LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+
+        // Act
+        int purged = dispatcher.purgeUnsubscribed();
+
+        // Assert
+        assertEquals(1003, purged);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository, times(2)).deleteBatchCreatedBefore(eq(otherTypes), cutoff.capture(), anyInt());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(RETENTION_DAYS - 1)));
+    }
+
+    @Test
+    void purgeUnsubscribed_WhenEveryTypeHasSubscribers_ShouldRemoveNothing() {
+        // Arrange
+        when(subscriber.supports(any())).thenReturn(true);
+        OutboxDispatcher dispatcher = newDispatcher(subscriber);
+
+        // Act
+        int purged = dispatcher.purgeUnsubscribed();
+
+        // Assert
+        assertEquals(0, purged);
+        verifyNoInteractions(outboxEventRepository);
+    }
+}
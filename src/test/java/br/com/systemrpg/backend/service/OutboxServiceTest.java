@@ -0,0 +1,57 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.systemrpg.backend.domain.entity.OutboxEvent;
+import br.com.systemrpg.backend.domain.enumeration.DomainEventType;
+import br.com.systemrpg.backend.repository.OutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Test
+    void record_ShouldSaveEventWithAggregateTypeAndJsonPayload() throws Exception {
+        // Arrange
+        UUID participantId = UUID.randomUUID();
+        UUID gameGroupId = UUID.randomUUID();
+
+        // Act
+        outboxService.record(DomainEventType.PARTICIPANT_JOINED, participantId,
+            Map.of("gameGroupId", gameGroupId, "role", "PLAYER"));
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        OutboxEvent event = saved.getValue();
+        assertEquals("game_group_participant", event.getAggregateType());
+        assertEquals(participantId, event.getAggregateId());
+        assertEquals("PARTICIPANT_JOINED", event.getEventType());
+        assertEquals(0, event.getAttempts());
+        assertNotNull(event.getCreatedAt());
+        assertEquals(gameGroupId.toString(), objectMapper.readTree(event.getPayload()).get("gameGroupId").asText());
+        assertEquals("PLAYER", objectMapper.readTree(event.getPayload()).get("role").asText());
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.systemrpg.backend.repository.AdventureNoteRepository;
+import br.com.systemrpg.backend.repository.AdventureRepository;
+import br.com.systemrpg.backend.repository.GameGroupInviteRepository;
+import br.com.systemrpg.backend.repository.GameGroupParticipantRepository;
+import br.com.systemrpg.backend.repository.GameGroupRepository;
+import br.com.systemrpg.backend.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SoftDeleteArchiveServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private AdventureNoteRepository adventureNoteRepository;
+
+    @Mock
+    private AdventureRepository adventureRepository;
+
+    @Mock
+    private GameGroupInviteRepository inviteRepository;
+
+    @Mock
+    private GameGroupParticipantRepository participantRepository;
+
+    @Mock
+    private GameGroupRepository gameGroupRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SoftDeleteArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new SoftDeleteArchiveService(adventureNoteRepository, adventureRepository, inviteRepository,
+            participantRepository, gameGroupRepository, userRepository, transactionManager, 30, BATCH_SIZE);
+    }
+
+    @Test
+    void archive_ShouldMoveChildrenBeforeParents() {
+        // Act
+        int total = archiveService.archive();
+
+        // Assert
+        assertEquals(0, total);
+        InOrder inOrder = inOrder(adventureNoteRepository, adventureRepository, inviteRepository,
+            participantRepository, gameGroupRepository, userRepository);
+        inOrder.verify(adventureNoteRepository).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        inOrder.verify(adventureRepository).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        inOrder.verify(inviteRepository).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        inOrder.verify(participantRepository).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        inOrder.verify(gameGroupRepository).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        inOrder.verify(userRepository).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void archive_ShouldDrainInBatchesOneTransactionEach() {
+        // Arrange
+        when(adventureNoteRepository.archiveDeletedBefore(any(), eq(BATCH_SIZE))).thenReturn(2, 2, 1);
+        when(userRepository.archiveDeletedBefore(any(), eq(BATCH_SIZE))).thenReturn(1);
+
+        // Act
+        int total = archiveService.archive();
+
+        // Assert
+        assertEquals(6, total);
+        verify(adventureNoteRepository, times(3)).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        verify(userRepository, times(1)).archiveDeletedBefore(any(), eq(BATCH_SIZE));
+        verify(transactionManager, times(8)).commit(any());
+    }
+
+    @Test
+    void archive_ShouldOnlyTakeRowsDeletedBeforeRetention() {
+        // Arrange
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        // Act
+        archiveService.archive();
+
+        // Assert
+        verify(gameGroupRepository).archiveDeletedBefore(cutoff.capture(), eq(BATCH_SIZE));
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.systemrpg.backend.dto.response.UserAutocompleteResponse;
+import br.com.systemrpg.backend.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserAutocompleteServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @InjectMocks
+    private UserAutocompleteService autocompleteService;
+
+    private final UserAutocompleteResponse anna = entry("annamaria", "Anna", "Souza");
+    private final UserAutocompleteResponse bruno = entry("bruno_rpg", "Bruno", "Annes");
+    private final UserAutocompleteResponse carla = entry("carla", "Carla", "Dias");
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void suggest_ShouldRankUsernameMatchesBeforeNameMatches() {
+        // Arrange
+        when(userRepository.findAutocompleteEntries()).thenReturn(List.of(bruno, carla, anna));
+        autocompleteService.rebuild();
+
+        // Act
+        List<UserAutocompleteResponse> result = autocompleteService.suggest("  ANN", null);
+
+        // Assert
+        assertEquals(List.of(anna, bruno), result);
+        verify(userRepository, times(1)).findAutocompleteEntries();
+    }
+
+    @Test
+    void suggest_ShouldMatchFullNameAndRespectLimit() {
+        // Arrange
+        when(userRepository.findAutocompleteEntries()).thenReturn(List.of(anna, bruno, carla));
+        autocompleteService.rebuild();
+
+        // Act
+        List<UserAutocompleteResponse> fullName = autocompleteService.suggest("carla d", 10);
+        List<UserAutocompleteResponse> limited = autocompleteService.suggest("a", 1);
+        List<UserAutocompleteResponse> blank = autocompleteService.suggest(" ", 10);
+
+        // Assert
+        assertEquals(List.of(carla), fullName);
+        assertEquals(List.of(anna), limited);
+        assertTrue(blank.isEmpty());
+    }
+
+    @Test
+    void refresh_InsideTransaction_ShouldReindexOnlyAfterCommit() {
+        // Arrange
+        when(userRepository.findAutocompleteEntries()).thenReturn(List.of(anna));
+        autocompleteService.rebuild();
+        UserAutocompleteResponse renamed = new UserAutocompleteResponse(anna.id(), "mariana", "Anna", "Souza");
+        when(userRepository.findAutocompleteEntryById(anna.id())).thenReturn(Optional.of(renamed));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        autocompleteService.refresh(anna.id());
+        autocompleteService.refresh(anna.id());
+        List<UserAutocompleteResponse> beforeCommit = autocompleteService.suggest("mari", 10);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertTrue(beforeCommit.isEmpty());
+        assertEquals(List.of(renamed), autocompleteService.suggest("mari", 10));
+        assertTrue(autocompleteService.suggest("annam", 10).isEmpty());
+        verify(userRepository, times(1)).findAutocompleteEntryById(anna.id());
+    }
+
+    @Test
+    void refresh_WhenUserIsNoLongerActive_ShouldRemoveFromIndex() {
+        // Arrange
+        when(userRepository.findAutocompleteEntries()).thenReturn(List.of(anna, carla));
+        autocompleteService.rebuild();
+        when(userRepository.findAutocompleteEntryById(carla.id())).thenReturn(Optional.empty());
+
+        // Act
+        autocompleteService.refresh(carla.id());
+
+        // Assert
+        assertTrue(autocompleteService.suggest("carla", 10).isEmpty());
+        assertEquals(List.of(anna), autocompleteService.suggest("anna", 10));
+    }
+
+    @Test
+    void rebuild_ShouldReplayUsersReindexedWhileLoading() {
+        // Arrange
+        UserAutocompleteResponse renamed = new UserAutocompleteResponse(anna.id(), "mariana", "Anna", "Souza");
+        when(userRepository.findAutocompleteEntryById(anna.id())).thenReturn(Optional.of(renamed));
+        when(userRepository.findAutocompleteEntries()).thenAnswer(invocation -> {
+            // Renomeado e confirmado depois da leitura da carga: a carga ainda traz o username antigo
+            autocompleteService.refresh(anna.id());
+            return List.of(anna, carla);
+        });
+
+        // Act
+        autocompleteService.rebuild();
+
+        // Assert
+        assertEquals(List.of(renamed), autocompleteService.suggest("mari", 10));
+        assertTrue(autocompleteService.suggest("annam", 10).isEmpty());
+        verify(invalidationBus).publishEvict(UserAutocompleteService.CACHE_NAME, anna.id());
+    }
+
+    private static UserAutocompleteResponse entry(String username, String firstName, String lastName) {
+        return new UserAutocompleteResponse(UUID.randomUUID(), username, firstName, lastName);
+    }
+}
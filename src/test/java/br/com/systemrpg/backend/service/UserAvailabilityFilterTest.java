@@ -0,0 +1,161 @@
+package br.com.systemrpg.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import br.com.systemrpg.backend.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private UserAvailabilityFilter availabilityFilter;
+
+    @BeforeEach
+    void setUp() {
+        availabilityFilter = new UserAvailabilityFilter(userRepository, invalidationBus, 0.01);
+    }
+
+    @Test
+    void isUsernameDefinitelyFree_BeforeFirstLoad_ShouldDeferToDatabase() {
+        // Act & Assert
+        assertFalse(availabilityFilter.isUsernameDefinitelyFree("qualquer"));
+        assertFalse(availabilityFilter.isEmailDefinitelyFree("qualquer@example.com"));
+    }
+
+    @Test
+    void rebuild_ShouldAnswerTakenValuesAsProbableHitsIgnoringCase() {
+        // Arrange
+        when(userRepository.findAllUsernames()).thenReturn(List.of("Mestre", "jogador1"));
+        when(userRepository.findAllEmails()).thenReturn(List.of("Mestre@Example.com", "jogador1@example.com"));
+
+        // Act
+        int loaded = availabilityFilter.rebuild();
+
+        // Assert
+        assertEquals(2, loaded);
+        assertFalse(availabilityFilter.isUsernameDefinitelyFree("MESTRE"));
+        assertFalse(availabilityFilter.isEmailDefinitelyFree("mestre@example.com"));
+        assertTrue(availabilityFilter.isUsernameDefinitelyFree("novato"));
+    }
+
+    @Test
+    void register_ShouldMarkValueAsProbablyTakenAndSurviveRebuild() {
+        // Arrange
+        when(userRepository.findAllUsernames()).thenReturn(List.of());
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        availabilityFilter.rebuild();
+
+        // Act
+        availabilityFilter.register("Recem", "recem@example.com");
+        availabilityFilter.rebuild();
+
+        // Assert
+        assertFalse(availabilityFilter.isUsernameDefinitelyFree("recem"));
+        assertFalse(availabilityFilter.isEmailDefinitelyFree("RECEM@example.com"));
+    }
+
+    @Test
+    void register_ShouldPublishNormalizedValuesToOtherNodes() {
+        // Act
+        availabilityFilter.register(" Recem ", "Recem@Example.com");
+
+        // Assert
+        verify(invalidationBus).publishEvict(UserAvailabilityFilter.USERNAMES_CHANNEL, "recem");
+        verify(invalidationBus).publishEvict(UserAvailabilityFilter.EMAILS_CHANNEL, "recem@example.com");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void remoteRegistration_ShouldMarkValueAsTakenWithoutRepublishing() {
+        // Arrange
+        ArgumentCaptor<Consumer<Object>> usernames = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Consumer<Object>> emails = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).register(eq(UserAvailabilityFilter.USERNAMES_CHANNEL), usernames.capture(), any());
+        verify(invalidationBus).register(eq(UserAvailabilityFilter.EMAILS_CHANNEL), emails.capture(), any());
+        when(userRepository.findAllUsernames()).thenReturn(List.of());
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        availabilityFilter.rebuild();
+
+        // Act
+        usernames.getValue().accept("outro");
+        emails.getValue().accept("outro@example.com");
+
+        // Assert
+        assertFalse(availabilityFilter.isUsernameDefinitelyFree("Outro"));
+        assertFalse(availabilityFilter.isEmailDefinitelyFree("outro@example.com"));
+        verify(invalidationBus, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    void busReconnect_ShouldRebuildFromDatabase() {
+        // Arrange
+        ArgumentCaptor<Runnable> clear = ArgumentCaptor.forClass(Runnable.class);
+        verify(invalidationBus).register(eq(UserAvailabilityFilter.USERNAMES_CHANNEL), any(), clear.capture());
+        when(userRepository.findAllUsernames()).thenReturn(List.of()).thenReturn(List.of("perdido"));
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        availabilityFilter.rebuild();
+
+        // Act
+        clear.getValue().run();
+
+        // Assert
+        assertFalse(availabilityFilter.isUsernameDefinitelyFree("perdido"));
+        assertTrue(availabilityFilter.isUsernameDefinitelyFree("novato"));
+    }
+
+    @Test
+    void rebuild_WithManyUsers_ShouldKeepFalsePositiveRateLow() {
+        // Arrange
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            usernames.add("jogador" + i);
+        }
+        when(userRepository.findAllUsernames()).thenReturn(usernames);
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        availabilityFilter.rebuild();
+
+        // Act
+        int probableHits = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (!availabilityFilter.isUsernameDefinitelyFree("visitante" + i)) {
+                probableHits++;
+            }
+        }
+
+        // Assert
+        assertTrue(usernames.stream().noneMatch(availabilityFilter::isUsernameDefinitelyFree));
+        assertTrue(probableHits < 300, "falsos positivos: " + probableHits);
+    }
+
+    @Test
+    void rebuild_WhenDatabaseFails_ShouldKeepDeferringToDatabase() {
+        // Arrange
+        when(userRepository.findAllUsernames()).thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+        // Act
+        int loaded = availabilityFilter.rebuild();
+
+        // Assert
+        assertEquals(0, loaded);
+        assertFalse(availabilityFilter.isUsernameDefinitelyFree("novato"));
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -22,10 +23,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import br.com.systemrpg.backend.domain.entity.Role;
 import br.com.systemrpg.backend.domain.entity.User;
+import br.com.systemrpg.backend.dto.response.RoleResponse;
+import br.com.systemrpg.backend.dto.response.UserResponse;
 import br.com.systemrpg.backend.exception.RecordNotFoundException;
 import br.com.systemrpg.backend.repository.RoleRepository;
 import br.com.systemrpg.backend.repository.UserRepository;
@@ -45,6 +50,21 @@ class UserServiceTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private CountCacheService countCacheService;
+
+    @Mock
+    private GameGroupCardService gameGroupCardService;
+
+    @Mock
+    private GameGroupDashboardCache gameGroupDashboardCache;
+
+    @Mock
+    private UserAvailabilityFilter availabilityFilter;
+
+    @Mock
+    private UserAutocompleteService autocompleteService;
+
     @InjectMocks
     private UserService userService;
 
@@ -110,9 +130,13 @@ class UserServiceTest {
     void findAll_ShouldReturnPageOfUsers() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<User> userPage = new PageImpl<>(List.of(testUser));
-        when(userRepository.findByDeletedAtIsNullOrderByCreatedAtDesc(pageable))
-            .thenReturn(userPage);
+        Slice<UUID> idSlice = new SliceImpl<>(List.of(testUserId), pageable, false);
+        when(userRepository.findIdsByDeletedAtIsNullOrderByCreatedAtDesc(pageable))
+            .thenReturn(idSlice);
+        when(countCacheService.getOrCount(anyString(), any()))
+            .thenReturn(1L);
+        when(userRepository.findAllWithRolesByIdIn(List.of(testUserId)))
+            .thenReturn(List.of(testUser));
 
         // Act
         Page<User> result = userService.findAll(pageable);
@@ -123,6 +147,30 @@ class UserServiceTest {
         assertEquals(testUser, result.getContent().get(0));
     }
 
+    @Test
+    void findAllSliceAsResponse_ShouldAttachRolesWithoutLoadingEntities() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        UUID otherUserId = UUID.randomUUID();
+        Slice<UUID> idSlice = new SliceImpl<>(List.of(testUserId, otherUserId), pageable, false);
+        RoleResponse role = RoleResponse.builder().id(testRole.getId()).name("USER").build();
+        when(userRepository.findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable)).thenReturn(idSlice);
+        when(userRepository.findResponsesByIdIn(List.of(testUserId, otherUserId))).thenReturn(List.of(
+            UserResponse.builder().id(otherUserId).username("other").build(),
+            UserResponse.builder().id(testUserId).username("testuser").build()));
+        when(userRepository.findRoleResponsesByUserIdIn(List.of(testUserId, otherUserId)))
+            .thenReturn(Map.of(testUserId, Set.of(role)));
+
+        // Act
+        Slice<UserResponse> result = userService.findAllSliceAsResponse(true, pageable);
+
+        // Assert
+        assertEquals(List.of(testUserId, otherUserId), result.getContent().stream().map(UserResponse::getId).toList());
+        assertEquals(Set.of(role), result.getContent().get(0).getRoles());
+        assertTrue(result.getContent().get(1).getRoles().isEmpty());
+        verify(userRepository, never()).findAllWithRolesByIdIn(any());
+    }
+
     @Test
     void createUser_WithValidData_ShouldReturnCreatedUser() {
         // Arrange
@@ -146,6 +194,7 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         verify(userRepository).save(any(User.class));
+        verify(availabilityFilter).register("newuser", "newuser@example.com");
     }
 
     @Test
@@ -250,6 +299,7 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(newStatus, testUser.getIsActive());
         verify(userRepository).save(testUser);
+        verify(autocompleteService).refresh(testUserId);
     }
 
     @Test
@@ -264,6 +314,37 @@ class UserServiceTest {
         // Assert
         assertNotNull(testUser.getDeletedAt());
         verify(userRepository).save(testUser);
+        verify(autocompleteService).refresh(testUserId);
+        verify(userRepository).evictFromCache(testUserId);
+    }
+
+    @Test
+    void restoreUser_ShouldBringBackFromArchiveAndClearDeletedAt() {
+        // Arrange
+        testUser.setDeletedAt(LocalDateTime.now().minusDays(40));
+        when(userRepository.existsArchivedById(testUserId)).thenReturn(false);
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        // Act
+        User result = userService.restoreUser(testUserId);
+
+        // Assert
+        assertNull(result.getDeletedAt());
+        verify(userRepository).restoreArchivedById(testUserId);
+        verify(countCacheService).invalidate(CountCacheService.USERS_SCOPE);
+    }
+
+    @Test
+    void restoreUser_WhenUsernameWasTaken_ShouldThrowIllegalArgument() {
+        // Arrange
+        when(userRepository.existsArchivedById(testUserId)).thenReturn(true);
+        when(messageSource.getMessage(eq("service.user.restore.conflict"), any(), any()))
+            .thenReturn("Username ou email já está em uso");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.restoreUser(testUserId));
+        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -290,6 +371,19 @@ class UserServiceTest {
         assertTrue(result);
     }
 
+    @Test
+    void isUsernameAvailable_WhenFilterSaysDefinitelyFree_ShouldSkipDatabase() {
+        // Arrange
+        when(availabilityFilter.isUsernameDefinitelyFree("novojogador")).thenReturn(true);
+
+        // Act
+        boolean result = userService.isUsernameAvailable("novojogador");
+
+        // Assert
+        assertTrue(result);
+        verify(userRepository, never()).existsByUsername(any());
+    }
+
     @Test
     void isUsernameAvailable_WithTakenUsername_ShouldReturnFalse() {
         // Arrange
@@ -381,9 +475,13 @@ class UserServiceTest {
     void findActiveUsers_ShouldReturnPageOfActiveUsers() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<User> activeUsersPage = new PageImpl<>(List.of(testUser));
-        when(userRepository.findByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable))
-            .thenReturn(activeUsersPage);
+        Slice<UUID> idSlice = new SliceImpl<>(List.of(testUserId), pageable, false);
+        when(userRepository.findIdsByIsActiveTrueAndDeletedAtIsNullOrderByCreatedAtDesc(pageable))
+            .thenReturn(idSlice);
+        when(countCacheService.getOrCount(anyString(), any()))
+            .thenReturn(1L);
+        when(userRepository.findAllWithRolesByIdIn(List.of(testUserId)))
+            .thenReturn(List.of(testUser));
 
         // Act
         Page<User> result = userService.findActiveUsers(pageable);
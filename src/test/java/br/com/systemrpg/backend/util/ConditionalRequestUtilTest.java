@@ -0,0 +1,122 @@
+package br.com.systemrpg.backend.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ConditionalRequestUtilTest {
+
+    private static final ResourceVersion VERSION = new ResourceVersion(LocalDateTime.of(2026, 10, 18, 10, 0), 3L);
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    private ServletWebRequest buildRequest(MockHttpServletRequest request) {
+        request.setMethod("GET");
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Test
+    void checkNotModified_WithMatchingIfNoneMatch_ShouldReturnTrueAnd304() {
+        // Arrange
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        String etag = ConditionalRequestUtil.weakEtag(buildRequest(servletRequest), VERSION);
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        ServletWebRequest request = buildRequest(servletRequest);
+
+        // Act
+        boolean notModified = ConditionalRequestUtil.checkNotModified(request, VERSION);
+
+        // Assert
+        assertTrue(notModified);
+        assertEquals(304, ((MockHttpServletResponse) request.getResponse()).getStatus());
+        assertTrue(etag.startsWith("W/\""));
+    }
+
+    @Test
+    void checkNotModified_WithStaleEtag_ShouldReturnFalseAndSetHeaders() {
+        // Arrange
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"stale\"");
+        ServletWebRequest request = buildRequest(servletRequest);
+
+        // Act
+        boolean notModified = ConditionalRequestUtil.checkNotModified(request, VERSION);
+
+        // Assert
+        assertFalse(notModified);
+        MockHttpServletResponse response = (MockHttpServletResponse) request.getResponse();
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertNotNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void checkNotModified_WithNullVersion_ShouldReturnFalse() {
+        // Arrange
+        ServletWebRequest request = buildRequest(new MockHttpServletRequest());
+
+        // Act & Assert
+        assertFalse(ConditionalRequestUtil.checkNotModified(request, null));
+        assertFalse(ConditionalRequestUtil.checkCollectionNotModified(request, null));
+    }
+
+    @Test
+    void checkCollectionNotModified_ShouldNotSetLastModified() {
+        // Arrange
+        ServletWebRequest request = buildRequest(new MockHttpServletRequest());
+
+        // Act
+        ConditionalRequestUtil.checkCollectionNotModified(request, VERSION);
+
+        // Assert
+        MockHttpServletResponse response = (MockHttpServletResponse) request.getResponse();
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void weakEtag_ShouldVaryByParametersLocaleAndCount() {
+        // Arrange
+        MockHttpServletRequest firstPage = new MockHttpServletRequest();
+        firstPage.addParameter("page", "0");
+        MockHttpServletRequest secondPage = new MockHttpServletRequest();
+        secondPage.addParameter("page", "1");
+        LocaleContextHolder.setLocale(Locale.of("pt", "BR"));
+
+        // Act
+        String etag = ConditionalRequestUtil.weakEtag(buildRequest(firstPage), VERSION);
+        String otherPage = ConditionalRequestUtil.weakEtag(buildRequest(secondPage), VERSION);
+        String otherCount = ConditionalRequestUtil.weakEtag(buildRequest(firstPage),
+            new ResourceVersion(VERSION.lastModified(), 2L));
+        LocaleContextHolder.setLocale(Locale.of("en", "US"));
+        String otherLocale = ConditionalRequestUtil.weakEtag(buildRequest(firstPage), VERSION);
+
+        // Assert
+        assertNotEquals(etag, otherPage);
+        assertNotEquals(etag, otherCount);
+        assertNotEquals(etag, otherLocale);
+    }
+
+    @Test
+    void resourceVersion_ShouldKeepLatestOfParentAndChildren() {
+        // Arrange
+        LocalDateTime parent = LocalDateTime.of(2026, 10, 18, 10, 0);
+        LocalDateTime child = parent.plusMinutes(5);
+
+        // Act & Assert
+        assertEquals(child, new ResourceVersion(parent, child, 1L).lastModified());
+        assertEquals(parent, new ResourceVersion(parent, null, 0L).lastModified());
+        assertEquals(-1, ResourceVersion.of(null).lastModifiedMillis());
+    }
+}
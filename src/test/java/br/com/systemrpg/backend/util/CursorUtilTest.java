@@ -0,0 +1,144 @@
+package br.com.systemrpg.backend.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.systemrpg.backend.constants.MessageConstants;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilTest {
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 9, 7, 10, 0, 0, 123456000);
+    private List<Item> items;
+    private Map<UUID, Item> itemsById;
+
+    /**
+     * Registro simples ordenado por (createdAt DESC, id DESC) para os testes.
+     */
+    static class Item {
+        final UUID id;
+        final LocalDateTime createdAt;
+
+        Item(UUID id, LocalDateTime createdAt) {
+            this.id = id;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new Item(UUID.randomUUID(), baseTime.minusMinutes(i)));
+        }
+        itemsById = items.stream().collect(Collectors.toMap(item -> item.id, Function.identity()));
+    }
+
+    @Test
+    void encodeAndDecode_ShouldRoundTripPosition() {
+        UUID id = UUID.randomUUID();
+
+        String cursor = CursorUtil.encode(baseTime, id, true);
+        CursorUtil.KeysetCursor decoded = CursorUtil.decode(cursor);
+
+        assertEquals(baseTime, decoded.getCreatedAt());
+        assertEquals(id, decoded.getId());
+        assertTrue(decoded.isBackward());
+        assertFalse(cursor.contains("="));
+    }
+
+    @Test
+    void decode_WithBlankCursor_ShouldReturnNull() {
+        assertNull(CursorUtil.decode(""));
+        assertNull(CursorUtil.decode(null));
+    }
+
+    @Test
+    void decode_WithInvalidCursor_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(CursorUtil.encode(baseTime, UUID.randomUUID(), false) + "x!"));
+    }
+
+    @Test
+    void decode_WithInvalidCursor_ShouldUseTranslatableMessageKey() {
+        String badUuid = Base64.getUrlEncoder().encodeToString(("n|" + baseTime + "|nao-e-uuid").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(MessageConstants.INVALID_CURSOR,
+            assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode("%%%")).getMessage());
+        assertEquals(MessageConstants.INVALID_CURSOR,
+            assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(badUuid)).getMessage());
+    }
+
+    @Test
+    void toCursorPage_FirstPageWithMoreRows_ShouldExposeOnlyNextCursor() {
+        List<UUID> ids = idsOf(items.subList(0, 3));
+
+        CursorPage<Item> page = CursorUtil.toCursorPage(null, 2, ids, this::load, item -> item.id, item -> item.createdAt);
+
+        assertEquals(List.of(items.get(0), items.get(1)), page.getContent());
+        assertTrue(page.hasNext());
+        assertFalse(page.hasPrevious());
+        CursorUtil.KeysetCursor next = CursorUtil.decode(page.getNextCursor());
+        assertEquals(items.get(1).id, next.getId());
+        assertFalse(next.isBackward());
+    }
+
+    @Test
+    void toCursorPage_ForwardLastPage_ShouldExposeOnlyPrevCursor() {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(CursorUtil.encode(items.get(2).createdAt, items.get(2).id, false));
+
+        CursorPage<Item> page = CursorUtil.toCursorPage(position, 2, idsOf(items.subList(3, 5)), this::load,
+            item -> item.id, item -> item.createdAt);
+
+        assertEquals(List.of(items.get(3), items.get(4)), page.getContent());
+        assertFalse(page.hasNext());
+        CursorUtil.KeysetCursor prev = CursorUtil.decode(page.getPrevCursor());
+        assertEquals(items.get(3).id, prev.getId());
+        assertTrue(prev.isBackward());
+    }
+
+    @Test
+    void toCursorPage_Backward_ShouldRestoreDescendingOrder() {
+        CursorUtil.KeysetCursor position = CursorUtil.decode(CursorUtil.encode(items.get(3).createdAt, items.get(3).id, true));
+        // Consulta de retrocesso retorna em ordem crescente
+        List<UUID> ascendingIds = List.of(items.get(2).id, items.get(1).id, items.get(0).id);
+
+        CursorPage<Item> page = CursorUtil.toCursorPage(position, 2, ascendingIds, this::load,
+            item -> item.id, item -> item.createdAt);
+
+        assertEquals(List.of(items.get(1), items.get(2)), page.getContent());
+        assertTrue(page.hasNext());
+        assertTrue(page.hasPrevious());
+    }
+
+    @Test
+    void constructor_ShouldThrowUnsupportedOperationException() throws Exception {
+        Constructor<CursorUtil> constructor = CursorUtil.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+
+    private List<Item> load(Collection<UUID> ids) {
+        return ids.stream().map(itemsById::get).toList();
+    }
+
+    private List<UUID> idsOf(List<Item> list) {
+        return list.stream().map(item -> item.id).toList();
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.systemrpg.backend.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageUtilTest {
+
+    @Test
+    void fetchByIds_ShouldKeepIdOrderAndPageMetadata() {
+        Pageable pageable = PageRequest.of(1, 3);
+        Page<Integer> idPage = new PageImpl<>(List.of(3, 1, 2), pageable, 8);
+
+        Page<String> result = PageUtil.fetchByIds(idPage, ids -> List.of("1", "2", "3"), Integer::valueOf);
+
+        assertEquals(List.of("3", "1", "2"), result.getContent());
+        assertEquals(8, result.getTotalElements());
+        assertEquals(pageable, result.getPageable());
+    }
+
+    @Test
+    void fetchByIds_WithEmptyPage_ShouldNotCallLoader() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Integer> idPage = new PageImpl<>(List.of(), pageable, 0);
+        AtomicBoolean called = new AtomicBoolean(false);
+
+        Page<String> result = PageUtil.fetchByIds(idPage, ids -> {
+            called.set(true);
+            return List.of();
+        }, Integer::valueOf);
+
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(called.get());
+    }
+
+    @Test
+    void orderByIds_ShouldSkipMissingEntities() {
+        List<String> result = PageUtil.orderByIds(List.of(2, 5, 1), List.of("1", "2"), Integer::valueOf);
+
+        assertEquals(List.of("2", "1"), result);
+    }
+
+    @Test
+    void constructor_ShouldThrowUnsupportedOperationException() throws Exception {
+        Constructor<PageUtil> constructor = PageUtil.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+}